@@ -1,9 +1,9 @@
 package com.shemilikevin.app.tracker.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
-import java.util.Collections;
 
 import org.junit.After;
 import org.junit.Before;
@@ -49,12 +49,13 @@ public class IssueControllerIT {
 
 		mongoClient = new MongoClient(new ServerAddress(mongoContainer.getHost(), mongoContainer.getFirstMappedPort()));
 
-		projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, PROJECT_COLLECTION);
-		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, ISSUE_COLLECTION);
-
+		// Drop first, the repositories create their unique indexes on construction
 		MongoDatabase database = mongoClient.getDatabase(DATABASE_NAME);
 		database.drop();
 
+		projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, PROJECT_COLLECTION);
+		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, ISSUE_COLLECTION);
+
 		issueController = new IssueController(projectRepository, issueRepository, issueTrackerView);
 	}
 
@@ -99,8 +100,9 @@ public class IssueControllerIT {
 		issueController.addIssue(id, name, description, priority, projectId);
 
 		// Assert
-		verify(issueTrackerView).showIssues(
-				Arrays.asList(new Issue(id, name, description, priority, projectId)));
+		Issue issue = new Issue(id, name, description, priority, projectId);
+		verify(issueTrackerView).issueAdded(issue);
+		assertThat(issueRepository.findByProjectId(projectId)).containsExactly(issue);
 	}
 
 	@Test
@@ -145,6 +147,7 @@ public class IssueControllerIT {
 		issueController.deleteIssue(id, projectId);
 
 		// Assert
-		verify(issueTrackerView).showIssues(Collections.emptyList());
+		verify(issueTrackerView).issueRemoved(id);
+		assertThat(issueRepository.exists(id)).isFalse();
 	}
 }
@@ -1,9 +1,9 @@
 package com.shemilikevin.app.tracker.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
-import java.util.Collections;
 
 import org.junit.After;
 import org.junit.Before;
@@ -49,12 +49,12 @@ public class ProjectControllerIT {
 
 		mongoClient = new MongoClient(new ServerAddress(mongoContainer.getHost(), mongoContainer.getFirstMappedPort()));
 
-		projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, PROJECT_COLLECTION);
-		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, ISSUE_COLLECTION);
-
 		MongoDatabase database = mongoClient.getDatabase(DATABASE_NAME);
 		database.drop();
 
+		projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, PROJECT_COLLECTION);
+		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, ISSUE_COLLECTION);
+
 		projectController = new ProjectController(projectRepository, issueRepository, issueTrackerView);
 	}
 
@@ -88,8 +88,9 @@ public class ProjectControllerIT {
 		projectController.addProject(id, name, description);
 
 		// Assert
-		verify(issueTrackerView).showProjects(
-				Arrays.asList(new Project(id, name, description)));
+		Project project = new Project(id, name, description);
+		verify(issueTrackerView).projectAdded(project);
+		assertThat(projectRepository.findAll()).containsExactly(project);
 	}
 
 	@Test
@@ -124,7 +125,8 @@ public class ProjectControllerIT {
 		projectController.deleteProject(id);
 
 		// Assert
-		verify(issueTrackerView).showProjects(Collections.emptyList());
+		verify(issueTrackerView).projectRemoved(id);
+		assertThat(projectRepository.exists(id)).isFalse();
 	}
 
 	@Test
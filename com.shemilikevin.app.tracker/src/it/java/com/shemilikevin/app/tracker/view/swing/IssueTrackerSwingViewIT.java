@@ -64,12 +64,12 @@ public class IssueTrackerSwingViewIT extends AssertJSwingJUnitTestCase {
 	protected void onSetUp() throws Exception {
 		mongoClient = new MongoClient(new ServerAddress(mongoContainer.getHost(), mongoContainer.getFirstMappedPort()));
 
-		projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, PROJECT_COLLECTION);
-		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, ISSUE_COLLECTION);
-
 		MongoDatabase database = mongoClient.getDatabase(DATABASE_NAME);
 		database.drop();
 
+		projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, PROJECT_COLLECTION);
+		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, ISSUE_COLLECTION);
+
 		frameFixture = new FrameFixture(robot(), GuiActionRunner.execute(() -> {
 			IssueTrackerSwingView issueTrackerView = new IssueTrackerSwingView();
 
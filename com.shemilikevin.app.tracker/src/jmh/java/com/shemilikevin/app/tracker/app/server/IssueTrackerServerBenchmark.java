@@ -0,0 +1,140 @@
+package com.shemilikevin.app.tracker.app.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mongodb.MongoClient;
+import com.mongodb.ServerAddress;
+import com.shemilikevin.app.tracker.controller.executor.ControllerExecutors;
+import com.shemilikevin.app.tracker.controller.executor.ExecutorType;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.mongo.IssueMongoRepository;
+import com.shemilikevin.app.tracker.repository.mongo.ProjectMongoRepository;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+// Local load test of the HTTP API, concurrent clients against the in-memory Mongo server of the tests
+// Throughput mode reports requests per second, sample time mode reports the latency percentiles with p0.99
+// mvn -Pjmh test-compile exec:exec -Djmh.args="IssueTrackerServerBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class IssueTrackerServerBenchmark {
+
+	private static final String DATABASE_NAME = "benchmark";
+	private static final int PROJECT_COUNT = 100;
+	private static final int ISSUES_PER_PROJECT = 100;
+
+	@Param({ "FIXED", "VIRTUAL" })
+	private ExecutorType executorType;
+
+	@Param({ "16" })
+	private int executorThreads;
+
+	private MongoServer mongoServer;
+	private MongoClient mongoClient;
+	private ExecutorService executor;
+	private IssueTrackerServer server;
+	private int port;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		mongoServer = new MongoServer(new MemoryBackend());
+		InetSocketAddress inetSocketAddress = mongoServer.bind();
+
+		mongoClient = new MongoClient(new ServerAddress(inetSocketAddress));
+		ProjectRepository projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, "project");
+		IssueRepository issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, "issue");
+		seed(projectRepository, issueRepository);
+
+		executor = ControllerExecutors.create(executorType, executorThreads);
+		server = new IssueTrackerServer(projectRepository, issueRepository, new InetSocketAddress("localhost", 0),
+				executor);
+		server.start();
+		port = server.getAddress().getPort();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		server.stop(0);
+		executor.shutdownNow();
+		mongoClient.close();
+		mongoServer.shutdown();
+	}
+
+	@Benchmark
+	public int listIssuesOfRandomProject() throws IOException {
+		int projectId = ThreadLocalRandom.current().nextInt(PROJECT_COUNT) + 1;
+
+		return get("/projects/" + projectId + "/issues");
+	}
+
+	@Benchmark
+	public int listProjects() throws IOException {
+		return get("/projects");
+	}
+
+	// Reads the whole body, so the connection goes back to the keep-alive pool
+	private int get(String path) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL("http", "localhost", port, path).openConnection();
+		int status = connection.getResponseCode();
+
+		try (InputStream in = connection.getInputStream()) {
+			byte[] buffer = new byte[8192];
+
+			while (in.read(buffer) != -1) {
+				// Discard
+			}
+		}
+
+		return status;
+	}
+
+	private void seed(ProjectRepository projectRepository, IssueRepository issueRepository) {
+		List<Project> projects = new ArrayList<>(PROJECT_COUNT);
+		List<Issue> issues = new ArrayList<>(PROJECT_COUNT * ISSUES_PER_PROJECT);
+
+		for (int project = 1; project <= PROJECT_COUNT; project++) {
+			projects.add(new Project(String.valueOf(project), "Project " + project, "Description"));
+
+			for (int issue = 1; issue <= ISSUES_PER_PROJECT; issue++) {
+				int id = project * ISSUES_PER_PROJECT + issue;
+				issues.add(new Issue(String.valueOf(id), "Issue " + id, "Description", "Low", String.valueOf(project)));
+			}
+		}
+
+		projectRepository.saveAll(projects);
+		issueRepository.saveAll(issues);
+	}
+}
@@ -0,0 +1,72 @@
+package com.shemilikevin.app.tracker.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.shemilikevin.app.tracker.repository.mongo.MongoDataset;
+import com.shemilikevin.app.tracker.view.DiscardingView;
+
+// Whole controller actions, validation and every repository call they make, against the seeded MongoDataset
+// Writes run as single shots of WRITE_BATCH_SIZE calls, the score is the time of the whole batch
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ControllerFlowBenchmark {
+
+	private ProjectController projectController;
+	private IssueController issueController;
+
+	@Setup(Level.Trial)
+	public void setUp(MongoDataset dataset) {
+		DiscardingView view = new DiscardingView();
+		projectController = new ProjectController(dataset.getProjectRepository(), dataset.getIssueRepository(), view);
+		issueController = new IssueController(dataset.getProjectRepository(), dataset.getIssueRepository(), view);
+	}
+
+	@Benchmark
+	public void listIssues() {
+		issueController.listIssues(MongoDataset.PROJECT_ID);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 3, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	@Measurement(iterations = 10, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	public void addIssue(MongoDataset.AddedIssues addedIssues) {
+		issueController.addIssue(addedIssues.nextId(), "Name", "Description", "Low", MongoDataset.PROJECT_ID);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 3, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	@Measurement(iterations = 10, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	public void deleteIssue(MongoDataset.SpareIssues spareIssues) {
+		issueController.deleteIssue(spareIssues.nextId(), MongoDataset.PROJECT_ID);
+	}
+
+	// The spare projects have no issues, so this includes the scan proving it
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 3, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	@Measurement(iterations = 10, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	public void deleteProject(MongoDataset.SpareProjects spareProjects) {
+		projectController.deleteProject(spareProjects.nextId());
+	}
+}
@@ -0,0 +1,110 @@
+package com.shemilikevin.app.tracker.controller.executor;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mongodb.MongoClient;
+import com.mongodb.MongoClientOptions;
+import com.mongodb.ServerAddress;
+import com.shemilikevin.app.tracker.controller.IssueController;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.mongo.IssueMongoRepository;
+import com.shemilikevin.app.tracker.repository.mongo.ProjectMongoRepository;
+import com.shemilikevin.app.tracker.view.DiscardingView;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+// Time to complete a burst of concurrent listIssues calls on each executor type
+// VIRTUAL only differs from FIXED when the benchmark itself runs on JDK 21+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerExecutorBenchmark {
+
+	private static final String DATABASE_NAME = "benchmark";
+	private static final String PROJECT_COLLECTION = "project";
+	private static final String ISSUE_COLLECTION = "issue";
+	private static final String PROJECT_ID = "1";
+	private static final int ISSUE_COUNT = 100;
+	private static final int FIXED_THREADS = 16;
+	private static final int CONNECTIONS = 1_000;
+
+	@Param({ "FIXED", "VIRTUAL" })
+	private ExecutorType executorType;
+
+	@Param({ "16", "256", "1000" })
+	private int concurrentOperations;
+
+	private MongoServer mongoServer;
+	private MongoClient mongoClient;
+	private ExecutorService executor;
+	private IssueController issueController;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		mongoServer = new MongoServer(new MemoryBackend());
+		InetSocketAddress inetSocketAddress = mongoServer.bind();
+
+		// Enough connections that the executor, not the pool, bounds the concurrency
+		MongoClientOptions options = MongoClientOptions.builder().connectionsPerHost(CONNECTIONS).build();
+		mongoClient = new MongoClient(new ServerAddress(inetSocketAddress), options);
+
+		ProjectMongoRepository projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME,
+				PROJECT_COLLECTION);
+		IssueMongoRepository issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME,
+				ISSUE_COLLECTION);
+
+		projectRepository.save(new Project(PROJECT_ID, "Name", "Description"));
+		for (int i = 0; i < ISSUE_COUNT; i++) {
+			issueRepository.save(new Issue(String.valueOf(i), "Name", "Description", "Low", PROJECT_ID));
+		}
+
+		issueController = new IssueController(projectRepository, issueRepository, new DiscardingView());
+		executor = ControllerExecutors.create(executorType, FIXED_THREADS);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executor.shutdownNow();
+		mongoClient.close();
+		mongoServer.shutdown();
+	}
+
+	@Benchmark
+	public void listIssuesConcurrently() throws InterruptedException {
+		CountDownLatch finished = new CountDownLatch(concurrentOperations);
+
+		for (int i = 0; i < concurrentOperations; i++) {
+			executor.execute(() -> {
+				try {
+					issueController.listIssues(PROJECT_ID);
+				} finally {
+					finished.countDown();
+				}
+			});
+		}
+
+		finished.await();
+	}
+}
@@ -0,0 +1,98 @@
+package com.shemilikevin.app.tracker.repository.mongo;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mongodb.MongoClient;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoCollection;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IssueMongoRepositoryBenchmark {
+
+	private static final String DATABASE_NAME = "benchmark";
+	private static final String COLLECTION_NAME = "issue";
+	private static final String PROJECT_ID = "1";
+	private static final int INSERT_BATCH_SIZE = 10_000;
+
+	@Param({ "100", "10000", "100000" })
+	private int issueCount;
+
+	private MongoServer mongoServer;
+	private MongoClient mongoClient;
+	private IssueMongoRepository issueRepository;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		mongoServer = new MongoServer(new MemoryBackend());
+		InetSocketAddress inetSocketAddress = mongoServer.bind();
+
+		mongoClient = new MongoClient(new ServerAddress(inetSocketAddress));
+		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, COLLECTION_NAME);
+
+		seedIssues(mongoClient.getDatabase(DATABASE_NAME).getCollection(COLLECTION_NAME));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		mongoClient.close();
+		mongoServer.shutdown();
+	}
+
+	@Benchmark
+	public boolean hasAssociatedIssues() {
+		return issueRepository.hasAssociatedIssues(PROJECT_ID);
+	}
+
+	// Baseline - what hasAssociatedIssues used to do
+	@Benchmark
+	public boolean findByProjectIdIsNotEmpty() {
+		return !issueRepository.findByProjectId(PROJECT_ID).isEmpty();
+	}
+
+	private void seedIssues(MongoCollection<Document> issueCollection) {
+		List<Document> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+
+		for (int i = 0; i < issueCount; i++) {
+			batch.add(new Document("id", String.valueOf(i))
+					.append("name", "Name " + i)
+					.append("description", "Description of issue " + i)
+					.append("priority", "Low")
+					.append("projectId", PROJECT_ID));
+
+			if (batch.size() == INSERT_BATCH_SIZE) {
+				issueCollection.insertMany(batch);
+				batch.clear();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			issueCollection.insertMany(batch);
+		}
+	}
+}
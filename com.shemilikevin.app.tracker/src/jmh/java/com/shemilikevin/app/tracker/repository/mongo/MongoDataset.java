@@ -0,0 +1,237 @@
+package com.shemilikevin.app.tracker.repository.mongo;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.mongodb.MongoClient;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoCollection;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+// Embedded database seeded with issueCount issues spread evenly over PROJECT_COUNT projects
+// Write benchmarks draw fresh ids from here, so the seeded data is never touched
+@State(Scope.Benchmark)
+public class MongoDataset {
+
+	public static final String PROJECT_ID = "1";
+	public static final int PROJECT_COUNT = 100;
+	public static final int WRITE_BATCH_SIZE = 100;
+
+	private static final String DATABASE_NAME = "benchmark";
+	private static final String PROJECT_COLLECTION = "project";
+	private static final String ISSUE_COLLECTION = "issue";
+	private static final int INSERT_BATCH_SIZE = 10_000;
+
+	@Param({ "1000", "100000", "1000000" })
+	private int issueCount;
+
+	private MongoServer mongoServer;
+	private MongoClient mongoClient;
+	private ProjectMongoRepository projectRepository;
+	private IssueMongoRepository issueRepository;
+	private long nextIssueId;
+	private long nextProjectId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		mongoServer = new MongoServer(new MemoryBackend());
+		InetSocketAddress inetSocketAddress = mongoServer.bind();
+		mongoClient = new MongoClient(new ServerAddress(inetSocketAddress));
+
+		// Created first, so the indexes are in place while the data is loaded
+		projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, PROJECT_COLLECTION);
+		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, ISSUE_COLLECTION);
+
+		seedProjects(mongoClient.getDatabase(DATABASE_NAME).getCollection(PROJECT_COLLECTION));
+		seedIssues(mongoClient.getDatabase(DATABASE_NAME).getCollection(ISSUE_COLLECTION));
+
+		nextIssueId = issueCount;
+		nextProjectId = PROJECT_COUNT + 1;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		mongoClient.close();
+		mongoServer.shutdown();
+	}
+
+	public ProjectMongoRepository getProjectRepository() {
+		return projectRepository;
+	}
+
+	public IssueMongoRepository getIssueRepository() {
+		return issueRepository;
+	}
+
+	public int getIssueCount() {
+		return issueCount;
+	}
+
+	public String nextIssueId() {
+		return String.valueOf(nextIssueId++);
+	}
+
+	public String nextProjectId() {
+		return String.valueOf(nextProjectId++);
+	}
+
+	private void seedProjects(MongoCollection<Document> projectCollection) {
+		List<Document> projects = new ArrayList<>(PROJECT_COUNT);
+
+		for (int i = 1; i <= PROJECT_COUNT; i++) {
+			projects.add(new Document("id", String.valueOf(i))
+					.append("name", "Name " + i)
+					.append("description", "Description of project " + i));
+		}
+
+		projectCollection.insertMany(projects);
+	}
+
+	private void seedIssues(MongoCollection<Document> issueCollection) {
+		List<Document> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+
+		for (int i = 0; i < issueCount; i++) {
+			batch.add(new Document("id", String.valueOf(i))
+					.append("name", "Name " + i)
+					.append("description", "Description of issue " + i)
+					.append("priority", "Low")
+					.append("projectId", String.valueOf(i % PROJECT_COUNT + 1)));
+
+			if (batch.size() == INSERT_BATCH_SIZE) {
+				issueCollection.insertMany(batch);
+				batch.clear();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			issueCollection.insertMany(batch);
+		}
+	}
+
+	// Ids of issues written during an iteration, removed again once it ends
+	@State(Scope.Benchmark)
+	public static class AddedIssues {
+
+		private final List<String> ids = new ArrayList<>(WRITE_BATCH_SIZE);
+		private MongoDataset dataset;
+
+		@Setup(Level.Iteration)
+		public void setUp(MongoDataset dataset) {
+			this.dataset = dataset;
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			dataset.getIssueRepository().deleteMany(ids, PROJECT_ID);
+			ids.clear();
+		}
+
+		public String nextId() {
+			String id = dataset.nextIssueId();
+			ids.add(id);
+			return id;
+		}
+	}
+
+	// Issues inserted before an iteration, one for each delete it makes
+	@State(Scope.Benchmark)
+	public static class SpareIssues {
+
+		private final List<String> ids = new ArrayList<>(WRITE_BATCH_SIZE);
+		private int next;
+
+		@Setup(Level.Iteration)
+		public void setUp(MongoDataset dataset) {
+			List<Issue> issues = new ArrayList<>(WRITE_BATCH_SIZE);
+
+			for (int i = 0; i < WRITE_BATCH_SIZE; i++) {
+				Issue issue = new Issue(dataset.nextIssueId(), "Name", "Description", "Low", PROJECT_ID);
+				issues.add(issue);
+				ids.add(issue.getId());
+			}
+
+			dataset.getIssueRepository().saveAll(issues);
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			ids.clear();
+			next = 0;
+		}
+
+		public String nextId() {
+			return ids.get(next++);
+		}
+	}
+
+	// Ids of projects written during an iteration, removed again once it ends
+	@State(Scope.Benchmark)
+	public static class AddedProjects {
+
+		private final List<String> ids = new ArrayList<>(WRITE_BATCH_SIZE);
+		private MongoDataset dataset;
+
+		@Setup(Level.Iteration)
+		public void setUp(MongoDataset dataset) {
+			this.dataset = dataset;
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			for (String id : ids) {
+				dataset.getProjectRepository().delete(id);
+			}
+			ids.clear();
+		}
+
+		public String nextId() {
+			String id = dataset.nextProjectId();
+			ids.add(id);
+			return id;
+		}
+	}
+
+	// Projects without issues inserted before an iteration, one for each delete it makes
+	@State(Scope.Benchmark)
+	public static class SpareProjects {
+
+		private final List<String> ids = new ArrayList<>(WRITE_BATCH_SIZE);
+		private int next;
+
+		@Setup(Level.Iteration)
+		public void setUp(MongoDataset dataset) {
+			List<Project> projects = new ArrayList<>(WRITE_BATCH_SIZE);
+
+			for (int i = 0; i < WRITE_BATCH_SIZE; i++) {
+				Project project = new Project(dataset.nextProjectId(), "Name", "Description");
+				projects.add(project);
+				ids.add(project.getId());
+			}
+
+			dataset.getProjectRepository().saveAll(projects);
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			ids.clear();
+			next = 0;
+		}
+
+		public String nextId() {
+			return ids.get(next++);
+		}
+	}
+}
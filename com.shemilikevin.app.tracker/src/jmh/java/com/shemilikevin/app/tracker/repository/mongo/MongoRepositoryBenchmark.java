@@ -0,0 +1,119 @@
+package com.shemilikevin.app.tracker.repository.mongo;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.Page;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+// Single repository calls against the seeded MongoDataset
+// Writes run as single shots of WRITE_BATCH_SIZE calls, the score is the time of the whole batch
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MongoRepositoryBenchmark {
+
+	private static final int PAGE_SIZE = 50;
+
+	private String issueId;
+
+	@Setup(Level.Trial)
+	public void setUp(MongoDataset dataset) {
+		// Halfway through the seeded ids, so a scan is not lucky
+		issueId = String.valueOf(dataset.getIssueCount() / 2);
+	}
+
+	@Benchmark
+	public Issue findIssueById(MongoDataset dataset) {
+		return dataset.getIssueRepository().findById(issueId);
+	}
+
+	@Benchmark
+	public boolean issueExists(MongoDataset dataset) {
+		return dataset.getIssueRepository().exists(issueId);
+	}
+
+	@Benchmark
+	public Page<Issue> findIssuePageByProjectId(MongoDataset dataset) {
+		return dataset.getIssueRepository().findByProjectId(MongoDataset.PROJECT_ID, PAGE_SIZE, null);
+	}
+
+	@Benchmark
+	public List<Issue> findIssuesByProjectId(MongoDataset dataset) {
+		return dataset.getIssueRepository().findByProjectId(MongoDataset.PROJECT_ID);
+	}
+
+	@Benchmark
+	public long countIssuesByProjectId(MongoDataset dataset) {
+		return dataset.getIssueRepository().countByProjectId(MongoDataset.PROJECT_ID);
+	}
+
+	@Benchmark
+	public boolean hasAssociatedIssues(MongoDataset dataset) {
+		return dataset.getIssueRepository().hasAssociatedIssues(MongoDataset.PROJECT_ID);
+	}
+
+	@Benchmark
+	public List<Project> findAllProjects(MongoDataset dataset) {
+		return dataset.getProjectRepository().findAll();
+	}
+
+	@Benchmark
+	public Project findProjectById(MongoDataset dataset) {
+		return dataset.getProjectRepository().findById(MongoDataset.PROJECT_ID);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 3, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	@Measurement(iterations = 10, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	public SaveResult saveIssue(MongoDataset dataset, MongoDataset.AddedIssues addedIssues) {
+		return dataset.getIssueRepository()
+				.save(new Issue(addedIssues.nextId(), "Name", "Description", "Low", MongoDataset.PROJECT_ID));
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 3, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	@Measurement(iterations = 10, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	public Issue findAndDeleteIssue(MongoDataset dataset, MongoDataset.SpareIssues spareIssues) {
+		return dataset.getIssueRepository().findAndDelete(spareIssues.nextId(), MongoDataset.PROJECT_ID);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 3, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	@Measurement(iterations = 10, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	public SaveResult saveProject(MongoDataset dataset, MongoDataset.AddedProjects addedProjects) {
+		return dataset.getProjectRepository().save(new Project(addedProjects.nextId(), "Name", "Description"));
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 3, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	@Measurement(iterations = 10, batchSize = MongoDataset.WRITE_BATCH_SIZE)
+	public void deleteProject(MongoDataset dataset, MongoDataset.SpareProjects spareProjects) {
+		dataset.getProjectRepository().delete(spareProjects.nextId());
+	}
+}
@@ -0,0 +1,80 @@
+package com.shemilikevin.app.tracker.view;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+
+// Accepts every update without rendering, so benchmarks time only the controller and the database
+public class DiscardingView implements IssueTrackerView {
+
+	@Override
+	public void showIssues(List<Issue> issueList) {
+	}
+
+	@Override
+	public void showIssuePages(PageSource<Issue> issuePages) {
+	}
+
+	@Override
+	public void showIssueStream(Supplier<Stream<Issue>> issueStream) {
+	}
+
+	@Override
+	public void appendIssues(List<Issue> issueList) {
+	}
+
+	@Override
+	public void showMoreIssuesAvailable(String nextPageToken) {
+	}
+
+	@Override
+	public void issueAdded(Issue issue) {
+	}
+
+	@Override
+	public void issueRemoved(String issueId) {
+	}
+
+	@Override
+	public void showProjectError(String errorMessage) {
+	}
+
+	@Override
+	public void showIssueError(String errorMessage) {
+	}
+
+	@Override
+	public void showProjects(List<Project> projectList) {
+	}
+
+	@Override
+	public void showProjectPages(PageSource<Project> projectPages) {
+	}
+
+	@Override
+	public void projectAdded(Project project) {
+	}
+
+	@Override
+	public void projectRemoved(String projectId) {
+	}
+
+	@Override
+	public void clearProjectFields() {
+	}
+
+	@Override
+	public void clearProjectSelection() {
+	}
+
+	@Override
+	public void clearIssueFields() {
+	}
+
+	@Override
+	public void clearIssueSelection() {
+	}
+}
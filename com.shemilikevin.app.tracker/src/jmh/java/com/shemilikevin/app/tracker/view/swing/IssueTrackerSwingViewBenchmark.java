@@ -0,0 +1,142 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import java.awt.EventQueue;
+import java.awt.GraphicsEnvironment;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JRootPane;
+import javax.swing.JTabbedPane;
+import javax.swing.event.ChangeListener;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.view.IssueTrackerView;
+
+// Time of a show call through the IssueTrackerView interface, plus the layout and repaint it causes,
+// all on the Event Dispatch Thread. The benchmark thread only waits, so the score is the EDT time.
+// The window is real, so this needs a display, on a plain Linux box a virtual one:
+// xvfb-run -a mvn test-compile exec:exec -Pjmh -Djmh.args="IssueTrackerSwingViewBenchmark -prof gc
+// -prof com.shemilikevin.app.tracker.view.swing.RetainedHeapProfiler -rf json -rff target/swing-view.json"
+// gc.alloc.rate.norm is then the bytes allocated per call, heap.retained the heap the shown rows keep alive
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IssueTrackerSwingViewBenchmark {
+
+	static final String NO_DISPLAY = "The Swing benchmarks need a display, run them under Xvfb";
+
+	private static final int WIDTH = 800;
+	private static final int HEIGHT = 600;
+	private static final int TAB_PROJECTS = 0;
+	private static final int TAB_ISSUES = 1;
+
+	@Param({ "1000", "10000", "100000" })
+	private int rowCount;
+
+	private IssueTrackerSwingView swingView;
+	private IssueTrackerView issueTrackerView;
+	private List<Issue> issues;
+	private List<Project> projects;
+
+	@Setup(Level.Trial)
+	public void setUp() throws InterruptedException, InvocationTargetException {
+		if (GraphicsEnvironment.isHeadless()) {
+			throw new IllegalStateException(NO_DISPLAY);
+		}
+
+		issues = new ArrayList<>(rowCount);
+		projects = new ArrayList<>(rowCount);
+		for (int i = 0; i < rowCount; i++) {
+			issues.add(new Issue(String.valueOf(i), "Name " + i, "Description of issue " + i, "Low", "1"));
+			projects.add(new Project(String.valueOf(i), "Name " + i, "Description of project " + i));
+		}
+
+		EventQueue.invokeAndWait(() -> {
+			swingView = new IssueTrackerSwingView();
+			swingView.setSize(WIDTH, HEIGHT);
+			swingView.setVisible(true);
+
+			// Switching tabs would ask a controller for the rows, here the benchmark shows them itself
+			JTabbedPane tabbedPane = swingView.getTabbedPane();
+			for (ChangeListener changeListener : tabbedPane.getChangeListeners()) {
+				if (changeListener.getClass().getName().startsWith(IssueTrackerSwingView.class.getName())) {
+					tabbedPane.removeChangeListener(changeListener);
+				}
+			}
+		});
+		issueTrackerView = swingView;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws InterruptedException, InvocationTargetException {
+		EventQueue.invokeAndWait(swingView::dispose);
+	}
+
+	@Benchmark
+	public void showIssues(IssuesTab issuesTab) throws InterruptedException, InvocationTargetException {
+		EventQueue.invokeAndWait(() -> {
+			issueTrackerView.showIssues(issues);
+			repaint();
+		});
+	}
+
+	@Benchmark
+	public void showProjects(ProjectsTab projectsTab) throws InterruptedException, InvocationTargetException {
+		EventQueue.invokeAndWait(() -> {
+			issueTrackerView.showProjects(projects);
+			repaint();
+		});
+	}
+
+	// Lays out and paints the window now, rather than when the repaint manager gets to it
+	private void repaint() {
+		swingView.validate();
+		JRootPane rootPane = swingView.getRootPane();
+		rootPane.paintImmediately(0, 0, rootPane.getWidth(), rootPane.getHeight());
+	}
+
+	private void selectTab(int index) throws InterruptedException, InvocationTargetException {
+		EventQueue.invokeAndWait(() -> swingView.getTabbedPane().setSelectedIndex(index));
+	}
+
+	// Only the list of the selected tab is painted
+	@State(Scope.Benchmark)
+	public static class IssuesTab {
+
+		@Setup(Level.Trial)
+		public void setUp(IssueTrackerSwingViewBenchmark benchmark)
+				throws InterruptedException, InvocationTargetException {
+			benchmark.selectTab(TAB_ISSUES);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class ProjectsTab {
+
+		@Setup(Level.Trial)
+		public void setUp(IssueTrackerSwingViewBenchmark benchmark)
+				throws InterruptedException, InvocationTargetException {
+			benchmark.selectTab(TAB_PROJECTS);
+		}
+	}
+}
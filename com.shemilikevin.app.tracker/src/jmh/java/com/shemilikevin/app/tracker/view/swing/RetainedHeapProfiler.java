@@ -0,0 +1,48 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+// Heap still in use after full collections at the end of each iteration, so what the benchmark state keeps alive
+// Usage: -prof com.shemilikevin.app.tracker.view.swing.RetainedHeapProfiler
+public class RetainedHeapProfiler implements InternalProfiler {
+
+	private static final int GC_PASSES = 3;
+
+	@Override
+	public String getDescription() {
+		return "Heap in use after full collections at the end of each iteration";
+	}
+
+	@Override
+	public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+	}
+
+	@Override
+	public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+			IterationParams iterationParams, IterationResult result) {
+		return Collections.singletonList(
+				new ScalarResult("heap.retained", retainedBytes(), "bytes", AggregationPolicy.AVG));
+	}
+
+	private static long retainedBytes() {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+		// Several passes, so objects freed by finalization or reference processing are gone too
+		for (int i = 0; i < GC_PASSES; i++) {
+			System.gc();
+		}
+
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+}
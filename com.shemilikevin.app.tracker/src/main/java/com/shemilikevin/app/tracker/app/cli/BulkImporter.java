@@ -0,0 +1,199 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+// Reads rows on the calling thread, validates batches of them in parallel
+// And writes the valid rows of each batch with one bulk insert on a single writer thread
+// At most maxInFlightBatches batches are held at once, so a slow database stalls the reader instead of filling memory
+public class BulkImporter {
+
+	static final String INVALID_BATCH_SIZE = "Batch size must be positive, was: %d";
+	static final String INVALID_MAX_IN_FLIGHT = "Batches in flight must be positive, was: %d";
+	static final String WRITE_FAILED = "Row could not be written";
+
+	private final ExecutorService validators;
+	private final int batchSize;
+	private final int maxInFlightBatches;
+	private final LongSupplier nanoClock;
+
+	public BulkImporter(ExecutorService validators, int batchSize, int maxInFlightBatches) {
+		this(validators, batchSize, maxInFlightBatches, System::nanoTime);
+	}
+
+	BulkImporter(ExecutorService validators, int batchSize, int maxInFlightBatches, LongSupplier nanoClock) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException(String.format(INVALID_BATCH_SIZE, batchSize));
+		}
+
+		if (maxInFlightBatches <= 0) {
+			throw new IllegalArgumentException(String.format(INVALID_MAX_IN_FLIGHT, maxInFlightBatches));
+		}
+
+		this.validators = validators;
+		this.batchSize = batchSize;
+		this.maxInFlightBatches = maxInFlightBatches;
+		this.nanoClock = nanoClock;
+	}
+
+	public <T> ImportReport importRows(RowReader reader, ImportTarget<T> target)
+			throws IOException, InterruptedException {
+
+		long start = nanoClock.getAsLong();
+
+		ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "import-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		Semaphore inFlight = new Semaphore(maxInFlightBatches);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<CompletableFuture<BatchResult>> batches = new ArrayList<>();
+		long rowsRead = 0;
+
+		try {
+			List<ImportRow> batch = new ArrayList<>(batchSize);
+			ImportRow row;
+
+			// A failed write ends the import, rows after it are not read
+			while (failure.get() == null && (row = reader.next()) != null) {
+				batch.add(row);
+				rowsRead++;
+
+				if (batch.size() == batchSize) {
+					batches.add(submit(batch, target, writer, inFlight, failure));
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+
+			if (!batch.isEmpty() && failure.get() == null) {
+				batches.add(submit(batch, target, writer, inFlight, failure));
+			}
+
+			return collect(batches, rowsRead, start);
+		} finally {
+			writer.shutdown();
+		}
+	}
+
+	private <T> CompletableFuture<BatchResult> submit(List<ImportRow> batch, ImportTarget<T> target,
+			ExecutorService writer, Semaphore inFlight, AtomicReference<Throwable> failure)
+			throws InterruptedException {
+
+		inFlight.acquire();
+
+		CompletableFuture<BatchResult> result = CompletableFuture
+				.supplyAsync(() -> validate(batch, target), validators)
+				.thenApplyAsync(validated -> write(validated, target), writer);
+
+		result.whenComplete((batchResult, error) -> {
+			if (error != null) {
+				failure.compareAndSet(null, error);
+			}
+
+			inFlight.release();
+		});
+
+		return result;
+	}
+
+	private <T> ValidatedBatch validate(List<ImportRow> batch, ImportTarget<T> target) {
+		ValidatedBatch validated = new ValidatedBatch();
+		List<ImportRow> parsedRows = new ArrayList<>(batch.size());
+
+		for (ImportRow row : batch) {
+			if (row.isParsed()) {
+				parsedRows.add(row);
+			} else {
+				validated.errors.add(new ImportError(row.getLineNumber(), row.getParseError()));
+			}
+		}
+
+		List<String> errors = target.validate(parsedRows);
+
+		for (int i = 0; i < parsedRows.size(); i++) {
+			ImportRow row = parsedRows.get(i);
+
+			if (errors.get(i) == null) {
+				validated.validRows.add(row);
+			} else {
+				validated.errors.add(new ImportError(row.getLineNumber(), errors.get(i)));
+			}
+		}
+
+		return validated;
+	}
+
+	private <T> BatchResult write(ValidatedBatch validated, ImportTarget<T> target) {
+		List<T> entities = new ArrayList<>(validated.validRows.size());
+
+		for (ImportRow row : validated.validRows) {
+			entities.add(target.toEntity(row));
+		}
+
+		List<SaveResult> results = target.saveAll(entities);
+		long inserted = 0;
+
+		for (int i = 0; i < results.size(); i++) {
+			ImportRow row = validated.validRows.get(i);
+
+			if (results.get(i) == SaveResult.INSERTED) {
+				inserted++;
+			} else if (results.get(i) == SaveResult.DUPLICATE) {
+				validated.errors.add(new ImportError(row.getLineNumber(), target.duplicateError(row)));
+			} else {
+				validated.errors.add(new ImportError(row.getLineNumber(), WRITE_FAILED));
+			}
+		}
+
+		return new BatchResult(inserted, validated.errors);
+	}
+
+	private ImportReport collect(List<CompletableFuture<BatchResult>> batches, long rowsRead, long start) {
+		long inserted = 0;
+		List<ImportError> errors = new ArrayList<>();
+
+		try {
+			for (CompletableFuture<BatchResult> batch : batches) {
+				BatchResult result = batch.join();
+				inserted += result.inserted;
+				errors.addAll(result.errors);
+			}
+		} catch (CompletionException e) {
+			throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+		}
+
+		errors.sort(Comparator.comparingLong(ImportError::getLineNumber));
+
+		return new ImportReport(rowsRead, inserted, errors, nanoClock.getAsLong() - start);
+	}
+
+	private static class ValidatedBatch {
+
+		private final List<ImportRow> validRows = new ArrayList<>();
+		private final List<ImportError> errors = new ArrayList<>();
+	}
+
+	private static class BatchResult {
+
+		private final long inserted;
+		private final List<ImportError> errors;
+
+		BatchResult(long inserted, List<ImportError> errors) {
+			this.inserted = inserted;
+			this.errors = errors;
+		}
+	}
+}
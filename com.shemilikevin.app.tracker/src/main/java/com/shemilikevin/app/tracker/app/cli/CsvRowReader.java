@@ -0,0 +1,126 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Comma separated rows named by a header line
+// Fields may be quoted to hold commas, a doubled quote inside quotes is a literal quote
+// A quoted field may span lines, a row is reported with the line number it starts on
+public class CsvRowReader implements RowReader {
+
+	static final String COLUMN_COUNT_MISMATCH = "Expected %d columns, found %d";
+	static final String UNTERMINATED_QUOTE = "Quoted field is not terminated";
+
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+	private static final char LINE_BREAK = '\n';
+
+	private final BufferedReader reader;
+	private List<String> header;
+	private long lineNumber;
+
+	public CsvRowReader(BufferedReader reader) {
+		this.reader = reader;
+	}
+
+	@Override
+	public ImportRow next() throws IOException {
+		String line = nextNonBlankLine();
+
+		if (line != null && header == null) {
+			long headerLineNumber = lineNumber;
+			header = readRecord(line);
+
+			if (header == null) {
+				return ImportRow.unparsable(headerLineNumber, UNTERMINATED_QUOTE);
+			}
+
+			line = nextNonBlankLine();
+		}
+
+		if (line == null) {
+			return null;
+		}
+
+		long rowLineNumber = lineNumber;
+		List<String> values = readRecord(line);
+
+		if (values == null) {
+			return ImportRow.unparsable(rowLineNumber, UNTERMINATED_QUOTE);
+		}
+
+		if (values.size() != header.size()) {
+			return ImportRow.unparsable(rowLineNumber,
+					String.format(COLUMN_COUNT_MISMATCH, header.size(), values.size()));
+		}
+
+		Map<String, String> fields = new HashMap<>();
+		for (int i = 0; i < header.size(); i++) {
+			fields.put(header.get(i), values.get(i));
+		}
+
+		return ImportRow.parsed(rowLineNumber, fields);
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private String nextNonBlankLine() throws IOException {
+		String line;
+
+		do {
+			line = reader.readLine();
+			lineNumber++;
+		} while (line != null && line.trim().isEmpty());
+
+		return line;
+	}
+
+	// Continues on the following lines while a quoted field is open, the line breaks become part of it
+	// Null when the input ends inside a quoted field
+	private List<String> readRecord(String firstLine) throws IOException {
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		String line = firstLine;
+
+		while (true) {
+			for (int i = 0; i < line.length(); i++) {
+				char c = line.charAt(i);
+
+				if (quoted && c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+					value.append(QUOTE);
+					i++;
+				} else if (c == QUOTE) {
+					quoted = !quoted;
+				} else if (c == SEPARATOR && !quoted) {
+					values.add(value.toString());
+					value.setLength(0);
+				} else {
+					value.append(c);
+				}
+			}
+
+			if (!quoted) {
+				break;
+			}
+
+			line = reader.readLine();
+			if (line == null) {
+				return null;
+			}
+
+			lineNumber++;
+			value.append(LINE_BREAK);
+		}
+
+		values.add(value.toString());
+		return values;
+	}
+}
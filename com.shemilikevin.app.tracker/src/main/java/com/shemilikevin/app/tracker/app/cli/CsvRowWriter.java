@@ -0,0 +1,65 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.List;
+
+// The header line is written with the first row, so an empty export stays an empty file
+public class CsvRowWriter implements RowWriter {
+
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+
+	private final BufferedWriter writer;
+	private final List<String> columns;
+	private boolean headerWritten;
+
+	public CsvRowWriter(BufferedWriter writer, List<String> columns) {
+		this.writer = writer;
+		this.columns = columns;
+	}
+
+	@Override
+	public void write(List<String> values) throws IOException {
+		if (!headerWritten) {
+			writeLine(columns);
+			headerWritten = true;
+		}
+
+		writeLine(values);
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+
+	private void writeLine(List<String> values) throws IOException {
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				writer.write(SEPARATOR);
+			}
+
+			writeValue(values.get(i));
+		}
+
+		writer.newLine();
+	}
+
+	// Values holding a separator, quote or line break are quoted, a quoted value may span lines
+	private void writeValue(String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+
+		if (value.indexOf(SEPARATOR) < 0 && value.indexOf(QUOTE) < 0 && value.indexOf('\n') < 0
+				&& value.indexOf('\r') < 0) {
+			writer.write(value);
+			return;
+		}
+
+		writer.write(QUOTE);
+		writer.write(value.replace("\"", "\"\""));
+		writer.write(QUOTE);
+	}
+}
@@ -0,0 +1,155 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+import com.mongodb.MongoClient;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.Spec;
+
+// Dumps every project and issue through database cursors, without loading a collection into memory
+// The files have the columns the import reads
+@Command(name = "export", mixinStandardHelpOptions = true, description = "Export all projects and issues to JSONL or CSV files")
+public class ExportCommand implements Callable<Integer> {
+
+	static final String PROJECTS_FILE = "projects";
+	static final String ISSUES_FILE = "issues";
+	static final String ISSUES_DIRECTORY = "issues";
+	static final String ISSUES_OF_PROJECT_FILE = "issues-%s";
+	static final String ISSUES_WITHOUT_PROJECT_FILE = "issues-without-project";
+	static final String ISSUES_WITHOUT_PROJECT = "%d issues reference a missing project, written to %s";
+	static final String NON_POSITIVE_BATCH_SIZE = "--batch-size must be positive, was: %d";
+
+	static final List<String> PROJECT_COLUMNS = Arrays.asList(ProjectImportTarget.ID, ProjectImportTarget.NAME,
+			ProjectImportTarget.DESCRIPTION);
+	static final List<String> ISSUE_COLUMNS = Arrays.asList(IssueImportTarget.ID, IssueImportTarget.NAME,
+			IssueImportTarget.DESCRIPTION, IssueImportTarget.PRIORITY, IssueImportTarget.PROJECT_ID);
+
+	@Mixin
+	private MongoOptions mongoOptions;
+
+	@Spec
+	private CommandSpec spec;
+
+	@Option(names = { "--output-dir" }, required = true, description = "Directory the files are written to")
+	private File outputDirectory;
+
+	@Option(names = { "--format" }, description = "Output format: ${COMPLETION-CANDIDATES}")
+	private FileFormat format = FileFormat.JSONL;
+
+	@Option(names = { "--gzip" }, description = "Compress every file with gzip")
+	private boolean gzip = false;
+
+	@Option(names = { "--partition-by-project" }, description = "Write the issues of each project to their own file")
+	private boolean partitionByProject = false;
+
+	@Option(names = { "--batch-size" }, description = "Documents fetched per cursor batch")
+	private int batchSize = 1000;
+
+	@Override
+	public Integer call() throws Exception {
+		if (batchSize <= 0) {
+			throw new ParameterException(spec.commandLine(), String.format(NON_POSITIVE_BATCH_SIZE, batchSize));
+		}
+
+		long start = System.nanoTime();
+		Path directory = Files.createDirectories(outputDirectory.toPath());
+		StreamingExporter exporter = new StreamingExporter(format, gzip);
+
+		MongoClient mongoClient = mongoOptions.createClient();
+		long files = 0;
+		long rows = 0;
+
+		try {
+			ProjectRepository projectRepository = mongoOptions.createProjectRepository(mongoClient);
+			IssueRepository issueRepository = mongoOptions.createIssueRepository(mongoClient);
+
+			rows += exporter.export(projectRepository.streamAll(batchSize), PROJECT_COLUMNS, this::projectValues,
+					directory.resolve(exporter.fileName(PROJECTS_FILE)));
+			files++;
+
+			if (partitionByProject) {
+				Path issueDirectory = Files.createDirectories(directory.resolve(ISSUES_DIRECTORY));
+
+				Set<String> projectIds = new HashSet<>();
+
+				// Walks the projects through a second cursor, each partition reads its issues by the project index
+				try (Stream<Project> projects = projectRepository.streamAll(batchSize)) {
+					Iterator<Project> iterator = projects.iterator();
+
+					while (iterator.hasNext()) {
+						String projectId = iterator.next().getId();
+						projectIds.add(projectId);
+
+						Path partition = issueDirectory
+								.resolve(exporter.fileName(String.format(ISSUES_OF_PROJECT_FILE, projectId)));
+
+						rows += exporter.export(issueRepository.streamByProjectId(projectId, batchSize),
+								ISSUE_COLUMNS, this::issueValues, partition);
+						files++;
+					}
+				}
+
+				// Issues whose project is gone belong to no partition, they get a file of their own
+				// The server lists the referenced project ids, so only the orphans are read, by the project index
+				Set<String> missingProjectIds = issueRepository.findReferencedProjectIds();
+				missingProjectIds.removeAll(projectIds);
+
+				if (!missingProjectIds.isEmpty()) {
+					Path orphans = issueDirectory.resolve(exporter.fileName(ISSUES_WITHOUT_PROJECT_FILE));
+					long orphanRows = exporter.export(
+							missingProjectIds.stream()
+									.flatMap(projectId -> issueRepository.streamByProjectId(projectId, batchSize)),
+							ISSUE_COLUMNS, this::issueValues, orphans);
+
+					rows += orphanRows;
+					files++;
+
+					PrintWriter err = spec.commandLine().getErr();
+					err.println(String.format(ISSUES_WITHOUT_PROJECT, orphanRows, orphans));
+					err.flush();
+				}
+			} else {
+				rows += exporter.export(issueRepository.streamAll(batchSize), ISSUE_COLUMNS, this::issueValues,
+						directory.resolve(exporter.fileName(ISSUES_FILE)));
+				files++;
+			}
+		} finally {
+			mongoClient.close();
+		}
+
+		PrintWriter out = spec.commandLine().getOut();
+		out.println(new ExportReport(files, rows, System.nanoTime() - start));
+		out.flush();
+
+		return 0;
+	}
+
+	private List<String> projectValues(Project project) {
+		return Arrays.asList(project.getId(), project.getName(), project.getDescription());
+	}
+
+	private List<String> issueValues(Issue issue) {
+		return Arrays.asList(issue.getId(), issue.getName(), issue.getDescription(), issue.getPriority(),
+				issue.getProjectId());
+	}
+}
@@ -0,0 +1,42 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.util.concurrent.TimeUnit;
+
+public final class ExportReport {
+
+	private final long files;
+	private final long rowsWritten;
+	private final long elapsedNanos;
+
+	public ExportReport(long files, long rowsWritten, long elapsedNanos) {
+		this.files = files;
+		this.rowsWritten = rowsWritten;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public long getFiles() {
+		return files;
+	}
+
+	public long getRowsWritten() {
+		return rowsWritten;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public long getRowsPerSecond() {
+		if (elapsedNanos <= 0) {
+			return 0;
+		}
+
+		return rowsWritten * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "ExportReport [files=" + files + ", rowsWritten=" + rowsWritten + ", elapsedMillis="
+				+ TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + ", rowsPerSecond=" + getRowsPerSecond() + "]";
+	}
+}
@@ -0,0 +1,52 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.util.List;
+
+// Exported files use the same layout the import reads, so a dump can be imported again
+public enum FileFormat {
+
+	CSV(".csv") {
+		@Override
+		public RowReader openReader(BufferedReader reader) {
+			return new CsvRowReader(reader);
+		}
+
+		@Override
+		public RowWriter openWriter(BufferedWriter writer, List<String> columns) {
+			return new CsvRowWriter(writer, columns);
+		}
+	},
+
+	JSONL(".jsonl") {
+		@Override
+		public RowReader openReader(BufferedReader reader) {
+			return new JsonlRowReader(reader);
+		}
+
+		@Override
+		public RowWriter openWriter(BufferedWriter writer, List<String> columns) {
+			return new JsonlRowWriter(writer, columns);
+		}
+	};
+
+	private final String extension;
+
+	FileFormat(String extension) {
+		this.extension = extension;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public abstract RowReader openReader(BufferedReader reader);
+
+	public abstract RowWriter openWriter(BufferedWriter writer, List<String> columns);
+
+	// Anything that is not a .csv file is read as JSON lines
+	public static FileFormat fromFileName(String fileName) {
+		return fileName.toLowerCase().endsWith(CSV.extension) ? CSV : JSONL;
+	}
+}
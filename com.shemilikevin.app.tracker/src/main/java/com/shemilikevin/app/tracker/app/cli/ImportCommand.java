@@ -0,0 +1,146 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPInputStream;
+
+import com.mongodb.MongoClient;
+import com.shemilikevin.app.tracker.controller.executor.ControllerExecutors;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.Spec;
+
+// Seeds or migrates the database without the window
+// Projects are imported before issues, so issues may refer to projects of the same run
+@Command(name = "import", mixinStandardHelpOptions = true, description = "Import projects and issues from CSV or JSONL files")
+public class ImportCommand implements Callable<Integer> {
+
+	static final String NO_INPUT = "At least one of --projects or --issues is required";
+	static final String NON_POSITIVE_OPTION = "%s must be positive, was: %d";
+
+	// Exit code when some rows were rejected, the valid rows are still imported
+	static final int ROWS_REJECTED = 1;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	@Mixin
+	private MongoOptions mongoOptions;
+
+	@Spec
+	private CommandSpec spec;
+
+	@Option(names = { "--projects" }, description = "Project file with id, name and description fields")
+	private File projectFile;
+
+	@Option(names = { "--issues" }, description = "Issue file with id, name, description, priority and projectId fields")
+	private File issueFile;
+
+	@Option(names = { "--format" }, description = "Input format: ${COMPLETION-CANDIDATES}, guessed from the file name by default")
+	private FileFormat format;
+
+	@Option(names = { "--batch-size" }, description = "Rows written by one bulk insert")
+	private int batchSize = 1000;
+
+	@Option(names = { "--threads" }, description = "Threads validating batches in parallel")
+	private int threads = Runtime.getRuntime().availableProcessors();
+
+	@Option(names = { "--max-in-flight" }, description = "Batches read ahead of the database before reading pauses")
+	private int maxInFlightBatches = 8;
+
+	@Override
+	public Integer call() throws Exception {
+		if (projectFile == null && issueFile == null) {
+			throw new ParameterException(spec.commandLine(), NO_INPUT);
+		}
+
+		requirePositive("--batch-size", batchSize);
+		requirePositive("--threads", threads);
+		requirePositive("--max-in-flight", maxInFlightBatches);
+
+		ExecutorService validators = ControllerExecutors.fixedThreadPool(threads);
+		MongoClient mongoClient = mongoOptions.createClient();
+
+		try {
+			ProjectRepository projectRepository = mongoOptions.createProjectRepository(mongoClient);
+			IssueRepository issueRepository = mongoOptions.createIssueRepository(mongoClient);
+			BulkImporter importer = new BulkImporter(validators, batchSize, maxInFlightBatches);
+
+			boolean rejected = false;
+
+			if (projectFile != null) {
+				rejected |= importFile(importer, projectFile, new ProjectImportTarget(projectRepository));
+			}
+
+			if (issueFile != null) {
+				rejected |= importFile(importer, issueFile, new IssueImportTarget(projectRepository, issueRepository));
+			}
+
+			return rejected ? ROWS_REJECTED : 0;
+		} finally {
+			mongoClient.close();
+			validators.shutdownNow();
+		}
+	}
+
+	// True when any row of the file was rejected
+	private <T> boolean importFile(BulkImporter importer, File file, ImportTarget<T> target)
+			throws IOException, InterruptedException {
+
+		// Gzipped exports are read back as they were written
+		boolean gzip = file.getName().endsWith(StreamingExporter.GZIP_EXTENSION);
+		String fileName = file.getName();
+
+		if (gzip) {
+			fileName = fileName.substring(0, fileName.length() - StreamingExporter.GZIP_EXTENSION.length());
+		}
+
+		FileFormat fileFormat = format == null ? FileFormat.fromFileName(fileName) : format;
+		ImportReport report;
+
+		try (BufferedReader reader = open(file, gzip); RowReader rows = fileFormat.openReader(reader)) {
+			report = importer.importRows(rows, target);
+		}
+
+		PrintWriter err = spec.commandLine().getErr();
+		for (ImportError error : report.getErrors()) {
+			err.println(file.getName() + ", " + error);
+		}
+		err.flush();
+
+		PrintWriter out = spec.commandLine().getOut();
+		out.println(file.getName() + ": " + report);
+		out.flush();
+
+		return !report.getErrors().isEmpty();
+	}
+
+	private BufferedReader open(File file, boolean gzip) throws IOException {
+		InputStream in = Files.newInputStream(file.toPath());
+
+		if (gzip) {
+			in = new GZIPInputStream(in, BUFFER_SIZE);
+		}
+
+		return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+	}
+
+	private void requirePositive(String option, int value) {
+		if (value <= 0) {
+			throw new ParameterException(spec.commandLine(), String.format(NON_POSITIVE_OPTION, option, value));
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.util.Objects;
+
+public final class ImportError {
+
+	private final long lineNumber;
+	private final String message;
+
+	public ImportError(long lineNumber, String message) {
+		this.lineNumber = lineNumber;
+		this.message = message;
+	}
+
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(lineNumber, message);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		ImportError other = (ImportError) obj;
+		return lineNumber == other.lineNumber && Objects.equals(message, other.message);
+	}
+
+	@Override
+	public String toString() {
+		return "line " + lineNumber + ": " + message;
+	}
+}
@@ -0,0 +1,51 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public final class ImportReport {
+
+	private final long rowsRead;
+	private final long inserted;
+	private final List<ImportError> errors;
+	private final long elapsedNanos;
+
+	public ImportReport(long rowsRead, long inserted, List<ImportError> errors, long elapsedNanos) {
+		this.rowsRead = rowsRead;
+		this.inserted = inserted;
+		this.errors = errors;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public long getRowsRead() {
+		return rowsRead;
+	}
+
+	public long getInserted() {
+		return inserted;
+	}
+
+	// Sorted by line number
+	public List<ImportError> getErrors() {
+		return errors;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public long getRowsPerSecond() {
+		if (elapsedNanos <= 0) {
+			return 0;
+		}
+
+		return rowsRead * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "ImportReport [rowsRead=" + rowsRead + ", inserted=" + inserted + ", rejected=" + errors.size()
+				+ ", elapsedMillis=" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + ", rowsPerSecond="
+				+ getRowsPerSecond() + "]";
+	}
+}
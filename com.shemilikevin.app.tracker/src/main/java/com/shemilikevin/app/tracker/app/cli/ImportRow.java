@@ -0,0 +1,42 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.util.Collections;
+import java.util.Map;
+
+// One line of an import file, either its named fields or the reason it could not be parsed
+public final class ImportRow {
+
+	private final long lineNumber;
+	private final Map<String, String> fields;
+	private final String parseError;
+
+	private ImportRow(long lineNumber, Map<String, String> fields, String parseError) {
+		this.lineNumber = lineNumber;
+		this.fields = fields;
+		this.parseError = parseError;
+	}
+
+	public static ImportRow parsed(long lineNumber, Map<String, String> fields) {
+		return new ImportRow(lineNumber, fields, null);
+	}
+
+	public static ImportRow unparsable(long lineNumber, String parseError) {
+		return new ImportRow(lineNumber, Collections.emptyMap(), parseError);
+	}
+
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	public String get(String field) {
+		return fields.get(field);
+	}
+
+	public String getParseError() {
+		return parseError;
+	}
+
+	public boolean isParsed() {
+		return parseError == null;
+	}
+}
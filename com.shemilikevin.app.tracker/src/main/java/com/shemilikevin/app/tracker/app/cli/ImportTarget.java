@@ -0,0 +1,19 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.util.List;
+
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+// What the bulk import needs to know about one kind of entity
+public interface ImportTarget<T> {
+
+	// One entry per row, the error message of an invalid row or null for a valid one
+	// Called concurrently for different batches
+	List<String> validate(List<ImportRow> rows);
+
+	T toEntity(ImportRow row);
+
+	List<SaveResult> saveAll(List<T> entities);
+
+	String duplicateError(ImportRow row);
+}
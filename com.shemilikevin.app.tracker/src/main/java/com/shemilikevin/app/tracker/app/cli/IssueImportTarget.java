@@ -0,0 +1,72 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.shemilikevin.app.tracker.controller.FieldValidator;
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class IssueImportTarget implements ImportTarget<Issue> {
+
+	static final String ID = "id";
+	static final String NAME = "name";
+	static final String DESCRIPTION = "description";
+	static final String PRIORITY = "priority";
+	static final String PROJECT_ID = "projectId";
+
+	private final ProjectRepository projectRepository;
+	private final IssueRepository issueRepository;
+
+	public IssueImportTarget(ProjectRepository projectRepository, IssueRepository issueRepository) {
+		this.projectRepository = projectRepository;
+		this.issueRepository = issueRepository;
+	}
+
+	@Override
+	public List<String> validate(List<ImportRow> rows) {
+		List<String> errors = new ArrayList<>(rows.size());
+		Set<String> projectIds = new HashSet<>();
+
+		for (ImportRow row : rows) {
+			String error = FieldValidator.validateIssue(row.get(ID), row.get(NAME), row.get(DESCRIPTION),
+					row.get(PRIORITY), row.get(PROJECT_ID));
+			errors.add(error);
+
+			if (error == null) {
+				projectIds.add(row.get(PROJECT_ID));
+			}
+		}
+
+		// One existence query for the projects of the whole batch
+		Set<String> existingProjectIds = projectRepository.findExistingIds(projectIds);
+
+		for (int i = 0; i < rows.size(); i++) {
+			if (errors.get(i) == null && !existingProjectIds.contains(rows.get(i).get(PROJECT_ID))) {
+				errors.set(i, ErrorMessages.PROJECT_DOESNT_EXIST);
+			}
+		}
+
+		return errors;
+	}
+
+	@Override
+	public Issue toEntity(ImportRow row) {
+		return new Issue(row.get(ID), row.get(NAME), row.get(DESCRIPTION), row.get(PRIORITY), row.get(PROJECT_ID));
+	}
+
+	@Override
+	public List<SaveResult> saveAll(List<Issue> issues) {
+		return issueRepository.saveAll(issues);
+	}
+
+	@Override
+	public String duplicateError(ImportRow row) {
+		return String.format(ErrorMessages.DUPLICATE_ISSUE, row.get(ID));
+	}
+}
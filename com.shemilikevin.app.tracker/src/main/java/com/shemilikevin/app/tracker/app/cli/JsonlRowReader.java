@@ -0,0 +1,55 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.BsonInvalidOperationException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+
+// One JSON object per line, numbers and other scalars are read as their text
+public class JsonlRowReader implements RowReader {
+
+	static final String INVALID_JSON = "Line is not a JSON object: %s";
+
+	private final BufferedReader reader;
+	private long lineNumber;
+
+	public JsonlRowReader(BufferedReader reader) {
+		this.reader = reader;
+	}
+
+	@Override
+	public ImportRow next() throws IOException {
+		String line;
+
+		do {
+			line = reader.readLine();
+			lineNumber++;
+		} while (line != null && line.trim().isEmpty());
+
+		if (line == null) {
+			return null;
+		}
+
+		Document document;
+
+		try {
+			document = Document.parse(line);
+		} catch (JsonParseException | BsonInvalidOperationException e) {
+			return ImportRow.unparsable(lineNumber, String.format(INVALID_JSON, e.getMessage()));
+		}
+
+		Map<String, String> fields = new HashMap<>();
+		document.forEach((field, value) -> fields.put(field, value == null ? null : value.toString()));
+
+		return ImportRow.parsed(lineNumber, fields);
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
@@ -0,0 +1,35 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.List;
+
+import org.bson.Document;
+
+public class JsonlRowWriter implements RowWriter {
+
+	private final BufferedWriter writer;
+	private final List<String> columns;
+
+	public JsonlRowWriter(BufferedWriter writer, List<String> columns) {
+		this.writer = writer;
+		this.columns = columns;
+	}
+
+	@Override
+	public void write(List<String> values) throws IOException {
+		Document document = new Document();
+
+		for (int i = 0; i < columns.size(); i++) {
+			document.append(columns.get(i), values.get(i));
+		}
+
+		writer.write(document.toJson());
+		writer.newLine();
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+}
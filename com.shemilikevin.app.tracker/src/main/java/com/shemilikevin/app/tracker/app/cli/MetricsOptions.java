@@ -0,0 +1,67 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.metrics.InstrumentedIssueRepository;
+import com.shemilikevin.app.tracker.repository.metrics.InstrumentedProjectRepository;
+import com.shemilikevin.app.tracker.repository.metrics.MetricsReporter;
+import com.shemilikevin.app.tracker.repository.metrics.RepositoryMetrics;
+
+import picocli.CommandLine.Option;
+
+// Repository metrics options shared by the window and the server
+// The repositories are returned untouched unless --repository-metrics is given
+public class MetricsOptions {
+
+	@Option(names = { "--repository-metrics" }, description = "Record latencies of repository calls, readable over JMX")
+	private boolean enabled = false;
+
+	@Option(names = { "--metrics-log-seconds" }, description = "Seconds between logged repository metrics, 0 disables it")
+	private long logSeconds = 0;
+
+	private RepositoryMetrics metrics;
+	private MetricsReporter reporter;
+
+	public void start() throws JMException {
+		start(ManagementFactory.getPlatformMBeanServer());
+	}
+
+	void start(MBeanServer mBeanServer) throws JMException {
+		if (!enabled) {
+			return;
+		}
+
+		metrics = new RepositoryMetrics();
+		metrics.registerMBean(mBeanServer);
+
+		if (logSeconds > 0) {
+			reporter = new MetricsReporter(metrics, Duration.ofSeconds(logSeconds));
+			reporter.start();
+		}
+	}
+
+	public void stop() {
+		if (reporter != null) {
+			reporter.stop();
+		}
+	}
+
+	// Null unless started with --repository-metrics
+	public RepositoryMetrics getMetrics() {
+		return metrics;
+	}
+
+	public ProjectRepository instrument(ProjectRepository projectRepository) {
+		return metrics == null ? projectRepository : new InstrumentedProjectRepository(projectRepository, metrics);
+	}
+
+	public IssueRepository instrument(IssueRepository issueRepository) {
+		return metrics == null ? issueRepository : new InstrumentedIssueRepository(issueRepository, metrics);
+	}
+}
@@ -0,0 +1,37 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import com.mongodb.MongoClient;
+import com.mongodb.ServerAddress;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.mongo.IssueMongoRepository;
+import com.shemilikevin.app.tracker.repository.mongo.ProjectMongoRepository;
+
+import picocli.CommandLine.Option;
+
+// Connection options shared by the window and the headless commands
+// So every entry point reads and writes the same collections
+public class MongoOptions {
+
+	public static final String DATABASE_NAME = "database";
+	public static final String PROJECT_COLLECTION_NAME = "project";
+	public static final String ISSUE_COLLECTION_NAME = "issue";
+
+	@Option(names = { "--mongo-host" }, description = "MongoDB Host Address")
+	private String mongoHost = "localhost";
+
+	@Option(names = { "--mongo-port" }, description = "MongoDB Host Port")
+	private int mongoPort = 27017;
+
+	public MongoClient createClient() {
+		return new MongoClient(new ServerAddress(mongoHost, mongoPort));
+	}
+
+	public ProjectRepository createProjectRepository(MongoClient mongoClient) {
+		return new ProjectMongoRepository(mongoClient, DATABASE_NAME, PROJECT_COLLECTION_NAME);
+	}
+
+	public IssueRepository createIssueRepository(MongoClient mongoClient) {
+		return new IssueMongoRepository(mongoClient, DATABASE_NAME, ISSUE_COLLECTION_NAME);
+	}
+}
@@ -0,0 +1,49 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.shemilikevin.app.tracker.controller.FieldValidator;
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class ProjectImportTarget implements ImportTarget<Project> {
+
+	static final String ID = "id";
+	static final String NAME = "name";
+	static final String DESCRIPTION = "description";
+
+	private final ProjectRepository projectRepository;
+
+	public ProjectImportTarget(ProjectRepository projectRepository) {
+		this.projectRepository = projectRepository;
+	}
+
+	@Override
+	public List<String> validate(List<ImportRow> rows) {
+		List<String> errors = new ArrayList<>(rows.size());
+
+		for (ImportRow row : rows) {
+			errors.add(FieldValidator.validateProject(row.get(ID), row.get(NAME), row.get(DESCRIPTION)));
+		}
+
+		return errors;
+	}
+
+	@Override
+	public Project toEntity(ImportRow row) {
+		return new Project(row.get(ID), row.get(NAME), row.get(DESCRIPTION));
+	}
+
+	@Override
+	public List<SaveResult> saveAll(List<Project> projects) {
+		return projectRepository.saveAll(projects);
+	}
+
+	@Override
+	public String duplicateError(ImportRow row) {
+		return String.format(ErrorMessages.DUPLICATE_PROJECT, row.get(ID));
+	}
+}
@@ -0,0 +1,10 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface RowReader extends Closeable {
+
+	// Null once the input is exhausted
+	ImportRow next() throws IOException;
+}
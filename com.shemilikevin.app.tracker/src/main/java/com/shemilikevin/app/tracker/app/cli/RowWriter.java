@@ -0,0 +1,11 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+public interface RowWriter extends Closeable {
+
+	// Values in the order of the columns the writer was opened with
+	void write(List<String> values) throws IOException;
+}
@@ -0,0 +1,127 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import com.mongodb.MongoClient;
+import com.shemilikevin.app.tracker.app.server.IssueTrackerServer;
+import com.shemilikevin.app.tracker.controller.executor.ControllerExecutors;
+import com.shemilikevin.app.tracker.controller.executor.ExecutorType;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.Spec;
+
+// Runs the HTTP API until the process is stopped
+@Command(name = "serve", mixinStandardHelpOptions = true, description = "Serve the tracker as a JSON API over HTTP")
+public class ServeCommand implements Callable<Integer> {
+
+	static final String LISTENING = "Listening on http://%s:%d";
+	static final String INVALID_EXECUTOR_THREADS = "--executor-threads must be positive, was: %d";
+
+	// Seconds given to requests in progress when the server stops
+	private static final int STOP_DELAY_SECONDS = 2;
+
+	@Mixin
+	private MongoOptions mongoOptions;
+
+	@Mixin
+	private MetricsOptions metricsOptions;
+
+	@Spec
+	private CommandSpec spec;
+
+	@Option(names = { "--host" }, description = "Address the server binds to")
+	private String host = "localhost";
+
+	@Option(names = { "--port" }, description = "Port the server listens on, 0 picks a free one")
+	private int port = 8080;
+
+	@Option(names = { "--executor" }, description = "Executor handling requests: ${COMPLETION-CANDIDATES}")
+	private ExecutorType executorType = ExecutorType.FIXED;
+
+	@Option(names = { "--executor-threads" }, description = "Platform threads of the FIXED executor and fallback")
+	private int executorThreads = 16;
+
+	private final CountDownLatch stopped = new CountDownLatch(1);
+	private final CountDownLatch closed = new CountDownLatch(1);
+	private volatile InetSocketAddress address;
+
+	// Stopping the process lets the server finish the requests in progress
+	private final Thread shutdownHook = new Thread(this::stop);
+
+	@Override
+	public Integer call() throws Exception {
+		if (executorThreads <= 0) {
+			throw new ParameterException(spec.commandLine(), String.format(INVALID_EXECUTOR_THREADS, executorThreads));
+		}
+
+		ExecutorService executor = ControllerExecutors.create(executorType, executorThreads);
+		MongoClient mongoClient = mongoOptions.createClient();
+		IssueTrackerServer server = null;
+
+		Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+		try {
+			metricsOptions.start();
+			server = new IssueTrackerServer(metricsOptions.instrument(mongoOptions.createProjectRepository(mongoClient)),
+					metricsOptions.instrument(mongoOptions.createIssueRepository(mongoClient)),
+					new InetSocketAddress(host, port), executor);
+			server.start();
+			address = server.getAddress();
+
+			PrintWriter out = spec.commandLine().getOut();
+			out.println(String.format(LISTENING, address.getHostString(), address.getPort()));
+			out.flush();
+
+			stopped.await();
+		} finally {
+			if (server != null) {
+				server.stop(STOP_DELAY_SECONDS);
+			}
+
+			metricsOptions.stop();
+			executor.shutdownNow();
+			mongoClient.close();
+			closed.countDown();
+			removeShutdownHook();
+		}
+
+		return 0;
+	}
+
+	// Returns once the server is closed, so a shutdown hook holds the JVM until then
+	void stop() {
+		stopped.countDown();
+
+		try {
+			closed.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// A finished call leaves no hook behind, so calling the command again does not pile them up
+	private void removeShutdownHook() {
+		try {
+			Runtime.getRuntime().removeShutdownHook(shutdownHook);
+		} catch (IllegalStateException e) {
+			// The JVM is already running its hooks, this one included
+		}
+	}
+
+	Thread getShutdownHook() {
+		return shutdownHook;
+	}
+
+	// Null until the server is listening
+	InetSocketAddress getAddress() {
+		return address;
+	}
+}
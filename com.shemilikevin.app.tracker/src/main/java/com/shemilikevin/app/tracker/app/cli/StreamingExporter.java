@@ -0,0 +1,63 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// Writes a stream of entities to a file one row at a time
+// Only the cursor batch and the write buffer are held in memory, whatever the size of the collection
+public class StreamingExporter {
+
+	static final String GZIP_EXTENSION = ".gz";
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final FileFormat format;
+	private final boolean gzip;
+
+	public StreamingExporter(FileFormat format, boolean gzip) {
+		this.format = format;
+		this.gzip = gzip;
+	}
+
+	public String fileName(String baseName) {
+		return baseName + format.getExtension() + (gzip ? GZIP_EXTENSION : "");
+	}
+
+	// Closes the stream, which releases its cursor, and returns the number of rows written
+	public <T> long export(Stream<T> entities, List<String> columns, Function<T, List<String>> values, Path file)
+			throws IOException {
+
+		long rows = 0;
+
+		try (Stream<T> stream = entities; RowWriter writer = format.openWriter(open(file), columns)) {
+			Iterator<T> iterator = stream.iterator();
+
+			while (iterator.hasNext()) {
+				writer.write(values.apply(iterator.next()));
+				rows++;
+			}
+		}
+
+		return rows;
+	}
+
+	private BufferedWriter open(Path file) throws IOException {
+		OutputStream out = Files.newOutputStream(file);
+
+		if (gzip) {
+			out = new GZIPOutputStream(out, BUFFER_SIZE);
+		}
+
+		return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+	}
+}
@@ -0,0 +1,237 @@
+package com.shemilikevin.app.tracker.app.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.bson.BsonInvalidOperationException;
+import org.bson.Document;
+import org.bson.json.JsonParseException;
+
+import com.shemilikevin.app.tracker.controller.IssueController;
+import com.shemilikevin.app.tracker.controller.ProjectController;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+// Maps each request onto one controller call
+// The controllers are cheap to make, every request gets its own with its own ResponseCollectingView
+//
+// GET    /projects                          listProjects
+// POST   /projects                          addProject, body {id, name, description}
+// DELETE /projects/{id}                     deleteProject
+// GET    /projects/{id}/issues[?pageToken]  listIssues, or listMoreIssues with a page token
+// POST   /projects/{id}/issues              addIssue, body {id, name, description, priority}
+// DELETE /projects/{id}/issues?ids=1,2      deleteIssues, only issues of the project
+// DELETE /projects/{id}/issues/{issueId}    deleteIssue, only an issue of the project
+// POST   /projects/{id}/move-issues         moveIssues, body {toProjectId}
+class ApiHandler implements HttpHandler {
+
+	static final String NO_ROUTE = "No route for %s %s";
+	static final String INVALID_JSON = "Request body must be a JSON object";
+	static final String BODY_TOO_LARGE = "Request body must not exceed %d bytes";
+	static final String INTERNAL_ERROR = "Request could not be completed";
+
+	static final int NOT_FOUND = ResponseCollectingView.NOT_FOUND;
+	static final int PAYLOAD_TOO_LARGE = 413;
+	static final int INTERNAL_SERVER_ERROR = 500;
+
+	static final int MAX_BODY_BYTES = 64 * 1024;
+
+	private static final String GET = "GET";
+	private static final String POST = "POST";
+	private static final String DELETE = "DELETE";
+
+	private static final String PROJECTS = "projects";
+	private static final String ISSUES = "issues";
+	private static final String MOVE_ISSUES = "move-issues";
+
+	private static final Logger LOGGER = Logger.getLogger(ApiHandler.class.getName());
+
+	private final ProjectRepository projectRepository;
+	private final IssueRepository issueRepository;
+
+	ApiHandler(ProjectRepository projectRepository, IssueRepository issueRepository) {
+		this.projectRepository = projectRepository;
+		this.issueRepository = issueRepository;
+	}
+
+	@Override
+	public void handle(HttpExchange exchange) throws IOException {
+		try {
+			ResponseCollectingView view = new ResponseCollectingView();
+
+			if (route(exchange, view)) {
+				respond(exchange, view.getStatus(), view.toJson());
+			} else {
+				respondError(exchange, NOT_FOUND,
+						String.format(NO_ROUTE, exchange.getRequestMethod(), exchange.getRequestURI().getPath()));
+			}
+		} catch (InvalidRequestException e) {
+			respondError(exchange, e.status, e.getMessage());
+		} catch (RuntimeException e) {
+			LOGGER.log(Level.SEVERE, INTERNAL_ERROR, e);
+			respondError(exchange, INTERNAL_SERVER_ERROR, INTERNAL_ERROR);
+		} finally {
+			exchange.close();
+		}
+	}
+
+	// False when no route matches the method and path
+	private boolean route(HttpExchange exchange, ResponseCollectingView view) throws IOException {
+		String method = exchange.getRequestMethod();
+		List<String> path = pathSegments(exchange);
+
+		if (path.isEmpty() || !path.get(0).equals(PROJECTS)) {
+			return false;
+		}
+
+		ProjectController projectController = new ProjectController(projectRepository, issueRepository, view);
+		IssueController issueController = new IssueController(projectRepository, issueRepository, view);
+
+		if (path.size() == 1 && method.equals(GET)) {
+			projectController.listProjects();
+		} else if (path.size() == 1 && method.equals(POST)) {
+			Map<String, String> body = body(exchange);
+			projectController.addProject(body.get("id"), body.get("name"), body.get("description"));
+		} else if (path.size() == 2 && method.equals(DELETE)) {
+			projectController.deleteProject(path.get(1));
+		} else if (path.size() == 3 && path.get(2).equals(ISSUES)) {
+			return routeIssues(exchange, method, path.get(1), issueController);
+		} else if (path.size() == 4 && path.get(2).equals(ISSUES) && method.equals(DELETE)) {
+			issueController.deleteIssue(path.get(3), path.get(1));
+		} else if (path.size() == 3 && path.get(2).equals(MOVE_ISSUES) && method.equals(POST)) {
+			issueController.moveIssues(path.get(1), body(exchange).get("toProjectId"));
+		} else {
+			return false;
+		}
+
+		return true;
+	}
+
+	private boolean routeIssues(HttpExchange exchange, String method, String projectId,
+			IssueController issueController) throws IOException {
+
+		Map<String, String> query = query(exchange);
+
+		if (method.equals(GET) && query.containsKey("pageToken")) {
+			issueController.listMoreIssues(projectId, query.get("pageToken"));
+		} else if (method.equals(GET)) {
+			issueController.listIssues(projectId);
+		} else if (method.equals(POST)) {
+			Map<String, String> body = body(exchange);
+			issueController.addIssue(body.get("id"), body.get("name"), body.get("description"), body.get("priority"),
+					projectId);
+		} else if (method.equals(DELETE)) {
+			String ids = query.get("ids");
+			issueController.deleteIssues(ids == null ? null : Arrays.asList(ids.split(",")), projectId);
+		} else {
+			return false;
+		}
+
+		return true;
+	}
+
+	private List<String> pathSegments(HttpExchange exchange) {
+		List<String> segments = new ArrayList<>();
+
+		for (String segment : exchange.getRequestURI().getPath().split("/")) {
+			if (!segment.isEmpty()) {
+				segments.add(segment);
+			}
+		}
+
+		return segments;
+	}
+
+	private Map<String, String> query(HttpExchange exchange) throws UnsupportedEncodingException {
+		Map<String, String> parameters = new HashMap<>();
+		String query = exchange.getRequestURI().getRawQuery();
+
+		if (query == null) {
+			return parameters;
+		}
+
+		for (String parameter : query.split("&")) {
+			int separator = parameter.indexOf('=');
+
+			if (separator > 0) {
+				parameters.put(URLDecoder.decode(parameter.substring(0, separator), "UTF-8"),
+						URLDecoder.decode(parameter.substring(separator + 1), "UTF-8"));
+			}
+		}
+
+		return parameters;
+	}
+
+	// Scalars are read as their text, like the fields of an imported JSON line
+	private Map<String, String> body(HttpExchange exchange) throws IOException {
+		Document document;
+
+		try {
+			document = Document.parse(readBody(exchange.getRequestBody()));
+		} catch (JsonParseException | BsonInvalidOperationException e) {
+			throw new InvalidRequestException(ResponseCollectingView.BAD_REQUEST, INVALID_JSON);
+		}
+
+		Map<String, String> fields = new HashMap<>();
+		document.forEach((field, value) -> fields.put(field, value == null ? null : value.toString()));
+
+		return fields;
+	}
+
+	private String readBody(InputStream in) throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+
+		while ((read = in.read(buffer)) != -1) {
+			body.write(buffer, 0, read);
+
+			if (body.size() > MAX_BODY_BYTES) {
+				throw new InvalidRequestException(PAYLOAD_TOO_LARGE, String.format(BODY_TOO_LARGE, MAX_BODY_BYTES));
+			}
+		}
+
+		return new String(body.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private void respondError(HttpExchange exchange, int status, String message) throws IOException {
+		respond(exchange, status, new Document(ResponseCollectingView.ERROR, message).toJson());
+	}
+
+	private void respond(HttpExchange exchange, int status, String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, body.length);
+
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	private static class InvalidRequestException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int status;
+
+		InvalidRequestException(int status, String message) {
+			super(message);
+			this.status = status;
+		}
+	}
+}
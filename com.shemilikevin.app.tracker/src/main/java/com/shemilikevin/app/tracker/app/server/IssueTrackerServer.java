@@ -0,0 +1,40 @@
+package com.shemilikevin.app.tracker.app.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.sun.net.httpserver.HttpServer;
+
+// Serves the controller operations as JSON over HTTP with the server built into the JDK
+// Requests are handled on the given executor, the repositories are shared by all of them
+public class IssueTrackerServer {
+
+	// Connections waiting to be accepted before new ones are refused
+	private static final int BACKLOG = 1024;
+
+	private final HttpServer httpServer;
+
+	public IssueTrackerServer(ProjectRepository projectRepository, IssueRepository issueRepository,
+			InetSocketAddress address, Executor executor) throws IOException {
+
+		httpServer = HttpServer.create(address, BACKLOG);
+		httpServer.createContext("/", new ApiHandler(projectRepository, issueRepository));
+		httpServer.setExecutor(executor);
+	}
+
+	public void start() {
+		httpServer.start();
+	}
+
+	// Waits up to the delay for requests in progress to finish
+	public void stop(int delaySeconds) {
+		httpServer.stop(delaySeconds);
+	}
+
+	public InetSocketAddress getAddress() {
+		return httpServer.getAddress();
+	}
+}
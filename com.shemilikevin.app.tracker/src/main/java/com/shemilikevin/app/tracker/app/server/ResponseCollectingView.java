@@ -0,0 +1,190 @@
+package com.shemilikevin.app.tracker.app.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.view.IssueTrackerView;
+import com.shemilikevin.app.tracker.view.PageSource;
+
+// Collects what one controller call shows into the JSON body of one HTTP response
+// A new view is made for every request, so it is never shared between threads
+public class ResponseCollectingView implements IssueTrackerView {
+
+	static final String PROJECTS = "projects";
+	static final String PROJECT = "project";
+	static final String ISSUES = "issues";
+	static final String ISSUE = "issue";
+	static final String REMOVED = "removed";
+	static final String NEXT_PAGE_TOKEN = "nextPageToken";
+	static final String TOTAL = "total";
+	static final String ERROR = "error";
+
+	// Lazy lists are cut to their first page, the rest is never read
+	static final int FIRST_PAGE_SIZE = 50;
+
+	static final int OK = 200;
+	static final int BAD_REQUEST = 400;
+	static final int NOT_FOUND = 404;
+
+	// Errors about a missing project or issue, the listed ids sit in the middle of ISSUES_DONT_EXIST
+	private static final List<String> NOT_FOUND_ERRORS = Arrays.asList(ErrorMessages.PROJECT_DOESNT_EXIST,
+			ErrorMessages.ISSUE_DOESNT_EXIST);
+	private static final String MISSING_ISSUES_PREFIX = ErrorMessages.ISSUES_DONT_EXIST.substring(0,
+			ErrorMessages.ISSUES_DONT_EXIST.indexOf("%s"));
+	private static final String MISSING_ISSUES_SUFFIX = ErrorMessages.ISSUES_DONT_EXIST
+			.substring(ErrorMessages.ISSUES_DONT_EXIST.indexOf("%s") + 2);
+
+	// Plain JSON numbers, where the default mode wraps a long as {"$numberLong": ...}
+	private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED)
+			.build();
+
+	private final Document response = new Document();
+	private int errorStatus = BAD_REQUEST;
+
+	public int getStatus() {
+		return response.containsKey(ERROR) ? errorStatus : OK;
+	}
+
+	public String toJson() {
+		return response.toJson(JSON_SETTINGS);
+	}
+
+	@Override
+	public void showIssues(List<Issue> issueList) {
+		response.put(ISSUES, issueDocuments(issueList));
+	}
+
+	@Override
+	public void showIssuePages(PageSource<Issue> issuePages) {
+		response.put(ISSUES, issueDocuments(issuePages.load(0, FIRST_PAGE_SIZE)));
+		response.put(TOTAL, issuePages.count());
+	}
+
+	@Override
+	public void showIssueStream(Supplier<Stream<Issue>> issueStream) {
+		try (Stream<Issue> stream = issueStream.get()) {
+			response.put(ISSUES, issueDocuments(stream.limit(FIRST_PAGE_SIZE).collect(Collectors.toList())));
+		}
+	}
+
+	@Override
+	public void appendIssues(List<Issue> issueList) {
+		response.put(ISSUES, issueDocuments(issueList));
+	}
+
+	@Override
+	public void showMoreIssuesAvailable(String nextPageToken) {
+		response.put(NEXT_PAGE_TOKEN, nextPageToken);
+	}
+
+	@Override
+	public void issueAdded(Issue issue) {
+		response.put(ISSUE, issueDocument(issue));
+	}
+
+	@Override
+	public void issueRemoved(String issueId) {
+		removed().add(issueId);
+	}
+
+	@Override
+	public void showProjectError(String errorMessage) {
+		showError(errorMessage);
+	}
+
+	@Override
+	public void showIssueError(String errorMessage) {
+		showError(errorMessage);
+	}
+
+	@Override
+	public void showProjects(List<Project> projectList) {
+		List<Document> projects = new ArrayList<>(projectList.size());
+
+		for (Project project : projectList) {
+			projects.add(projectDocument(project));
+		}
+
+		response.put(PROJECTS, projects);
+	}
+
+	@Override
+	public void showProjectPages(PageSource<Project> projectPages) {
+		showProjects(projectPages.load(0, FIRST_PAGE_SIZE));
+		response.put(TOTAL, projectPages.count());
+	}
+
+	@Override
+	public void projectAdded(Project project) {
+		response.put(PROJECT, projectDocument(project));
+	}
+
+	@Override
+	public void projectRemoved(String projectId) {
+		removed().add(projectId);
+	}
+
+	// Field and selection state only exists in the window
+	@Override
+	public void clearProjectFields() {
+	}
+
+	@Override
+	public void clearProjectSelection() {
+	}
+
+	@Override
+	public void clearIssueFields() {
+	}
+
+	@Override
+	public void clearIssueSelection() {
+	}
+
+	private void showError(String errorMessage) {
+		response.put(ERROR, errorMessage);
+		errorStatus = isNotFound(errorMessage) ? NOT_FOUND : BAD_REQUEST;
+	}
+
+	private static boolean isNotFound(String errorMessage) {
+		return NOT_FOUND_ERRORS.contains(errorMessage) || (errorMessage.startsWith(MISSING_ISSUES_PREFIX)
+				&& errorMessage.endsWith(MISSING_ISSUES_SUFFIX));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> removed() {
+		return (List<String>) response.computeIfAbsent(REMOVED, key -> new ArrayList<String>());
+	}
+
+	private List<Document> issueDocuments(List<Issue> issueList) {
+		List<Document> issues = new ArrayList<>(issueList.size());
+
+		for (Issue issue : issueList) {
+			issues.add(issueDocument(issue));
+		}
+
+		return issues;
+	}
+
+	private Document projectDocument(Project project) {
+		return new Document("id", project.getId()).append("name", project.getName()).append("description",
+				project.getDescription());
+	}
+
+	private Document issueDocument(Issue issue) {
+		return new Document("id", issue.getId()).append("name", issue.getName())
+				.append("description", issue.getDescription()).append("priority", issue.getPriority())
+				.append("projectId", issue.getProjectId());
+	}
+}
@@ -1,65 +1,202 @@
 package com.shemilikevin.app.tracker.app.swing;
 
 import java.awt.EventQueue;
+import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.mongodb.MongoClient;
-import com.mongodb.ServerAddress;
+import com.shemilikevin.app.tracker.app.cli.ExportCommand;
+import com.shemilikevin.app.tracker.app.cli.ImportCommand;
+import com.shemilikevin.app.tracker.app.cli.MetricsOptions;
+import com.shemilikevin.app.tracker.app.cli.MongoOptions;
+import com.shemilikevin.app.tracker.app.cli.ServeCommand;
 import com.shemilikevin.app.tracker.controller.IssueController;
+import com.shemilikevin.app.tracker.controller.IssuePrefetcher;
 import com.shemilikevin.app.tracker.controller.ProjectController;
+import com.shemilikevin.app.tracker.controller.executor.ControllerExecutors;
+import com.shemilikevin.app.tracker.controller.executor.ExecutorType;
 import com.shemilikevin.app.tracker.repository.IssueRepository;
 import com.shemilikevin.app.tracker.repository.ProjectRepository;
-import com.shemilikevin.app.tracker.repository.mongo.IssueMongoRepository;
-import com.shemilikevin.app.tracker.repository.mongo.ProjectMongoRepository;
+import com.shemilikevin.app.tracker.repository.cache.CachingIssueRepository;
+import com.shemilikevin.app.tracker.repository.cache.CachingProjectRepository;
+import com.shemilikevin.app.tracker.view.IssueTrackerView;
+import com.shemilikevin.app.tracker.view.swing.ControllerRunner;
+import com.shemilikevin.app.tracker.view.swing.EdtDispatchingView;
 import com.shemilikevin.app.tracker.view.swing.IssueTrackerSwingView;
+import com.shemilikevin.app.tracker.view.swing.RefreshCoalescer;
 
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.Spec;
 
-@Command(mixinStandardHelpOptions = true)
+@Command(mixinStandardHelpOptions = true, subcommands = { ImportCommand.class, ExportCommand.class, ServeCommand.class })
 public class IssueTrackerSwingApp implements Callable<Void> {
 
-	@Option(names = { "--mongo-host" }, description = "MongoDB Host Address")
-	private String mongoHost = "localhost";
+	static final String INVALID_CACHE_TTL = "--cache-ttl-seconds must be positive, was: %d";
+	static final String INVALID_PREFETCH_THREADS = "--prefetch-threads must not be negative, was: %d";
+	static final String INVALID_PREFETCH_TTL = "--prefetch-ttl-seconds must be positive, was: %d";
+	static final String INVALID_EXECUTOR_THREADS = "--executor-threads must be positive, was: %d";
+	static final String INVALID_REFRESH_DEBOUNCE = "--refresh-debounce-ms must not be negative, was: %d";
 
-	@Option(names = { "--mongo-port" }, description = "MongoDB Host Port")
-	private int mongoPort = 27017;
+	@Mixin
+	private MongoOptions mongoOptions;
 
-	private static final String DATABASE_NAME = "database";
-	private static final String PROJECT_COLLECTION_NAME = "project";
-	private static final String ISSUE_COLLECTION_NAME = "issue";
+	@Mixin
+	private MetricsOptions metricsOptions;
+
+	@Spec
+	private CommandSpec spec;
+
+	@Option(names = { "--project-cache-size" }, description = "Maximum number of cached projects, 0 disables the cache")
+	private int projectCacheSize = 0;
+
+	@Option(names = { "--issue-cache-size" }, description = "Maximum number of cached issue lists, 0 disables the cache")
+	private int issueCacheSize = 0;
+
+	@Option(names = { "--cache-ttl-seconds" }, description = "Seconds before a cached entry is reloaded")
+	private long cacheTtlSeconds = 60;
+
+	@Option(names = { "--async" }, description = "Run database work off the Event Dispatch Thread")
+	private boolean async = false;
+
+	@Option(names = { "--executor" }, description = "Executor for --async controller work: ${COMPLETION-CANDIDATES}")
+	private ExecutorType executorType = ExecutorType.FIXED;
+
+	@Option(names = { "--executor-threads" }, description = "Platform threads of the FIXED executor and fallback")
+	private int executorThreads = 4;
+
+	@Option(names = { "--refresh-debounce-ms" }, description = "Delay that collapses bursts of --async list refreshes")
+	private long refreshDebounceMillis = 150;
+
+	@Option(names = { "--virtual-lists" }, description = "Page lists through the database instead of loading them")
+	private boolean virtualLists = false;
+
+	@Option(names = { "--progressive-lists" }, description = "Stream issues into the list as they are read")
+	private boolean progressiveLists = false;
+
+	@Option(names = { "--prefetch-threads" }, description = "Threads loading issues on project selection, 0 disables it")
+	private int prefetchThreads = 0;
+
+	@Option(names = { "--prefetch-ttl-seconds" }, description = "Seconds a prefetched issue page stays usable")
+	private long prefetchTtlSeconds = 10;
 
 	public static void main(String[] args) {
-		new CommandLine(new IssueTrackerSwingApp()).execute(args);
+		int exitCode = new CommandLine(new IssueTrackerSwingApp()).execute(args);
+
+		// The window keeps running after a successful launch, only failures end the process here
+		if (exitCode != 0) {
+			System.exit(exitCode);
+		}
 	}
 
 	@Override
 	public Void call() throws Exception {
+		// Checked here, the window is built on the Event Dispatch Thread where failures are only logged
+		if (cacheTtlSeconds <= 0) {
+			throw new ParameterException(spec.commandLine(), String.format(INVALID_CACHE_TTL, cacheTtlSeconds));
+		}
+
+		if (prefetchThreads < 0) {
+			throw new ParameterException(spec.commandLine(), String.format(INVALID_PREFETCH_THREADS, prefetchThreads));
+		}
+
+		if (prefetchTtlSeconds <= 0) {
+			throw new ParameterException(spec.commandLine(), String.format(INVALID_PREFETCH_TTL, prefetchTtlSeconds));
+		}
+
+		if (executorThreads <= 0) {
+			throw new ParameterException(spec.commandLine(), String.format(INVALID_EXECUTOR_THREADS, executorThreads));
+		}
+
+		if (refreshDebounceMillis < 0) {
+			throw new ParameterException(spec.commandLine(),
+					String.format(INVALID_REFRESH_DEBOUNCE, refreshDebounceMillis));
+		}
+
 		EventQueue.invokeLater(() -> {
 			try {
-				ServerAddress address = new ServerAddress(mongoHost, mongoPort);
-				MongoClient mongoClient = new MongoClient(address);
+				MongoClient mongoClient = mongoOptions.createClient();
+
+				// Below the caches, so only calls that reach MongoDB are measured
+				metricsOptions.start();
+				if (metricsOptions.getMetrics() != null) {
+					logStatisticsOnExit("Repository metrics", metricsOptions.getMetrics()::getOperations);
+				}
+
+				ProjectRepository projectRepository = metricsOptions
+						.instrument(mongoOptions.createProjectRepository(mongoClient));
 
-				ProjectRepository projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME,
-						PROJECT_COLLECTION_NAME);
-				IssueRepository issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME,
-						ISSUE_COLLECTION_NAME);
+				if (projectCacheSize > 0) {
+					CachingProjectRepository cachingProjectRepository = new CachingProjectRepository(
+							projectRepository, projectCacheSize, Duration.ofSeconds(cacheTtlSeconds));
+					logStatisticsOnExit("Project cache", cachingProjectRepository::getStatistics);
+					projectRepository = cachingProjectRepository;
+				}
+				IssueRepository issueRepository = metricsOptions
+						.instrument(mongoOptions.createIssueRepository(mongoClient));
 
-				IssueTrackerSwingView issueTrackerView = new IssueTrackerSwingView();
+				if (issueCacheSize > 0) {
+					CachingIssueRepository cachingIssueRepository = new CachingIssueRepository(issueRepository,
+							issueCacheSize, Duration.ofSeconds(cacheTtlSeconds));
+					logStatisticsOnExit("Issue cache", cachingIssueRepository::getStatistics);
+					issueRepository = cachingIssueRepository;
+				}
+
+				IssueTrackerSwingView swingView = new IssueTrackerSwingView();
+				IssueTrackerView issueTrackerView = swingView;
+
+				ControllerRunner controllerRunner = new ControllerRunner(Runnable::run);
+				if (async) {
+					// The runner serializes writes only, so page loads do not queue behind slow operations
+					// Results of operations overtaken by a navigation are dropped by the runner
+					ExecutorService executor = ControllerExecutors.create(executorType, executorThreads);
+					controllerRunner = new ControllerRunner(executor);
+					issueTrackerView = new EdtDispatchingView(swingView, controllerRunner);
+				}
+
+				RefreshCoalescer refreshCoalescer = new RefreshCoalescer(controllerRunner);
+				if (async) {
+					ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+						Thread thread = new Thread(runnable, "refresh-debounce");
+						thread.setDaemon(true);
+						return thread;
+					});
+					refreshCoalescer = new RefreshCoalescer(controllerRunner, scheduler, refreshDebounceMillis);
+				}
+				swingView.setControllerRunner(controllerRunner, refreshCoalescer);
+				logStatisticsOnExit("List refreshes", refreshCoalescer::statistics);
 
 				ProjectController projectController = new ProjectController(projectRepository, issueRepository,
 						issueTrackerView);
 				IssueController issueController = new IssueController(projectRepository, issueRepository,
 						issueTrackerView);
 
-				issueTrackerView.setProjectController(projectController);
-				issueTrackerView.setIssueController(issueController);
+				if (prefetchThreads > 0) {
+					IssuePrefetcher issuePrefetcher = new IssuePrefetcher(issueRepository,
+							ControllerExecutors.boundedThreadPool(prefetchThreads),
+							Duration.ofSeconds(prefetchTtlSeconds));
+					issueController.setIssuePrefetcher(issuePrefetcher);
+					logStatisticsOnExit("Issue prefetches", issuePrefetcher::statistics);
+				}
 
-				issueTrackerView.setVisible(true);
-				projectController.listProjects();
+				swingView.setProjectController(projectController);
+				swingView.setIssueController(issueController);
+				swingView.setVirtualLists(virtualLists);
+				swingView.setProgressiveLists(progressiveLists);
+
+				swingView.setVisible(true);
+				refreshCoalescer.request("projects",
+						virtualLists ? projectController::listProjectPages : projectController::listProjects);
 			} catch (Exception e) {
 				Logger.getLogger(getClass().getName()).log(Level.SEVERE, "Exception", e);
 			}
@@ -67,4 +204,9 @@ public class IssueTrackerSwingApp implements Callable<Void> {
 
 		return null;
 	}
+
+	private void logStatisticsOnExit(String name, Supplier<?> statistics) {
+		Runtime.getRuntime().addShutdownHook(new Thread(
+				() -> Logger.getLogger(getClass().getName()).info(name + ": " + statistics.get())));
+	}
 }
\ No newline at end of file
@@ -19,16 +19,11 @@ abstract class BaseController {
 	}
 
 	protected boolean validateIsNumeric(String id) {
-		try {
-			Integer.parseInt(id);
-			return true;
-		} catch (NumberFormatException e) {
-			return false;
-		}
+		return FieldValidator.isNumeric(id);
 	}
 
 	protected boolean validateIsNotNullOrEmpty(String id) {
-		return id != null && !id.trim().isEmpty();
+		return FieldValidator.isNotNullOrEmpty(id);
 	}
 
 	protected boolean isProjectStoredInDatabase(String id) {
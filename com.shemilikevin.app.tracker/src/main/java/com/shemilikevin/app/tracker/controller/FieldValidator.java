@@ -0,0 +1,93 @@
+package com.shemilikevin.app.tracker.controller;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+
+// Field rules shared by the controllers and the headless import
+// Each check returns the error message of the first broken rule, or null when the fields are valid
+public final class FieldValidator {
+
+	private static final List<String> ALLOWED_PRIORITIES = Arrays.asList("Low", "Medium", "High");
+
+	private FieldValidator() {
+	}
+
+	public static String validateId(String id) {
+		if (!isNotNullOrEmpty(id)) {
+			return ErrorMessages.NULL_EMPTY_ID;
+		}
+
+		if (!isNumeric(id)) {
+			return ErrorMessages.NON_NUMERICAL_ID;
+		}
+
+		return null;
+	}
+
+	public static String validateProject(String id, String name, String description) {
+		String idError = validateId(id);
+
+		if (idError != null) {
+			return idError;
+		}
+
+		return validateNameAndDescription(name, description);
+	}
+
+	public static String validateIssue(String id, String name, String description, String priority,
+			String projectId) {
+
+		String idError = validateId(id);
+
+		if (idError == null) {
+			idError = validateId(projectId);
+		}
+
+		if (idError != null) {
+			return idError;
+		}
+
+		String textError = validateNameAndDescription(name, description);
+
+		if (textError != null) {
+			return textError;
+		}
+
+		if (!isNotNullOrEmpty(priority)) {
+			return ErrorMessages.NULL_EMPTY_PRIORITY;
+		}
+
+		if (!ALLOWED_PRIORITIES.contains(priority)) {
+			return ErrorMessages.NOT_ALLOWED_PRIORITY;
+		}
+
+		return null;
+	}
+
+	static boolean isNumeric(String id) {
+		try {
+			Integer.parseInt(id);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	static boolean isNotNullOrEmpty(String value) {
+		return value != null && !value.trim().isEmpty();
+	}
+
+	private static String validateNameAndDescription(String name, String description) {
+		if (!isNotNullOrEmpty(name)) {
+			return ErrorMessages.NULL_EMPTY_NAME;
+		}
+
+		if (!isNotNullOrEmpty(description)) {
+			return ErrorMessages.NULL_EMPTY_DESCRIPTION;
+		}
+
+		return null;
+	}
+}
@@ -1,18 +1,28 @@
 package com.shemilikevin.app.tracker.controller;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import com.shemilikevin.app.tracker.helpers.ErrorMessages;
 import com.shemilikevin.app.tracker.model.Issue;
 import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.Page;
 import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
 import com.shemilikevin.app.tracker.view.IssueTrackerView;
+import com.shemilikevin.app.tracker.view.PageSource;
 
 public class IssueController extends BaseController {
 
-	private static final List<String> ALLOWED_PRIORITIES = Arrays.asList("Low", "Medium", "High");
+	static final int ISSUE_PAGE_SIZE = 50;
+
+	// Small cursor batches, so the first rows of a streamed list arrive quickly
+	static final int ISSUE_STREAM_BATCH_SIZE = 100;
+
+	private IssuePrefetcher issuePrefetcher;
 
 	public IssueController(ProjectRepository projectRepository, IssueRepository issueRepository,
 			IssueTrackerView issueTrackerView) {
@@ -20,6 +30,20 @@ public class IssueController extends BaseController {
 		super(projectRepository, issueRepository, issueTrackerView);
 	}
 
+	public void setIssuePrefetcher(IssuePrefetcher issuePrefetcher) {
+		this.issuePrefetcher = issuePrefetcher;
+	}
+
+	// Speculative, so an invalid id is silently ignored rather than reported
+	public void prefetchIssues(String projectId) {
+
+		if (issuePrefetcher == null || !validateIsNotNullOrEmpty(projectId) || !validateIsNumeric(projectId)) {
+			return;
+		}
+
+		issuePrefetcher.prefetch(projectId);
+	}
+
 	public void listIssues(String projectId) {
 
 		if (!validateFields(projectId)) {
@@ -32,12 +56,89 @@ public class IssueController extends BaseController {
 			return;
 		}
 
-		List<Issue> issueList = issueRepository.findByProjectId(projectId);
-		issueTrackerView.showIssues(issueList);
+		Page<Issue> prefetchedPage = issuePrefetcher == null ? null : issuePrefetcher.take(projectId);
+
+		if (prefetchedPage == null) {
+			showFirstIssuePage(projectId);
+		} else {
+			showIssuePage(prefetchedPage);
+		}
+
+		issueTrackerView.clearIssueFields();
+		issueTrackerView.clearIssueSelection();
+	}
+
+	// Hands the view a source to page through, rather than loading the issues up front
+	public void listIssuePages(String projectId) {
+
+		if (!validateFields(projectId)) {
+			return;
+		}
+
+		if (!isProjectStoredInDatabase(projectId)) {
+			issueTrackerView.showIssueError(ErrorMessages.PROJECT_DOESNT_EXIST);
+			issueTrackerView.showIssues(Collections.emptyList());
+			return;
+		}
+
+		issueTrackerView.showIssuePages(new PageSource<Issue>() {
+
+			@Override
+			public long count() {
+				return issueRepository.countByProjectId(projectId);
+			}
+
+			@Override
+			public List<Issue> load(int offset, int limit) {
+				return issueRepository.findRangeByProjectId(projectId, offset, limit);
+			}
+		});
+		issueTrackerView.clearIssueFields();
+		issueTrackerView.clearIssueSelection();
+	}
+
+	// Hands the view a stream to read progressively, rather than loading the issues up front
+	public void streamIssues(String projectId) {
+
+		if (!validateFields(projectId)) {
+			return;
+		}
+
+		if (!isProjectStoredInDatabase(projectId)) {
+			issueTrackerView.showIssueError(ErrorMessages.PROJECT_DOESNT_EXIST);
+			issueTrackerView.showIssues(Collections.emptyList());
+			return;
+		}
+
+		issueTrackerView.showIssueStream(() -> issueRepository.streamByProjectId(projectId, ISSUE_STREAM_BATCH_SIZE));
 		issueTrackerView.clearIssueFields();
 		issueTrackerView.clearIssueSelection();
 	}
 
+	public void listMoreIssues(String projectId, String pageToken) {
+
+		if (!validateFields(projectId)) {
+			return;
+		}
+
+		if (!validateIsNotNullOrEmpty(pageToken)) {
+			issueTrackerView.showIssueError(ErrorMessages.INVALID_PAGE_TOKEN);
+			return;
+		}
+
+		Page<Issue> issuePage;
+
+		try {
+			issuePage = issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, pageToken);
+		} catch (IllegalArgumentException e) {
+			issueTrackerView.showIssueError(ErrorMessages.INVALID_PAGE_TOKEN);
+			return;
+		}
+
+		issueTrackerView.appendIssues(issuePage.getItems());
+		showMoreIssuesIfAvailable(issuePage);
+	}
+
 	public void addIssue(String issueId, String issueName, String issueDescription, String issuePriority,
 			String projectId) {
 
@@ -50,16 +151,16 @@ public class IssueController extends BaseController {
 			return;
 		}
 
-		if (isIssueStoredInDatabase(issueId)) {
+		Issue issue = new Issue(issueId, issueName, issueDescription, issuePriority, projectId);
+
+		if (issueRepository.save(issue) == SaveResult.DUPLICATE) {
 			issueTrackerView.showIssueError(String.format(ErrorMessages.DUPLICATE_ISSUE, issueId));
 			return;
 		}
 
-		Issue issue = new Issue(issueId, issueName, issueDescription, issuePriority, projectId);
-		issueRepository.save(issue);
+		discardPrefetchedIssues();
 
-		List<Issue> issueList = issueRepository.findByProjectId(projectId);
-		issueTrackerView.showIssues(issueList);
+		issueTrackerView.issueAdded(issue);
 		issueTrackerView.clearIssueFields();
 	}
 
@@ -69,65 +170,118 @@ public class IssueController extends BaseController {
 			return;
 		}
 
-		if (!isIssueStoredInDatabase(issueId)) {
+		// Checks existence within the project and deletes in one command
+		Issue deleted = issueRepository.findAndDelete(issueId, projectId);
+
+		if (deleted == null) {
 			issueTrackerView.showIssueError(ErrorMessages.ISSUE_DOESNT_EXIST);
-			issueTrackerView.showIssues(issueRepository.findByProjectId(projectId));
+			showFirstIssuePage(projectId);
 			return;
 		}
 
-		Issue toBeDeleted = issueRepository.findById(issueId);
-		issueRepository.delete(issueId);
+		discardPrefetchedIssues();
 
-		List<Issue> issueList = issueRepository.findByProjectId(toBeDeleted.getProjectId());
-		issueTrackerView.showIssues(issueList);
+		issueTrackerView.issueRemoved(deleted.getId());
 		issueTrackerView.clearIssueSelection();
 	}
 
-	private boolean isIssueStoredInDatabase(String id) {
-		return issueRepository.exists(id);
-	}
+	public void deleteIssues(List<String> issueIds, String projectId) {
 
-	private boolean validateFields(String id, String name, String description, String priority, String projectId) {
+		if (issueIds == null || issueIds.isEmpty()) {
+			issueTrackerView.showIssueError(ErrorMessages.NO_ISSUES_SELECTED);
+			return;
+		}
 
-		if (!validateId(id) || !validateId(projectId)) {
-			return false;
+		for (String issueId : issueIds) {
+			if (!validateFields(issueId)) {
+				return;
+			}
 		}
 
-		if (!validateIsNotNullOrEmpty(name)) {
-			issueTrackerView.showIssueError(ErrorMessages.NULL_EMPTY_NAME);
-			return false;
+		// One existence query for the whole batch instead of one per issue, issues of other projects count as missing
+		Set<String> existingIds = issueRepository.findExistingIds(issueIds, projectId);
+
+		List<String> missingIds = new ArrayList<>();
+		for (String issueId : issueIds) {
+			if (!existingIds.contains(issueId)) {
+				missingIds.add(issueId);
+			}
 		}
 
-		if (!validateIsNotNullOrEmpty(description)) {
-			issueTrackerView.showIssueError(ErrorMessages.NULL_EMPTY_DESCRIPTION);
-			return false;
+		if (!missingIds.isEmpty()) {
+			issueTrackerView
+					.showIssueError(String.format(ErrorMessages.ISSUES_DONT_EXIST, String.join(", ", missingIds)));
+			showFirstIssuePage(projectId);
+			return;
 		}
 
-		if (!validateIsNotNullOrEmpty(priority)) {
-			issueTrackerView.showIssueError(ErrorMessages.NULL_EMPTY_PRIORITY);
-			return false;
+		issueRepository.deleteMany(existingIds, projectId);
+		discardPrefetchedIssues();
+
+		for (String issueId : issueIds) {
+			issueTrackerView.issueRemoved(issueId);
 		}
+		issueTrackerView.clearIssueSelection();
+	}
 
-		if (!ALLOWED_PRIORITIES.contains(priority)) {
-			issueTrackerView.showIssueError(ErrorMessages.NOT_ALLOWED_PRIORITY);
-			return false;
+	public void moveIssues(String fromProjectId, String toProjectId) {
+
+		if (!validateFields(fromProjectId) || !validateFields(toProjectId)) {
+			return;
 		}
 
-		return true;
+		if (fromProjectId.equals(toProjectId)) {
+			issueTrackerView.showIssueError(ErrorMessages.SAME_PROJECT);
+			return;
+		}
+
+		Set<String> existingProjectIds = projectRepository.findExistingIds(Arrays.asList(fromProjectId, toProjectId));
+
+		if (existingProjectIds.size() != 2) {
+			issueTrackerView.showIssueError(ErrorMessages.PROJECT_DOESNT_EXIST);
+			return;
+		}
+
+		issueRepository.reassign(fromProjectId, toProjectId);
+		discardPrefetchedIssues();
+
+		showFirstIssuePage(fromProjectId);
+		issueTrackerView.clearIssueSelection();
 	}
 
-	private boolean validateFields(String id) {
-		return validateId(id);
+	private void showFirstIssuePage(String projectId) {
+		showIssuePage(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, null));
 	}
 
-	private boolean validateId(String id) {
-		if (!validateIsNotNullOrEmpty(id)) {
-			issueTrackerView.showIssueError(ErrorMessages.NULL_EMPTY_ID);
-			return false;
+	private void showIssuePage(Page<Issue> issuePage) {
+		issueTrackerView.showIssues(issuePage.getItems());
+		showMoreIssuesIfAvailable(issuePage);
+	}
+
+	// A prefetched page taken after a write would show issues that are no longer stored
+	private void discardPrefetchedIssues() {
+		if (issuePrefetcher != null) {
+			issuePrefetcher.discardAll();
 		}
+	}
+
+	private void showMoreIssuesIfAvailable(Page<Issue> issuePage) {
+		if (issuePage.hasNextPage()) {
+			issueTrackerView.showMoreIssuesAvailable(issuePage.getNextPageToken());
+		}
+	}
+
+	private boolean validateFields(String id, String name, String description, String priority, String projectId) {
+		return showIssueErrorIfAny(FieldValidator.validateIssue(id, name, description, priority, projectId));
+	}
+
+	private boolean validateFields(String id) {
+		return showIssueErrorIfAny(FieldValidator.validateId(id));
+	}
 
-		if (!validateIsNumeric(id)) {
-			issueTrackerView.showIssueError(ErrorMessages.NON_NUMERICAL_ID);
+	private boolean showIssueErrorIfAny(String error) {
+		if (error != null) {
+			issueTrackerView.showIssueError(error);
 			return false;
 		}
 
@@ -0,0 +1,143 @@
+package com.shemilikevin.app.tracker.controller;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.Page;
+
+// Speculatively loads the first issue page of the selected project, before its issues are asked for
+// The executor bounds the concurrency, a prefetch it rejects is simply skipped
+// Selecting another project cancels the prefetches of the previous ones
+public class IssuePrefetcher {
+
+	static final String INVALID_TTL = "Prefetch time to live must be positive, was: %d ns";
+	static final String PREFETCH_FAILED = "Prefetching the issues of project %s failed";
+
+	private static final Logger LOGGER = Logger.getLogger(IssuePrefetcher.class.getName());
+
+	private final IssueRepository issueRepository;
+	private final ExecutorService executor;
+	private final long ttlNanos;
+	private final LongSupplier nanoClock;
+
+	private final Map<String, Prefetch> prefetches = new HashMap<>();
+
+	private long started;
+	private long used;
+	private long skipped;
+
+	public IssuePrefetcher(IssueRepository issueRepository, ExecutorService executor, Duration timeToLive) {
+		this(issueRepository, executor, timeToLive, System::nanoTime);
+	}
+
+	IssuePrefetcher(IssueRepository issueRepository, ExecutorService executor, Duration timeToLive,
+			LongSupplier nanoClock) {
+		if (timeToLive.isZero() || timeToLive.isNegative()) {
+			throw new IllegalArgumentException(String.format(INVALID_TTL, timeToLive.toNanos()));
+		}
+
+		this.issueRepository = issueRepository;
+		this.executor = executor;
+		this.ttlNanos = timeToLive.toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	public synchronized void prefetch(String projectId) {
+		cancelPrefetches(otherProjectId -> !otherProjectId.equals(projectId));
+
+		Prefetch existing = prefetches.get(projectId);
+		if (existing != null && !existing.isExpired()) {
+			return;
+		}
+
+		try {
+			Future<Page<Issue>> page = executor
+					.submit(() -> issueRepository.findByProjectId(projectId, IssueController.ISSUE_PAGE_SIZE, null));
+			prefetches.put(projectId, new Prefetch(page, nanoClock.getAsLong()));
+			started++;
+		} catch (RejectedExecutionException e) {
+			prefetches.remove(projectId);
+			skipped++;
+		}
+	}
+
+	// Returns the prefetched page once, waiting if it is still loading
+	// Null when nothing fresh was prefetched, the caller then queries the repository itself
+	public Page<Issue> take(String projectId) {
+		Prefetch prefetch;
+
+		synchronized (this) {
+			prefetch = prefetches.remove(projectId);
+
+			if (prefetch == null || prefetch.isExpired()) {
+				return null;
+			}
+		}
+
+		try {
+			Page<Issue> page = prefetch.page.get();
+			countUse();
+			return page;
+		} catch (ExecutionException e) {
+			LOGGER.log(Level.WARNING, String.format(PREFETCH_FAILED, projectId), e.getCause());
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	// Prefetched pages no longer match the database after a write
+	public synchronized void discardAll() {
+		cancelPrefetches(projectId -> true);
+	}
+
+	public synchronized String statistics() {
+		return "Prefetches [started=" + started + ", used=" + used + ", skipped=" + skipped + "]";
+	}
+
+	private synchronized void countUse() {
+		used++;
+	}
+
+	private void cancelPrefetches(Predicate<String> cancelled) {
+		Iterator<Map.Entry<String, Prefetch>> iterator = prefetches.entrySet().iterator();
+
+		while (iterator.hasNext()) {
+			Map.Entry<String, Prefetch> entry = iterator.next();
+
+			if (cancelled.test(entry.getKey())) {
+				entry.getValue().page.cancel(true);
+				iterator.remove();
+			}
+		}
+	}
+
+	private class Prefetch {
+
+		private final Future<Page<Issue>> page;
+		private final long startedAt;
+
+		Prefetch(Future<Page<Issue>> page, long startedAt) {
+			this.page = page;
+			this.startedAt = startedAt;
+		}
+
+		// Measured from the start of the query, the page cannot be older than that
+		boolean isExpired() {
+			return nanoClock.getAsLong() - startedAt >= ttlNanos;
+		}
+	}
+}
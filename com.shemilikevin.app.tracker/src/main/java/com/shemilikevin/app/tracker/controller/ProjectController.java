@@ -6,7 +6,9 @@ import com.shemilikevin.app.tracker.helpers.ErrorMessages;
 import com.shemilikevin.app.tracker.model.Project;
 import com.shemilikevin.app.tracker.repository.IssueRepository;
 import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
 import com.shemilikevin.app.tracker.view.IssueTrackerView;
+import com.shemilikevin.app.tracker.view.PageSource;
 
 public class ProjectController extends BaseController {
 
@@ -24,22 +26,38 @@ public class ProjectController extends BaseController {
 		issueTrackerView.clearProjectSelection();
 	}
 
+	// Hands the view a source to page through, rather than loading the projects up front
+	public void listProjectPages() {
+		issueTrackerView.showProjectPages(new PageSource<Project>() {
+
+			@Override
+			public long count() {
+				return projectRepository.count();
+			}
+
+			@Override
+			public List<Project> load(int offset, int limit) {
+				return projectRepository.findRange(offset, limit);
+			}
+		});
+		issueTrackerView.clearProjectFields();
+		issueTrackerView.clearProjectSelection();
+	}
+
 	public void addProject(String id, String name, String description) {
 
 		if (!validateFields(id, name, description)) {
 			return;
 		}
 
-		if (isProjectStoredInDatabase(id)) {
+		Project project = new Project(id, name, description);
+
+		if (projectRepository.save(project) == SaveResult.DUPLICATE) {
 			issueTrackerView.showProjectError(String.format(ErrorMessages.DUPLICATE_PROJECT, id));
 			return;
 		}
 
-		Project project = new Project(id, name, description);
-		projectRepository.save(project);
-
-		List<Project> projectList = projectRepository.findAll();
-		issueTrackerView.showProjects(projectList);
+		issueTrackerView.projectAdded(project);
 		issueTrackerView.clearProjectFields();
 	}
 
@@ -51,7 +69,8 @@ public class ProjectController extends BaseController {
 
 		if (!isProjectStoredInDatabase(id)) {
 			issueTrackerView.showProjectError(ErrorMessages.PROJECT_DOESNT_EXIST);
-			issueTrackerView.showProjects(projectRepository.findAll()); // refreshes view to remove any stale data
+			// Drops the stale row, a paged list reloads its current rows instead of the whole collection
+			issueTrackerView.projectRemoved(id);
 			return;
 		}
 
@@ -62,43 +81,21 @@ public class ProjectController extends BaseController {
 
 		projectRepository.delete(id);
 
-		List<Project> projectList = projectRepository.findAll();
-		issueTrackerView.showProjects(projectList);
+		issueTrackerView.projectRemoved(id);
 		issueTrackerView.clearProjectSelection();
 	}
 
 	private boolean validateFields(String id, String name, String description) {
-
-		if (!validateId(id)) {
-			return false;
-		}
-
-		if (!validateIsNotNullOrEmpty(name)) {
-			issueTrackerView.showProjectError(ErrorMessages.NULL_EMPTY_NAME);
-			return false;
-		}
-
-		if (!validateIsNotNullOrEmpty(description)) {
-			issueTrackerView.showProjectError(ErrorMessages.NULL_EMPTY_DESCRIPTION);
-			return false;
-		}
-
-		return true;
+		return showProjectErrorIfAny(FieldValidator.validateProject(id, name, description));
 	}
 
 	private boolean validateFields(String id) {
-		return validateId(id);
+		return showProjectErrorIfAny(FieldValidator.validateId(id));
 	}
 
-	private boolean validateId(String id) {
-
-		if (!validateIsNotNullOrEmpty(id)) {
-			issueTrackerView.showProjectError(ErrorMessages.NULL_EMPTY_ID);
-			return false;
-		}
-
-		if (!validateIsNumeric(id)) {
-			issueTrackerView.showProjectError(ErrorMessages.NON_NUMERICAL_ID);
+	private boolean showProjectErrorIfAny(String error) {
+		if (error != null) {
+			issueTrackerView.showProjectError(error);
 			return false;
 		}
 
@@ -0,0 +1,99 @@
+package com.shemilikevin.app.tracker.controller.executor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+// Executors that controller operations can be handed to
+// The project targets Java 8, so virtual threads are looked up reflectively
+public final class ControllerExecutors {
+
+	static final String INVALID_THREAD_COUNT = "Thread count must be positive, was: %d";
+	static final String VIRTUAL_THREADS_UNAVAILABLE = "Virtual threads are not available, using %d platform threads";
+
+	private static final String VIRTUAL_FACTORY_CLASS = "java.util.concurrent.Executors";
+	private static final String VIRTUAL_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+	private static final Logger LOGGER = Logger.getLogger(ControllerExecutors.class.getName());
+
+	private ControllerExecutors() {
+	}
+
+	public static ExecutorService create(ExecutorType type, int threads) {
+		if (type == ExecutorType.VIRTUAL) {
+			return virtualThreadPerTask(threads);
+		}
+
+		return fixedThreadPool(threads);
+	}
+
+	public static ExecutorService fixedThreadPool(int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException(String.format(INVALID_THREAD_COUNT, threads));
+		}
+
+		return Executors.newFixedThreadPool(threads, new DaemonThreadFactory());
+	}
+
+	// No queue, work submitted while every thread is busy is rejected rather than piling up
+	// Suits speculative work that is worthless once it is late
+	public static ExecutorService boundedThreadPool(int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException(String.format(INVALID_THREAD_COUNT, threads));
+		}
+
+		return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+				new DaemonThreadFactory());
+	}
+
+	public static ExecutorService virtualThreadPerTask(int fallbackThreads) {
+		return virtualThreadPerTask(VIRTUAL_FACTORY_CLASS, VIRTUAL_FACTORY_METHOD, fallbackThreads);
+	}
+
+	public static boolean isVirtualThreadAvailable() {
+		return findFactory(VIRTUAL_FACTORY_CLASS, VIRTUAL_FACTORY_METHOD) != null;
+	}
+
+	static ExecutorService virtualThreadPerTask(String factoryClass, String factoryMethod, int fallbackThreads) {
+		Method factory = findFactory(factoryClass, factoryMethod);
+
+		if (factory != null) {
+			try {
+				return (ExecutorService) factory.invoke(null);
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				// Fall through to the platform thread pool
+			}
+		}
+
+		LOGGER.info(String.format(VIRTUAL_THREADS_UNAVAILABLE, fallbackThreads));
+		return fixedThreadPool(fallbackThreads);
+	}
+
+	private static Method findFactory(String factoryClass, String factoryMethod) {
+		try {
+			return Class.forName(factoryClass).getMethod(factoryMethod);
+		} catch (ClassNotFoundException | NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	// Daemon threads, so a busy pool never keeps the application alive
+	private static class DaemonThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "controller-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
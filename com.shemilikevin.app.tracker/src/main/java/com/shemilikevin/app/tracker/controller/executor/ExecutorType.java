@@ -0,0 +1,10 @@
+package com.shemilikevin.app.tracker.controller.executor;
+
+public enum ExecutorType {
+
+	// Bounded pool of platform threads, available on every supported JDK
+	FIXED,
+
+	// One virtual thread per operation on JDK 21+, falls back to FIXED elsewhere
+	VIRTUAL
+}
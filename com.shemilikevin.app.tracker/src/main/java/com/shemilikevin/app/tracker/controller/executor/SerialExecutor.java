@@ -0,0 +1,41 @@
+package com.shemilikevin.app.tracker.controller.executor;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+// Runs operations one at a time, in submission order, on threads borrowed from another executor
+// Keeps a single user's actions ordered while many users share the same executor
+public class SerialExecutor implements Executor {
+
+	private final Executor executor;
+	private final Queue<Runnable> operations = new ArrayDeque<>();
+	private Runnable active;
+
+	public SerialExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	@Override
+	public synchronized void execute(Runnable operation) {
+		operations.add(() -> {
+			try {
+				operation.run();
+			} finally {
+				scheduleNext();
+			}
+		});
+
+		if (active == null) {
+			scheduleNext();
+		}
+	}
+
+	private synchronized void scheduleNext() {
+		active = operations.poll();
+
+		if (active != null) {
+			executor.execute(active);
+		}
+	}
+}
@@ -16,4 +16,8 @@ public final class ErrorMessages {
 	public static final String DUPLICATE_ISSUE = "Issue with ID: %s, already exists.";
 	public static final String PROJECT_DOESNT_EXIST = "Project ID does not exist in the database.";
 	public static final String ISSUE_DOESNT_EXIST = "Issue ID does not exist in the database.";
+	public static final String INVALID_PAGE_TOKEN = "Page token is not valid.";
+	public static final String NO_ISSUES_SELECTED = "At least one issue must be selected.";
+	public static final String ISSUES_DONT_EXIST = "Issues with IDs: %s, do not exist in the database.";
+	public static final String SAME_PROJECT = "Issues can only be moved to a different project.";
 }
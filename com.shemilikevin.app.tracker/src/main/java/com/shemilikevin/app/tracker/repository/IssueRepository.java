@@ -1,6 +1,9 @@
 package com.shemilikevin.app.tracker.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import com.shemilikevin.app.tracker.model.Issue;
 
@@ -8,15 +11,39 @@ public interface IssueRepository {
 
 	List<Issue> findAll();
 
+	Page<Issue> findAll(int pageSize, String pageToken);
+
+	Stream<Issue> streamAll(int batchSize);
+
 	List<Issue> findByProjectId(String projectId);
 
+	Page<Issue> findByProjectId(String projectId, int pageSize, String pageToken);
+
+	Stream<Issue> streamByProjectId(String projectId, int batchSize);
+
+	long countByProjectId(String projectId);
+
+	List<Issue> findRangeByProjectId(String projectId, int offset, int limit);
+
 	boolean exists(String id);
 
-	void save(Issue issue);
+	Set<String> findExistingIds(Collection<String> ids, String projectId);
+
+	SaveResult save(Issue issue);
+
+	List<SaveResult> saveAll(List<Issue> issues);
 
 	Issue findById(String id);
 
 	void delete(String id);
 
+	Issue findAndDelete(String id, String projectId);
+
+	long deleteMany(Collection<String> ids, String projectId);
+
+	long reassign(String fromProjectId, String toProjectId);
+
 	boolean hasAssociatedIssues(String projectId);
+
+	Set<String> findReferencedProjectIds();
 }
@@ -0,0 +1,57 @@
+package com.shemilikevin.app.tracker.repository;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class Page<T> {
+
+	// Shared by every implementation that validates a requested page size
+	public static final String INVALID_PAGE_SIZE = "Page size must be positive, was: %d";
+
+	private final List<T> items;
+
+	// Opaque continuation token, null when this is the last page
+	private final String nextPageToken;
+
+	public Page(List<T> items, String nextPageToken) {
+		this.items = items;
+		this.nextPageToken = nextPageToken;
+	}
+
+	public List<T> getItems() {
+		return items;
+	}
+
+	public String getNextPageToken() {
+		return nextPageToken;
+	}
+
+	public boolean hasNextPage() {
+		return nextPageToken != null;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(items, nextPageToken);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		Page<?> other = (Page<?>) obj;
+		return Objects.equals(items, other.items) && Objects.equals(nextPageToken, other.nextPageToken);
+	}
+
+	@Override
+	public String toString() {
+		return "Page [items=" + items + ", nextPageToken=" + nextPageToken + "]";
+	}
+}
@@ -0,0 +1,37 @@
+package com.shemilikevin.app.tracker.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Keyset pagination token - wraps the sort key of the last item of a page
+// Shared so every repository implementation can continue another's pages
+public final class PageToken {
+
+	static final String INVALID_TOKEN = "Invalid page token: %s";
+
+	private static final String PREFIX = "id:";
+
+	private PageToken() {
+	}
+
+	public static String encode(String lastId) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String decode(String pageToken) {
+		String decoded;
+
+		try {
+			decoded = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(String.format(INVALID_TOKEN, pageToken), e);
+		}
+
+		if (!decoded.startsWith(PREFIX)) {
+			throw new IllegalArgumentException(String.format(INVALID_TOKEN, pageToken));
+		}
+
+		return decoded.substring(PREFIX.length());
+	}
+}
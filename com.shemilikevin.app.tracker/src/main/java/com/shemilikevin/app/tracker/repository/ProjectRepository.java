@@ -1,6 +1,9 @@
 package com.shemilikevin.app.tracker.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import com.shemilikevin.app.tracker.model.Project;
 
@@ -8,11 +11,21 @@ public interface ProjectRepository {
 
 	boolean exists(String id);
 
+	Set<String> findExistingIds(Collection<String> ids);
+
 	List<Project> findAll();
 
+	Stream<Project> streamAll(int batchSize);
+
+	long count();
+
+	List<Project> findRange(int offset, int limit);
+
 	Project findById(String id);
 
-	void save(Project project);
+	SaveResult save(Project project);
+
+	List<SaveResult> saveAll(List<Project> projects);
 
 	void delete(String id);
 }
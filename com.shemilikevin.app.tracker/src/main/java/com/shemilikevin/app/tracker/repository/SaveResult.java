@@ -0,0 +1,11 @@
+package com.shemilikevin.app.tracker.repository;
+
+public enum SaveResult {
+
+	INSERTED,
+
+	// An item with the same id is already stored
+	DUPLICATE,
+
+	FAILED
+}
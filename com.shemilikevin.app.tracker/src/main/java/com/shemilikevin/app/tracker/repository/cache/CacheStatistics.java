@@ -0,0 +1,77 @@
+package com.shemilikevin.app.tracker.repository.cache;
+
+import java.util.Objects;
+
+public final class CacheStatistics {
+
+	private final long hits;
+	private final long misses;
+	private final long evictions;
+	private final long expirations;
+	private final int size;
+
+	public CacheStatistics(long hits, long misses, long evictions, long expirations, int size) {
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+		this.expirations = expirations;
+		this.size = size;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public long getEvictions() {
+		return evictions;
+	}
+
+	public long getExpirations() {
+		return expirations;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public double getHitRate() {
+		long requests = hits + misses;
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+
+	public CacheStatistics plus(CacheStatistics other) {
+		return new CacheStatistics(hits + other.hits, misses + other.misses, evictions + other.evictions,
+				expirations + other.expirations, size + other.size);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(hits, misses, evictions, expirations, size);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		CacheStatistics other = (CacheStatistics) obj;
+		return hits == other.hits && misses == other.misses && evictions == other.evictions
+				&& expirations == other.expirations && size == other.size;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStatistics [hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", expirations="
+				+ expirations + ", size=" + size + "]";
+	}
+}
@@ -0,0 +1,309 @@
+package com.shemilikevin.app.tracker.repository.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.Page;
+import com.shemilikevin.app.tracker.repository.PageToken;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class CachingIssueRepository implements IssueRepository {
+
+	// Same order as the keyset pages of the database, so cached and stored pages line up
+	private static final Comparator<Issue> BY_ID = Comparator.comparing(Issue::getId);
+
+	private static final Page<Issue> EMPTY_PAGE = new Page<>(Collections.emptyList(), null);
+
+	private final IssueRepository delegate;
+
+	// Complete issue list of each project, sorted by id
+	private final LruTtlCache<String, List<Issue>> issuesByProjectId;
+
+	// First issue page of each project, the page every list refresh and project switch asks for
+	private final LruTtlCache<String, FirstPage> firstPagesByProjectId;
+
+	public CachingIssueRepository(IssueRepository delegate, int maxProjects, Duration timeToLive) {
+		this(delegate, maxProjects, timeToLive, System::nanoTime);
+	}
+
+	CachingIssueRepository(IssueRepository delegate, int maxProjects, Duration timeToLive, LongSupplier nanoClock) {
+		this.delegate = delegate;
+		this.issuesByProjectId = new LruTtlCache<>(maxProjects, timeToLive.toNanos(), nanoClock);
+		this.firstPagesByProjectId = new LruTtlCache<>(maxProjects, timeToLive.toNanos(), nanoClock);
+	}
+
+	@Override
+	public List<Issue> findAll() {
+		return delegate.findAll();
+	}
+
+	@Override
+	public Page<Issue> findAll(int pageSize, String pageToken) {
+		return delegate.findAll(pageSize, pageToken);
+	}
+
+	@Override
+	public Stream<Issue> streamAll(int batchSize) {
+		return delegate.streamAll(batchSize);
+	}
+
+	@Override
+	public List<Issue> findByProjectId(String projectId) {
+		return new ArrayList<>(cachedIssues(projectId));
+	}
+
+	// Pages exist so a project is never read whole, so only the first page is cached on a miss
+	// Later pages go to the database, unless a list already cached by findByProjectId serves them
+	@Override
+	public Page<Issue> findByProjectId(String projectId, int pageSize, String pageToken) {
+		if (pageToken == null) {
+			FirstPage firstPage = firstPagesByProjectId.get(projectId);
+
+			if (firstPage != null && firstPage.pageSize == pageSize) {
+				return firstPage.page;
+			}
+		}
+
+		List<Issue> issues = issuesByProjectId.get(projectId);
+
+		if (issues == null && pageToken == null) {
+			return readFirstPage(projectId, pageSize);
+		}
+
+		if (issues == null) {
+			return delegate.findByProjectId(projectId, pageSize, pageToken);
+		}
+
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException(String.format(Page.INVALID_PAGE_SIZE, pageSize));
+		}
+
+		String lastId = pageToken == null ? null : PageToken.decode(pageToken);
+
+		int from = 0;
+		while (lastId != null && from < issues.size() && issues.get(from).getId().compareTo(lastId) <= 0) {
+			from++;
+		}
+
+		int to = Math.min(from + pageSize, issues.size());
+		List<Issue> items = new ArrayList<>(issues.subList(from, to));
+
+		if (to == issues.size()) {
+			return new Page<>(items, null);
+		}
+
+		return new Page<>(items, PageToken.encode(items.get(items.size() - 1).getId()));
+	}
+
+	@Override
+	public Stream<Issue> streamByProjectId(String projectId, int batchSize) {
+		return delegate.streamByProjectId(projectId, batchSize);
+	}
+
+	// Ranges back virtual lists that page through the database
+	// Serving them from a cached complete list would hold every issue in memory
+	@Override
+	public long countByProjectId(String projectId) {
+		return delegate.countByProjectId(projectId);
+	}
+
+	@Override
+	public List<Issue> findRangeByProjectId(String projectId, int offset, int limit) {
+		return delegate.findRangeByProjectId(projectId, offset, limit);
+	}
+
+	@Override
+	public boolean exists(String id) {
+		return delegate.exists(id);
+	}
+
+	@Override
+	public Set<String> findExistingIds(Collection<String> ids, String projectId) {
+		return delegate.findExistingIds(ids, projectId);
+	}
+
+	@Override
+	public SaveResult save(Issue issue) {
+		SaveResult result = delegate.save(issue);
+
+		if (result == SaveResult.INSERTED) {
+			cacheSavedIssue(issue);
+		}
+
+		return result;
+	}
+
+	@Override
+	public List<SaveResult> saveAll(List<Issue> issues) {
+		List<SaveResult> results = delegate.saveAll(issues);
+
+		// Duplicates left the stored issue untouched, so the cached lists still match
+		for (int i = 0; i < issues.size(); i++) {
+			if (results.get(i) == SaveResult.INSERTED) {
+				cacheSavedIssue(issues.get(i));
+			}
+		}
+
+		return results;
+	}
+
+	@Override
+	public Issue findById(String id) {
+		return delegate.findById(id);
+	}
+
+	@Override
+	public void delete(String id) {
+		delegate.delete(id);
+
+		removeCachedIssues(issue -> issue.getId().equals(id));
+	}
+
+	@Override
+	public Issue findAndDelete(String id, String projectId) {
+		Issue deleted = delegate.findAndDelete(id, projectId);
+
+		if (deleted != null) {
+			issuesByProjectId.update(projectId, cached -> withoutIssues(cached, issue -> issue.getId().equals(id)));
+			firstPagesByProjectId.update(projectId,
+					cached -> cached.without(issue -> issue.getId().equals(id)));
+		}
+
+		return deleted;
+	}
+
+	// Only issues of the project were deleted, so only its cached list changes
+	@Override
+	public long deleteMany(Collection<String> ids, String projectId) {
+		long deletedCount = delegate.deleteMany(ids, projectId);
+
+		Set<String> deletedIds = new HashSet<>(ids);
+		issuesByProjectId.update(projectId,
+				cached -> withoutIssues(cached, issue -> deletedIds.contains(issue.getId())));
+		firstPagesByProjectId.update(projectId, cached -> cached.without(issue -> deletedIds.contains(issue.getId())));
+
+		return deletedCount;
+	}
+
+	@Override
+	public long reassign(String fromProjectId, String toProjectId) {
+		long reassignedCount = delegate.reassign(fromProjectId, toProjectId);
+
+		issuesByProjectId.update(fromProjectId, cached -> Collections.emptyList());
+		issuesByProjectId.remove(toProjectId);
+		firstPagesByProjectId.update(fromProjectId, cached -> new FirstPage(cached.pageSize, EMPTY_PAGE));
+		firstPagesByProjectId.remove(toProjectId);
+
+		return reassignedCount;
+	}
+
+	@Override
+	public boolean hasAssociatedIssues(String projectId) {
+		List<Issue> cached = issuesByProjectId.get(projectId);
+
+		if (cached != null) {
+			return !cached.isEmpty();
+		}
+
+		return delegate.hasAssociatedIssues(projectId);
+	}
+
+	@Override
+	public Set<String> findReferencedProjectIds() {
+		return delegate.findReferencedProjectIds();
+	}
+
+	// Each cache counts its own lookups, a page found in neither counts a miss in both
+	public CacheStatistics getStatistics() {
+		return issuesByProjectId.statistics().plus(firstPagesByProjectId.statistics());
+	}
+
+	private List<Issue> cachedIssues(String projectId) {
+		List<Issue> cached = issuesByProjectId.get(projectId);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		long readGeneration = issuesByProjectId.generation();
+		List<Issue> issues = new ArrayList<>(delegate.findByProjectId(projectId));
+		issues.sort(BY_ID);
+
+		List<Issue> snapshot = Collections.unmodifiableList(issues);
+		issuesByProjectId.putIfUnchanged(projectId, snapshot, readGeneration);
+
+		return snapshot;
+	}
+
+	private Page<Issue> readFirstPage(String projectId, int pageSize) {
+		long readGeneration = firstPagesByProjectId.generation();
+		Page<Issue> page = delegate.findByProjectId(projectId, pageSize, null);
+
+		FirstPage snapshot = new FirstPage(pageSize,
+				new Page<>(Collections.unmodifiableList(new ArrayList<>(page.getItems())), page.getNextPageToken()));
+		firstPagesByProjectId.putIfUnchanged(projectId, snapshot, readGeneration);
+
+		return snapshot.page;
+	}
+
+	// A saved issue may belong anywhere on the first page or past it, so the page is read again
+	private void cacheSavedIssue(Issue issue) {
+		firstPagesByProjectId.remove(issue.getProjectId());
+
+		issuesByProjectId.update(issue.getProjectId(), cached -> {
+			List<Issue> updated = new ArrayList<>(cached);
+
+			// A cached issue with the same id was removed by someone else, the saved one replaces it
+			int index = Collections.binarySearch(updated, issue, BY_ID);
+			if (index < 0) {
+				updated.add(-index - 1, issue);
+			} else {
+				updated.set(index, issue);
+			}
+
+			return Collections.unmodifiableList(updated);
+		});
+	}
+
+	private void removeCachedIssues(Predicate<Issue> removed) {
+		issuesByProjectId.updateAll(cached -> withoutIssues(cached, removed));
+		firstPagesByProjectId.updateAll(cached -> cached.without(removed));
+	}
+
+	private List<Issue> withoutIssues(List<Issue> cached, Predicate<Issue> removed) {
+		List<Issue> updated = new ArrayList<>(cached);
+		updated.removeIf(removed);
+
+		return Collections.unmodifiableList(updated);
+	}
+
+	// Removing issues keeps the next page token valid, the page only holds fewer issues
+	private static final class FirstPage {
+
+		private final int pageSize;
+		private final Page<Issue> page;
+
+		private FirstPage(int pageSize, Page<Issue> page) {
+			this.pageSize = pageSize;
+			this.page = page;
+		}
+
+		private FirstPage without(Predicate<Issue> removed) {
+			List<Issue> items = new ArrayList<>(page.getItems());
+			items.removeIf(removed);
+
+			return new FirstPage(pageSize, new Page<>(Collections.unmodifiableList(items), page.getNextPageToken()));
+		}
+	}
+}
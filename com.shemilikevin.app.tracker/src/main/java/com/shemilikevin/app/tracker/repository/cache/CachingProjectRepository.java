@@ -0,0 +1,184 @@
+package com.shemilikevin.app.tracker.repository.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class CachingProjectRepository implements ProjectRepository {
+
+	private static final String ALL_PROJECTS = "all";
+
+	private final ProjectRepository delegate;
+
+	// Absent projects are cached as empty so repeated misses skip the database
+	private final LruTtlCache<String, Optional<Project>> projectsById;
+	private final LruTtlCache<String, List<Project>> allProjects;
+
+	public CachingProjectRepository(ProjectRepository delegate, int maxSize, Duration timeToLive) {
+		this(delegate, maxSize, timeToLive, System::nanoTime);
+	}
+
+	CachingProjectRepository(ProjectRepository delegate, int maxSize, Duration timeToLive, LongSupplier nanoClock) {
+		this.delegate = delegate;
+		this.projectsById = new LruTtlCache<>(maxSize, timeToLive.toNanos(), nanoClock);
+		this.allProjects = new LruTtlCache<>(1, timeToLive.toNanos(), nanoClock);
+	}
+
+	@Override
+	public boolean exists(String id) {
+
+		return findById(id) != null;
+	}
+
+	@Override
+	public Set<String> findExistingIds(Collection<String> ids) {
+
+		Set<String> existingIds = new HashSet<>();
+		List<String> uncachedIds = new ArrayList<>();
+
+		for (String id : ids) {
+			Optional<Project> cached = projectsById.get(id);
+
+			if (cached == null) {
+				uncachedIds.add(id);
+			} else if (cached.isPresent()) {
+				existingIds.add(id);
+			}
+		}
+
+		if (!uncachedIds.isEmpty()) {
+			long readGeneration = projectsById.generation();
+			Set<String> foundIds = delegate.findExistingIds(uncachedIds);
+
+			for (String id : uncachedIds) {
+				if (!foundIds.contains(id)) {
+					projectsById.putIfUnchanged(id, Optional.empty(), readGeneration);
+				}
+			}
+
+			existingIds.addAll(foundIds);
+		}
+
+		return existingIds;
+	}
+
+	@Override
+	public List<Project> findAll() {
+
+		List<Project> cached = allProjects.get(ALL_PROJECTS);
+
+		if (cached != null) {
+			return new ArrayList<>(cached);
+		}
+
+		long readGeneration = allProjects.generation();
+		long readByIdGeneration = projectsById.generation();
+		List<Project> projects = delegate.findAll();
+
+		allProjects.putIfUnchanged(ALL_PROJECTS, new ArrayList<>(projects), readGeneration);
+		for (Project project : projects) {
+			projectsById.putIfUnchanged(project.getId(), Optional.of(project), readByIdGeneration);
+		}
+
+		return projects;
+	}
+
+	@Override
+	public Stream<Project> streamAll(int batchSize) {
+
+		return delegate.streamAll(batchSize);
+	}
+
+	@Override
+	public long count() {
+
+		return delegate.count();
+	}
+
+	@Override
+	public List<Project> findRange(int offset, int limit) {
+
+		return delegate.findRange(offset, limit);
+	}
+
+	@Override
+	public Project findById(String id) {
+
+		Optional<Project> cached = projectsById.get(id);
+
+		if (cached != null) {
+			return cached.orElse(null);
+		}
+
+		long readGeneration = projectsById.generation();
+		Project project = delegate.findById(id);
+		projectsById.putIfUnchanged(id, Optional.ofNullable(project), readGeneration);
+
+		return project;
+	}
+
+	@Override
+	public SaveResult save(Project project) {
+
+		SaveResult result = delegate.save(project);
+
+		cacheSaveResult(project, result);
+
+		return result;
+	}
+
+	@Override
+	public List<SaveResult> saveAll(List<Project> projects) {
+
+		List<SaveResult> results = delegate.saveAll(projects);
+
+		for (int i = 0; i < projects.size(); i++) {
+			cacheSaveResult(projects.get(i), results.get(i));
+		}
+
+		return results;
+	}
+
+	@Override
+	public void delete(String id) {
+
+		delegate.delete(id);
+
+		projectsById.put(id, Optional.empty());
+		allProjects.update(ALL_PROJECTS, cached -> {
+			List<Project> updated = new ArrayList<>(cached);
+			updated.removeIf(project -> project.getId().equals(id));
+			return updated;
+		});
+	}
+
+	public CacheStatistics getStatistics() {
+
+		return projectsById.statistics().plus(allProjects.statistics());
+	}
+
+	private void cacheSaveResult(Project project, SaveResult result) {
+		if (result != SaveResult.INSERTED) {
+			// Whatever is stored under this id is not the given project
+			projectsById.remove(project.getId());
+			return;
+		}
+
+		projectsById.put(project.getId(), Optional.of(project));
+		allProjects.update(ALL_PROJECTS, cached -> {
+			List<Project> updated = new ArrayList<>(cached);
+			updated.add(project);
+			return updated;
+		});
+	}
+}
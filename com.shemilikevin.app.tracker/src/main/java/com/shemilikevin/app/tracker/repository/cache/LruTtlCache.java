@@ -0,0 +1,146 @@
+package com.shemilikevin.app.tracker.repository.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+// Size bounded, access ordered map whose entries also expire after a fixed time
+// All operations lock the cache, values are expected to be immutable snapshots
+class LruTtlCache<K, V> {
+
+	static final String INVALID_MAX_SIZE = "Cache size must be positive, was: %d";
+	static final String INVALID_TTL = "Cache time to live must be positive, was: %d ns";
+
+	private final int maxSize;
+	private final long ttlNanos;
+	private final LongSupplier nanoClock;
+	private final LinkedHashMap<K, CachedValue<V>> entries;
+
+	// Bumped by every write, so values read from the database before a write are not cached after it
+	private long generation;
+
+	private long hits;
+	private long misses;
+	private long evictions;
+	private long expirations;
+
+	LruTtlCache(int maxSize, long ttlNanos, LongSupplier nanoClock) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException(String.format(INVALID_MAX_SIZE, maxSize));
+		}
+
+		if (ttlNanos <= 0) {
+			throw new IllegalArgumentException(String.format(INVALID_TTL, ttlNanos));
+		}
+
+		this.maxSize = maxSize;
+		this.ttlNanos = ttlNanos;
+		this.nanoClock = nanoClock;
+		this.entries = new LinkedHashMap<K, CachedValue<V>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+				if (size() <= LruTtlCache.this.maxSize) {
+					return false;
+				}
+
+				if (isExpired(eldest.getValue())) {
+					expirations++;
+				} else {
+					evictions++;
+				}
+
+				return true;
+			}
+		};
+	}
+
+	synchronized V get(K key) {
+		CachedValue<V> cachedValue = liveValue(key);
+
+		if (cachedValue == null) {
+			misses++;
+			return null;
+		}
+
+		hits++;
+		return cachedValue.value;
+	}
+
+	synchronized long generation() {
+		return generation;
+	}
+
+	synchronized void put(K key, V value) {
+		generation++;
+		entries.put(key, new CachedValue<>(value, nanoClock.getAsLong() + ttlNanos));
+	}
+
+	// Caches a value read from the database, unless a write happened since the given generation
+	synchronized void putIfUnchanged(K key, V value, long readGeneration) {
+		if (generation == readGeneration) {
+			entries.put(key, new CachedValue<>(value, nanoClock.getAsLong() + ttlNanos));
+		}
+	}
+
+	// Replaces a cached value without extending its lifetime
+	// So local writes never keep an entry alive past its time to live
+	synchronized void update(K key, UnaryOperator<V> updater) {
+		generation++;
+
+		CachedValue<V> cachedValue = liveValue(key);
+
+		if (cachedValue != null) {
+			entries.put(key, new CachedValue<>(updater.apply(cachedValue.value), cachedValue.expiresAt));
+		}
+	}
+
+	synchronized void updateAll(UnaryOperator<V> updater) {
+		for (K key : new ArrayList<>(entries.keySet())) {
+			update(key, updater);
+		}
+
+		generation++;
+	}
+
+	synchronized void remove(K key) {
+		generation++;
+		entries.remove(key);
+	}
+
+	synchronized CacheStatistics statistics() {
+		return new CacheStatistics(hits, misses, evictions, expirations, entries.size());
+	}
+
+	private CachedValue<V> liveValue(K key) {
+		CachedValue<V> cachedValue = entries.get(key);
+
+		if (cachedValue != null && isExpired(cachedValue)) {
+			entries.remove(key);
+			expirations++;
+			return null;
+		}
+
+		return cachedValue;
+	}
+
+	// Compare by difference, nanoTime values may overflow
+	private boolean isExpired(CachedValue<V> cachedValue) {
+		return nanoClock.getAsLong() - cachedValue.expiresAt >= 0;
+	}
+
+	private static final class CachedValue<V> {
+
+		private final V value;
+		private final long expiresAt;
+
+		private CachedValue(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
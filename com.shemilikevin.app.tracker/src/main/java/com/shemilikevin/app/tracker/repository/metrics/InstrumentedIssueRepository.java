@@ -0,0 +1,120 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.Page;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class InstrumentedIssueRepository implements IssueRepository {
+
+	private final IssueRepository delegate;
+	private final RepositoryMetrics metrics;
+
+	public InstrumentedIssueRepository(IssueRepository delegate, RepositoryMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public List<Issue> findAll() {
+		return metrics.time("issue.findAll", () -> delegate.findAll());
+	}
+
+	@Override
+	public Page<Issue> findAll(int pageSize, String pageToken) {
+		return metrics.time("issue.findAllPage", () -> delegate.findAll(pageSize, pageToken));
+	}
+
+	// Streams read lazily, so only opening one is timed
+	@Override
+	public Stream<Issue> streamAll(int batchSize) {
+		return metrics.time("issue.streamAll", () -> delegate.streamAll(batchSize));
+	}
+
+	@Override
+	public List<Issue> findByProjectId(String projectId) {
+		return metrics.time("issue.findByProjectId", () -> delegate.findByProjectId(projectId));
+	}
+
+	@Override
+	public Page<Issue> findByProjectId(String projectId, int pageSize, String pageToken) {
+		return metrics.time("issue.findByProjectIdPage",
+				() -> delegate.findByProjectId(projectId, pageSize, pageToken));
+	}
+
+	@Override
+	public Stream<Issue> streamByProjectId(String projectId, int batchSize) {
+		return metrics.time("issue.streamByProjectId", () -> delegate.streamByProjectId(projectId, batchSize));
+	}
+
+	@Override
+	public long countByProjectId(String projectId) {
+		return metrics.time("issue.countByProjectId", () -> delegate.countByProjectId(projectId));
+	}
+
+	@Override
+	public List<Issue> findRangeByProjectId(String projectId, int offset, int limit) {
+		return metrics.time("issue.findRangeByProjectId",
+				() -> delegate.findRangeByProjectId(projectId, offset, limit));
+	}
+
+	@Override
+	public boolean exists(String id) {
+		return metrics.time("issue.exists", () -> delegate.exists(id));
+	}
+
+	@Override
+	public Set<String> findExistingIds(Collection<String> ids, String projectId) {
+		return metrics.time("issue.findExistingIds", () -> delegate.findExistingIds(ids, projectId));
+	}
+
+	@Override
+	public SaveResult save(Issue issue) {
+		return metrics.time("issue.save", () -> delegate.save(issue));
+	}
+
+	@Override
+	public List<SaveResult> saveAll(List<Issue> issues) {
+		return metrics.time("issue.saveAll", () -> delegate.saveAll(issues));
+	}
+
+	@Override
+	public Issue findById(String id) {
+		return metrics.time("issue.findById", () -> delegate.findById(id));
+	}
+
+	@Override
+	public void delete(String id) {
+		metrics.run("issue.delete", () -> delegate.delete(id));
+	}
+
+	@Override
+	public Issue findAndDelete(String id, String projectId) {
+		return metrics.time("issue.findAndDelete", () -> delegate.findAndDelete(id, projectId));
+	}
+
+	@Override
+	public long deleteMany(Collection<String> ids, String projectId) {
+		return metrics.time("issue.deleteMany", () -> delegate.deleteMany(ids, projectId));
+	}
+
+	@Override
+	public long reassign(String fromProjectId, String toProjectId) {
+		return metrics.time("issue.reassign", () -> delegate.reassign(fromProjectId, toProjectId));
+	}
+
+	@Override
+	public boolean hasAssociatedIssues(String projectId) {
+		return metrics.time("issue.hasAssociatedIssues", () -> delegate.hasAssociatedIssues(projectId));
+	}
+
+	@Override
+	public Set<String> findReferencedProjectIds() {
+		return metrics.time("issue.findReferencedProjectIds", () -> delegate.findReferencedProjectIds());
+	}
+}
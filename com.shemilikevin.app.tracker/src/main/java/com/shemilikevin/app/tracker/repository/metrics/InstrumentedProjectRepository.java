@@ -0,0 +1,72 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class InstrumentedProjectRepository implements ProjectRepository {
+
+	private final ProjectRepository delegate;
+	private final RepositoryMetrics metrics;
+
+	public InstrumentedProjectRepository(ProjectRepository delegate, RepositoryMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public boolean exists(String id) {
+		return metrics.time("project.exists", () -> delegate.exists(id));
+	}
+
+	@Override
+	public Set<String> findExistingIds(Collection<String> ids) {
+		return metrics.time("project.findExistingIds", () -> delegate.findExistingIds(ids));
+	}
+
+	@Override
+	public List<Project> findAll() {
+		return metrics.time("project.findAll", () -> delegate.findAll());
+	}
+
+	// Streams read lazily, so only opening one is timed
+	@Override
+	public Stream<Project> streamAll(int batchSize) {
+		return metrics.time("project.streamAll", () -> delegate.streamAll(batchSize));
+	}
+
+	@Override
+	public long count() {
+		return metrics.time("project.count", () -> delegate.count());
+	}
+
+	@Override
+	public List<Project> findRange(int offset, int limit) {
+		return metrics.time("project.findRange", () -> delegate.findRange(offset, limit));
+	}
+
+	@Override
+	public Project findById(String id) {
+		return metrics.time("project.findById", () -> delegate.findById(id));
+	}
+
+	@Override
+	public SaveResult save(Project project) {
+		return metrics.time("project.save", () -> delegate.save(project));
+	}
+
+	@Override
+	public List<SaveResult> saveAll(List<Project> projects) {
+		return metrics.time("project.saveAll", () -> delegate.saveAll(projects));
+	}
+
+	@Override
+	public void delete(String id) {
+		metrics.run("project.delete", () -> delegate.delete(id));
+	}
+}
@@ -0,0 +1,45 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+// Logs a summary of the repository metrics at a fixed period
+public class MetricsReporter {
+
+	static final String SUMMARY = "Repository metrics: %s";
+
+	private static final Logger LOGGER = Logger.getLogger(MetricsReporter.class.getName());
+
+	private final RepositoryMetrics metrics;
+	private final ScheduledExecutorService scheduler;
+	private final Duration period;
+
+	public MetricsReporter(RepositoryMetrics metrics, Duration period) {
+		this(metrics, Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "metrics-log");
+			thread.setDaemon(true);
+			return thread;
+		}), period);
+	}
+
+	MetricsReporter(RepositoryMetrics metrics, ScheduledExecutorService scheduler, Duration period) {
+		this.metrics = metrics;
+		this.scheduler = scheduler;
+		this.period = period;
+	}
+
+	public void start() {
+		scheduler.scheduleAtFixedRate(this::report, period.toNanos(), period.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	public void stop() {
+		scheduler.shutdownNow();
+	}
+
+	void report() {
+		LOGGER.info(String.format(SUMMARY, metrics.getOperations()));
+	}
+}
@@ -0,0 +1,56 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+// Calls record into a wait-free Recorder, readers fold its intervals into a running total
+class OperationMetrics {
+
+	// Two digits keep each latency within 1% and the histogram a few kilobytes
+	private static final int SIGNIFICANT_DIGITS = 2;
+	private static final double NANOS_PER_MICRO = TimeUnit.MICROSECONDS.toNanos(1);
+
+	private final String operation;
+	private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+	private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+	private final LongAdder errors = new LongAdder();
+	private Histogram interval;
+
+	OperationMetrics(String operation) {
+		this.operation = operation;
+	}
+
+	// The latency goes in before the error, so a reader never sees more errors than calls
+	void record(long latencyNanos, boolean failed) {
+		recorder.recordValue(latencyNanos);
+
+		if (failed) {
+			errors.increment();
+		}
+	}
+
+	synchronized OperationStatistics statistics() {
+		long errorCount = errors.sum();
+
+		interval = recorder.getIntervalHistogram(interval);
+		total.add(interval);
+
+		return new OperationStatistics(operation, total.getTotalCount(), errorCount,
+				total.getMean() / NANOS_PER_MICRO, toMicros(total.getValueAtPercentile(50)),
+				toMicros(total.getValueAtPercentile(90)), toMicros(total.getValueAtPercentile(99)),
+				toMicros(total.getMaxValue()));
+	}
+
+	synchronized void reset() {
+		recorder.reset();
+		total.reset();
+		errors.reset();
+	}
+
+	private static long toMicros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos);
+	}
+}
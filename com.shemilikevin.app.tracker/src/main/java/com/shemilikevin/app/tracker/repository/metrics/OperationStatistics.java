@@ -0,0 +1,93 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import java.beans.ConstructorProperties;
+import java.util.Objects;
+
+// Latencies are in microseconds
+public final class OperationStatistics {
+
+	private final String operation;
+	private final long calls;
+	private final long errors;
+	private final double meanMicros;
+	private final long p50Micros;
+	private final long p90Micros;
+	private final long p99Micros;
+	private final long maxMicros;
+
+	@ConstructorProperties({ "operation", "calls", "errors", "meanMicros", "p50Micros", "p90Micros", "p99Micros",
+			"maxMicros" })
+	public OperationStatistics(String operation, long calls, long errors, double meanMicros, long p50Micros,
+			long p90Micros, long p99Micros, long maxMicros) {
+		this.operation = operation;
+		this.calls = calls;
+		this.errors = errors;
+		this.meanMicros = meanMicros;
+		this.p50Micros = p50Micros;
+		this.p90Micros = p90Micros;
+		this.p99Micros = p99Micros;
+		this.maxMicros = maxMicros;
+	}
+
+	public String getOperation() {
+		return operation;
+	}
+
+	public long getCalls() {
+		return calls;
+	}
+
+	public long getErrors() {
+		return errors;
+	}
+
+	public double getMeanMicros() {
+		return meanMicros;
+	}
+
+	public long getP50Micros() {
+		return p50Micros;
+	}
+
+	public long getP90Micros() {
+		return p90Micros;
+	}
+
+	public long getP99Micros() {
+		return p99Micros;
+	}
+
+	public long getMaxMicros() {
+		return maxMicros;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(operation, calls, errors, meanMicros, p50Micros, p90Micros, p99Micros, maxMicros);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		OperationStatistics other = (OperationStatistics) obj;
+		return Objects.equals(operation, other.operation) && calls == other.calls && errors == other.errors
+				&& Double.doubleToLongBits(meanMicros) == Double.doubleToLongBits(other.meanMicros)
+				&& p50Micros == other.p50Micros && p90Micros == other.p90Micros && p99Micros == other.p99Micros
+				&& maxMicros == other.maxMicros;
+	}
+
+	@Override
+	public String toString() {
+		return "OperationStatistics [operation=" + operation + ", calls=" + calls + ", errors=" + errors
+				+ ", meanMicros=" + meanMicros + ", p50Micros=" + p50Micros + ", p90Micros=" + p90Micros
+				+ ", p99Micros=" + p99Micros + ", maxMicros=" + maxMicros + "]";
+	}
+}
@@ -0,0 +1,89 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+// Call counts, error counts and latency histograms of each repository operation
+// Operations are named "<repository>.<method>", for example "issue.findByProjectId"
+public class RepositoryMetrics implements RepositoryMetricsMXBean {
+
+	public static final String OBJECT_NAME = "com.shemilikevin.app.tracker:type=RepositoryMetrics";
+
+	private final ConcurrentMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+	private final LongSupplier nanoClock;
+
+	public RepositoryMetrics() {
+		this(System::nanoTime);
+	}
+
+	RepositoryMetrics(LongSupplier nanoClock) {
+		this.nanoClock = nanoClock;
+	}
+
+	public <T> T time(String operation, Supplier<T> call) {
+		OperationMetrics metrics = metricsOf(operation);
+		long start = nanoClock.getAsLong();
+		boolean failed = true;
+
+		try {
+			T result = call.get();
+			failed = false;
+			return result;
+		} finally {
+			metrics.record(nanoClock.getAsLong() - start, failed);
+		}
+	}
+
+	public void run(String operation, Runnable call) {
+		time(operation, () -> {
+			call.run();
+			return null;
+		});
+	}
+
+	public void registerMBean(MBeanServer mBeanServer) throws JMException {
+		mBeanServer.registerMBean(this, new ObjectName(OBJECT_NAME));
+	}
+
+	@Override
+	public List<OperationStatistics> getOperations() {
+		List<OperationStatistics> statistics = new ArrayList<>();
+
+		for (OperationMetrics metrics : operations.values()) {
+			statistics.add(metrics.statistics());
+		}
+
+		statistics.sort(Comparator.comparing(OperationStatistics::getOperation));
+		return statistics;
+	}
+
+	@Override
+	public long getTotalCalls() {
+		return getOperations().stream().mapToLong(OperationStatistics::getCalls).sum();
+	}
+
+	@Override
+	public long getTotalErrors() {
+		return getOperations().stream().mapToLong(OperationStatistics::getErrors).sum();
+	}
+
+	@Override
+	public void reset() {
+		for (OperationMetrics metrics : operations.values()) {
+			metrics.reset();
+		}
+	}
+
+	private OperationMetrics metricsOf(String operation) {
+		return operations.computeIfAbsent(operation, OperationMetrics::new);
+	}
+}
@@ -0,0 +1,14 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import java.util.List;
+
+public interface RepositoryMetricsMXBean {
+
+	List<OperationStatistics> getOperations();
+
+	long getTotalCalls();
+
+	long getTotalErrors();
+
+	void reset();
+}
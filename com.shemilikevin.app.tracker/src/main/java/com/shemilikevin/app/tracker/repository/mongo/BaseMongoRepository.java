@@ -0,0 +1,251 @@
+package com.shemilikevin.app.tracker.repository.mongo;
+
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.conversions.Bson;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClient;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.shemilikevin.app.tracker.repository.Page;
+import com.shemilikevin.app.tracker.repository.PageToken;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+abstract class BaseMongoRepository<T> {
+
+	protected static final String ID = "id";
+	protected static final String PROJECT_ID = "projectId";
+
+	static final String INDEX_CONFLICT = "Index %s on collection %s conflicts with an existing index: %s";
+	static final String INDEX_MISSING = "Index %s (unique: %s) is missing on collection %s";
+	static final String INVALID_OFFSET = "Offset must not be negative, was: %d";
+	static final String INVALID_BATCH_SIZE = "Batch size must be positive, was: %d";
+	static final String BULK_INSERT_ERRORS = "%d of %d documents were rejected by bulk insert on collection %s";
+
+	private static final Logger LOGGER = Logger.getLogger(BaseMongoRepository.class.getName());
+
+	protected final MongoCollection<T> collection;
+
+	protected BaseMongoRepository(MongoClient mongoClient, String databaseName, String collectionName,
+			Class<T> documentClass) {
+
+		CodecRegistry codecRegistry = fromRegistries(MongoClient.getDefaultCodecRegistry(),
+				fromProviders(PojoCodecProvider.builder().automatic(true).build()));
+
+		collection = mongoClient.getDatabase(databaseName).withCodecRegistry(codecRegistry)
+				.getCollection(collectionName, documentClass);
+	}
+
+	protected void ensureIndex(Bson keys, boolean unique) {
+		try {
+			collection.createIndex(keys, new IndexOptions().unique(unique));
+		} catch (MongoCommandException e) {
+			String message = String.format(INDEX_CONFLICT, toBsonDocument(keys).toJson(), collection.getNamespace(),
+					e.getErrorMessage());
+			LOGGER.log(Level.SEVERE, message, e);
+			throw new IllegalStateException(message, e);
+		}
+
+		verifyIndex(keys, unique);
+	}
+
+	protected void verifyIndex(Bson keys, boolean unique) {
+		BsonDocument expectedKeys = toBsonDocument(keys);
+
+		for (BsonDocument index : collection.listIndexes(BsonDocument.class)) {
+			boolean isUnique = index.getBoolean("unique", BsonBoolean.FALSE).getValue();
+
+			if (isUnique == unique && hasSameKeys(index.getDocument("key"), expectedKeys)) {
+				return;
+			}
+		}
+
+		String message = String.format(INDEX_MISSING, expectedKeys.toJson(), unique, collection.getNamespace());
+		LOGGER.severe(message);
+		throw new IllegalStateException(message);
+	}
+
+	// Projects only the indexed field so the query is covered by the index
+	// And no matching document is decoded into a POJO
+	protected boolean anyMatch(Bson filter, String indexedField) {
+		BsonDocument match = findIndexedField(filter, indexedField).limit(1).first();
+
+		return match != null;
+	}
+
+	protected Set<String> findMatchingIds(Collection<String> ids) {
+		return matchingIds(ids, Filters.in(ID, ids));
+	}
+
+	// Ids among the given ones whose documents also match the scope filter
+	protected Set<String> findMatchingIds(Collection<String> ids, Bson scope) {
+		return matchingIds(ids, Filters.and(scope, Filters.in(ID, ids)));
+	}
+
+	private Set<String> matchingIds(Collection<String> ids, Bson filter) {
+		Set<String> matchingIds = new HashSet<>();
+
+		if (ids.isEmpty()) {
+			return matchingIds;
+		}
+
+		for (BsonDocument document : findIndexedField(filter, ID)) {
+			matchingIds.add(document.getString(ID).getValue());
+		}
+
+		return matchingIds;
+	}
+
+	// Keyset pagination - seeks past the last id of the previous page
+	// Instead of skipping, so every page costs the same on the index
+	protected Page<T> findPage(Bson filter, int pageSize, String pageToken) {
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException(String.format(Page.INVALID_PAGE_SIZE, pageSize));
+		}
+
+		Bson pageFilter = pageToken == null ? filter : Filters.and(filter, Filters.gt(ID, PageToken.decode(pageToken)));
+
+		// Fetch one extra document to find out whether another page follows
+		List<T> items = collection.find(pageFilter).sort(Sorts.ascending(ID)).limit(pageSize + 1)
+				.into(new ArrayList<T>());
+
+		if (items.size() <= pageSize) {
+			return new Page<>(items, null);
+		}
+
+		items.remove(pageSize);
+
+		return new Page<>(items, PageToken.encode(idOf(items.get(pageSize - 1))));
+	}
+
+	// Offset access for lists that can jump to any row
+	// The server still walks the skipped index entries, but only one range is held in memory
+	protected List<T> findRange(Bson filter, int offset, int limit) {
+		if (offset < 0) {
+			throw new IllegalArgumentException(String.format(INVALID_OFFSET, offset));
+		}
+
+		if (limit <= 0) {
+			throw new IllegalArgumentException(String.format(Page.INVALID_PAGE_SIZE, limit));
+		}
+
+		return collection.find(filter).sort(Sorts.ascending(ID)).skip(offset).limit(limit).into(new ArrayList<T>());
+	}
+
+	// Streams straight from the driver cursor, one batch in memory at a time
+	// Sorted by id like the pages, the cursor is released when the stream is closed
+	protected Stream<T> stream(Bson filter, int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException(String.format(INVALID_BATCH_SIZE, batchSize));
+		}
+
+		MongoCursor<T> cursor = collection.find(filter).sort(Sorts.ascending(ID)).batchSize(batchSize).iterator();
+
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(cursor::close);
+	}
+
+	// Relies on the unique id index, so a concurrent insert of the same id
+	// Is rejected by the server instead of slipping past an exists check
+	protected SaveResult insert(T document) {
+		try {
+			collection.insertOne(document);
+			return SaveResult.INSERTED;
+		} catch (MongoWriteException e) {
+			if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+				return SaveResult.DUPLICATE;
+			}
+
+			throw e;
+		}
+	}
+
+	// One unordered insertMany instead of a round trip per document
+	// A rejected document does not stop the rest of the batch
+	protected List<SaveResult> insertAll(List<T> documents) {
+		List<SaveResult> results = new ArrayList<>(Collections.nCopies(documents.size(), SaveResult.INSERTED));
+
+		if (documents.isEmpty()) {
+			return results;
+		}
+
+		try {
+			collection.insertMany(documents, new InsertManyOptions().ordered(false));
+		} catch (MongoBulkWriteException e) {
+			for (BulkWriteError error : e.getWriteErrors()) {
+				SaveResult result = ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY
+						? SaveResult.DUPLICATE
+						: SaveResult.FAILED;
+
+				results.set(error.getIndex(), result);
+			}
+
+			LOGGER.warning(String.format(BULK_INSERT_ERRORS, e.getWriteErrors().size(), documents.size(),
+					collection.getNamespace()));
+		}
+
+		return results;
+	}
+
+	protected abstract String idOf(T document);
+
+	private FindIterable<BsonDocument> findIndexedField(Bson filter, String indexedField) {
+		return collection.withDocumentClass(BsonDocument.class).find(filter)
+				.projection(Projections.fields(Projections.include(indexedField), Projections.excludeId()));
+	}
+
+	private boolean hasSameKeys(BsonDocument actualKeys, BsonDocument expectedKeys) {
+
+		// Servers may report the index direction as int, long or double
+		// So compare the field order and the numerical direction
+		if (!new ArrayList<>(actualKeys.keySet()).equals(new ArrayList<>(expectedKeys.keySet()))) {
+			return false;
+		}
+
+		for (String field : expectedKeys.keySet()) {
+			BsonValue actual = actualKeys.get(field);
+			BsonValue expected = expectedKeys.get(field);
+
+			if (!actual.isNumber() || actual.asNumber().doubleValue() != expected.asNumber().doubleValue()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private BsonDocument toBsonDocument(Bson bson) {
+		return bson.toBsonDocument(BsonDocument.class, collection.getCodecRegistry());
+	}
+}
@@ -1,72 +1,140 @@
 package com.shemilikevin.app.tracker.repository.mongo;
 
-import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
-import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
-
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import org.bson.codecs.configuration.CodecRegistry;
-import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.BsonDocument;
 
 import com.mongodb.MongoClient;
-import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Updates;
 import com.shemilikevin.app.tracker.model.Issue;
 import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.Page;
+import com.shemilikevin.app.tracker.repository.SaveResult;
 
-public class IssueMongoRepository implements IssueRepository {
-
-	private MongoCollection<Issue> issueCollection;
+public class IssueMongoRepository extends BaseMongoRepository<Issue> implements IssueRepository {
 
 	public IssueMongoRepository(MongoClient mongoClient, String databaseName, String collectionName) {
 
-		CodecRegistry codecRegistry = fromRegistries(MongoClient.getDefaultCodecRegistry(),
-				fromProviders(PojoCodecProvider.builder().automatic(true).build()));
+		super(mongoClient, databaseName, collectionName, Issue.class);
 
-		issueCollection = mongoClient.getDatabase(databaseName).withCodecRegistry(codecRegistry)
-				.getCollection(collectionName, Issue.class);
+		ensureIndex(Indexes.ascending(ID), true);
+		ensureIndex(Indexes.ascending(PROJECT_ID, ID), false);
 	}
 
 	@Override
 	public List<Issue> findAll() {
-		return issueCollection.find().into(new ArrayList<Issue>());
+		return collection.find().into(new ArrayList<Issue>());
+	}
+
+	@Override
+	public Page<Issue> findAll(int pageSize, String pageToken) {
+		return findPage(new BsonDocument(), pageSize, pageToken);
+	}
+
+	@Override
+	public Stream<Issue> streamAll(int batchSize) {
+		return stream(new BsonDocument(), batchSize);
 	}
 
 	@Override
 	public Issue findById(String id) {
-		return issueCollection.find(Filters.eq("id", id)).first();
+		return collection.find(Filters.eq(ID, id)).first();
 	}
 
 	@Override
 	public List<Issue> findByProjectId(String projectId) {
-		return issueCollection.find(Filters.eq("projectId", projectId)).into(new ArrayList<Issue>());
+		return collection.find(Filters.eq(PROJECT_ID, projectId)).into(new ArrayList<Issue>());
+	}
+
+	@Override
+	public Page<Issue> findByProjectId(String projectId, int pageSize, String pageToken) {
+		return findPage(Filters.eq(PROJECT_ID, projectId), pageSize, pageToken);
 	}
 
 	@Override
-	public void save(Issue issue) {
-		issueCollection.insertOne(issue);
+	public Stream<Issue> streamByProjectId(String projectId, int batchSize) {
+		return stream(Filters.eq(PROJECT_ID, projectId), batchSize);
+	}
+
+	@Override
+	public long countByProjectId(String projectId) {
+		return collection.countDocuments(Filters.eq(PROJECT_ID, projectId));
+	}
+
+	@Override
+	public List<Issue> findRangeByProjectId(String projectId, int offset, int limit) {
+		return findRange(Filters.eq(PROJECT_ID, projectId), offset, limit);
+	}
+
+	@Override
+	public SaveResult save(Issue issue) {
+		return insert(issue);
+	}
+
+	@Override
+	public List<SaveResult> saveAll(List<Issue> issues) {
+		return insertAll(issues);
 	}
 
 	@Override
 	public void delete(String id) {
-		issueCollection.deleteOne(Filters.eq("id", id));
+		collection.deleteOne(Filters.eq(ID, id));
+	}
+
+	@Override
+	public Issue findAndDelete(String id, String projectId) {
+		return collection.findOneAndDelete(Filters.and(Filters.eq(PROJECT_ID, projectId), Filters.eq(ID, id)));
+	}
+
+	@Override
+	public long deleteMany(Collection<String> ids, String projectId) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		return collection.deleteMany(Filters.and(Filters.eq(PROJECT_ID, projectId), Filters.in(ID, ids)))
+				.getDeletedCount();
+	}
+
+	@Override
+	public long reassign(String fromProjectId, String toProjectId) {
+		return collection.updateMany(Filters.eq(PROJECT_ID, fromProjectId), Updates.set(PROJECT_ID, toProjectId))
+				.getModifiedCount();
 	}
 
 	@Override
 	public boolean exists(String id) {
 
-		Issue issue = issueCollection.find(Filters.eq("id", id)).first();
+		return anyMatch(Filters.eq(ID, id), ID);
+	}
+
+	@Override
+	public Set<String> findExistingIds(Collection<String> ids, String projectId) {
 
-		return issue != null;
+		return findMatchingIds(ids, Filters.eq(PROJECT_ID, projectId));
 	}
 
 	@Override
 	public boolean hasAssociatedIssues(String projectId) {
 
-		ArrayList<Issue> issueList = new ArrayList<>();
-		issueCollection.find(Filters.eq("projectId", projectId)).into(issueList);
+		return anyMatch(Filters.eq(PROJECT_ID, projectId), PROJECT_ID);
+	}
 
-		return !issueList.isEmpty();
+	// Answered by the server from the project index, without reading any issue
+	@Override
+	public Set<String> findReferencedProjectIds() {
+		return collection.distinct(PROJECT_ID, String.class).into(new HashSet<String>());
+	}
+
+	@Override
+	protected String idOf(Issue issue) {
+		return issue.getId();
 	}
-}
\ No newline at end of file
+}
@@ -1,62 +1,92 @@
 package com.shemilikevin.app.tracker.repository.mongo;
 
-import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
-import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
-
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import org.bson.codecs.configuration.CodecRegistry;
-import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.BsonDocument;
 
 import com.mongodb.MongoClient;
-import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
 import com.shemilikevin.app.tracker.model.Project;
 import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
 
-public class ProjectMongoRepository implements ProjectRepository {
-
-	private MongoCollection<Project> projectCollection;
+public class ProjectMongoRepository extends BaseMongoRepository<Project> implements ProjectRepository {
 
 	public ProjectMongoRepository(MongoClient mongoClient, String databaseName, String collectionName) {
 
-		CodecRegistry codecRegistry = fromRegistries(MongoClient.getDefaultCodecRegistry(),
-				fromProviders(PojoCodecProvider.builder().automatic(true).build()));
+		super(mongoClient, databaseName, collectionName, Project.class);
 
-		projectCollection = mongoClient.getDatabase(databaseName).withCodecRegistry(codecRegistry)
-				.getCollection(collectionName, Project.class);
+		ensureIndex(Indexes.ascending(ID), true);
 	}
 
 	@Override
 	public List<Project> findAll() {
 
-		return projectCollection.find().into(new ArrayList<Project>());
+		return collection.find().into(new ArrayList<Project>());
+	}
+
+	@Override
+	public Stream<Project> streamAll(int batchSize) {
+
+		return stream(new BsonDocument(), batchSize);
+	}
+
+	@Override
+	public long count() {
+
+		return collection.countDocuments();
+	}
+
+	@Override
+	public List<Project> findRange(int offset, int limit) {
+
+		return findRange(new BsonDocument(), offset, limit);
 	}
 
 	@Override
 	public Project findById(String id) {
 
-		return projectCollection.find(Filters.eq("id", id)).first();
+		return collection.find(Filters.eq(ID, id)).first();
+	}
+
+	@Override
+	public SaveResult save(Project project) {
+
+		return insert(project);
 	}
 
 	@Override
-	public void save(Project project) {
+	public List<SaveResult> saveAll(List<Project> projects) {
 
-		projectCollection.insertOne(project);
+		return insertAll(projects);
 	}
 
 	@Override
 	public void delete(String id) {
 
-		projectCollection.deleteOne(Filters.eq("id", id));
+		collection.deleteOne(Filters.eq(ID, id));
 	}
 
 	@Override
 	public boolean exists(String id) {
 
-		Project project = projectCollection.find(Filters.eq("id", id)).first();
+		return anyMatch(Filters.eq(ID, id), ID);
+	}
+
+	@Override
+	public Set<String> findExistingIds(Collection<String> ids) {
+
+		return findMatchingIds(ids);
+	}
+
+	@Override
+	protected String idOf(Project project) {
 
-		return project != null;
+		return project.getId();
 	}
 }
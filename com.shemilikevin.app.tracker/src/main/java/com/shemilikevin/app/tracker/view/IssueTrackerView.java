@@ -1,6 +1,8 @@
 package com.shemilikevin.app.tracker.view;
 
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.shemilikevin.app.tracker.model.Issue;
 import com.shemilikevin.app.tracker.model.Project;
@@ -9,12 +11,30 @@ public interface IssueTrackerView {
 
 	void showIssues(List<Issue> issueList);
 
+	void showIssuePages(PageSource<Issue> issuePages);
+
+	void showIssueStream(Supplier<Stream<Issue>> issueStream);
+
+	void appendIssues(List<Issue> issueList);
+
+	void showMoreIssuesAvailable(String nextPageToken);
+
+	void issueAdded(Issue issue);
+
+	void issueRemoved(String issueId);
+
 	void showProjectError(String errorMessage);
 
 	void showIssueError(String errorMessage);
 
 	void showProjects(List<Project> projectList);
 
+	void showProjectPages(PageSource<Project> projectPages);
+
+	void projectAdded(Project project);
+
+	void projectRemoved(String projectId);
+
 	void clearProjectFields();
 
 	void clearProjectSelection();
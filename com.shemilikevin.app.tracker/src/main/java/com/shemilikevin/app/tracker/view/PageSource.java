@@ -0,0 +1,11 @@
+package com.shemilikevin.app.tracker.view;
+
+import java.util.List;
+
+// Rows a view loads on demand, instead of receiving the whole list up front
+public interface PageSource<T> {
+
+	long count();
+
+	List<T> load(int offset, int limit);
+}
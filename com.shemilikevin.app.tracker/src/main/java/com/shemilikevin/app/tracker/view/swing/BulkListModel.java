@@ -0,0 +1,82 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.AbstractListModel;
+
+// List model whose bulk operations fire at most two events, where DefaultListModel fires one per row
+// Each event makes the JList update its layout, so a refresh no longer costs work per row
+class BulkListModel<T> extends AbstractListModel<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final ArrayList<T> rows = new ArrayList<>();
+
+	@Override
+	public int getSize() {
+		return rows.size();
+	}
+
+	@Override
+	public T getElementAt(int index) {
+		return rows.get(index);
+	}
+
+	int size() {
+		return rows.size();
+	}
+
+	boolean isEmpty() {
+		return rows.isEmpty();
+	}
+
+	T get(int index) {
+		return rows.get(index);
+	}
+
+	void addElement(T row) {
+		add(rows.size(), row);
+	}
+
+	void add(int index, T row) {
+		rows.add(index, row);
+		fireIntervalAdded(this, index, index);
+	}
+
+	void remove(int index) {
+		rows.remove(index);
+		fireIntervalRemoved(this, index, index);
+	}
+
+	void clear() {
+		replaceAll(new ArrayList<>());
+	}
+
+	// Swaps every row at once, firing one intervalRemoved for the old rows and one intervalAdded for the new
+	// A contentsChanged would keep the JList selection on whatever row now sits at the selected index
+	void replaceAll(List<T> newRows) {
+		int oldSize = rows.size();
+
+		rows.clear();
+		if (oldSize > 0) {
+			fireIntervalRemoved(this, 0, oldSize - 1);
+		}
+
+		rows.addAll(newRows);
+		if (!rows.isEmpty()) {
+			fireIntervalAdded(this, 0, rows.size() - 1);
+		}
+	}
+
+	void addAll(List<T> newRows) {
+		if (newRows.isEmpty()) {
+			return;
+		}
+
+		int firstRow = rows.size();
+		rows.addAll(newRows);
+
+		fireIntervalAdded(this, firstRow, rows.size() - 1);
+	}
+}
@@ -0,0 +1,93 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.shemilikevin.app.tracker.controller.executor.SerialExecutor;
+
+// Runs controller operations on an executor, off the Event Dispatch Thread
+// Every navigation starts a new generation, results of older operations are stale
+// Writes run one at a time in submission order, reads and navigations do not queue behind them
+public class ControllerRunner {
+
+	static final String OPERATION_FAILED = "Controller operation failed";
+
+	private static final Logger LOGGER = Logger.getLogger(ControllerRunner.class.getName());
+
+	private final Executor executor;
+	private final Executor writeExecutor;
+	private final AtomicLong generation = new AtomicLong();
+	private final AtomicInteger operationsInFlight = new AtomicInteger();
+
+	// Generation of the operation running on the current thread
+	private final ThreadLocal<Long> currentTicket = new ThreadLocal<>();
+
+	private volatile Runnable inFlightListener = () -> {
+	};
+
+	public ControllerRunner(Executor executor) {
+		this.executor = executor;
+		this.writeExecutor = new SerialExecutor(executor);
+	}
+
+	public void submit(Runnable operation) {
+		execute(executor, operation, generation.get());
+	}
+
+	public void submitWrite(Runnable operation) {
+		execute(writeExecutor, operation, generation.get());
+	}
+
+	public void submitNavigation(Runnable operation) {
+		execute(executor, operation, generation.incrementAndGet());
+	}
+
+	public int getOperationsInFlight() {
+		return operationsInFlight.get();
+	}
+
+	public void setInFlightListener(Runnable inFlightListener) {
+		this.inFlightListener = inFlightListener;
+	}
+
+	boolean isCurrent(long ticket) {
+		return ticket == generation.get();
+	}
+
+	// Null when the calling thread is not running a controller operation
+	Long currentTicket() {
+		return currentTicket.get();
+	}
+
+	private void execute(Executor executor, Runnable operation, long ticket) {
+		operationsInFlight.incrementAndGet();
+		inFlightListener.run();
+
+		try {
+			executor.execute(() -> run(operation, ticket));
+		} catch (RejectedExecutionException e) {
+			operationsInFlight.decrementAndGet();
+			inFlightListener.run();
+			throw e;
+		}
+	}
+
+	private void run(Runnable operation, long ticket) {
+		Long previousTicket = currentTicket.get();
+		currentTicket.set(ticket);
+
+		try {
+			operation.run();
+		} catch (RuntimeException e) {
+			LOGGER.log(Level.SEVERE, OPERATION_FAILED, e);
+		} finally {
+			currentTicket.set(previousTicket);
+			operationsInFlight.decrementAndGet();
+			inFlightListener.run();
+		}
+	}
+}
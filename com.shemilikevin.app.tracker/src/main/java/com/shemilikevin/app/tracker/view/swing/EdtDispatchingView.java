@@ -0,0 +1,120 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.swing.SwingUtilities;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.view.IssueTrackerView;
+import com.shemilikevin.app.tracker.view.PageSource;
+
+// Hands the callbacks of controllers running on worker threads to the Event Dispatch Thread
+// Callbacks of operations the user has navigated away from are dropped
+public class EdtDispatchingView implements IssueTrackerView {
+
+	private final IssueTrackerView delegate;
+	private final ControllerRunner controllerRunner;
+
+	public EdtDispatchingView(IssueTrackerView delegate, ControllerRunner controllerRunner) {
+		this.delegate = delegate;
+		this.controllerRunner = controllerRunner;
+	}
+
+	@Override
+	public void showIssues(List<Issue> issueList) {
+		dispatch(() -> delegate.showIssues(issueList));
+	}
+
+	@Override
+	public void showIssuePages(PageSource<Issue> issuePages) {
+		dispatch(() -> delegate.showIssuePages(issuePages));
+	}
+
+	@Override
+	public void showIssueStream(Supplier<Stream<Issue>> issueStream) {
+		dispatch(() -> delegate.showIssueStream(issueStream));
+	}
+
+	@Override
+	public void appendIssues(List<Issue> issueList) {
+		dispatch(() -> delegate.appendIssues(issueList));
+	}
+
+	@Override
+	public void showMoreIssuesAvailable(String nextPageToken) {
+		dispatch(() -> delegate.showMoreIssuesAvailable(nextPageToken));
+	}
+
+	@Override
+	public void issueAdded(Issue issue) {
+		dispatch(() -> delegate.issueAdded(issue));
+	}
+
+	@Override
+	public void issueRemoved(String issueId) {
+		dispatch(() -> delegate.issueRemoved(issueId));
+	}
+
+	@Override
+	public void showProjectError(String errorMessage) {
+		dispatch(() -> delegate.showProjectError(errorMessage));
+	}
+
+	@Override
+	public void showIssueError(String errorMessage) {
+		dispatch(() -> delegate.showIssueError(errorMessage));
+	}
+
+	@Override
+	public void showProjects(List<Project> projectList) {
+		dispatch(() -> delegate.showProjects(projectList));
+	}
+
+	@Override
+	public void showProjectPages(PageSource<Project> projectPages) {
+		dispatch(() -> delegate.showProjectPages(projectPages));
+	}
+
+	@Override
+	public void projectAdded(Project project) {
+		dispatch(() -> delegate.projectAdded(project));
+	}
+
+	@Override
+	public void projectRemoved(String projectId) {
+		dispatch(() -> delegate.projectRemoved(projectId));
+	}
+
+	@Override
+	public void clearProjectFields() {
+		dispatch(delegate::clearProjectFields);
+	}
+
+	@Override
+	public void clearProjectSelection() {
+		dispatch(delegate::clearProjectSelection);
+	}
+
+	@Override
+	public void clearIssueFields() {
+		dispatch(delegate::clearIssueFields);
+	}
+
+	@Override
+	public void clearIssueSelection() {
+		dispatch(delegate::clearIssueSelection);
+	}
+
+	private void dispatch(Runnable callback) {
+		Long ticket = controllerRunner.currentTicket();
+
+		SwingUtilities.invokeLater(() -> {
+			if (ticket == null || controllerRunner.isCurrent(ticket)) {
+				callback.run();
+			}
+		});
+	}
+}
@@ -2,6 +2,7 @@ package com.shemilikevin.app.tracker.view.swing;
 
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
@@ -10,8 +11,11 @@ import java.awt.event.ActionListener;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
-import javax.swing.DefaultListModel;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
 import javax.swing.JFrame;
@@ -23,8 +27,11 @@ import javax.swing.JTabbedPane;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
 import javax.swing.event.ListSelectionListener;
 
 import com.shemilikevin.app.tracker.controller.IssueController;
@@ -32,6 +39,7 @@ import com.shemilikevin.app.tracker.controller.ProjectController;
 import com.shemilikevin.app.tracker.model.Issue;
 import com.shemilikevin.app.tracker.model.Project;
 import com.shemilikevin.app.tracker.view.IssueTrackerView;
+import com.shemilikevin.app.tracker.view.PageSource;
 
 public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 
@@ -39,6 +47,21 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 	private static final int TAB_PROJECTS = 0;
 	private static final int TAB_ISSUES = 1;
 
+	static final String RUNNER_MISMATCH = "The refresh coalescer must submit to the given controller runner";
+
+	private static final String PROJECTS_REFRESH = "projects";
+	private static final String ISSUES_REFRESH = "issues:";
+
+	// Virtual lists keep at most this many rows in memory, whatever the list size
+	private static final int VIRTUAL_PAGE_SIZE = 100;
+	private static final int VIRTUAL_MAX_PAGES = 10;
+
+	// Fixed row size, so a JList neither measures every row nor loads every row of a virtual list
+	private static final Issue PROTOTYPE_ISSUE = new Issue("0000000000", "Prototype issue name",
+			"Prototype issue description", "Medium", "0000000000");
+	private static final Project PROTOTYPE_PROJECT = new Project("0000000000", "Prototype project name",
+			"Prototype project description");
+
 	private transient ProjectController projectController;
 	private transient IssueController issueController;
 
@@ -49,7 +72,7 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 	private JTextField projectDescriptionField;
 	private JButton addProjectButton;
 	private JButton deleteProjectButton;
-	private DefaultListModel<Project> projectListModel;
+	private BulkListModel<Project> projectListModel;
 	private JList<Project> projectJList;
 	private JTextField issueIdField;
 	private JTextField issueNameField;
@@ -57,10 +80,34 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 	private JComboBox<String> issuePriorityComboBox;
 	private JButton addIssueButton;
 	private JButton deleteIssueButton;
-	private DefaultListModel<Issue> issueListModel;
+	private JButton loadMoreIssuesButton;
+	private BulkListModel<Issue> issueListModel;
 	private JList<Issue> issueJList;
 	private JLabel projectErrorLabel;
 	private JLabel issueErrorLabel;
+	private JLabel statusLabel;
+	private String nextIssuePageToken;
+	private boolean virtualLists;
+	private boolean progressiveLists;
+
+	// Set while the list shows a virtual model instead of the default one
+	private transient PagingListModel<Project> projectPagingModel;
+	private transient PagingListModel<Issue> issuePagingModel;
+
+	// Pages load on their own thread, so scrolling never queries on the Event Dispatch Thread
+	// Even when controller operations run in place
+	private final transient Executor pageLoader = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "page-loader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// Set while issues are still streaming into the list
+	private transient ProgressiveListLoader<Issue> issueLoader;
+
+	// Runs controller operations in place unless an executor is configured
+	private transient ControllerRunner controllerRunner = new ControllerRunner(Runnable::run);
+	private transient RefreshCoalescer refreshCoalescer = new RefreshCoalescer(controllerRunner);
 
 	public IssueTrackerSwingView() {
 		setUpFrame();
@@ -71,19 +118,127 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 
 	@Override
 	public void showIssues(List<Issue> issueList) {
+		stopIssueLoader();
+		useDefaultIssueModel();
+		issueListModel.replaceAll(issueList);
+
+		setNextIssuePageToken(null);
+	}
+
+	@Override
+	public void showIssuePages(PageSource<Issue> issuePages) {
+		stopIssueLoader();
+		issuePagingModel = new PagingListModel<>(issuePages, VIRTUAL_PAGE_SIZE, VIRTUAL_MAX_PAGES, pageLoader,
+				SwingUtilities::invokeLater, this::showIssueError);
+		issuePagingModel.addListDataListener(onListChange(this::updateIssueButtons));
+
+		issueJList.setModel(issuePagingModel);
+		issuePagingModel.refresh();
+
+		setNextIssuePageToken(null);
+	}
+
+	@Override
+	public void showIssueStream(Supplier<Stream<Issue>> issueStream) {
+		stopIssueLoader();
+		useDefaultIssueModel();
 		issueListModel.clear();
+		setNextIssuePageToken(null);
+
+		issueLoader = new ProgressiveListLoader<>(issueStream, issueListModel, this::showIssueError);
+		issueLoader.execute();
+	}
+
+	@Override
+	public void appendIssues(List<Issue> issueList) {
+		issueListModel.addAll(issueList);
+
+		setNextIssuePageToken(null);
+	}
+
+	@Override
+	public void showMoreIssuesAvailable(String nextPageToken) {
+		setNextIssuePageToken(nextPageToken);
+	}
+
+	@Override
+	public void issueAdded(Issue issue) {
+		if (issuePagingModel != null) {
+			issuePagingModel.refresh();
+			return;
+		}
+
+		int index = 0;
+
+		while (index < issueListModel.size() && issueListModel.get(index).getId().compareTo(issue.getId()) < 0) {
+			index++;
+		}
+
+		// Past the last loaded row the issue will arrive with a later page or the stream
+		if (index == issueListModel.size() && (nextIssuePageToken != null || isIssueLoaderRunning())) {
+			return;
+		}
 
-		for (Issue issue : issueList) {
-			issueListModel.addElement(issue);
+		issueListModel.add(index, issue);
+	}
+
+	@Override
+	public void issueRemoved(String issueId) {
+		if (issuePagingModel != null) {
+			issuePagingModel.refresh();
+			return;
+		}
+
+		for (int index = 0; index < issueListModel.size(); index++) {
+			if (issueListModel.get(index).getId().equals(issueId)) {
+				issueListModel.remove(index);
+				return;
+			}
 		}
 	}
 
 	@Override
 	public void showProjects(List<Project> projectList) {
-		projectListModel.clear();
+		useDefaultProjectModel();
+		projectListModel.replaceAll(projectList);
+	}
+
+	@Override
+	public void showProjectPages(PageSource<Project> projectPages) {
+		projectPagingModel = new PagingListModel<>(projectPages, VIRTUAL_PAGE_SIZE, VIRTUAL_MAX_PAGES, pageLoader,
+				SwingUtilities::invokeLater, this::showProjectError);
+		projectPagingModel.addListDataListener(onListChange(() -> {
+			if (tabbedPane.getSelectedIndex() == TAB_PROJECTS) {
+				updateProjectButtons();
+			}
+		}));
+
+		projectJList.setModel(projectPagingModel);
+		projectPagingModel.refresh();
+	}
+
+	@Override
+	public void projectAdded(Project project) {
+		if (projectPagingModel != null) {
+			projectPagingModel.refresh();
+			return;
+		}
 
-		for (Project project : projectList) {
-			projectListModel.addElement(project);
+		projectListModel.addElement(project);
+	}
+
+	@Override
+	public void projectRemoved(String projectId) {
+		if (projectPagingModel != null) {
+			projectPagingModel.refresh();
+			return;
+		}
+
+		for (int index = 0; index < projectListModel.size(); index++) {
+			if (projectListModel.get(index).getId().equals(projectId)) {
+				projectListModel.remove(index);
+				return;
+			}
 		}
 	}
 
@@ -140,6 +295,43 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 		issueJList.clearSelection();
 	}
 
+	void showOperationsInFlight(int operationsInFlight) {
+		boolean isBusy = operationsInFlight > 0;
+
+		statusLabel.setText(isBusy ? "Loading..." : " ");
+		setCursor(Cursor.getPredefinedCursor(isBusy ? Cursor.WAIT_CURSOR : Cursor.DEFAULT_CURSOR));
+	}
+
+	private void useDefaultProjectModel() {
+		if (projectPagingModel != null) {
+			projectPagingModel = null;
+			projectJList.setModel(projectListModel);
+		}
+	}
+
+	private void stopIssueLoader() {
+		if (issueLoader != null) {
+			issueLoader.cancel(true);
+			issueLoader = null;
+		}
+	}
+
+	private boolean isIssueLoaderRunning() {
+		return issueLoader != null && !issueLoader.isDone();
+	}
+
+	private void useDefaultIssueModel() {
+		if (issuePagingModel != null) {
+			issuePagingModel = null;
+			issueJList.setModel(issueListModel);
+		}
+	}
+
+	private void setNextIssuePageToken(String nextPageToken) {
+		nextIssuePageToken = nextPageToken;
+		loadMoreIssuesButton.setEnabled(nextPageToken != null);
+	}
+
 	// Listeners
 	private void handleTabChange() {
 		if (tabbedPane.getSelectedIndex() == TAB_PROJECTS) {
@@ -149,13 +341,28 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 			// The dependencies are given after class creation
 			// Through setters
 			if (projectController != null) {
-				projectController.listProjects();
+				stopIssueLoader();
+				refreshCoalescer.request(PROJECTS_REFRESH,
+						virtualLists ? projectController::listProjectPages : projectController::listProjects);
 				tabbedPane.setEnabledAt(TAB_ISSUES, false);
 			}
 		} else { // Else the other tab, the Issues Tab
 
-			Project selectedProject = projectJList.getSelectedValue();
-			issueController.listIssues(selectedProject.getId());
+			Project project = projectJList.getSelectedValue();
+			if (project == null) {
+				return;
+			}
+
+			String projectId = project.getId();
+			refreshCoalescer.request(ISSUES_REFRESH + projectId, () -> {
+				if (virtualLists) {
+					issueController.listIssuePages(projectId);
+				} else if (progressiveLists) {
+					issueController.streamIssues(projectId);
+				} else {
+					issueController.listIssues(projectId);
+				}
+			});
 		}
 	}
 
@@ -184,23 +391,71 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 
 	private ListSelectionListener handleProjectListSelection() {
 		return e -> {
-			boolean isSelectionEmpty = projectJList.isSelectionEmpty();
+			updateProjectButtons();
+
+			// Only hands work to the prefetch executor, so it is cheap enough for the Event Dispatch Thread
+			// Virtual and progressive lists load lazily, a prefetched first page would go unused
+			Project project = projectJList.getSelectedValue();
+			if (project != null && !e.getValueIsAdjusting() && issueController != null && !virtualLists
+					&& !progressiveLists) {
+				issueController.prefetchIssues(project.getId());
+			}
+		};
+	}
+
+	// Rows of a virtual list still loading read as null, they can only be acted on once they arrive
+	private void updateProjectButtons() {
+		boolean hasProject = projectJList.getSelectedValue() != null;
+
+		tabbedPane.setEnabledAt(TAB_ISSUES, hasProject);
+		deleteProjectButton.setEnabled(hasProject);
+	}
 
-			tabbedPane.setEnabledAt(TAB_ISSUES, !isSelectionEmpty);
-			deleteProjectButton.setEnabled(!isSelectionEmpty);
+	private void updateIssueButtons() {
+		deleteIssueButton.setEnabled(issueJList.getSelectedValue() != null);
+	}
+
+	// Selection listeners are not told when a selected row finishes loading
+	private static ListDataListener onListChange(Runnable listener) {
+		return new ListDataListener() {
+			@Override
+			public void intervalAdded(ListDataEvent e) {
+				listener.run();
+			}
+
+			@Override
+			public void intervalRemoved(ListDataEvent e) {
+				listener.run();
+			}
+
+			@Override
+			public void contentsChanged(ListDataEvent e) {
+				listener.run();
+			}
 		};
 	}
 
+	// Field values are read here on the Event Dispatch Thread
+	// Before the operation is handed to the controller runner
 	private ActionListener handleAddProjectButtonClick() {
-		return e -> projectController.addProject(projectIdField.getText(), projectNameField.getText(),
-				projectDescriptionField.getText());
+		return e -> {
+			String id = projectIdField.getText();
+			String name = projectNameField.getText();
+			String description = projectDescriptionField.getText();
 
+			controllerRunner.submitWrite(() -> projectController.addProject(id, name, description));
+		};
 	}
 
 	private ActionListener handleDeleteProjectButtonClick() {
 		return e -> {
-			Project selectedProject = projectJList.getSelectedValue();
-			projectController.deleteProject(selectedProject.getId());
+			Project project = projectJList.getSelectedValue();
+			if (project == null) {
+				return;
+			}
+
+			String projectId = project.getId();
+			controllerRunner.submitWrite(() -> projectController.deleteProject(projectId));
 		};
 	}
 
@@ -212,31 +467,53 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 	}
 
 	private ListSelectionListener handleIssueListSelection() {
-		return e -> {
-			boolean isSelectionEmpty = issueJList.isSelectionEmpty();
-			deleteIssueButton.setEnabled(!isSelectionEmpty);
-		};
+		return e -> updateIssueButtons();
 	}
 
 	private ActionListener handleAddIssueButtonClick() {
 		return e -> {
-			Project selectedProject = projectJList.getSelectedValue();
+			Project project = projectJList.getSelectedValue();
+			if (project == null) {
+				return;
+			}
+
+			String projectId = project.getId();
 
 			String id = issueIdField.getText();
 			String name = issueNameField.getText();
 			String description = issueDescriptionField.getText();
 			String priority = (String) issuePriorityComboBox.getSelectedItem();
 
-			issueController.addIssue(id, name, description, priority, selectedProject.getId());
+			controllerRunner.submitWrite(() -> issueController.addIssue(id, name, description, priority, projectId));
 		};
 	}
 
 	private ActionListener handleDeleteIssueButtonClick() {
 		return e -> {
-			Issue selectedIssue = issueJList.getSelectedValue();
-			Project selectedProject = projectJList.getSelectedValue();
+			Issue issue = issueJList.getSelectedValue();
+			Project project = projectJList.getSelectedValue();
+			if (issue == null || project == null) {
+				return;
+			}
 
-			issueController.deleteIssue(selectedIssue.getId(), selectedProject.getId());
+			String issueId = issue.getId();
+			String projectId = project.getId();
+
+			controllerRunner.submitWrite(() -> issueController.deleteIssue(issueId, projectId));
+		};
+	}
+
+	private ActionListener handleLoadMoreIssuesButtonClick() {
+		return e -> {
+			Project project = projectJList.getSelectedValue();
+			if (project == null) {
+				return;
+			}
+
+			String projectId = project.getId();
+			String pageToken = nextIssuePageToken;
+
+			controllerRunner.submit(() -> issueController.listMoreIssues(projectId, pageToken));
 		};
 	}
 
@@ -251,6 +528,10 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 		mainPane.setBorder(new EmptyBorder(5, 5, 5, 5));
 		setContentPane(mainPane);
 		mainPane.setLayout(new BorderLayout(0, 0));
+
+		statusLabel = new JLabel(" ");
+		statusLabel.setName("statusLabel");
+		mainPane.add(statusLabel, BorderLayout.SOUTH);
 	}
 
 	private void setUpTabbedPane() {
@@ -350,8 +631,9 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 		gbc_projectScrollPane.gridy = 4;
 		projectPanel.add(projectScrollPane, gbc_projectScrollPane);
 
-		projectListModel = new DefaultListModel<>();
+		projectListModel = new BulkListModel<>();
 		projectJList = new JList<>(projectListModel);
+		projectJList.setPrototypeCellValue(PROTOTYPE_PROJECT);
 		projectJList.addListSelectionListener(handleProjectListSelection());
 		projectJList.setName("projectList");
 		projectJList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -492,8 +774,9 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 		gbc_issueScrollPane.gridy = 5;
 		issuePanel.add(issueScrollPane, gbc_issueScrollPane);
 
-		issueListModel = new DefaultListModel<>();
+		issueListModel = new BulkListModel<>();
 		issueJList = new JList<>(issueListModel);
+		issueJList.setPrototypeCellValue(PROTOTYPE_ISSUE);
 		issueJList.addListSelectionListener(handleIssueListSelection());
 		issueJList.setName("issueList");
 		issueJList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -519,6 +802,12 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 		deleteIssueButton.setEnabled(false);
 		deleteIssueButton.setName("deleteIssueButton");
 		issueButtonsPanel.add(deleteIssueButton);
+
+		loadMoreIssuesButton = new JButton("MORE");
+		loadMoreIssuesButton.addActionListener(handleLoadMoreIssuesButtonClick());
+		loadMoreIssuesButton.setEnabled(false);
+		loadMoreIssuesButton.setName("loadMoreIssuesButton");
+		issueButtonsPanel.add(loadMoreIssuesButton);
 	}
 
 	// Provide Required Dependencies
@@ -526,19 +815,59 @@ public class IssueTrackerSwingView extends JFrame implements IssueTrackerView {
 		this.projectController = projectController;
 	}
 
+	// Passed together, refreshes are submitted through the coalescer and must reach the same runner
+	public void setControllerRunner(ControllerRunner controllerRunner, RefreshCoalescer refreshCoalescer) {
+		if (refreshCoalescer.getControllerRunner() != controllerRunner) {
+			throw new IllegalArgumentException(RUNNER_MISMATCH);
+		}
+
+		this.controllerRunner = controllerRunner;
+		this.refreshCoalescer = refreshCoalescer;
+
+		controllerRunner.setInFlightListener(() -> {
+			if (SwingUtilities.isEventDispatchThread()) {
+				showOperationsInFlight(controllerRunner.getOperationsInFlight());
+			} else {
+				SwingUtilities.invokeLater(() -> showOperationsInFlight(controllerRunner.getOperationsInFlight()));
+			}
+		});
+	}
+
+	// Lists then page through the database instead of holding every row
+	public void setVirtualLists(boolean virtualLists) {
+		this.virtualLists = virtualLists;
+	}
+
+	// Issues then stream into the list in chunks instead of arriving all at once
+	public void setProgressiveLists(boolean progressiveLists) {
+		this.progressiveLists = progressiveLists;
+	}
+
 	public void setIssueController(IssueController issueController) {
 		this.issueController = issueController;
 	}
 
 	// Internal Usage - Testing
-	DefaultListModel<Project> getProjectListModel() {
+	BulkListModel<Project> getProjectListModel() {
 		return projectListModel;
 	}
 
-	DefaultListModel<Issue> getIssueListModel() {
+	BulkListModel<Issue> getIssueListModel() {
 		return issueListModel;
 	}
 
+	PagingListModel<Project> getProjectPagingModel() {
+		return projectPagingModel;
+	}
+
+	PagingListModel<Issue> getIssuePagingModel() {
+		return issuePagingModel;
+	}
+
+	ProgressiveListLoader<Issue> getIssueLoader() {
+		return issueLoader;
+	}
+
 	JLabel getProjectErrorLabel() {
 		return projectErrorLabel;
 	}
@@ -0,0 +1,183 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.AbstractListModel;
+
+import com.shemilikevin.app.tracker.view.PageSource;
+
+// List model that only holds a bounded window of pages, loaded as the JList asks for their rows
+// Rows of a page still loading read as null, the page fires a change once it arrives
+// A page that failed to load also reads as null, it is only tried again after a refresh
+// Must be used on the Event Dispatch Thread, the notifier has to bring results back onto it
+class PagingListModel<T> extends AbstractListModel<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	static final String INVALID_PAGE_SIZE = "Page size must be positive, was: %d";
+	static final String INVALID_MAX_PAGES = "Maximum number of pages must be positive, was: %d";
+	static final String LOAD_FAILED = "Loading rows %d to %d failed";
+	static final String COUNT_FAILED = "Counting the rows failed";
+
+	private static final Logger LOGGER = Logger.getLogger(PagingListModel.class.getName());
+
+	private final transient PageSource<T> source;
+	private final int pageSize;
+	private final transient Executor loader;
+	private final transient Executor notifier;
+	private final transient Consumer<String> errorReporter;
+
+	// Access ordered, so the least recently shown page is dropped first
+	private final transient Map<Integer, List<T>> pages;
+	private final Set<Integer> loadingPages = new HashSet<>();
+	private final Set<Integer> failedPages = new HashSet<>();
+
+	private int size;
+
+	// Results of loads started before the latest refresh are discarded
+	private long generation;
+
+	PagingListModel(PageSource<T> source, int pageSize, int maxPages, Executor loader, Executor notifier,
+			Consumer<String> errorReporter) {
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException(String.format(INVALID_PAGE_SIZE, pageSize));
+		}
+
+		if (maxPages <= 0) {
+			throw new IllegalArgumentException(String.format(INVALID_MAX_PAGES, maxPages));
+		}
+
+		this.source = source;
+		this.pageSize = pageSize;
+		this.loader = loader;
+		this.notifier = notifier;
+		this.errorReporter = errorReporter;
+		this.pages = new LinkedHashMap<Integer, List<T>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+				return size() > maxPages;
+			}
+		};
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public T getElementAt(int index) {
+		int page = index / pageSize;
+		List<T> rows = pages.get(page);
+
+		if (rows == null) {
+			loadPage(page);
+			return null;
+		}
+
+		int row = index - page * pageSize;
+		return row < rows.size() ? rows.get(row) : null;
+	}
+
+	// Recounts the rows and drops every loaded page, for when the source changed
+	void refresh() {
+		long refreshGeneration = ++generation;
+		loadingPages.clear();
+		failedPages.clear();
+
+		loader.execute(() -> {
+			try {
+				long count = source.count();
+				notifier.execute(() -> refreshed(refreshGeneration, (int) Math.min(count, Integer.MAX_VALUE)));
+			} catch (RuntimeException e) {
+				LOGGER.log(Level.SEVERE, COUNT_FAILED, e);
+				notifier.execute(() -> countFailed(refreshGeneration));
+			}
+		});
+	}
+
+	int getLoadedPageCount() {
+		return pages.size();
+	}
+
+	private void loadPage(int page) {
+		if (failedPages.contains(page) || !loadingPages.add(page)) {
+			return;
+		}
+
+		long loadGeneration = generation;
+		int offset = page * pageSize;
+
+		loader.execute(() -> {
+			try {
+				List<T> rows = source.load(offset, pageSize);
+				notifier.execute(() -> pageLoaded(loadGeneration, page, rows));
+			} catch (RuntimeException e) {
+				LOGGER.log(Level.SEVERE, String.format(LOAD_FAILED, offset, offset + pageSize - 1), e);
+				notifier.execute(() -> pageFailed(loadGeneration, page));
+			}
+		});
+	}
+
+	private void pageLoaded(long loadGeneration, int page, List<T> rows) {
+		if (loadGeneration != generation) {
+			return;
+		}
+
+		loadingPages.remove(page);
+		pages.put(page, rows);
+
+		int firstRow = page * pageSize;
+		int lastRow = Math.min(firstRow + pageSize, size) - 1;
+
+		if (firstRow <= lastRow) {
+			fireContentsChanged(this, firstRow, lastRow);
+		}
+	}
+
+	private void pageFailed(long loadGeneration, int page) {
+		if (loadGeneration == generation) {
+			loadingPages.remove(page);
+			failedPages.add(page);
+		}
+	}
+
+	// The rows shown so far stay, the user is told they could not be brought up to date
+	private void countFailed(long refreshGeneration) {
+		if (refreshGeneration == generation) {
+			errorReporter.accept(COUNT_FAILED);
+		}
+	}
+
+	private void refreshed(long refreshGeneration, int count) {
+		if (refreshGeneration != generation) {
+			return;
+		}
+
+		pages.clear();
+
+		int previousSize = size;
+		size = count;
+
+		if (count < previousSize) {
+			fireIntervalRemoved(this, count, previousSize - 1);
+		} else if (count > previousSize) {
+			fireIntervalAdded(this, previousSize, count - 1);
+		}
+
+		if (Math.min(count, previousSize) > 0) {
+			fireContentsChanged(this, 0, Math.min(count, previousSize) - 1);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import javax.swing.SwingWorker;
+
+// Reads rows off a stream in the background and appends them to the list as they arrive
+// SwingWorker coalesces published rows, so the list grows in chunks, not one event per row
+class ProgressiveListLoader<T> extends SwingWorker<Integer, T> {
+
+	static final String LOAD_FAILED = "Loading the list failed";
+
+	private static final Logger LOGGER = Logger.getLogger(ProgressiveListLoader.class.getName());
+
+	private final Supplier<Stream<T>> rows;
+	private final BulkListModel<T> listModel;
+	private final Consumer<String> errorReporter;
+
+	ProgressiveListLoader(Supplier<Stream<T>> rows, BulkListModel<T> listModel, Consumer<String> errorReporter) {
+		this.rows = rows;
+		this.listModel = listModel;
+		this.errorReporter = errorReporter;
+	}
+
+	@Override
+	protected Integer doInBackground() {
+		int loadedRows = 0;
+
+		// Closing the stream releases the cursor, also when cancelled halfway
+		try (Stream<T> stream = rows.get()) {
+			Iterator<T> iterator = stream.iterator();
+
+			while (!isCancelled() && iterator.hasNext()) {
+				publish(iterator.next());
+				loadedRows++;
+			}
+		}
+
+		return loadedRows;
+	}
+
+	@Override
+	protected void process(List<T> chunk) {
+		// Chunks published before a cancel may still be delivered
+		if (!isCancelled()) {
+			listModel.addAll(chunk);
+		}
+	}
+
+	// Runs on the Event Dispatch Thread, otherwise a failed read would only leave the list short
+	@Override
+	protected void done() {
+		try {
+			get();
+		} catch (CancellationException e) {
+			// Replaced by a newer list, nothing went wrong
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			LOGGER.log(Level.SEVERE, LOAD_FAILED, e.getCause());
+			errorReporter.accept(LOAD_FAILED);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Collapses repeated list refreshes into as few queries as possible
+// A request joins the running refresh of the same key, as long as nothing was navigated to since
+// With a debounce delay, a burst of requests only runs the last one, once the burst is over
+public class RefreshCoalescer {
+
+	static final String INVALID_DEBOUNCE = "Debounce delay must not be negative, was: %d ms";
+
+	private final ControllerRunner controllerRunner;
+	private final ScheduledExecutorService scheduler;
+	private final long debounceMillis;
+
+	private String latestKey;
+	private long latestSequence;
+	private boolean latestInFlight;
+	private ScheduledFuture<?> pendingRefresh;
+
+	private long requested;
+	private long executed;
+	private long joined;
+	private long debounced;
+
+	public RefreshCoalescer(ControllerRunner controllerRunner) {
+		this(controllerRunner, null, 0);
+	}
+
+	public RefreshCoalescer(ControllerRunner controllerRunner, ScheduledExecutorService scheduler,
+			long debounceMillis) {
+		if (debounceMillis < 0) {
+			throw new IllegalArgumentException(String.format(INVALID_DEBOUNCE, debounceMillis));
+		}
+
+		this.controllerRunner = controllerRunner;
+		this.scheduler = scheduler;
+		this.debounceMillis = debounceMillis;
+	}
+
+	public synchronized void request(String key, Runnable refresh) {
+		requested++;
+
+		if (pendingRefresh != null && pendingRefresh.cancel(false)) {
+			debounced++;
+		}
+
+		if (debounceMillis == 0) {
+			submit(key, refresh);
+			return;
+		}
+
+		pendingRefresh = scheduler.schedule(() -> submit(key, refresh), debounceMillis, TimeUnit.MILLISECONDS);
+	}
+
+	public ControllerRunner getControllerRunner() {
+		return controllerRunner;
+	}
+
+	public synchronized RefreshStatistics statistics() {
+		return new RefreshStatistics(requested, executed, joined, debounced);
+	}
+
+	private synchronized void submit(String key, Runnable refresh) {
+		if (latestInFlight && key.equals(latestKey)) {
+			joined++;
+			return;
+		}
+
+		long sequence = ++latestSequence;
+		latestKey = key;
+		latestInFlight = true;
+		executed++;
+
+		controllerRunner.submitNavigation(() -> {
+			try {
+				refresh.run();
+			} finally {
+				finished(sequence);
+			}
+		});
+	}
+
+	private synchronized void finished(long sequence) {
+		if (sequence == latestSequence) {
+			latestInFlight = false;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import java.util.Objects;
+
+public final class RefreshStatistics {
+
+	private final long requested;
+	private final long executed;
+	private final long joined;
+	private final long debounced;
+
+	public RefreshStatistics(long requested, long executed, long joined, long debounced) {
+		this.requested = requested;
+		this.executed = executed;
+		this.joined = joined;
+		this.debounced = debounced;
+	}
+
+	public long getRequested() {
+		return requested;
+	}
+
+	public long getExecuted() {
+		return executed;
+	}
+
+	public long getJoined() {
+		return joined;
+	}
+
+	public long getDebounced() {
+		return debounced;
+	}
+
+	public long getSavedQueries() {
+		return joined + debounced;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(requested, executed, joined, debounced);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		RefreshStatistics other = (RefreshStatistics) obj;
+		return requested == other.requested && executed == other.executed && joined == other.joined
+				&& debounced == other.debounced;
+	}
+
+	@Override
+	public String toString() {
+		return "RefreshStatistics [requested=" + requested + ", executed=" + executed + ", joined=" + joined
+				+ ", debounced=" + debounced + "]";
+	}
+}
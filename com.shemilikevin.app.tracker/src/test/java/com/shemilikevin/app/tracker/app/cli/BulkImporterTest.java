@@ -0,0 +1,260 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class BulkImporterTest {
+
+	private ExecutorService validators;
+	private long now;
+
+	@Before
+	public void setUp() {
+		validators = Executors.newFixedThreadPool(2);
+		now = 0;
+	}
+
+	@After
+	public void tearDown() {
+		validators.shutdownNow();
+	}
+
+	@Test
+	public void testImportRows_WritesValidRowsInBatches() throws Exception {
+		// Arrange
+		RecordingTarget target = new RecordingTarget();
+		BulkImporter importer = new BulkImporter(validators, 2, 4, () -> now += 1000);
+
+		// Act
+		ImportReport report = importer.importRows(reader(row(1, "a"), row(2, "b"), row(3, "c"), row(4, "d"),
+				row(5, "e")), target);
+
+		// Assert
+		assertThat(report.getRowsRead()).isEqualTo(5);
+		assertThat(report.getInserted()).isEqualTo(5);
+		assertThat(report.getErrors()).isEmpty();
+		assertThat(report.getElapsedNanos()).isEqualTo(1000);
+		assertThat(target.batches).containsExactlyInAnyOrder(Arrays.asList("a", "b"), Arrays.asList("c", "d"),
+				Arrays.asList("e"));
+	}
+
+	@Test
+	public void testImportRows_ReportsRejectedRowsByLineNumber() throws Exception {
+		// Arrange
+		RecordingTarget target = new RecordingTarget();
+		target.invalidValue = "invalid";
+		BulkImporter importer = new BulkImporter(validators, 2, 4);
+
+		// Act
+		ImportReport report = importer.importRows(reader(row(1, "a"), ImportRow.unparsable(2, "Unparsable"),
+				row(3, "invalid"), row(4, "b")), target);
+
+		// Assert
+		assertThat(report.getRowsRead()).isEqualTo(4);
+		assertThat(report.getInserted()).isEqualTo(2);
+		assertThat(report.getErrors()).containsExactly(new ImportError(2, "Unparsable"),
+				new ImportError(3, "Invalid value"));
+		assertThat(target.batches).containsExactlyInAnyOrder(Arrays.asList("a"), Arrays.asList("b"));
+	}
+
+	@Test
+	public void testImportRows_ReportsDuplicateAndFailedWrites() throws Exception {
+		// Arrange
+		RecordingTarget target = new RecordingTarget();
+		target.results = Arrays.asList(SaveResult.INSERTED, SaveResult.DUPLICATE, SaveResult.FAILED);
+		BulkImporter importer = new BulkImporter(validators, 3, 1);
+
+		// Act
+		ImportReport report = importer.importRows(reader(row(1, "a"), row(2, "b"), row(3, "c")), target);
+
+		// Assert
+		assertThat(report.getInserted()).isEqualTo(1);
+		assertThat(report.getErrors()).containsExactly(new ImportError(2, "Duplicate b"),
+				new ImportError(3, BulkImporter.WRITE_FAILED));
+	}
+
+	@Test
+	public void testImportRows_WriteThrows_FailsTheImport() {
+		// Arrange
+		RecordingTarget target = new RecordingTarget();
+		target.writeFailure = new IllegalStateException("Connection lost");
+		BulkImporter importer = new BulkImporter(validators, 1, 1);
+
+		// Act & Assert
+		assertThatThrownBy(() -> importer.importRows(reader(row(1, "a"), row(2, "b"), row(3, "c")), target))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("Connection lost");
+	}
+
+	@Test
+	public void testImportRows_WritesFallBehind_StopsReadingAheadOfThem() throws Exception {
+		// Arrange
+		CountDownLatch writeStarted = new CountDownLatch(1);
+		CountDownLatch releaseWrites = new CountDownLatch(1);
+		RecordingTarget target = new RecordingTarget();
+		target.beforeWrite = () -> {
+			writeStarted.countDown();
+			releaseWrites.await();
+		};
+
+		List<ImportRow> rows = new ArrayList<>();
+		for (int i = 1; i <= 20; i++) {
+			rows.add(row(i, "row" + i));
+		}
+		CountingReader reader = new CountingReader(rows);
+		BulkImporter importer = new BulkImporter(validators, 2, 1);
+
+		Thread importThread = new Thread(() -> {
+			try {
+				importer.importRows(reader, target);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		importThread.start();
+
+		// Act
+		writeStarted.await(5, TimeUnit.SECONDS);
+		awaitReads(reader, 4);
+		Thread.sleep(50);
+		int readsWhileBlocked = reader.reads.get();
+		releaseWrites.countDown();
+		importThread.join(5000);
+
+		// Assert
+		// The blocked batch and the next one that waits for a permit
+		assertThat(readsWhileBlocked).isEqualTo(4);
+		assertThat(reader.reads.get()).isEqualTo(20);
+	}
+
+	@Test
+	public void testConstructor_NonPositiveSizes_ThrowException() {
+		// Act & Assert
+		assertThatThrownBy(() -> new BulkImporter(validators, 0, 1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(BulkImporter.INVALID_BATCH_SIZE, 0));
+		assertThatThrownBy(() -> new BulkImporter(validators, 1, 0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(BulkImporter.INVALID_MAX_IN_FLIGHT, 0));
+	}
+
+	private void awaitReads(CountingReader reader, int reads) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+
+		while (reader.reads.get() < reads && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+
+	private ImportRow row(long lineNumber, String value) {
+		Map<String, String> fields = new HashMap<>();
+		fields.put("value", value);
+
+		return ImportRow.parsed(lineNumber, fields);
+	}
+
+	private RowReader reader(ImportRow... rows) {
+		return new CountingReader(Arrays.asList(rows));
+	}
+
+	private interface Action {
+
+		void run() throws InterruptedException;
+	}
+
+	private static class CountingReader implements RowReader {
+
+		private final Iterator<ImportRow> rows;
+		private final AtomicInteger reads = new AtomicInteger();
+
+		CountingReader(List<ImportRow> rows) {
+			this.rows = rows.iterator();
+		}
+
+		@Override
+		public ImportRow next() {
+			if (!rows.hasNext()) {
+				return null;
+			}
+
+			reads.incrementAndGet();
+			return rows.next();
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private static class RecordingTarget implements ImportTarget<String> {
+
+		private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+		private String invalidValue;
+		private List<SaveResult> results;
+		private RuntimeException writeFailure;
+		private Action beforeWrite = () -> {
+		};
+
+		@Override
+		public List<String> validate(List<ImportRow> rows) {
+			List<String> errors = new ArrayList<>();
+
+			for (ImportRow row : rows) {
+				errors.add(row.get("value").equals(invalidValue) ? "Invalid value" : null);
+			}
+
+			return errors;
+		}
+
+		@Override
+		public String toEntity(ImportRow row) {
+			return row.get("value");
+		}
+
+		@Override
+		public List<SaveResult> saveAll(List<String> entities) {
+			try {
+				beforeWrite.run();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			if (writeFailure != null) {
+				throw writeFailure;
+			}
+
+			batches.add(entities);
+
+			if (results != null) {
+				return results;
+			}
+
+			return new ArrayList<>(Collections.nCopies(entities.size(), SaveResult.INSERTED));
+		}
+
+		@Override
+		public String duplicateError(ImportRow row) {
+			return "Duplicate " + row.get("value");
+		}
+	}
+}
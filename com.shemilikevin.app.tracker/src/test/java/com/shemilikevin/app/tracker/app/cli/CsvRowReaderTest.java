@@ -0,0 +1,126 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+public class CsvRowReaderTest {
+
+	@Test
+	public void testNext_NamesFieldsByTheHeaderAndKeepsLineNumbers() throws IOException {
+		// Arrange
+		CsvRowReader reader = reader("id,name,description\n1,Name,Description\n\n2,Other,Text\n");
+
+		// Act
+		ImportRow firstRow = reader.next();
+		ImportRow secondRow = reader.next();
+		ImportRow end = reader.next();
+
+		// Assert
+		assertThat(firstRow.isParsed()).isTrue();
+		assertThat(firstRow.getLineNumber()).isEqualTo(2);
+		assertThat(firstRow.get("name")).isEqualTo("Name");
+		assertThat(secondRow.getLineNumber()).isEqualTo(4);
+		assertThat(secondRow.get("description")).isEqualTo("Text");
+		assertThat(end).isNull();
+	}
+
+	@Test
+	public void testNext_QuotedFieldsMayHoldSeparatorsAndQuotes() throws IOException {
+		// Arrange
+		CsvRowReader reader = reader("id,name\n1,\"Name, with \"\"quotes\"\"\"\n");
+
+		// Act
+		ImportRow row = reader.next();
+
+		// Assert
+		assertThat(row.get("name")).isEqualTo("Name, with \"quotes\"");
+	}
+
+	@Test
+	public void testNext_QuotedFieldsMaySpanLines_KeepsTheStartingLineNumber() throws IOException {
+		// Arrange
+		CsvRowReader reader = reader("id,name\n1,\"First line\n\nthird, line\"\n2,Other\n");
+
+		// Act
+		ImportRow firstRow = reader.next();
+		ImportRow secondRow = reader.next();
+
+		// Assert
+		assertThat(firstRow.getLineNumber()).isEqualTo(2);
+		assertThat(firstRow.get("name")).isEqualTo("First line\n\nthird, line");
+		assertThat(secondRow.getLineNumber()).isEqualTo(5);
+		assertThat(secondRow.get("name")).isEqualTo("Other");
+	}
+
+	@Test
+	public void testNext_WrongColumnCount_ReturnsUnparsableRow() throws IOException {
+		// Arrange
+		CsvRowReader reader = reader("id,name\n1\n");
+
+		// Act
+		ImportRow row = reader.next();
+
+		// Assert
+		assertThat(row.isParsed()).isFalse();
+		assertThat(row.getLineNumber()).isEqualTo(2);
+		assertThat(row.getParseError()).isEqualTo(String.format(CsvRowReader.COLUMN_COUNT_MISMATCH, 2, 1));
+		assertThat(row.get("id")).isNull();
+	}
+
+	@Test
+	public void testNext_UnterminatedQuote_ReturnsUnparsableRow() throws IOException {
+		// Arrange
+		CsvRowReader reader = reader("id,name\n1,\"Name\nmore\n");
+
+		// Act
+		ImportRow row = reader.next();
+
+		// Assert
+		assertThat(row.getLineNumber()).isEqualTo(2);
+		assertThat(row.getParseError()).isEqualTo(CsvRowReader.UNTERMINATED_QUOTE);
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	public void testNext_UnterminatedQuoteInTheHeader_ReturnsUnparsableRow() throws IOException {
+		// Arrange
+		CsvRowReader reader = reader("id,\"name\n1,Name\n");
+
+		// Act
+		ImportRow row = reader.next();
+
+		// Assert
+		assertThat(row.getLineNumber()).isEqualTo(1);
+		assertThat(row.getParseError()).isEqualTo(CsvRowReader.UNTERMINATED_QUOTE);
+	}
+
+	@Test
+	public void testNext_EmptyInput_ReturnsNull() throws IOException {
+		// Act & Assert
+		assertThat(reader("").next()).isNull();
+		assertThat(reader("id,name\n").next()).isNull();
+	}
+
+	@Test
+	public void testClose_ClosesTheUnderlyingReader() throws IOException {
+		// Arrange
+		BufferedReader input = new BufferedReader(new StringReader("id\n"));
+		CsvRowReader reader = new CsvRowReader(input);
+
+		// Act
+		reader.close();
+
+		// Assert
+		assertThatThrownBy(input::ready).isInstanceOf(IOException.class);
+	}
+
+	private CsvRowReader reader(String content) {
+		return new CsvRowReader(new BufferedReader(new StringReader(content)));
+	}
+}
@@ -0,0 +1,58 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class CsvRowWriterTest {
+
+	@Test
+	public void testWrite_WritesTheHeaderBeforeTheFirstRow() throws IOException {
+		// Arrange
+		StringWriter output = new StringWriter();
+		CsvRowWriter writer = new CsvRowWriter(new BufferedWriter(output), Arrays.asList("id", "name"));
+
+		// Act
+		writer.write(Arrays.asList("1", "Name"));
+		writer.write(Arrays.asList("2", null));
+		writer.close();
+
+		// Assert
+		assertThat(output.toString().split("\\R")).containsExactly("id,name", "1,Name", "2,");
+	}
+
+	@Test
+	public void testWrite_QuotesValuesTheReaderWouldSplit() throws IOException {
+		// Arrange
+		StringWriter output = new StringWriter();
+		CsvRowWriter writer = new CsvRowWriter(new BufferedWriter(output), Arrays.asList("id", "name"));
+
+		// Act
+		writer.write(Arrays.asList("1", "Name, with \"quotes\"\nand lines"));
+		writer.close();
+
+		// Assert
+		ImportRow row = new CsvRowReader(new BufferedReader(new StringReader(output.toString()))).next();
+		assertThat(row.get("name")).isEqualTo("Name, with \"quotes\"\nand lines");
+	}
+
+	@Test
+	public void testClose_WithoutRows_LeavesTheOutputEmpty() throws IOException {
+		// Arrange
+		StringWriter output = new StringWriter();
+		CsvRowWriter writer = new CsvRowWriter(new BufferedWriter(output), Arrays.asList("id"));
+
+		// Act
+		writer.close();
+
+		// Assert
+		assertThat(output.toString()).isEmpty();
+	}
+}
@@ -0,0 +1,219 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.mongodb.MongoClient;
+import com.mongodb.ServerAddress;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import picocli.CommandLine;
+
+public class ExportCommandTest {
+
+	private static MongoServer mongoServer;
+	private static InetSocketAddress inetSocketAddress;
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private MongoClient mongoClient;
+	private ProjectRepository projectRepository;
+	private IssueRepository issueRepository;
+	private StringWriter out;
+	private StringWriter err;
+
+	@BeforeClass
+	public static void setUpInMemoryServer() {
+		mongoServer = new MongoServer(new MemoryBackend());
+		inetSocketAddress = mongoServer.bind();
+	}
+
+	@AfterClass
+	public static void shutDownInMemoryServer() {
+		mongoServer.shutdown();
+	}
+
+	@Before
+	public void setUp() {
+		mongoClient = new MongoClient(new ServerAddress(inetSocketAddress));
+		mongoClient.getDatabase(MongoOptions.DATABASE_NAME).drop();
+
+		MongoOptions mongoOptions = new MongoOptions();
+		projectRepository = mongoOptions.createProjectRepository(mongoClient);
+		issueRepository = mongoOptions.createIssueRepository(mongoClient);
+		out = new StringWriter();
+		err = new StringWriter();
+	}
+
+	@After
+	public void tearDown() {
+		mongoClient.close();
+	}
+
+	@Test
+	public void testExport_WritesProjectsAndIssuesToOneFileEach() throws IOException {
+		// Arrange
+		projectRepository.save(new Project("10", "Name", "Description"));
+		issueRepository.save(new Issue("1", "Name", "Description", "Low", "10"));
+		File directory = new File(temporaryFolder.getRoot(), "dump");
+
+		// Act
+		int exitCode = execute(new ExportCommand(), "--output-dir", directory.getPath(), "--format", "CSV");
+
+		// Assert
+		assertThat(exitCode).isZero();
+		assertThat(Files.readAllLines(new File(directory, "projects.csv").toPath(), StandardCharsets.UTF_8))
+				.containsExactly("id,name,description", "10,Name,Description");
+		assertThat(Files.readAllLines(new File(directory, "issues.csv").toPath(), StandardCharsets.UTF_8))
+				.containsExactly("id,name,description,priority,projectId", "1,Name,Description,Low,10");
+		assertThat(out.toString()).startsWith("ExportReport [files=2, rowsWritten=2,");
+	}
+
+	@Test
+	public void testExport_PartitionedByProject_WritesAnIssueFilePerProject() throws IOException {
+		// Arrange
+		projectRepository.save(new Project("10", "Name", "Description"));
+		projectRepository.save(new Project("20", "Name", "Description"));
+		issueRepository.save(new Issue("1", "Name", "Description", "Low", "10"));
+		issueRepository.save(new Issue("2", "Name", "Description", "High", "20"));
+		issueRepository.save(new Issue("3", "Name", "Description", "High", "20"));
+		File directory = temporaryFolder.getRoot();
+
+		// Act
+		int exitCode = execute(new ExportCommand(), "--output-dir", directory.getPath(), "--partition-by-project",
+				"--batch-size", "1");
+
+		// Assert
+		assertThat(exitCode).isZero();
+		assertThat(Files.readAllLines(new File(directory, "issues/issues-10.jsonl").toPath())).hasSize(1);
+		assertThat(Files.readAllLines(new File(directory, "issues/issues-20.jsonl").toPath())).hasSize(2);
+		assertThat(new File(directory, "issues/issues-without-project.jsonl")).doesNotExist();
+		assertThat(out.toString()).startsWith("ExportReport [files=3, rowsWritten=5,");
+	}
+
+	@Test
+	public void testExport_PartitionedByProject_WritesIssuesOfMissingProjectsToTheirOwnFile() throws IOException {
+		// Arrange
+		projectRepository.save(new Project("10", "Name", "Description"));
+		issueRepository.save(new Issue("1", "Name", "Description", "Low", "10"));
+		issueRepository.save(new Issue("2", "Name", "Description", "High", "99"));
+		issueRepository.save(new Issue("3", "Name", "Description", "High", "98"));
+		File directory = temporaryFolder.getRoot();
+
+		// Act
+		int exitCode = execute(new ExportCommand(), "--output-dir", directory.getPath(), "--partition-by-project");
+
+		// Assert
+		File orphans = new File(directory, "issues/issues-without-project.jsonl");
+		assertThat(exitCode).isZero();
+		assertThat(Files.readAllLines(orphans.toPath())).hasSize(2).noneMatch(line -> line.contains("\"10\""));
+		assertThat(out.toString()).startsWith("ExportReport [files=3, rowsWritten=4,");
+		assertThat(err.toString()).contains(String.format(ExportCommand.ISSUES_WITHOUT_PROJECT, 2, orphans));
+	}
+
+	@Test
+	public void testExport_NonPositiveBatchSize_IsRejected() {
+		// Arrange
+		File directory = new File(temporaryFolder.getRoot(), "dump");
+
+		// Act
+		int exitCode = execute(new ExportCommand(), "--output-dir", directory.getPath(), "--batch-size", "0");
+
+		// Assert
+		assertThat(exitCode).isEqualTo(CommandLine.ExitCode.USAGE);
+		assertThat(err.toString()).contains(String.format(ExportCommand.NON_POSITIVE_BATCH_SIZE, 0))
+				.doesNotContain("IllegalArgumentException");
+		assertThat(directory).doesNotExist();
+	}
+
+	@Test
+	public void testExport_CsvIssueWithLineBreaks_CanBeImportedAgain() throws IOException {
+		// Arrange
+		Project project = new Project("10", "Name", "Description");
+		Issue issue = new Issue("1", "Name", "First line\r\nsecond, \"quoted\" line", "Medium", "10");
+		projectRepository.save(project);
+		issueRepository.save(issue);
+		File directory = temporaryFolder.getRoot();
+		execute(new ExportCommand(), "--output-dir", directory.getPath(), "--format", "CSV");
+		mongoClient.getDatabase(MongoOptions.DATABASE_NAME).drop();
+
+		// Act
+		int exitCode = execute(new ImportCommand(), "--projects", new File(directory, "projects.csv").getPath(),
+				"--issues", new File(directory, "issues.csv").getPath(), "--format", "CSV");
+
+		// Assert
+		assertThat(exitCode).isZero();
+		assertThat(issueRepository.findAll()).extracting(Issue::getDescription)
+				.containsExactly("First line\nsecond, \"quoted\" line");
+	}
+
+	@Test
+	public void testExport_GzippedDump_CanBeImportedAgain() throws IOException {
+		// Arrange
+		Project project = new Project("10", "Name", "Description, long");
+		Issue issue = new Issue("1", "Name", "Description", "Medium", "10");
+		projectRepository.save(project);
+		issueRepository.save(issue);
+		File directory = temporaryFolder.getRoot();
+		execute(new ExportCommand(), "--output-dir", directory.getPath(), "--gzip");
+		mongoClient.getDatabase(MongoOptions.DATABASE_NAME).drop();
+
+		// Act
+		int exitCode = execute(new ImportCommand(), "--projects", new File(directory, "projects.jsonl.gz").getPath(),
+				"--issues", new File(directory, "issues.jsonl.gz").getPath());
+
+		// Assert
+		assertThat(exitCode).isZero();
+		assertThat(projectRepository.findAll()).containsExactly(project);
+		assertThat(issueRepository.findAll()).containsExactly(issue);
+	}
+
+	@Test
+	public void testExport_WithGzip_CompressesEveryFile() {
+		// Arrange
+		File directory = temporaryFolder.getRoot();
+
+		// Act
+		int exitCode = execute(new ExportCommand(), "--output-dir", directory.getPath(), "--gzip");
+
+		// Assert
+		assertThat(exitCode).isZero();
+		assertThat(directory.list()).containsExactlyInAnyOrder("projects.jsonl.gz", "issues.jsonl.gz");
+	}
+
+	private int execute(Object command, String... args) {
+		CommandLine commandLine = new CommandLine(command);
+		commandLine.setOut(new PrintWriter(out));
+		commandLine.setErr(new PrintWriter(err));
+
+		String[] mongoArgs = { "--mongo-host", inetSocketAddress.getHostString(), "--mongo-port",
+				String.valueOf(inetSocketAddress.getPort()) };
+
+		String[] allArgs = Arrays.copyOf(mongoArgs, mongoArgs.length + args.length);
+		System.arraycopy(args, 0, allArgs, mongoArgs.length, args.length);
+
+		return commandLine.execute(allArgs);
+	}
+}
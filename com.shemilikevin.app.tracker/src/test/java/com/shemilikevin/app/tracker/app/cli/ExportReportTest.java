@@ -0,0 +1,30 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ExportReportTest {
+
+	@Test
+	public void testGetRowsPerSecond_DividesRowsByElapsedTime() {
+		// Arrange
+		ExportReport report = new ExportReport(2, 300000, TimeUnit.SECONDS.toNanos(2));
+
+		// Act & Assert
+		assertThat(report.getRowsPerSecond()).isEqualTo(150000);
+		assertThat(report.getFiles()).isEqualTo(2);
+		assertThat(report.getRowsWritten()).isEqualTo(300000);
+		assertThat(report.getElapsedNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+		assertThat(report)
+				.hasToString("ExportReport [files=2, rowsWritten=300000, elapsedMillis=2000, rowsPerSecond=150000]");
+	}
+
+	@Test
+	public void testGetRowsPerSecond_NoElapsedTime_ReturnsZero() {
+		// Act & Assert
+		assertThat(new ExportReport(0, 0, 0).getRowsPerSecond()).isZero();
+	}
+}
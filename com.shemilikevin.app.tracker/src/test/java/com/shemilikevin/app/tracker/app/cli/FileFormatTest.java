@@ -0,0 +1,49 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class FileFormatTest {
+
+	@Test
+	public void testFromFileName_CsvExtension_ReturnsCsv() {
+		// Act & Assert
+		assertThat(FileFormat.fromFileName("issues.CSV")).isEqualTo(FileFormat.CSV);
+		assertThat(FileFormat.fromFileName("issues.jsonl")).isEqualTo(FileFormat.JSONL);
+		assertThat(FileFormat.fromFileName("issues")).isEqualTo(FileFormat.JSONL);
+	}
+
+	@Test
+	public void testOpenReader_ReturnsTheReaderOfTheFormat() {
+		// Arrange
+		BufferedReader input = new BufferedReader(new StringReader(""));
+
+		// Act & Assert
+		assertThat(FileFormat.CSV.openReader(input)).isInstanceOf(CsvRowReader.class);
+		assertThat(FileFormat.JSONL.openReader(input)).isInstanceOf(JsonlRowReader.class);
+	}
+
+	@Test
+	public void testOpenWriter_ReturnsTheWriterOfTheFormat() {
+		// Arrange
+		BufferedWriter output = new BufferedWriter(new StringWriter());
+
+		// Act & Assert
+		assertThat(FileFormat.CSV.openWriter(output, Arrays.asList("id"))).isInstanceOf(CsvRowWriter.class);
+		assertThat(FileFormat.JSONL.openWriter(output, Arrays.asList("id"))).isInstanceOf(JsonlRowWriter.class);
+	}
+
+	@Test
+	public void testGetExtension_NamesTheFileType() {
+		// Act & Assert
+		assertThat(FileFormat.CSV.getExtension()).isEqualTo(".csv");
+		assertThat(FileFormat.JSONL.getExtension()).isEqualTo(".jsonl");
+	}
+}
@@ -0,0 +1,158 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.mongodb.MongoClient;
+import com.mongodb.ServerAddress;
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import picocli.CommandLine;
+
+public class ImportCommandTest {
+
+	private static MongoServer mongoServer;
+	private static InetSocketAddress inetSocketAddress;
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private MongoClient mongoClient;
+	private MongoOptions mongoOptions;
+	private StringWriter out;
+	private StringWriter err;
+	private CommandLine commandLine;
+
+	@BeforeClass
+	public static void setUpInMemoryServer() {
+		mongoServer = new MongoServer(new MemoryBackend());
+		inetSocketAddress = mongoServer.bind();
+	}
+
+	@AfterClass
+	public static void shutDownInMemoryServer() {
+		mongoServer.shutdown();
+	}
+
+	@Before
+	public void setUp() {
+		mongoClient = new MongoClient(new ServerAddress(inetSocketAddress));
+		mongoClient.getDatabase(MongoOptions.DATABASE_NAME).drop();
+		mongoOptions = new MongoOptions();
+
+		out = new StringWriter();
+		err = new StringWriter();
+		commandLine = new CommandLine(new ImportCommand());
+		commandLine.setOut(new PrintWriter(out));
+		commandLine.setErr(new PrintWriter(err));
+	}
+
+	@After
+	public void tearDown() {
+		mongoClient.close();
+	}
+
+	@Test
+	public void testImport_ValidFiles_ImportsProjectsBeforeTheirIssues() throws IOException {
+		// Arrange
+		File projects = file("projects.csv", "id,name,description", "10,Name,\"Description, long\"");
+		File issues = file("issues.jsonl",
+				"{\"id\": 1, \"name\": \"Name\", \"description\": \"Description\", \"priority\": \"Low\", \"projectId\": \"10\"}");
+
+		// Act
+		int exitCode = execute("--projects", projects.getPath(), "--issues", issues.getPath());
+
+		// Assert
+		assertThat(exitCode).isZero();
+		assertThat(mongoOptions.createProjectRepository(mongoClient).findAll())
+				.containsExactly(new Project("10", "Name", "Description, long"));
+		assertThat(mongoOptions.createIssueRepository(mongoClient).findAll())
+				.containsExactly(new Issue("1", "Name", "Description", "Low", "10"));
+		assertThat(out.toString()).contains("projects.csv: ImportReport [rowsRead=1, inserted=1, rejected=0")
+				.contains("issues.jsonl: ImportReport [rowsRead=1, inserted=1, rejected=0");
+		assertThat(err.toString()).isEmpty();
+	}
+
+	@Test
+	public void testImport_InvalidRows_ReportsThemByLineAndImportsTheRest() throws IOException {
+		// Arrange
+		File issues = file("issues.txt", "id,name,description,priority,projectId", "1,Name,Description,Low,99",
+				"XYZ,Name,Description,Low,99");
+		mongoOptions.createProjectRepository(mongoClient).save(new Project("99", "Name", "Description"));
+
+		// Act
+		int exitCode = execute("--issues", issues.getPath(), "--format", "CSV", "--batch-size", "1", "--threads",
+				"2");
+
+		// Assert
+		assertThat(exitCode).isEqualTo(ImportCommand.ROWS_REJECTED);
+		assertThat(mongoOptions.createIssueRepository(mongoClient).findAll())
+				.containsExactly(new Issue("1", "Name", "Description", "Low", "99"));
+		assertThat(err.toString()).contains("issues.txt, line 3: " + ErrorMessages.NON_NUMERICAL_ID);
+	}
+
+	@Test
+	public void testImport_NoInputFile_IsRejected() {
+		// Act
+		int exitCode = execute();
+
+		// Assert
+		assertThat(exitCode).isNotZero();
+		assertThat(err.toString()).contains(ImportCommand.NO_INPUT);
+	}
+
+	@Test
+	public void testImport_NonPositiveThreadsBatchSizeOrMaxInFlight_IsRejected() throws IOException {
+		// Arrange
+		File projects = file("projects.csv", "id,name,description", "1,Name,Description");
+
+		// Act & Assert
+		assertThat(execute("--projects", projects.getPath(), "--threads", "0")).isEqualTo(CommandLine.ExitCode.USAGE);
+		assertThat(execute("--projects", projects.getPath(), "--batch-size", "0"))
+				.isEqualTo(CommandLine.ExitCode.USAGE);
+		assertThat(execute("--projects", projects.getPath(), "--max-in-flight", "-1"))
+				.isEqualTo(CommandLine.ExitCode.USAGE);
+		assertThat(err.toString()).contains(String.format(ImportCommand.NON_POSITIVE_OPTION, "--threads", 0))
+				.contains(String.format(ImportCommand.NON_POSITIVE_OPTION, "--batch-size", 0))
+				.contains(String.format(ImportCommand.NON_POSITIVE_OPTION, "--max-in-flight", -1))
+				.doesNotContain("IllegalArgumentException");
+		assertThat(mongoOptions.createProjectRepository(mongoClient).findAll()).isEmpty();
+	}
+
+	private int execute(String... args) {
+		String[] mongoArgs = { "--mongo-host", inetSocketAddress.getHostString(), "--mongo-port",
+				String.valueOf(inetSocketAddress.getPort()) };
+
+		String[] allArgs = Arrays.copyOf(mongoArgs, mongoArgs.length + args.length);
+		System.arraycopy(args, 0, allArgs, mongoArgs.length, args.length);
+
+		return commandLine.execute(allArgs);
+	}
+
+	private File file(String name, String... lines) throws IOException {
+		File file = temporaryFolder.newFile(name);
+		Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+
+		return file;
+	}
+}
@@ -0,0 +1,31 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ImportErrorTest {
+
+	@Test
+	public void testEqualsAndHashCode_ComparesLineAndMessage() {
+		// Arrange
+		ImportError error = new ImportError(3, "Message");
+
+		// Act & Assert
+		assertThat(error.equals(error)).isTrue();
+		assertThat(error).isEqualTo(new ImportError(3, "Message"));
+		assertThat(error).hasSameHashCodeAs(new ImportError(3, "Message"));
+		assertThat(error).isNotEqualTo(new ImportError(4, "Message"));
+		assertThat(error).isNotEqualTo(new ImportError(3, "Other"));
+		assertThat(error.equals(null)).isFalse();
+		assertThat(error).isNotEqualTo("line 3: Message");
+	}
+
+	@Test
+	public void testToString_NamesTheLine() {
+		// Act & Assert
+		assertThat(new ImportError(3, "Message")).hasToString("line 3: Message");
+		assertThat(new ImportError(3, "Message").getLineNumber()).isEqualTo(3);
+		assertThat(new ImportError(3, "Message").getMessage()).isEqualTo("Message");
+	}
+}
@@ -0,0 +1,34 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ImportReportTest {
+
+	@Test
+	public void testGetRowsPerSecond_DividesRowsByElapsedTime() {
+		// Arrange
+		ImportReport report = new ImportReport(50000, 49999, Arrays.asList(new ImportError(7, "Message")),
+				TimeUnit.MILLISECONDS.toNanos(500));
+
+		// Act & Assert
+		assertThat(report.getRowsPerSecond()).isEqualTo(100000);
+		assertThat(report.getRowsRead()).isEqualTo(50000);
+		assertThat(report.getInserted()).isEqualTo(49999);
+		assertThat(report.getErrors()).containsExactly(new ImportError(7, "Message"));
+		assertThat(report.getElapsedNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+		assertThat(report).hasToString(
+				"ImportReport [rowsRead=50000, inserted=49999, rejected=1, elapsedMillis=500, rowsPerSecond=100000]");
+	}
+
+	@Test
+	public void testGetRowsPerSecond_NoElapsedTime_ReturnsZero() {
+		// Act & Assert
+		assertThat(new ImportReport(0, 0, Collections.emptyList(), 0).getRowsPerSecond()).isZero();
+	}
+}
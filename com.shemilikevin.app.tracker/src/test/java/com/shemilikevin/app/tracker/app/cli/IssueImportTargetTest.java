@@ -0,0 +1,98 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class IssueImportTargetTest {
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@Mock
+	private IssueRepository issueRepository;
+
+	private IssueImportTarget issueImportTarget;
+	private AutoCloseable autoCloseable;
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+		issueImportTarget = new IssueImportTarget(projectRepository, issueRepository);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testValidate_AppliesFieldRulesAndChecksProjectsInOneQuery() {
+		// Arrange
+		ImportRow validRow = row(1, "1", "Low", "10");
+		ImportRow missingProjectRow = row(2, "2", "Low", "20");
+		ImportRow invalidPriorityRow = row(3, "3", "Urgent", "30");
+		when(projectRepository.findExistingIds(new HashSet<>(Arrays.asList("10", "20"))))
+				.thenReturn(Collections.singleton("10"));
+
+		// Act
+		List<String> errors = issueImportTarget
+				.validate(Arrays.asList(validRow, missingProjectRow, invalidPriorityRow));
+
+		// Assert
+		assertThat(errors).containsExactly(null, ErrorMessages.PROJECT_DOESNT_EXIST,
+				ErrorMessages.NOT_ALLOWED_PRIORITY);
+		verify(projectRepository).findExistingIds(new HashSet<>(Arrays.asList("10", "20")));
+	}
+
+	@Test
+	public void testToEntityAndSaveAll_WriteTheIssuesOfTheRows() {
+		// Arrange
+		Issue issue = new Issue("1", "Name", "Description", "Low", "10");
+		when(issueRepository.saveAll(Arrays.asList(issue))).thenReturn(Arrays.asList(SaveResult.INSERTED));
+
+		// Act
+		List<SaveResult> results = issueImportTarget
+				.saveAll(Arrays.asList(issueImportTarget.toEntity(row(1, "1", "Low", "10"))));
+
+		// Assert
+		assertThat(results).containsExactly(SaveResult.INSERTED);
+	}
+
+	@Test
+	public void testDuplicateError_NamesTheIssueId() {
+		// Act & Assert
+		assertThat(issueImportTarget.duplicateError(row(1, "1", "Low", "10")))
+				.isEqualTo(String.format(ErrorMessages.DUPLICATE_ISSUE, "1"));
+	}
+
+	private ImportRow row(long lineNumber, String id, String priority, String projectId) {
+		Map<String, String> fields = new HashMap<>();
+		fields.put(IssueImportTarget.ID, id);
+		fields.put(IssueImportTarget.NAME, "Name");
+		fields.put(IssueImportTarget.DESCRIPTION, "Description");
+		fields.put(IssueImportTarget.PRIORITY, priority);
+		fields.put(IssueImportTarget.PROJECT_ID, projectId);
+
+		return ImportRow.parsed(lineNumber, fields);
+	}
+}
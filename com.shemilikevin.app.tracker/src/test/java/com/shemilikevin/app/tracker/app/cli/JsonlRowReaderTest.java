@@ -0,0 +1,77 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+public class JsonlRowReaderTest {
+
+	@Test
+	public void testNext_ReadsScalarsAsTextAndKeepsLineNumbers() throws IOException {
+		// Arrange
+		JsonlRowReader reader = reader("{\"id\": 1, \"name\": \"Name\", \"description\": null}\n\n{\"id\": \"2\"}\n");
+
+		// Act
+		ImportRow firstRow = reader.next();
+		ImportRow secondRow = reader.next();
+		ImportRow end = reader.next();
+
+		// Assert
+		assertThat(firstRow.getLineNumber()).isEqualTo(1);
+		assertThat(firstRow.get("id")).isEqualTo("1");
+		assertThat(firstRow.get("name")).isEqualTo("Name");
+		assertThat(firstRow.get("description")).isNull();
+		assertThat(secondRow.getLineNumber()).isEqualTo(3);
+		assertThat(secondRow.get("id")).isEqualTo("2");
+		assertThat(end).isNull();
+	}
+
+	@Test
+	public void testNext_InvalidJson_ReturnsUnparsableRow() throws IOException {
+		// Arrange
+		JsonlRowReader reader = reader("{\"id\": \n");
+
+		// Act
+		ImportRow row = reader.next();
+
+		// Assert
+		assertThat(row.isParsed()).isFalse();
+		assertThat(row.getLineNumber()).isEqualTo(1);
+		assertThat(row.getParseError()).startsWith("Line is not a JSON object: ");
+	}
+
+	@Test
+	public void testNext_JsonThatIsNotAnObject_ReturnsUnparsableRow() throws IOException {
+		// Arrange
+		JsonlRowReader reader = reader("[1, 2]\n");
+
+		// Act
+		ImportRow row = reader.next();
+
+		// Assert
+		assertThat(row.isParsed()).isFalse();
+		assertThat(row.getParseError()).startsWith("Line is not a JSON object: ");
+	}
+
+	@Test
+	public void testClose_ClosesTheUnderlyingReader() throws IOException {
+		// Arrange
+		BufferedReader input = new BufferedReader(new StringReader("{}\n"));
+		JsonlRowReader reader = new JsonlRowReader(input);
+
+		// Act
+		reader.close();
+
+		// Assert
+		assertThatThrownBy(input::ready).isInstanceOf(IOException.class);
+	}
+
+	private JsonlRowReader reader(String content) {
+		return new JsonlRowReader(new BufferedReader(new StringReader(content)));
+	}
+}
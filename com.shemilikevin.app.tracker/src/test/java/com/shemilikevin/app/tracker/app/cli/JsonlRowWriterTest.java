@@ -0,0 +1,36 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class JsonlRowWriterTest {
+
+	@Test
+	public void testWrite_WritesOneObjectPerLineThatTheReaderReadsBack() throws IOException {
+		// Arrange
+		StringWriter output = new StringWriter();
+		JsonlRowWriter writer = new JsonlRowWriter(new BufferedWriter(output), Arrays.asList("id", "name"));
+
+		// Act
+		writer.write(Arrays.asList("1", "Name \"quoted\"\nover lines"));
+		writer.write(Arrays.asList("2", "Other"));
+		writer.close();
+
+		// Assert
+		JsonlRowReader reader = new JsonlRowReader(new BufferedReader(new StringReader(output.toString())));
+		ImportRow firstRow = reader.next();
+		ImportRow secondRow = reader.next();
+
+		assertThat(output.toString().split("\\R")).hasSize(2);
+		assertThat(firstRow.get("name")).isEqualTo("Name \"quoted\"\nover lines");
+		assertThat(secondRow.get("id")).isEqualTo("2");
+	}
+}
@@ -0,0 +1,71 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.metrics.InstrumentedIssueRepository;
+import com.shemilikevin.app.tracker.repository.metrics.InstrumentedProjectRepository;
+import com.shemilikevin.app.tracker.repository.metrics.RepositoryMetrics;
+
+import picocli.CommandLine;
+
+public class MetricsOptionsTest {
+
+	private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+	private final IssueRepository issueRepository = mock(IssueRepository.class);
+
+	@Test
+	public void testStart_Disabled_LeavesRepositoriesUntouched() throws Exception {
+		// Arrange
+		MetricsOptions metricsOptions = CommandLine.populateCommand(new MetricsOptions());
+
+		// Act
+		metricsOptions.start();
+		metricsOptions.stop();
+
+		// Assert
+		assertThat(metricsOptions.getMetrics()).isNull();
+		assertThat(metricsOptions.instrument(projectRepository)).isSameAs(projectRepository);
+		assertThat(metricsOptions.instrument(issueRepository)).isSameAs(issueRepository);
+	}
+
+	@Test
+	public void testStart_Enabled_RegistersTheMBeanAndInstrumentsRepositories() throws Exception {
+		// Arrange
+		MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+		MetricsOptions metricsOptions = CommandLine.populateCommand(new MetricsOptions(), "--repository-metrics");
+
+		// Act
+		metricsOptions.start(mBeanServer);
+		metricsOptions.stop();
+
+		// Assert
+		assertThat(metricsOptions.getMetrics()).isNotNull();
+		assertThat(mBeanServer.isRegistered(new ObjectName(RepositoryMetrics.OBJECT_NAME))).isTrue();
+		assertThat(metricsOptions.instrument(projectRepository)).isInstanceOf(InstrumentedProjectRepository.class);
+		assertThat(metricsOptions.instrument(issueRepository)).isInstanceOf(InstrumentedIssueRepository.class);
+	}
+
+	@Test
+	public void testStart_WithLogPeriod_StartsAndStopsTheReporter() throws Exception {
+		// Arrange
+		MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+		MetricsOptions metricsOptions = CommandLine.populateCommand(new MetricsOptions(), "--repository-metrics",
+				"--metrics-log-seconds", "60");
+
+		// Act
+		metricsOptions.start(mBeanServer);
+		metricsOptions.stop();
+
+		// Assert
+		assertThat(metricsOptions.getMetrics()).isNotNull();
+	}
+}
@@ -0,0 +1,83 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class ProjectImportTargetTest {
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	private ProjectImportTarget projectImportTarget;
+	private AutoCloseable autoCloseable;
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+		projectImportTarget = new ProjectImportTarget(projectRepository);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testValidate_AppliesTheProjectFieldRules() {
+		// Arrange
+		ImportRow validRow = row(1, "1", "Name", "Description");
+		ImportRow invalidRow = row(2, "XYZ", "Name", "Description");
+
+		// Act
+		List<String> errors = projectImportTarget.validate(Arrays.asList(validRow, invalidRow));
+
+		// Assert
+		assertThat(errors).containsExactly(null, ErrorMessages.NON_NUMERICAL_ID);
+	}
+
+	@Test
+	public void testToEntityAndSaveAll_WriteTheProjectsOfTheRows() {
+		// Arrange
+		Project project = new Project("1", "Name", "Description");
+		when(projectRepository.saveAll(Arrays.asList(project))).thenReturn(Arrays.asList(SaveResult.INSERTED));
+
+		// Act
+		List<SaveResult> results = projectImportTarget
+				.saveAll(Arrays.asList(projectImportTarget.toEntity(row(1, "1", "Name", "Description"))));
+
+		// Assert
+		assertThat(results).containsExactly(SaveResult.INSERTED);
+	}
+
+	@Test
+	public void testDuplicateError_NamesTheProjectId() {
+		// Act & Assert
+		assertThat(projectImportTarget.duplicateError(row(1, "1", "Name", "Description")))
+				.isEqualTo(String.format(ErrorMessages.DUPLICATE_PROJECT, "1"));
+	}
+
+	private ImportRow row(long lineNumber, String id, String name, String description) {
+		Map<String, String> fields = new HashMap<>();
+		fields.put(ProjectImportTarget.ID, id);
+		fields.put(ProjectImportTarget.NAME, name);
+		fields.put(ProjectImportTarget.DESCRIPTION, description);
+
+		return ImportRow.parsed(lineNumber, fields);
+	}
+}
@@ -0,0 +1,172 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.shemilikevin.app.tracker.repository.metrics.RepositoryMetrics;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import picocli.CommandLine;
+
+public class ServeCommandTest {
+
+	private static MongoServer mongoServer;
+	private static InetSocketAddress inetSocketAddress;
+
+	private ExecutorService commandThread;
+
+	@BeforeClass
+	public static void setUpInMemoryServer() {
+		mongoServer = new MongoServer(new MemoryBackend());
+		inetSocketAddress = mongoServer.bind();
+	}
+
+	@AfterClass
+	public static void shutDownInMemoryServer() {
+		mongoServer.shutdown();
+	}
+
+	@Before
+	public void setUp() {
+		commandThread = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		commandThread.shutdownNow();
+	}
+
+	@Test
+	public void testServe_ListensUntilStopped() throws Exception {
+		// Arrange
+		ServeCommand serveCommand = new ServeCommand();
+		StringWriter out = new StringWriter();
+		CommandLine commandLine = new CommandLine(serveCommand);
+		commandLine.setOut(new PrintWriter(out));
+
+		Future<Integer> exitCode = commandThread.submit(() -> commandLine.execute("--mongo-host",
+				inetSocketAddress.getHostString(), "--mongo-port", String.valueOf(inetSocketAddress.getPort()),
+				"--port", "0", "--executor-threads", "2"));
+		InetSocketAddress address = awaitAddress(serveCommand);
+
+		// Act
+		HttpURLConnection connection = (HttpURLConnection) new URL("http", "localhost", address.getPort(),
+				"/projects").openConnection();
+		int status = connection.getResponseCode();
+		serveCommand.stop();
+
+		// Assert
+		assertThat(status).isEqualTo(200);
+		assertThat(exitCode.get(5, TimeUnit.SECONDS)).isZero();
+		assertThat(out.toString()).startsWith("Listening on http://");
+	}
+
+	@Test
+	public void testServe_WithRepositoryMetrics_CountsRepositoryCallsOverJmx() throws Exception {
+		// Arrange
+		ServeCommand serveCommand = new ServeCommand();
+		CommandLine commandLine = new CommandLine(serveCommand);
+		commandLine.setOut(new PrintWriter(new StringWriter()));
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName objectName = new ObjectName(RepositoryMetrics.OBJECT_NAME);
+
+		Future<Integer> exitCode = commandThread.submit(() -> commandLine.execute("--mongo-host",
+				inetSocketAddress.getHostString(), "--mongo-port", String.valueOf(inetSocketAddress.getPort()),
+				"--port", "0", "--executor-threads", "2", "--repository-metrics"));
+		InetSocketAddress address = awaitAddress(serveCommand);
+
+		try {
+			// Act
+			HttpURLConnection connection = (HttpURLConnection) new URL("http", "localhost", address.getPort(),
+					"/projects").openConnection();
+			connection.getResponseCode();
+			serveCommand.stop();
+
+			// Assert
+			assertThat(exitCode.get(5, TimeUnit.SECONDS)).isZero();
+			assertThat((Long) mBeanServer.getAttribute(objectName, "TotalCalls")).isPositive();
+		} finally {
+			mBeanServer.unregisterMBean(objectName);
+		}
+	}
+
+	@Test
+	public void testServe_AfterStopping_RemovesItsShutdownHook() throws Exception {
+		// Arrange
+		ServeCommand serveCommand = new ServeCommand();
+		CommandLine commandLine = new CommandLine(serveCommand);
+		commandLine.setOut(new PrintWriter(new StringWriter()));
+
+		Future<Integer> exitCode = commandThread.submit(() -> commandLine.execute("--mongo-host",
+				inetSocketAddress.getHostString(), "--mongo-port", String.valueOf(inetSocketAddress.getPort()),
+				"--port", "0", "--executor-threads", "2"));
+		awaitAddress(serveCommand);
+
+		// Act
+		serveCommand.stop();
+
+		// Assert
+		assertThat(exitCode.get(5, TimeUnit.SECONDS)).isZero();
+		assertThat(Runtime.getRuntime().removeShutdownHook(serveCommand.getShutdownHook())).isFalse();
+	}
+
+	@Test
+	public void testServe_NonPositiveExecutorThreads_IsRejected() {
+		// Arrange
+		StringWriter err = new StringWriter();
+		CommandLine commandLine = new CommandLine(new ServeCommand());
+		commandLine.setErr(new PrintWriter(err));
+
+		// Act
+		int exitCode = commandLine.execute("--mongo-host", inetSocketAddress.getHostString(), "--mongo-port",
+				String.valueOf(inetSocketAddress.getPort()), "--port", "0", "--executor-threads", "0");
+
+		// Assert
+		assertThat(exitCode).isEqualTo(CommandLine.ExitCode.USAGE);
+		assertThat(err.toString()).contains(String.format(ServeCommand.INVALID_EXECUTOR_THREADS, 0))
+				.doesNotContain("IllegalArgumentException");
+	}
+
+	@Test
+	public void testStop_WhenInterrupted_KeepsTheInterrupt() {
+		// Arrange
+		ServeCommand serveCommand = new ServeCommand();
+		Thread.currentThread().interrupt();
+
+		// Act
+		serveCommand.stop();
+
+		// Assert
+		assertThat(Thread.interrupted()).isTrue();
+	}
+
+	private InetSocketAddress awaitAddress(ServeCommand serveCommand) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+
+		while (serveCommand.getAddress() == null && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+
+		return serveCommand.getAddress();
+	}
+}
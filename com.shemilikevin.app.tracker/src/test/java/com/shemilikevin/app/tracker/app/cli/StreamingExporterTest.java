@@ -0,0 +1,67 @@
+package com.shemilikevin.app.tracker.app.cli;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StreamingExporterTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void testExport_WritesEveryRowAndClosesTheStream() throws IOException {
+		// Arrange
+		StreamingExporter exporter = new StreamingExporter(FileFormat.CSV, false);
+		Path file = temporaryFolder.getRoot().toPath().resolve(exporter.fileName("values"));
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<String> values = Stream.of("a", "b").onClose(() -> closed.set(true));
+
+		// Act
+		long rows = exporter.export(values, Arrays.asList("value"), Collections::singletonList, file);
+
+		// Assert
+		assertThat(rows).isEqualTo(2);
+		assertThat(closed).isTrue();
+		assertThat(file.getFileName().toString()).isEqualTo("values.csv");
+		assertThat(Files.readAllLines(file, StandardCharsets.UTF_8)).containsExactly("value", "a", "b");
+	}
+
+	@Test
+	public void testExport_WithGzip_WritesACompressedFile() throws IOException {
+		// Arrange
+		StreamingExporter exporter = new StreamingExporter(FileFormat.JSONL, true);
+		Path file = temporaryFolder.getRoot().toPath().resolve(exporter.fileName("values"));
+
+		// Act
+		long rows = exporter.export(Stream.of("a"), Arrays.asList("value"), Collections::singletonList, file);
+
+		// Assert
+		assertThat(rows).isEqualTo(1);
+		assertThat(file.getFileName().toString()).isEqualTo("values.jsonl.gz");
+		assertThat(readGzip(file)).containsExactly("{\"value\": \"a\"}");
+	}
+
+	private List<String> readGzip(Path file) throws IOException {
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+			return reader.lines().collect(Collectors.toList());
+		}
+	}
+}
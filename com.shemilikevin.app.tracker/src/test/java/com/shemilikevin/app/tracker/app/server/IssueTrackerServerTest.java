@@ -0,0 +1,303 @@
+package com.shemilikevin.app.tracker.app.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.mongodb.MongoClient;
+import com.mongodb.ServerAddress;
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.mongo.IssueMongoRepository;
+import com.shemilikevin.app.tracker.repository.mongo.ProjectMongoRepository;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+public class IssueTrackerServerTest {
+
+	private static final String DATABASE_NAME = "db";
+
+	private static MongoServer mongoServer;
+	private static InetSocketAddress inetSocketAddress;
+
+	private MongoClient mongoClient;
+	private ProjectRepository projectRepository;
+	private IssueRepository issueRepository;
+	private ExecutorService executor;
+	private IssueTrackerServer server;
+
+	@BeforeClass
+	public static void setUpInMemoryServer() {
+		mongoServer = new MongoServer(new MemoryBackend());
+		inetSocketAddress = mongoServer.bind();
+	}
+
+	@AfterClass
+	public static void shutDownInMemoryServer() {
+		mongoServer.shutdown();
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		mongoClient = new MongoClient(new ServerAddress(inetSocketAddress));
+		mongoClient.getDatabase(DATABASE_NAME).drop();
+
+		projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, "project");
+		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, "issue");
+
+		executor = Executors.newFixedThreadPool(2);
+		server = new IssueTrackerServer(projectRepository, issueRepository, new InetSocketAddress("localhost", 0),
+				executor);
+		server.start();
+	}
+
+	@After
+	public void tearDown() {
+		server.stop(0);
+		executor.shutdownNow();
+		mongoClient.close();
+	}
+
+	@Test
+	public void testGetProjects_ReturnsAllProjects() throws IOException {
+		// Arrange
+		projectRepository.save(new Project("1", "Name", "Description"));
+
+		// Act
+		Response response = request("GET", "/projects", null);
+
+		// Assert
+		assertThat(response.status).isEqualTo(200);
+		assertThat(response.body)
+				.isEqualTo("{\"projects\": [{\"id\": \"1\", \"name\": \"Name\", \"description\": \"Description\"}]}");
+	}
+
+	@Test
+	public void testPostProject_AddsTheProject() throws IOException {
+		// Act
+		Response response = request("POST", "/projects", "{\"id\": 1, \"name\": \"Name\", \"description\": \"Text\"}");
+
+		// Assert
+		assertThat(response.status).isEqualTo(200);
+		assertThat(response.body).contains("\"project\": {\"id\": \"1\"");
+		assertThat(projectRepository.findAll()).containsExactly(new Project("1", "Name", "Text"));
+	}
+
+	@Test
+	public void testPostProject_InvalidFields_ReturnsTheControllerError() throws IOException {
+		// Act
+		Response response = request("POST", "/projects", "{\"id\": \"XYZ\", \"name\": \"Name\"}");
+
+		// Assert
+		assertThat(response.status).isEqualTo(400);
+		assertThat(response.body).isEqualTo("{\"error\": \"" + ErrorMessages.NON_NUMERICAL_ID + "\"}");
+	}
+
+	@Test
+	public void testDeleteProject_RemovesTheProject() throws IOException {
+		// Arrange
+		projectRepository.save(new Project("1", "Name", "Description"));
+
+		// Act
+		Response response = request("DELETE", "/projects/1", null);
+
+		// Assert
+		assertThat(response.status).isEqualTo(200);
+		assertThat(response.body).isEqualTo("{\"removed\": [\"1\"]}");
+		assertThat(projectRepository.findAll()).isEmpty();
+	}
+
+	@Test
+	public void testIssueRoutes_AddListPageAndDeleteIssues() throws IOException {
+		// Arrange
+		projectRepository.save(new Project("10", "Name", "Description"));
+		for (int i = 1; i <= 51; i++) {
+			issueRepository.save(new Issue(String.format("%03d", i), "Name", "Description", "Low", "10"));
+		}
+
+		// Act
+		Response added = request("POST", "/projects/10/issues",
+				"{\"id\": 999, \"name\": \"Name\", \"description\": \"Text\", \"priority\": \"High\"}");
+		Response firstPage = request("GET", "/projects/10/issues", null);
+		String token = firstPage.body.replaceAll(".*\"nextPageToken\": \"([^\"]+)\".*", "$1");
+		Response nextPage = request("GET", "/projects/10/issues?pageToken=" + token, null);
+		Response deletedOne = request("DELETE", "/projects/10/issues/999", null);
+		Response deletedMany = request("DELETE", "/projects/10/issues?ids=001,002", null);
+
+		// Assert
+		assertThat(added.status).isEqualTo(200);
+		assertThat(added.body).contains("\"issue\": {\"id\": \"999\"");
+		assertThat(firstPage.body).contains("\"nextPageToken\"");
+		assertThat(nextPage.status).isEqualTo(200);
+		assertThat(nextPage.body).contains("\"id\": \"051\"").contains("\"id\": \"999\"");
+		assertThat(deletedOne.body).isEqualTo("{\"removed\": [\"999\"]}");
+		assertThat(deletedMany.body).isEqualTo("{\"removed\": [\"001\", \"002\"]}");
+		assertThat(issueRepository.countByProjectId("10")).isEqualTo(49);
+	}
+
+	@Test
+	public void testDeleteIssueRoutes_IssuesOfAnotherProject_AreNotDeleted() throws IOException {
+		// Arrange
+		projectRepository.saveAll(Arrays.asList(new Project("10", "Name", "Description"),
+				new Project("20", "Name", "Description")));
+		issueRepository.save(new Issue("1", "Name", "Description", "Low", "20"));
+		issueRepository.save(new Issue("2", "Name", "Description", "Low", "20"));
+
+		// Act
+		Response deletedOne = request("DELETE", "/projects/10/issues/1", null);
+		Response deletedMany = request("DELETE", "/projects/10/issues?ids=2", null);
+
+		// Assert
+		assertThat(deletedOne.status).isEqualTo(ApiHandler.NOT_FOUND);
+		assertThat(deletedOne.body).contains(ErrorMessages.ISSUE_DOESNT_EXIST);
+		assertThat(deletedMany.status).isEqualTo(ApiHandler.NOT_FOUND);
+		assertThat(deletedMany.body).contains(String.format(ErrorMessages.ISSUES_DONT_EXIST, "2"));
+		assertThat(issueRepository.countByProjectId("20")).isEqualTo(2);
+	}
+
+	@Test
+	public void testDeleteIssues_WithoutIds_ReturnsTheControllerError() throws IOException {
+		// Act
+		Response response = request("DELETE", "/projects/10/issues", null);
+
+		// Assert
+		assertThat(response.status).isEqualTo(400);
+		assertThat(response.body).contains(ErrorMessages.NO_ISSUES_SELECTED);
+	}
+
+	@Test
+	public void testMoveIssues_ReassignsTheIssues() throws IOException {
+		// Arrange
+		projectRepository.saveAll(Arrays.asList(new Project("10", "Name", "Description"),
+				new Project("20", "Name", "Description")));
+		issueRepository.save(new Issue("1", "Name", "Description", "Low", "10"));
+
+		// Act
+		Response response = request("POST", "/projects/10/move-issues", "{\"toProjectId\": \"20\"}");
+
+		// Assert
+		assertThat(response.status).isEqualTo(200);
+		assertThat(response.body).isEqualTo("{\"issues\": []}");
+		assertThat(issueRepository.findByProjectId("20")).hasSize(1);
+	}
+
+	@Test
+	public void testUnknownRoutes_ReturnNotFound() throws IOException {
+		// Act & Assert
+		for (String path : Arrays.asList("/", "/issues", "/projects/10/unknown", "/projects/10/issues/1/x")) {
+			Response response = request("GET", path, null);
+
+			assertThat(response.status).isEqualTo(ApiHandler.NOT_FOUND);
+			assertThat(response.body).contains(String.format(ApiHandler.NO_ROUTE, "GET", path));
+		}
+
+		assertThat(request("PUT", "/projects", "{}").status).isEqualTo(ApiHandler.NOT_FOUND);
+		assertThat(request("PUT", "/projects/10/issues", "{}").status).isEqualTo(ApiHandler.NOT_FOUND);
+		assertThat(request("GET", "/projects/10/move-issues", null).status).isEqualTo(ApiHandler.NOT_FOUND);
+	}
+
+	@Test
+	public void testMalformedBody_ReturnsBadRequest() throws IOException {
+		// Act
+		Response response = request("POST", "/projects", "[1, 2]");
+
+		// Assert
+		assertThat(response.status).isEqualTo(400);
+		assertThat(response.body).contains(ApiHandler.INVALID_JSON);
+	}
+
+	@Test
+	public void testOversizedBody_IsRejected() throws IOException {
+		// Arrange
+		char[] padding = new char[ApiHandler.MAX_BODY_BYTES + 1];
+		Arrays.fill(padding, ' ');
+
+		// Act
+		Response response = request("POST", "/projects", "{}" + new String(padding));
+
+		// Assert
+		assertThat(response.status).isEqualTo(ApiHandler.PAYLOAD_TOO_LARGE);
+	}
+
+	@Test
+	public void testQueryParametersWithoutValues_AreIgnored() throws IOException {
+		// Act
+		Response response = request("GET", "/projects/10/issues?pageToken&x=%20", null);
+
+		// Assert
+		assertThat(response.status).isEqualTo(ApiHandler.NOT_FOUND);
+		assertThat(response.body).contains(ErrorMessages.PROJECT_DOESNT_EXIST);
+	}
+
+	@Test
+	public void testRepositoryFailure_ReturnsInternalServerError() throws IOException {
+		// Arrange
+		mongoClient.close();
+
+		// Act
+		Response response = request("GET", "/projects", null);
+
+		// Assert
+		assertThat(response.status).isEqualTo(ApiHandler.INTERNAL_SERVER_ERROR);
+		assertThat(response.body).contains(ApiHandler.INTERNAL_ERROR);
+	}
+
+	private Response request(String method, String path, String body) throws IOException {
+		URL url = new URL("http", "localhost", server.getAddress().getPort(), path);
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		connection.setRequestMethod(method);
+
+		if (body != null) {
+			connection.setDoOutput(true);
+
+			try (OutputStream out = connection.getOutputStream()) {
+				out.write(body.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		int status = connection.getResponseCode();
+		InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+
+		ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+
+		while ((read = in.read(buffer)) != -1) {
+			responseBody.write(buffer, 0, read);
+		}
+
+		in.close();
+		return new Response(status, new String(responseBody.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	private static class Response {
+
+		private final int status;
+		private final String body;
+
+		Response(int status, String body) {
+			this.status = status;
+			this.body = body;
+		}
+	}
+}
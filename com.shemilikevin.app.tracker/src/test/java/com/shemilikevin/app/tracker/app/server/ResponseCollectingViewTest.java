@@ -0,0 +1,185 @@
+package com.shemilikevin.app.tracker.app.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.view.PageSource;
+
+public class ResponseCollectingViewTest {
+
+	private ResponseCollectingView view;
+
+	@Before
+	public void setUp() {
+		view = new ResponseCollectingView();
+	}
+
+	@Test
+	public void testToJson_NothingShown_IsAnEmptyObject() {
+		// Act & Assert
+		assertThat(view.toJson()).isEqualTo("{}");
+		assertThat(view.getStatus()).isEqualTo(ResponseCollectingView.OK);
+	}
+
+	@Test
+	public void testShowProjectsAndAddedProject_AreCollected() {
+		// Act
+		view.showProjects(Arrays.asList(new Project("1", "Name", "Description")));
+		view.projectAdded(new Project("2", "Other", "Text"));
+		view.clearProjectFields();
+		view.clearProjectSelection();
+
+		// Assert
+		assertThat(view.toJson()).isEqualTo("{\"projects\": [{\"id\": \"1\", \"name\": \"Name\", "
+				+ "\"description\": \"Description\"}], \"project\": {\"id\": \"2\", \"name\": \"Other\", "
+				+ "\"description\": \"Text\"}}");
+	}
+
+	@Test
+	public void testShowIssues_CollectsIssuesAndTheNextPageToken() {
+		// Arrange
+		Issue issue = new Issue("1", "Name", "Description", "Low", "10");
+
+		// Act
+		view.showIssues(Arrays.asList(issue));
+		view.showMoreIssuesAvailable("token");
+		view.clearIssueFields();
+		view.clearIssueSelection();
+
+		// Assert
+		assertThat(view.toJson()).isEqualTo("{\"issues\": [{\"id\": \"1\", \"name\": \"Name\", "
+				+ "\"description\": \"Description\", \"priority\": \"Low\", \"projectId\": \"10\"}], "
+				+ "\"nextPageToken\": \"token\"}");
+	}
+
+	@Test
+	public void testAppendIssuesAndIssueAdded_AreCollected() {
+		// Arrange
+		Issue issue = new Issue("1", "Name", "Description", "Low", "10");
+
+		// Act
+		view.appendIssues(Arrays.asList(issue));
+		view.issueAdded(issue);
+
+		// Assert
+		assertThat(view.toJson()).startsWith("{\"issues\": [{\"id\": \"1\"").contains("\"issue\": {\"id\": \"1\"");
+	}
+
+	@Test
+	public void testRemovedIds_AreCollectedInOneList() {
+		// Act
+		view.issueRemoved("1");
+		view.issueRemoved("2");
+		view.projectRemoved("10");
+
+		// Assert
+		assertThat(view.toJson()).isEqualTo("{\"removed\": [\"1\", \"2\", \"10\"]}");
+	}
+
+	@Test
+	public void testErrors_MakeTheResponseABadRequest() {
+		// Act
+		view.showProjectError("Project error");
+
+		// Assert
+		assertThat(view.getStatus()).isEqualTo(ResponseCollectingView.BAD_REQUEST);
+		assertThat(view.toJson()).isEqualTo("{\"error\": \"Project error\"}");
+
+		// Act
+		view.showIssueError("Issue error");
+
+		// Assert
+		assertThat(view.toJson()).isEqualTo("{\"error\": \"Issue error\"}");
+	}
+
+	@Test
+	public void testErrors_AboutMissingProjectsOrIssues_MakeTheResponseNotFound() {
+		// Act & Assert
+		view.showProjectError(ErrorMessages.PROJECT_DOESNT_EXIST);
+		assertThat(view.getStatus()).isEqualTo(ResponseCollectingView.NOT_FOUND);
+
+		view.showIssueError(ErrorMessages.ISSUE_DOESNT_EXIST);
+		assertThat(view.getStatus()).isEqualTo(ResponseCollectingView.NOT_FOUND);
+
+		view.showIssueError(String.format(ErrorMessages.ISSUES_DONT_EXIST, "1, 2"));
+		assertThat(view.getStatus()).isEqualTo(ResponseCollectingView.NOT_FOUND);
+	}
+
+	@Test
+	public void testErrors_NotFoundFollowedByAnotherError_MakeTheResponseABadRequest() {
+		// Arrange
+		view.showIssueError(ErrorMessages.ISSUE_DOESNT_EXIST);
+
+		// Act
+		view.showIssueError("Issue error");
+
+		// Assert
+		assertThat(view.getStatus()).isEqualTo(ResponseCollectingView.BAD_REQUEST);
+	}
+
+	@Test
+	public void testShowIssuePages_CollectsTheFirstPageAndTheTotal() {
+		// Arrange
+		Issue issue = new Issue("1", "Name", "Description", "Low", "10");
+		@SuppressWarnings("unchecked")
+		PageSource<Issue> issuePages = mock(PageSource.class);
+		when(issuePages.load(0, ResponseCollectingView.FIRST_PAGE_SIZE)).thenReturn(Arrays.asList(issue));
+		when(issuePages.count()).thenReturn(120L);
+
+		// Act
+		view.showIssuePages(issuePages);
+
+		// Assert
+		assertThat(view.toJson()).isEqualTo("{\"issues\": [{\"id\": \"1\", \"name\": \"Name\", "
+				+ "\"description\": \"Description\", \"priority\": \"Low\", \"projectId\": \"10\"}], "
+				+ "\"total\": 120}");
+	}
+
+	@Test
+	public void testShowIssueStream_CollectsTheFirstPageAndClosesTheStream() {
+		// Arrange
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<Issue> issues = IntStream.range(0, ResponseCollectingView.FIRST_PAGE_SIZE + 1)
+				.mapToObj(i -> new Issue(String.valueOf(i), "Name", "Description", "Low", "10"))
+				.onClose(() -> closed.set(true));
+
+		// Act
+		view.showIssueStream(() -> issues);
+
+		// Assert
+		Document response = Document.parse(view.toJson());
+		assertThat(response.getList(ResponseCollectingView.ISSUES, Document.class))
+				.hasSize(ResponseCollectingView.FIRST_PAGE_SIZE);
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	public void testShowProjectPages_CollectsTheFirstPageAndTheTotal() {
+		// Arrange
+		@SuppressWarnings("unchecked")
+		PageSource<Project> projectPages = mock(PageSource.class);
+		when(projectPages.load(0, ResponseCollectingView.FIRST_PAGE_SIZE))
+				.thenReturn(Arrays.asList(new Project("1", "Name", "Description")));
+		when(projectPages.count()).thenReturn(1L);
+
+		// Act
+		view.showProjectPages(projectPages);
+
+		// Assert
+		assertThat(view.toJson()).isEqualTo("{\"projects\": [{\"id\": \"1\", \"name\": \"Name\", "
+				+ "\"description\": \"Description\"}], \"total\": 1}");
+	}
+}
@@ -0,0 +1,74 @@
+package com.shemilikevin.app.tracker.app.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import picocli.CommandLine;
+
+public class IssueTrackerSwingAppTest {
+
+	private StringWriter errors;
+	private CommandLine commandLine;
+
+	@Before
+	public void setUp() {
+		errors = new StringWriter();
+		commandLine = new CommandLine(new IssueTrackerSwingApp());
+		commandLine.setErr(new PrintWriter(errors));
+	}
+
+	@Test
+	public void testCall_NonPositiveCacheTimeToLive_FailsBeforeOpeningTheWindow() {
+		// Act
+		int exitCode = commandLine.execute("--cache-ttl-seconds", "0");
+
+		// Assert
+		assertThat(exitCode).isEqualTo(CommandLine.ExitCode.USAGE);
+		assertThat(errors.toString()).contains(String.format(IssueTrackerSwingApp.INVALID_CACHE_TTL, 0));
+	}
+
+	@Test
+	public void testCall_NegativePrefetchThreads_FailsBeforeOpeningTheWindow() {
+		// Act
+		int exitCode = commandLine.execute("--prefetch-threads", "-1");
+
+		// Assert
+		assertThat(exitCode).isEqualTo(CommandLine.ExitCode.USAGE);
+		assertThat(errors.toString()).contains(String.format(IssueTrackerSwingApp.INVALID_PREFETCH_THREADS, -1));
+	}
+
+	@Test
+	public void testCall_NonPositivePrefetchTimeToLive_FailsBeforeOpeningTheWindow() {
+		// Act
+		int exitCode = commandLine.execute("--prefetch-ttl-seconds", "0");
+
+		// Assert
+		assertThat(exitCode).isEqualTo(CommandLine.ExitCode.USAGE);
+		assertThat(errors.toString()).contains(String.format(IssueTrackerSwingApp.INVALID_PREFETCH_TTL, 0));
+	}
+
+	@Test
+	public void testCall_NonPositiveExecutorThreads_FailsBeforeOpeningTheWindow() {
+		// Act
+		int exitCode = commandLine.execute("--executor-threads", "0");
+
+		// Assert
+		assertThat(exitCode).isEqualTo(CommandLine.ExitCode.USAGE);
+		assertThat(errors.toString()).contains(String.format(IssueTrackerSwingApp.INVALID_EXECUTOR_THREADS, 0));
+	}
+
+	@Test
+	public void testCall_NegativeRefreshDebounce_FailsBeforeOpeningTheWindow() {
+		// Act
+		int exitCode = commandLine.execute("--refresh-debounce-ms", "-1");
+
+		// Assert
+		assertThat(exitCode).isEqualTo(CommandLine.ExitCode.USAGE);
+		assertThat(errors.toString()).contains(String.format(IssueTrackerSwingApp.INVALID_REFRESH_DEBOUNCE, -1));
+	}
+}
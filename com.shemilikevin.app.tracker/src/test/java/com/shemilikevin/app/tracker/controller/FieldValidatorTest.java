@@ -0,0 +1,47 @@
+package com.shemilikevin.app.tracker.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+
+public class FieldValidatorTest {
+
+	@Test
+	public void testValidateId_ReportsTheFirstBrokenRule() {
+		// Act & Assert
+		assertThat(FieldValidator.validateId(null)).isEqualTo(ErrorMessages.NULL_EMPTY_ID);
+		assertThat(FieldValidator.validateId(" ")).isEqualTo(ErrorMessages.NULL_EMPTY_ID);
+		assertThat(FieldValidator.validateId("XYZ")).isEqualTo(ErrorMessages.NON_NUMERICAL_ID);
+		assertThat(FieldValidator.validateId("1")).isNull();
+	}
+
+	@Test
+	public void testValidateProject_ReportsTheFirstBrokenRule() {
+		// Act & Assert
+		assertThat(FieldValidator.validateProject("XYZ", "", "")).isEqualTo(ErrorMessages.NON_NUMERICAL_ID);
+		assertThat(FieldValidator.validateProject("1", "", "")).isEqualTo(ErrorMessages.NULL_EMPTY_NAME);
+		assertThat(FieldValidator.validateProject("1", "Name", null))
+				.isEqualTo(ErrorMessages.NULL_EMPTY_DESCRIPTION);
+		assertThat(FieldValidator.validateProject("1", "Name", "Description")).isNull();
+	}
+
+	@Test
+	public void testValidateIssue_ReportsTheFirstBrokenRule() {
+		// Act & Assert
+		assertThat(FieldValidator.validateIssue("XYZ", "Name", "Description", "Low", "10"))
+				.isEqualTo(ErrorMessages.NON_NUMERICAL_ID);
+		assertThat(FieldValidator.validateIssue("1", "Name", "Description", "Low", null))
+				.isEqualTo(ErrorMessages.NULL_EMPTY_ID);
+		assertThat(FieldValidator.validateIssue("1", "", "Description", "Low", "10"))
+				.isEqualTo(ErrorMessages.NULL_EMPTY_NAME);
+		assertThat(FieldValidator.validateIssue("1", "Name", "", "Low", "10"))
+				.isEqualTo(ErrorMessages.NULL_EMPTY_DESCRIPTION);
+		assertThat(FieldValidator.validateIssue("1", "Name", "Description", "", "10"))
+				.isEqualTo(ErrorMessages.NULL_EMPTY_PRIORITY);
+		assertThat(FieldValidator.validateIssue("1", "Name", "Description", "Urgent", "10"))
+				.isEqualTo(ErrorMessages.NOT_ALLOWED_PRIORITY);
+		assertThat(FieldValidator.validateIssue("1", "Name", "Description", "High", "10")).isNull();
+	}
+}
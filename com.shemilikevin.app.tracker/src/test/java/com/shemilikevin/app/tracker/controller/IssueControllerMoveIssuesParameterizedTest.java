@@ -0,0 +1,88 @@
+package com.shemilikevin.app.tracker.controller;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.shemilikevin.app.tracker.helpers.ErrorMessages;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.view.IssueTrackerView;
+
+@RunWith(Parameterized.class)
+public class IssueControllerMoveIssuesParameterizedTest {
+
+	@Parameters(name = "{index}: moveIssues(fromProjectId={0}, toProjectId={1}) ---> {2}")
+	public static Collection<Object[]> data() {
+		return Arrays.asList(
+				new Object[][] {
+						// Null | Empty Source Project ID
+						{ null, "20", ErrorMessages.NULL_EMPTY_ID },
+						{ " ", "20", ErrorMessages.NULL_EMPTY_ID },
+
+						// Null | Empty Target Project ID
+						{ "10", null, ErrorMessages.NULL_EMPTY_ID },
+						{ "10", " ", ErrorMessages.NULL_EMPTY_ID },
+
+						// Non numerical Project IDs
+						{ "XYZ", "20", ErrorMessages.NON_NUMERICAL_ID },
+						{ "10", "XYZ", ErrorMessages.NON_NUMERICAL_ID },
+				});
+	}
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@Mock
+	private IssueRepository issueRepository;
+
+	@Mock
+	private IssueTrackerView issueTrackerView;
+
+	@InjectMocks
+	private IssueController issueController;
+
+	private AutoCloseable autoCloseable;
+
+	private String fromProjectId;
+	private String toProjectId;
+	private String errorMessage;
+
+	public IssueControllerMoveIssuesParameterizedTest(String fromProjectId, String toProjectId, String errorMessage) {
+		this.fromProjectId = fromProjectId;
+		this.toProjectId = toProjectId;
+		this.errorMessage = errorMessage;
+	}
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testMoveIssues_WhenProvidedWithInvalidProjectIds_ShowsCorrespondingErrorMessage() {
+		// Act
+		issueController.moveIssues(fromProjectId, toProjectId);
+
+		// Assert
+		verify(issueTrackerView).showIssueError(errorMessage);
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+}
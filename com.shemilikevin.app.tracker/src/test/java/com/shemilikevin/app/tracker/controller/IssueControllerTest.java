@@ -1,14 +1,25 @@
 package com.shemilikevin.app.tracker.controller;
 
+import static com.shemilikevin.app.tracker.controller.IssueController.ISSUE_PAGE_SIZE;
+import static com.shemilikevin.app.tracker.controller.IssueController.ISSUE_STREAM_BATCH_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -18,8 +29,12 @@ import org.mockito.MockitoAnnotations;
 import com.shemilikevin.app.tracker.helpers.ErrorMessages;
 import com.shemilikevin.app.tracker.model.Issue;
 import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.Page;
 import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+import com.shemilikevin.app.tracker.repository.cache.CachingIssueRepository;
 import com.shemilikevin.app.tracker.view.IssueTrackerView;
+import com.shemilikevin.app.tracker.view.PageSource;
 
 public class IssueControllerTest {
 
@@ -47,6 +62,28 @@ public class IssueControllerTest {
 		autoCloseable.close();
 	}
 
+	@Test
+	public void testListIssues_CalledTwiceThroughTheIssueCache_ReadsTheFirstPageOnce() {
+		// Arrange
+		String projectId = "10";
+		Issue issue = new Issue("1", "Name", "Description", "Priority", projectId);
+		IssueController cachedIssueController = new IssueController(projectRepository,
+				new CachingIssueRepository(issueRepository, 10, Duration.ofMinutes(1)), issueTrackerView);
+
+		when(projectRepository.exists(projectId)).thenReturn(true);
+		when(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, null))
+				.thenReturn(new Page<>(Arrays.asList(issue), null));
+
+		// Act
+		cachedIssueController.listIssues(projectId);
+		cachedIssueController.listIssues(projectId);
+
+		// Assert
+		verify(issueRepository).findByProjectId(projectId, ISSUE_PAGE_SIZE, null);
+		verify(issueTrackerView, times(2)).showIssues(Arrays.asList(issue));
+		verifyNoMoreInteractions(issueRepository);
+	}
+
 	@Test
 	public void testListIssues_WhenProjectHasIssues_ShowsAllIssues() {
 		// Arrange
@@ -54,7 +91,8 @@ public class IssueControllerTest {
 		Issue issue = new Issue("1", "Name", "Description", "Priority", projectId);
 
 		when(projectRepository.exists(projectId)).thenReturn(true);
-		when(issueRepository.findByProjectId(projectId)).thenReturn(Arrays.asList(issue));
+		when(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, null))
+				.thenReturn(new Page<>(Arrays.asList(issue), null));
 
 		// Act
 		issueController.listIssues(projectId);
@@ -62,7 +100,7 @@ public class IssueControllerTest {
 		// Assert
 		InOrder inOrder = Mockito.inOrder(projectRepository, issueRepository, issueTrackerView);
 		inOrder.verify(projectRepository).exists(projectId);
-		inOrder.verify(issueRepository).findByProjectId(projectId);
+		inOrder.verify(issueRepository).findByProjectId(projectId, ISSUE_PAGE_SIZE, null);
 		inOrder.verify(issueTrackerView).showIssues(Arrays.asList(issue));
 		inOrder.verify(issueTrackerView).clearIssueFields();
 		inOrder.verify(issueTrackerView).clearIssueSelection();
@@ -75,7 +113,8 @@ public class IssueControllerTest {
 		String projectId = "10";
 
 		when(projectRepository.exists(projectId)).thenReturn(true);
-		when(issueRepository.findByProjectId(projectId)).thenReturn(Collections.emptyList());
+		when(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, null))
+				.thenReturn(new Page<>(Collections.emptyList(), null));
 
 		// Act
 		issueController.listIssues(projectId);
@@ -83,13 +122,38 @@ public class IssueControllerTest {
 		// Assert
 		InOrder inOrder = Mockito.inOrder(projectRepository, issueRepository, issueTrackerView);
 		inOrder.verify(projectRepository).exists(projectId);
-		inOrder.verify(issueRepository).findByProjectId(projectId);
+		inOrder.verify(issueRepository).findByProjectId(projectId, ISSUE_PAGE_SIZE, null);
 		inOrder.verify(issueTrackerView).showIssues(Collections.emptyList());
 		inOrder.verify(issueTrackerView).clearIssueFields();
 		inOrder.verify(issueTrackerView).clearIssueSelection();
 		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
 	}
 
+	@Test
+	public void testListIssues_WhenProjectHasMoreIssuesThanOnePage_ShowsFirstPageAndMoreIssuesAvailable() {
+		// Arrange
+		String projectId = "10";
+		String pageToken = "token";
+		Issue issue = new Issue("1", "Name", "Description", "Priority", projectId);
+
+		when(projectRepository.exists(projectId)).thenReturn(true);
+		when(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, null))
+				.thenReturn(new Page<>(Arrays.asList(issue), pageToken));
+
+		// Act
+		issueController.listIssues(projectId);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(projectRepository, issueRepository, issueTrackerView);
+		inOrder.verify(projectRepository).exists(projectId);
+		inOrder.verify(issueRepository).findByProjectId(projectId, ISSUE_PAGE_SIZE, null);
+		inOrder.verify(issueTrackerView).showIssues(Arrays.asList(issue));
+		inOrder.verify(issueTrackerView).showMoreIssuesAvailable(pageToken);
+		inOrder.verify(issueTrackerView).clearIssueFields();
+		inOrder.verify(issueTrackerView).clearIssueSelection();
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
 	@Test
 	public void testListIssues_WhenProvidedProjectIdDoesNotExistInDatabase_ShowsErrorMessage() {
 		// Arrange
@@ -108,6 +172,177 @@ public class IssueControllerTest {
 		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
 	}
 
+	@Test
+	public void testListIssuePages_WhenProjectExists_ShowsPagesBackedByTheRepository() {
+		// Arrange
+		String projectId = "10";
+		Issue issue = new Issue("1", "Name", "Description", "Priority", projectId);
+
+		when(projectRepository.exists(projectId)).thenReturn(true);
+		when(issueRepository.countByProjectId(projectId)).thenReturn(1L);
+		when(issueRepository.findRangeByProjectId(projectId, 0, 100)).thenReturn(Arrays.asList(issue));
+
+		// Act
+		issueController.listIssuePages(projectId);
+
+		// Assert
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<PageSource<Issue>> issuePages = ArgumentCaptor.forClass(PageSource.class);
+		InOrder inOrder = Mockito.inOrder(projectRepository, issueTrackerView);
+		inOrder.verify(projectRepository).exists(projectId);
+		inOrder.verify(issueTrackerView).showIssuePages(issuePages.capture());
+		inOrder.verify(issueTrackerView).clearIssueFields();
+		inOrder.verify(issueTrackerView).clearIssueSelection();
+		verifyNoMoreInteractions(issueRepository);
+
+		assertThat(issuePages.getValue().count()).isEqualTo(1);
+		assertThat(issuePages.getValue().load(0, 100)).containsExactly(issue);
+	}
+
+	@Test
+	public void testListIssuePages_WhenProvidedProjectIdDoesNotExistInDatabase_ShowsErrorMessage() {
+		// Arrange
+		String projectId = "10";
+
+		when(projectRepository.exists(projectId)).thenReturn(false);
+
+		// Act
+		issueController.listIssuePages(projectId);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(projectRepository, issueTrackerView);
+		inOrder.verify(projectRepository).exists(projectId);
+		inOrder.verify(issueTrackerView).showIssueError(ErrorMessages.PROJECT_DOESNT_EXIST);
+		inOrder.verify(issueTrackerView).showIssues(Collections.emptyList());
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testListIssuePages_WhenProvidedNonNumericProjectId_ShowsErrorMessage() {
+		// Act
+		issueController.listIssuePages("XYZ");
+
+		// Assert
+		verify(issueTrackerView).showIssueError(ErrorMessages.NON_NUMERICAL_ID);
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testStreamIssues_WhenProjectExists_ShowsStreamOfTheRepository() {
+		// Arrange
+		String projectId = "10";
+		Issue issue = new Issue("1", "Name", "Description", "Priority", projectId);
+
+		when(projectRepository.exists(projectId)).thenReturn(true);
+		when(issueRepository.streamByProjectId(projectId, ISSUE_STREAM_BATCH_SIZE))
+				.thenReturn(Arrays.asList(issue).stream());
+
+		// Act
+		issueController.streamIssues(projectId);
+
+		// Assert
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Supplier<Stream<Issue>>> issueStream = ArgumentCaptor.forClass(Supplier.class);
+		InOrder inOrder = Mockito.inOrder(projectRepository, issueTrackerView);
+		inOrder.verify(projectRepository).exists(projectId);
+		inOrder.verify(issueTrackerView).showIssueStream(issueStream.capture());
+		inOrder.verify(issueTrackerView).clearIssueFields();
+		inOrder.verify(issueTrackerView).clearIssueSelection();
+
+		// The stream is only opened once the view reads it
+		verifyNoMoreInteractions(issueRepository);
+		assertThat(issueStream.getValue().get()).containsExactly(issue);
+	}
+
+	@Test
+	public void testStreamIssues_WhenProvidedProjectIdDoesNotExistInDatabase_ShowsErrorMessage() {
+		// Arrange
+		String projectId = "10";
+
+		when(projectRepository.exists(projectId)).thenReturn(false);
+
+		// Act
+		issueController.streamIssues(projectId);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(projectRepository, issueTrackerView);
+		inOrder.verify(projectRepository).exists(projectId);
+		inOrder.verify(issueTrackerView).showIssueError(ErrorMessages.PROJECT_DOESNT_EXIST);
+		inOrder.verify(issueTrackerView).showIssues(Collections.emptyList());
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testStreamIssues_WhenProvidedNonNumericProjectId_ShowsErrorMessage() {
+		// Act
+		issueController.streamIssues("XYZ");
+
+		// Assert
+		verify(issueTrackerView).showIssueError(ErrorMessages.NON_NUMERICAL_ID);
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testListMoreIssues_WhenAnotherPageFollows_AppendsIssuesAndShowsMoreIssuesAvailable() {
+		// Arrange
+		String projectId = "10";
+		String pageToken = "token";
+		String nextPageToken = "next";
+		Issue issue = new Issue("2", "Name", "Description", "Priority", projectId);
+
+		when(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, pageToken))
+				.thenReturn(new Page<>(Arrays.asList(issue), nextPageToken));
+
+		// Act
+		issueController.listMoreIssues(projectId, pageToken);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issueRepository, issueTrackerView);
+		inOrder.verify(issueRepository).findByProjectId(projectId, ISSUE_PAGE_SIZE, pageToken);
+		inOrder.verify(issueTrackerView).appendIssues(Arrays.asList(issue));
+		inOrder.verify(issueTrackerView).showMoreIssuesAvailable(nextPageToken);
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testListMoreIssues_WhenLastPage_OnlyAppendsIssues() {
+		// Arrange
+		String projectId = "10";
+		String pageToken = "token";
+		Issue issue = new Issue("2", "Name", "Description", "Priority", projectId);
+
+		when(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, pageToken))
+				.thenReturn(new Page<>(Arrays.asList(issue), null));
+
+		// Act
+		issueController.listMoreIssues(projectId, pageToken);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issueRepository, issueTrackerView);
+		inOrder.verify(issueRepository).findByProjectId(projectId, ISSUE_PAGE_SIZE, pageToken);
+		inOrder.verify(issueTrackerView).appendIssues(Arrays.asList(issue));
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testListMoreIssues_WhenRepositoryRejectsThePageToken_ShowsErrorMessage() {
+		// Arrange
+		String projectId = "10";
+		String pageToken = "token";
+
+		when(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, pageToken))
+				.thenThrow(new IllegalArgumentException());
+
+		// Act
+		issueController.listMoreIssues(projectId, pageToken);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issueRepository, issueTrackerView);
+		inOrder.verify(issueRepository).findByProjectId(projectId, ISSUE_PAGE_SIZE, pageToken);
+		inOrder.verify(issueTrackerView).showIssueError(ErrorMessages.INVALID_PAGE_TOKEN);
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
 	@Test
 	public void testAddIssue_WhenProvidedFieldsAreValid_CreatesNewIssue() {
 		// Arrange
@@ -120,8 +355,7 @@ public class IssueControllerTest {
 		Issue issue = new Issue(issueId, name, description, priority, projectId);
 
 		when(projectRepository.exists(projectId)).thenReturn(true);
-		when(issueRepository.exists(issueId)).thenReturn(false);
-		when(issueRepository.findByProjectId(projectId)).thenReturn(Arrays.asList(issue));
+		when(issueRepository.save(issue)).thenReturn(SaveResult.INSERTED);
 
 		// Act
 		issueController.addIssue(issueId, name, description, priority, projectId);
@@ -129,10 +363,8 @@ public class IssueControllerTest {
 		// Assert
 		InOrder inOrder = Mockito.inOrder(projectRepository, issueRepository, issueTrackerView);
 		inOrder.verify(projectRepository).exists(projectId);
-		inOrder.verify(issueRepository).exists(issueId);
 		inOrder.verify(issueRepository).save(issue);
-		inOrder.verify(issueRepository).findByProjectId(projectId);
-		inOrder.verify(issueTrackerView).showIssues(Arrays.asList(issue));
+		inOrder.verify(issueTrackerView).issueAdded(issue);
 		inOrder.verify(issueTrackerView).clearIssueFields();
 		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
 	}
@@ -160,8 +392,10 @@ public class IssueControllerTest {
 		String projectId = "10";
 		String issueId = "1";
 
+		Issue issue = new Issue(issueId, "Name", "Description", "Low", projectId);
+
 		when(projectRepository.exists(projectId)).thenReturn(true);
-		when(issueRepository.exists(issueId)).thenReturn(true);
+		when(issueRepository.save(issue)).thenReturn(SaveResult.DUPLICATE);
 
 		// Act
 		issueController.addIssue(issueId, "Name", "Description", "Low", projectId);
@@ -169,7 +403,7 @@ public class IssueControllerTest {
 		// Assert
 		InOrder inOrder = Mockito.inOrder(projectRepository, issueRepository, issueTrackerView);
 		inOrder.verify(projectRepository).exists(projectId);
-		inOrder.verify(issueRepository).exists(issueId);
+		inOrder.verify(issueRepository).save(issue);
 		inOrder.verify(issueTrackerView).showIssueError(String.format(ErrorMessages.DUPLICATE_ISSUE, issueId));
 		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
 	}
@@ -181,20 +415,15 @@ public class IssueControllerTest {
 		String issueId = "1";
 		Issue issue = new Issue(issueId, "Name", "Description", "Low", projectId);
 
-		when(issueRepository.exists(issueId)).thenReturn(true);
-		when(issueRepository.findById(issueId)).thenReturn(issue);
-		when(issueRepository.findByProjectId(projectId)).thenReturn(Collections.emptyList());
+		when(issueRepository.findAndDelete(issueId, projectId)).thenReturn(issue);
 
 		// Act
 		issueController.deleteIssue(issueId, projectId);
 
 		// Assert
 		InOrder inOrder = Mockito.inOrder(issueRepository, issueTrackerView);
-		inOrder.verify(issueRepository).exists(issueId);
-		inOrder.verify(issueRepository).findById(issueId);
-		inOrder.verify(issueRepository).delete(issueId);
-		inOrder.verify(issueRepository).findByProjectId(projectId);
-		inOrder.verify(issueTrackerView).showIssues(Collections.emptyList());
+		inOrder.verify(issueRepository).findAndDelete(issueId, projectId);
+		inOrder.verify(issueTrackerView).issueRemoved(issueId);
 		inOrder.verify(issueTrackerView).clearIssueSelection();
 		verifyNoMoreInteractions(issueRepository, issueTrackerView);
 	}
@@ -204,17 +433,301 @@ public class IssueControllerTest {
 		// Arrange
 		String issueId = "1";
 		String projectId = "10";
-		when(issueRepository.exists(issueId)).thenReturn(false);
+		when(issueRepository.findAndDelete(issueId, projectId)).thenReturn(null);
+		when(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, null))
+				.thenReturn(new Page<>(Collections.emptyList(), null));
 
 		// Act
 		issueController.deleteIssue(issueId, projectId);
 
 		// Assert
 		InOrder inOrder = Mockito.inOrder(issueRepository, issueTrackerView);
-		inOrder.verify(issueRepository).exists(issueId);
+		inOrder.verify(issueRepository).findAndDelete(issueId, projectId);
 		inOrder.verify(issueTrackerView).showIssueError(ErrorMessages.ISSUE_DOESNT_EXIST);
-		inOrder.verify(issueRepository).findByProjectId(projectId);
+		inOrder.verify(issueRepository).findByProjectId(projectId, ISSUE_PAGE_SIZE, null);
 		inOrder.verify(issueTrackerView).showIssues(Collections.emptyList());
 		verifyNoMoreInteractions(issueRepository, issueTrackerView);
 	}
+
+	@Test
+	public void testDeleteIssues_WhenAllProvidedIssueIdsExist_DeletesIssuesInOneCall() {
+		// Arrange
+		String projectId = "10";
+		List<String> issueIds = Arrays.asList("1", "2");
+
+		when(issueRepository.findExistingIds(issueIds, projectId)).thenReturn(new HashSet<>(issueIds));
+
+		// Act
+		issueController.deleteIssues(issueIds, projectId);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issueRepository, issueTrackerView);
+		inOrder.verify(issueRepository).findExistingIds(issueIds, projectId);
+		inOrder.verify(issueRepository).deleteMany(new HashSet<>(issueIds), projectId);
+		inOrder.verify(issueTrackerView).issueRemoved("1");
+		inOrder.verify(issueTrackerView).issueRemoved("2");
+		inOrder.verify(issueTrackerView).clearIssueSelection();
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testDeleteIssues_WhenSomeProvidedIssueIdsDoNotExist_ShowsErrorMessageAndDeletesNothing() {
+		// Arrange
+		String projectId = "10";
+		List<String> issueIds = Arrays.asList("1", "2", "3");
+
+		when(issueRepository.findExistingIds(issueIds, projectId)).thenReturn(new HashSet<>(Arrays.asList("2")));
+		when(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, null))
+				.thenReturn(new Page<>(Collections.emptyList(), null));
+
+		// Act
+		issueController.deleteIssues(issueIds, projectId);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issueRepository, issueTrackerView);
+		inOrder.verify(issueRepository).findExistingIds(issueIds, projectId);
+		inOrder.verify(issueTrackerView).showIssueError(String.format(ErrorMessages.ISSUES_DONT_EXIST, "1, 3"));
+		inOrder.verify(issueRepository).findByProjectId(projectId, ISSUE_PAGE_SIZE, null);
+		inOrder.verify(issueTrackerView).showIssues(Collections.emptyList());
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testDeleteIssues_WhenNoIssueIdsAreProvided_ShowsErrorMessage() {
+		// Act
+		issueController.deleteIssues(Collections.emptyList(), "10");
+
+		// Assert
+		verify(issueTrackerView).showIssueError(ErrorMessages.NO_ISSUES_SELECTED);
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testDeleteIssues_WhenNullIssueIdsAreProvided_ShowsErrorMessage() {
+		// Act
+		issueController.deleteIssues(null, "10");
+
+		// Assert
+		verify(issueTrackerView).showIssueError(ErrorMessages.NO_ISSUES_SELECTED);
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testDeleteIssues_WhenAnyProvidedIssueIdIsInvalid_ShowsErrorMessageBeforeQuerying() {
+		// Act
+		issueController.deleteIssues(Arrays.asList("1", "XYZ"), "10");
+
+		// Assert
+		verify(issueTrackerView).showIssueError(ErrorMessages.NON_NUMERICAL_ID);
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testMoveIssues_WhenBothProjectsExist_ReassignsIssuesInOneCall() {
+		// Arrange
+		String fromProjectId = "10";
+		String toProjectId = "20";
+
+		when(projectRepository.findExistingIds(Arrays.asList(fromProjectId, toProjectId)))
+				.thenReturn(new HashSet<>(Arrays.asList(fromProjectId, toProjectId)));
+		when(issueRepository.findByProjectId(fromProjectId, ISSUE_PAGE_SIZE, null))
+				.thenReturn(new Page<>(Collections.emptyList(), null));
+
+		// Act
+		issueController.moveIssues(fromProjectId, toProjectId);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(projectRepository, issueRepository, issueTrackerView);
+		inOrder.verify(projectRepository).findExistingIds(Arrays.asList(fromProjectId, toProjectId));
+		inOrder.verify(issueRepository).reassign(fromProjectId, toProjectId);
+		inOrder.verify(issueRepository).findByProjectId(fromProjectId, ISSUE_PAGE_SIZE, null);
+		inOrder.verify(issueTrackerView).showIssues(Collections.emptyList());
+		inOrder.verify(issueTrackerView).clearIssueSelection();
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testMoveIssues_WhenTargetProjectDoesNotExist_ShowsErrorMessage() {
+		// Arrange
+		String fromProjectId = "10";
+		String toProjectId = "20";
+
+		when(projectRepository.findExistingIds(Arrays.asList(fromProjectId, toProjectId)))
+				.thenReturn(new HashSet<>(Arrays.asList(fromProjectId)));
+
+		// Act
+		issueController.moveIssues(fromProjectId, toProjectId);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(projectRepository, issueTrackerView);
+		inOrder.verify(projectRepository).findExistingIds(Arrays.asList(fromProjectId, toProjectId));
+		inOrder.verify(issueTrackerView).showIssueError(ErrorMessages.PROJECT_DOESNT_EXIST);
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testMoveIssues_WhenSourceAndTargetAreTheSameProject_ShowsErrorMessage() {
+		// Act
+		issueController.moveIssues("10", "10");
+
+		// Assert
+		verify(issueTrackerView).showIssueError(ErrorMessages.SAME_PROJECT);
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testListIssues_WhenIssuesWerePrefetched_ShowsPrefetchedPageWithoutQuerying() {
+		// Arrange
+		String projectId = "10";
+		Issue issue = new Issue("1", "Name", "Description", "Priority", projectId);
+		IssuePrefetcher issuePrefetcher = Mockito.mock(IssuePrefetcher.class);
+		issueController.setIssuePrefetcher(issuePrefetcher);
+
+		when(projectRepository.exists(projectId)).thenReturn(true);
+		when(issuePrefetcher.take(projectId)).thenReturn(new Page<>(Arrays.asList(issue), "token"));
+
+		// Act
+		issueController.listIssues(projectId);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issuePrefetcher, issueTrackerView);
+		inOrder.verify(issuePrefetcher).take(projectId);
+		inOrder.verify(issueTrackerView).showIssues(Arrays.asList(issue));
+		inOrder.verify(issueTrackerView).showMoreIssuesAvailable("token");
+		verifyNoMoreInteractions(issueRepository);
+	}
+
+	@Test
+	public void testListIssues_WhenNothingWasPrefetched_QueriesTheRepository() {
+		// Arrange
+		String projectId = "10";
+		IssuePrefetcher issuePrefetcher = Mockito.mock(IssuePrefetcher.class);
+		issueController.setIssuePrefetcher(issuePrefetcher);
+
+		when(projectRepository.exists(projectId)).thenReturn(true);
+		when(issueRepository.findByProjectId(projectId, ISSUE_PAGE_SIZE, null))
+				.thenReturn(new Page<>(Collections.emptyList(), null));
+
+		// Act
+		issueController.listIssues(projectId);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issuePrefetcher, issueRepository, issueTrackerView);
+		inOrder.verify(issuePrefetcher).take(projectId);
+		inOrder.verify(issueRepository).findByProjectId(projectId, ISSUE_PAGE_SIZE, null);
+		inOrder.verify(issueTrackerView).showIssues(Collections.emptyList());
+	}
+
+	@Test
+	public void testPrefetchIssues_WhenProjectIdIsValid_StartsPrefetch() {
+		// Arrange
+		IssuePrefetcher issuePrefetcher = Mockito.mock(IssuePrefetcher.class);
+		issueController.setIssuePrefetcher(issuePrefetcher);
+
+		// Act
+		issueController.prefetchIssues("10");
+
+		// Assert
+		verify(issuePrefetcher).prefetch("10");
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testPrefetchIssues_WhenProjectIdIsInvalid_IgnoresItSilently() {
+		// Arrange
+		IssuePrefetcher issuePrefetcher = Mockito.mock(IssuePrefetcher.class);
+		issueController.setIssuePrefetcher(issuePrefetcher);
+
+		// Act
+		issueController.prefetchIssues(null);
+		issueController.prefetchIssues("XYZ");
+
+		// Assert
+		verifyNoMoreInteractions(issuePrefetcher, projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testPrefetchIssues_WhenNoPrefetcherIsSet_DoesNothing() {
+		// Act
+		issueController.prefetchIssues("10");
+
+		// Assert
+		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
+	}
+
+	@Test
+	public void testAddIssue_WhenIssuesWerePrefetched_DiscardsThem() {
+		// Arrange
+		Issue issue = new Issue("1", "Name", "Description", "Low", "10");
+		IssuePrefetcher issuePrefetcher = Mockito.mock(IssuePrefetcher.class);
+		issueController.setIssuePrefetcher(issuePrefetcher);
+
+		when(projectRepository.exists("10")).thenReturn(true);
+		when(issueRepository.save(issue)).thenReturn(SaveResult.INSERTED);
+
+		// Act
+		issueController.addIssue("1", "Name", "Description", "Low", "10");
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issueRepository, issuePrefetcher);
+		inOrder.verify(issueRepository).save(issue);
+		inOrder.verify(issuePrefetcher).discardAll();
+	}
+
+	@Test
+	public void testDeleteIssue_WhenIssuesWerePrefetched_DiscardsThem() {
+		// Arrange
+		IssuePrefetcher issuePrefetcher = Mockito.mock(IssuePrefetcher.class);
+		issueController.setIssuePrefetcher(issuePrefetcher);
+
+		when(issueRepository.findAndDelete("1", "10")).thenReturn(new Issue("1", "Name", "Description", "Low", "10"));
+
+		// Act
+		issueController.deleteIssue("1", "10");
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issueRepository, issuePrefetcher);
+		inOrder.verify(issueRepository).findAndDelete("1", "10");
+		inOrder.verify(issuePrefetcher).discardAll();
+	}
+
+	@Test
+	public void testDeleteIssues_WhenIssuesWerePrefetched_DiscardsThem() {
+		// Arrange
+		String projectId = "10";
+		List<String> issueIds = Arrays.asList("1", "2");
+		IssuePrefetcher issuePrefetcher = Mockito.mock(IssuePrefetcher.class);
+		issueController.setIssuePrefetcher(issuePrefetcher);
+
+		when(issueRepository.findExistingIds(issueIds, projectId)).thenReturn(new HashSet<>(issueIds));
+
+		// Act
+		issueController.deleteIssues(issueIds, projectId);
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issueRepository, issuePrefetcher);
+		inOrder.verify(issueRepository).deleteMany(new HashSet<>(issueIds), projectId);
+		inOrder.verify(issuePrefetcher).discardAll();
+	}
+
+	@Test
+	public void testMoveIssues_WhenIssuesWerePrefetched_DiscardsThemBeforeReloading() {
+		// Arrange
+		IssuePrefetcher issuePrefetcher = Mockito.mock(IssuePrefetcher.class);
+		issueController.setIssuePrefetcher(issuePrefetcher);
+
+		when(projectRepository.findExistingIds(Arrays.asList("10", "20")))
+				.thenReturn(new HashSet<>(Arrays.asList("10", "20")));
+		when(issueRepository.findByProjectId("10", ISSUE_PAGE_SIZE, null))
+				.thenReturn(new Page<>(Collections.emptyList(), null));
+
+		// Act
+		issueController.moveIssues("10", "20");
+
+		// Assert
+		InOrder inOrder = Mockito.inOrder(issueRepository, issuePrefetcher);
+		inOrder.verify(issueRepository).reassign("10", "20");
+		inOrder.verify(issuePrefetcher).discardAll();
+		inOrder.verify(issueRepository).findByProjectId("10", ISSUE_PAGE_SIZE, null);
+	}
 }
@@ -0,0 +1,268 @@
+package com.shemilikevin.app.tracker.controller;
+
+import static com.shemilikevin.app.tracker.controller.IssueController.ISSUE_PAGE_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.Page;
+
+public class IssuePrefetcherTest {
+
+	private static final Duration TTL = Duration.ofSeconds(10);
+
+	@Mock
+	private IssueRepository issueRepository;
+
+	private long now;
+	private ManualExecutor executor;
+	private IssuePrefetcher issuePrefetcher;
+	private AutoCloseable autoCloseable;
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+		now = 0;
+		executor = new ManualExecutor();
+		issuePrefetcher = new IssuePrefetcher(issueRepository, executor, TTL, () -> now);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testTake_AfterPrefetch_ReturnsThePrefetchedPageOnce() {
+		// Arrange
+		Page<Issue> page = new Page<>(Arrays.asList(new Issue("1", "Name", "Description", "Low", "10")), null);
+		when(issueRepository.findByProjectId("10", ISSUE_PAGE_SIZE, null)).thenReturn(page);
+		issuePrefetcher.prefetch("10");
+		executor.runAll();
+
+		// Act
+		Page<Issue> firstTake = issuePrefetcher.take("10");
+		Page<Issue> secondTake = issuePrefetcher.take("10");
+
+		// Assert
+		assertThat(firstTake).isEqualTo(page);
+		assertThat(secondTake).isNull();
+		assertThat(issuePrefetcher.statistics()).isEqualTo("Prefetches [started=1, used=1, skipped=0]");
+	}
+
+	@Test
+	public void testTake_WithoutPrefetch_ReturnsNull() {
+		// Act & Assert
+		assertThat(issuePrefetcher.take("10")).isNull();
+	}
+
+	@Test
+	public void testTake_AfterTimeToLive_ReturnsNull() {
+		// Arrange
+		issuePrefetcher.prefetch("10");
+		executor.runAll();
+		now = TTL.toNanos();
+
+		// Act & Assert
+		assertThat(issuePrefetcher.take("10")).isNull();
+	}
+
+	@Test
+	public void testPrefetch_SameProjectWhileFresh_QueriesOnce() {
+		// Act
+		issuePrefetcher.prefetch("10");
+		issuePrefetcher.prefetch("10");
+		executor.runAll();
+
+		// Assert
+		verify(issueRepository).findByProjectId("10", ISSUE_PAGE_SIZE, null);
+	}
+
+	@Test
+	public void testPrefetch_SameProjectAfterTimeToLive_QueriesAgain() {
+		// Arrange
+		issuePrefetcher.prefetch("10");
+		executor.runAll();
+		now = TTL.toNanos();
+
+		// Act
+		issuePrefetcher.prefetch("10");
+		executor.runAll();
+
+		// Assert
+		verify(issueRepository, times(2)).findByProjectId("10", ISSUE_PAGE_SIZE, null);
+		assertThat(issuePrefetcher.take("10")).isNull();
+	}
+
+	@Test
+	public void testPrefetch_AnotherProject_CancelsThePreviousPrefetch() {
+		// Arrange
+		issuePrefetcher.prefetch("10");
+
+		// Act
+		issuePrefetcher.prefetch("20");
+		executor.runAll();
+
+		// Assert
+		verify(issueRepository).findByProjectId("20", ISSUE_PAGE_SIZE, null);
+		verify(issueRepository, times(0)).findByProjectId("10", ISSUE_PAGE_SIZE, null);
+		assertThat(issuePrefetcher.take("10")).isNull();
+	}
+
+	@Test
+	public void testPrefetch_ExecutorRejectsIt_SkipsThePrefetch() {
+		// Arrange
+		executor.rejecting = true;
+
+		// Act
+		issuePrefetcher.prefetch("10");
+
+		// Assert
+		assertThat(issuePrefetcher.take("10")).isNull();
+		assertThat(issuePrefetcher.statistics()).isEqualTo("Prefetches [started=0, used=0, skipped=1]");
+		verifyNoInteractions(issueRepository);
+	}
+
+	@Test
+	public void testTake_PrefetchFailed_ReturnsNull() {
+		// Arrange
+		when(issueRepository.findByProjectId("10", ISSUE_PAGE_SIZE, null))
+				.thenThrow(new IllegalStateException("Connection lost"));
+		issuePrefetcher.prefetch("10");
+		executor.runAll();
+
+		// Act & Assert
+		assertThat(issuePrefetcher.take("10")).isNull();
+	}
+
+	@Test
+	public void testTake_WhenInterrupted_ReturnsNullAndKeepsTheInterrupt() {
+		// Arrange
+		issuePrefetcher.prefetch("10");
+		Thread.currentThread().interrupt();
+
+		// Act
+		Page<Issue> page = issuePrefetcher.take("10");
+
+		// Assert
+		assertThat(Thread.interrupted()).isTrue();
+		assertThat(page).isNull();
+	}
+
+	@Test
+	public void testDiscardAll_ForgetsEveryPrefetch() {
+		// Arrange
+		issuePrefetcher.prefetch("10");
+		executor.runAll();
+
+		// Act
+		issuePrefetcher.discardAll();
+
+		// Assert
+		assertThat(issuePrefetcher.take("10")).isNull();
+	}
+
+	@Test
+	public void testConstructor_NonPositiveTimeToLive_ThrowsException() {
+		// Act & Assert
+		assertThatThrownBy(() -> new IssuePrefetcher(issueRepository, executor, Duration.ZERO))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(IssuePrefetcher.INVALID_TTL, 0));
+		assertThatThrownBy(() -> new IssuePrefetcher(issueRepository, executor, Duration.ofSeconds(-1)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testTake_WhilePrefetchIsLoading_WaitsForIt() throws Exception {
+		// Arrange
+		ExecutorService threadPool = Executors.newSingleThreadExecutor();
+		CountDownLatch queryStarted = new CountDownLatch(1);
+		Page<Issue> page = new Page<>(new ArrayList<>(), null);
+		when(issueRepository.findByProjectId("10", ISSUE_PAGE_SIZE, null)).thenAnswer(invocation -> {
+			queryStarted.countDown();
+			Thread.sleep(50);
+			return page;
+		});
+		IssuePrefetcher prefetcher = new IssuePrefetcher(issueRepository, threadPool, TTL);
+
+		try {
+			prefetcher.prefetch("10");
+			queryStarted.await(5, TimeUnit.SECONDS);
+
+			// Act
+			Page<Issue> takenPage = prefetcher.take("10");
+
+			// Assert
+			assertThat(takenPage).isSameAs(page);
+		} finally {
+			threadPool.shutdownNow();
+		}
+	}
+
+	// Runs submitted work only when asked, so each test decides when a prefetch completes
+	private static class ManualExecutor extends AbstractExecutorService {
+
+		private final List<Runnable> tasks = new ArrayList<>();
+		private boolean rejecting;
+
+		void runAll() {
+			tasks.forEach(Runnable::run);
+			tasks.clear();
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			if (rejecting) {
+				throw new RejectedExecutionException();
+			}
+
+			tasks.add(command);
+		}
+
+		@Override
+		public void shutdown() {
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return new ArrayList<>();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return false;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return false;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) {
+			return true;
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.shemilikevin.app.tracker.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -9,6 +10,7 @@ import java.util.Collections;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -19,7 +21,9 @@ import com.shemilikevin.app.tracker.helpers.ErrorMessages;
 import com.shemilikevin.app.tracker.model.Project;
 import com.shemilikevin.app.tracker.repository.IssueRepository;
 import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
 import com.shemilikevin.app.tracker.view.IssueTrackerView;
+import com.shemilikevin.app.tracker.view.PageSource;
 
 public class ProjectControllerTest {
 
@@ -83,6 +87,30 @@ public class ProjectControllerTest {
 		verifyNoMoreInteractions(projectRepository, issueTrackerView);
 	}
 
+	@Test
+	public void testListProjectPages_ShowsPagesBackedByTheRepository() {
+		// Arrange
+		Project project = new Project("1", "Name", "Description");
+
+		when(projectRepository.count()).thenReturn(1L);
+		when(projectRepository.findRange(0, 100)).thenReturn(Arrays.asList(project));
+
+		// Act
+		projectController.listProjectPages();
+
+		// Assert
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<PageSource<Project>> projectPages = ArgumentCaptor.forClass(PageSource.class);
+		InOrder inOrder = Mockito.inOrder(issueTrackerView);
+		inOrder.verify(issueTrackerView).showProjectPages(projectPages.capture());
+		inOrder.verify(issueTrackerView).clearProjectFields();
+		inOrder.verify(issueTrackerView).clearProjectSelection();
+		verifyNoMoreInteractions(projectRepository);
+
+		assertThat(projectPages.getValue().count()).isEqualTo(1);
+		assertThat(projectPages.getValue().load(0, 100)).containsExactly(project);
+	}
+
 	@Test
 	public void testAddProject_WhenProvidedFieldsAreValid_CreatesNewProject() {
 		// Arrange
@@ -91,18 +119,15 @@ public class ProjectControllerTest {
 		String description = "Description";
 		Project project = new Project(id, name, description);
 
-		when(projectRepository.exists(id)).thenReturn(false);
-		when(projectRepository.findAll()).thenReturn(Arrays.asList(project));
+		when(projectRepository.save(project)).thenReturn(SaveResult.INSERTED);
 
 		// Act
 		projectController.addProject(id, name, description);
 
 		// Assert
 		InOrder inOrder = Mockito.inOrder(projectRepository, issueTrackerView);
-		inOrder.verify(projectRepository).exists(id);
 		inOrder.verify(projectRepository).save(project);
-		inOrder.verify(projectRepository).findAll();
-		inOrder.verify(issueTrackerView).showProjects(Arrays.asList(project));
+		inOrder.verify(issueTrackerView).projectAdded(project);
 		inOrder.verify(issueTrackerView).clearProjectFields();
 		verifyNoMoreInteractions(projectRepository, issueTrackerView);
 	}
@@ -111,14 +136,15 @@ public class ProjectControllerTest {
 	public void testAddProject_WhenProvidedProjectIdAlreadyExistsInDatabase_ShowsErrorMessage() {
 		// Arrange
 		String id = "1";
-		when(projectRepository.exists(id)).thenReturn(true);
+		Project project = new Project(id, "Name", "Description");
+		when(projectRepository.save(project)).thenReturn(SaveResult.DUPLICATE);
 
 		// Act
 		projectController.addProject(id, "Name", "Description");
 
 		// Assert
 		InOrder inOrder = Mockito.inOrder(projectRepository, issueTrackerView);
-		inOrder.verify(projectRepository).exists(id);
+		inOrder.verify(projectRepository).save(project);
 		inOrder.verify(issueTrackerView).showProjectError(String.format(ErrorMessages.DUPLICATE_PROJECT, id));
 		verifyNoMoreInteractions(projectRepository, issueTrackerView);
 	}
@@ -129,7 +155,6 @@ public class ProjectControllerTest {
 		String id = "1";
 		when(projectRepository.exists(id)).thenReturn(true);
 		when(issueRepository.hasAssociatedIssues(id)).thenReturn(false);
-		when(projectRepository.findAll()).thenReturn(Collections.emptyList());
 
 		// Act
 		projectController.deleteProject(id);
@@ -139,8 +164,7 @@ public class ProjectControllerTest {
 		inOrder.verify(projectRepository).exists(id);
 		inOrder.verify(issueRepository).hasAssociatedIssues(id);
 		inOrder.verify(projectRepository).delete(id);
-		inOrder.verify(projectRepository).findAll();
-		inOrder.verify(issueTrackerView).showProjects(Collections.emptyList());
+		inOrder.verify(issueTrackerView).projectRemoved(id);
 		inOrder.verify(issueTrackerView).clearProjectSelection();
 		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
 	}
@@ -178,8 +202,7 @@ public class ProjectControllerTest {
 		InOrder inOrder = Mockito.inOrder(projectRepository, issueTrackerView);
 		inOrder.verify(projectRepository).exists(id);
 		inOrder.verify(issueTrackerView).showProjectError(ErrorMessages.PROJECT_DOESNT_EXIST);
-		inOrder.verify(projectRepository).findAll();
-		inOrder.verify(issueTrackerView).showProjects(Collections.emptyList());
+		inOrder.verify(issueTrackerView).projectRemoved(id);
 		verifyNoMoreInteractions(projectRepository, issueRepository, issueTrackerView);
 	}
 }
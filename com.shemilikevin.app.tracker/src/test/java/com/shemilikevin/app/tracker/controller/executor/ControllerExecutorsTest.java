@@ -0,0 +1,135 @@
+package com.shemilikevin.app.tracker.controller.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ControllerExecutorsTest {
+
+	private ExecutorService executor;
+
+	@After
+	public void tearDown() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testFixedThreadPool_RunsOperationsOnNamedDaemonThreads() throws Exception {
+		// Arrange
+		executor = ControllerExecutors.fixedThreadPool(2);
+
+		// Act
+		Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+		// Assert
+		assertThat(thread.isDaemon()).isTrue();
+		assertThat(thread.getName()).isEqualTo("controller-1");
+		assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize()).isEqualTo(2);
+	}
+
+	@Test
+	public void testFixedThreadPool_NonPositiveThreadCount_ThrowsException() {
+		// Act & Assert
+		assertThatThrownBy(() -> ControllerExecutors.fixedThreadPool(0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(ControllerExecutors.INVALID_THREAD_COUNT, 0));
+	}
+
+	@Test
+	public void testBoundedThreadPool_AllThreadsBusy_RejectsOperation() throws Exception {
+		// Arrange
+		executor = ControllerExecutors.boundedThreadPool(1);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.submit(() -> {
+			release.await();
+			return null;
+		});
+
+		// Act & Assert
+		try {
+			assertThatThrownBy(() -> executor.submit(() -> "rejected"))
+					.isInstanceOf(RejectedExecutionException.class);
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void testBoundedThreadPool_NonPositiveThreadCount_ThrowsException() {
+		// Act & Assert
+		assertThatThrownBy(() -> ControllerExecutors.boundedThreadPool(0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(ControllerExecutors.INVALID_THREAD_COUNT, 0));
+	}
+
+	@Test
+	public void testCreate_FixedType_ReturnsFixedThreadPool() {
+		// Act
+		executor = ControllerExecutors.create(ExecutorType.FIXED, 3);
+
+		// Assert
+		assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize()).isEqualTo(3);
+	}
+
+	@Test
+	public void testCreate_VirtualType_MatchesVirtualThreadAvailability() throws Exception {
+		// Act
+		executor = ControllerExecutors.create(ExecutorType.VIRTUAL, 3);
+
+		// Assert
+		assertThat(executor instanceof ThreadPoolExecutor).isNotEqualTo(ControllerExecutors.isVirtualThreadAvailable());
+		assertThat(executor.submit(() -> "done").get(5, TimeUnit.SECONDS)).isEqualTo("done");
+	}
+
+	@Test
+	public void testVirtualThreadPerTask_FactoryFound_ReturnsItsExecutor() {
+		// Act
+		executor = ControllerExecutors.virtualThreadPerTask("java.util.concurrent.Executors", "newCachedThreadPool",
+				3);
+
+		// Assert
+		assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize()).isEqualTo(Integer.MAX_VALUE);
+	}
+
+	@Test
+	public void testVirtualThreadPerTask_FactoryMissing_FallsBackToFixedThreadPool() {
+		// Act
+		executor = ControllerExecutors.virtualThreadPerTask("java.util.concurrent.Executors", "missingFactory", 3);
+
+		// Assert
+		assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize()).isEqualTo(3);
+	}
+
+	@Test
+	public void testVirtualThreadPerTask_FactoryClassMissing_FallsBackToFixedThreadPool() {
+		// Act
+		executor = ControllerExecutors.virtualThreadPerTask("missing.Executors", "newVirtualThreadPerTaskExecutor", 3);
+
+		// Assert
+		assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize()).isEqualTo(3);
+	}
+
+	@Test
+	public void testVirtualThreadPerTask_FactoryThrows_FallsBackToFixedThreadPool() {
+		// Act
+		executor = ControllerExecutors.virtualThreadPerTask(ControllerExecutorsTest.class.getName(), "throwingFactory",
+				3);
+
+		// Assert
+		assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize()).isEqualTo(3);
+	}
+
+	public static ExecutorService throwingFactory() {
+		throw new UnsupportedOperationException("Preview feature");
+	}
+}
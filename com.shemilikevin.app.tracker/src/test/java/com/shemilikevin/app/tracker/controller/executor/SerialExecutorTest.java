@@ -0,0 +1,85 @@
+package com.shemilikevin.app.tracker.controller.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class SerialExecutorTest {
+
+	private List<Runnable> queuedOperations;
+	private SerialExecutor serialExecutor;
+
+	@Before
+	public void setUp() {
+		queuedOperations = new ArrayList<>();
+		serialExecutor = new SerialExecutor(queuedOperations::add);
+	}
+
+	@Test
+	public void testExecute_WhileAnOperationIsActive_QueuesTheNext() {
+		// Act
+		serialExecutor.execute(() -> {
+		});
+		serialExecutor.execute(() -> {
+		});
+
+		// Assert
+		assertThat(queuedOperations).hasSize(1);
+	}
+
+	@Test
+	public void testExecute_WhenActiveOperationFinishes_HandsOverTheNextInOrder() {
+		// Arrange
+		List<String> ranOperations = new ArrayList<>();
+		serialExecutor.execute(() -> ranOperations.add("first"));
+		serialExecutor.execute(() -> ranOperations.add("second"));
+
+		// Act
+		queuedOperations.get(0).run();
+		queuedOperations.get(1).run();
+
+		// Assert
+		assertThat(ranOperations).containsExactly("first", "second");
+		assertThat(queuedOperations).hasSize(2);
+	}
+
+	@Test
+	public void testExecute_WhenOperationThrows_StillHandsOverTheNext() {
+		// Arrange
+		List<String> ranOperations = new ArrayList<>();
+		serialExecutor.execute(() -> {
+			throw new IllegalStateException("Failure");
+		});
+		serialExecutor.execute(() -> ranOperations.add("second"));
+
+		// Act
+		try {
+			queuedOperations.get(0).run();
+		} catch (IllegalStateException e) {
+			// Expected, the executor does not swallow failures
+		}
+		queuedOperations.get(1).run();
+
+		// Assert
+		assertThat(ranOperations).containsExactly("second");
+	}
+
+	@Test
+	public void testExecute_AfterQueueDrains_RunsImmediately() {
+		// Arrange
+		serialExecutor.execute(() -> {
+		});
+		queuedOperations.get(0).run();
+
+		// Act
+		serialExecutor.execute(() -> {
+		});
+
+		// Assert
+		assertThat(queuedOperations).hasSize(2);
+	}
+}
@@ -0,0 +1,53 @@
+package com.shemilikevin.app.tracker.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class PageTest {
+
+	@Test
+	public void testHasNextPage_WithNextPageToken_ReturnsTrue() {
+		// Arrange
+		Page<String> page = new Page<>(Arrays.asList("1"), "token");
+
+		// Act & Assert
+		assertThat(page.hasNextPage()).isTrue();
+	}
+
+	@Test
+	public void testHasNextPage_WithoutNextPageToken_ReturnsFalse() {
+		// Arrange
+		Page<String> page = new Page<>(Arrays.asList("1"), null);
+
+		// Act & Assert
+		assertThat(page.hasNextPage()).isFalse();
+	}
+
+	@Test
+	public void testEquals_SameItemsAndToken_AreEqual() {
+		// Arrange
+		Page<String> page = new Page<>(Arrays.asList("1"), "token");
+
+		// Act & Assert
+		assertThat(page).isEqualTo(page)
+				.isEqualTo(new Page<>(Arrays.asList("1"), "token"))
+				.hasSameHashCodeAs(new Page<>(Arrays.asList("1"), "token"))
+				.hasToString("Page [items=[1], nextPageToken=token]");
+	}
+
+	@Test
+	public void testEquals_DifferentItemsOrTokenOrType_AreNotEqual() {
+		// Arrange
+		Page<String> page = new Page<>(Arrays.asList("1"), "token");
+
+		// Act & Assert
+		assertThat(page).isNotEqualTo(null)
+				.isNotEqualTo("token")
+				.isNotEqualTo(new Page<>(Collections.emptyList(), "token"))
+				.isNotEqualTo(new Page<>(Arrays.asList("1"), null));
+	}
+}
@@ -0,0 +1,53 @@
+package com.shemilikevin.app.tracker.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.Test;
+
+public class PageTokenTest {
+
+	@Test
+	public void testEncode_ProducesUrlSafeTokenThatDoesNotExposeTheId() {
+		// Act
+		String pageToken = PageToken.encode("42");
+
+		// Assert
+		assertThat(pageToken).doesNotContain("42")
+				.matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	public void testDecode_TokenCreatedByEncode_ReturnsTheOriginalId() {
+		// Arrange
+		String pageToken = PageToken.encode("42");
+
+		// Act
+		String lastId = PageToken.decode(pageToken);
+
+		// Assert
+		assertThat(lastId).isEqualTo("42");
+	}
+
+	@Test
+	public void testDecode_TokenIsNotBase64_ThrowsIllegalArgumentException() {
+		// Act & Assert
+		assertThatThrownBy(() -> PageToken.decode("not base64!"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(PageToken.INVALID_TOKEN, "not base64!"));
+	}
+
+	@Test
+	public void testDecode_TokenWasNotCreatedByEncode_ThrowsIllegalArgumentException() {
+		// Arrange
+		String pageToken = Base64.getUrlEncoder().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+
+		// Act & Assert
+		assertThatThrownBy(() -> PageToken.decode(pageToken))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(PageToken.INVALID_TOKEN, pageToken));
+	}
+}
@@ -0,0 +1,72 @@
+package com.shemilikevin.app.tracker.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+
+import org.junit.Test;
+
+public class CacheStatisticsTest {
+
+	@Test
+	public void testGetHitRate_WithRequests_ReturnsShareOfHits() {
+		// Arrange
+		CacheStatistics statistics = new CacheStatistics(3, 1, 0, 0, 2);
+
+		// Act & Assert
+		assertThat(statistics.getHitRate()).isEqualTo(0.75);
+	}
+
+	@Test
+	public void testGetHitRate_WithoutRequests_ReturnsZero() {
+		// Arrange
+		CacheStatistics statistics = new CacheStatistics(0, 0, 0, 0, 0);
+
+		// Act & Assert
+		assertThat(statistics.getHitRate()).isZero();
+	}
+
+	@Test
+	public void testPlus_SumsEveryCounter() {
+		// Arrange
+		CacheStatistics statistics = new CacheStatistics(1, 2, 3, 4, 5);
+
+		// Act
+		CacheStatistics sum = statistics.plus(new CacheStatistics(10, 20, 30, 40, 50));
+
+		// Assert
+		assertThat(sum.getHits()).isEqualTo(11);
+		assertThat(sum.getMisses()).isEqualTo(22);
+		assertThat(sum.getEvictions()).isEqualTo(33);
+		assertThat(sum.getExpirations()).isEqualTo(44);
+		assertThat(sum.getSize()).isEqualTo(55);
+	}
+
+	@Test
+	public void testEquals_SameCounters_AreEqual() {
+		// Arrange
+		CacheStatistics statistics = new CacheStatistics(1, 2, 3, 4, 5);
+
+		// Act & Assert
+		assertThat(statistics.equals(statistics)).isTrue();
+		assertThat(statistics).isEqualTo(new CacheStatistics(1, 2, 3, 4, 5))
+				.hasSameHashCodeAs(new CacheStatistics(1, 2, 3, 4, 5))
+				.hasSameHashCodeAs(Objects.hash(1L, 2L, 3L, 4L, 5))
+				.hasToString("CacheStatistics [hits=1, misses=2, evictions=3, expirations=4, size=5]");
+	}
+
+	@Test
+	public void testEquals_DifferentCountersOrType_AreNotEqual() {
+		// Arrange
+		CacheStatistics statistics = new CacheStatistics(1, 2, 3, 4, 5);
+
+		// Act & Assert
+		assertThat(statistics.equals(null)).isFalse();
+		assertThat(statistics).isNotEqualTo("statistics")
+				.isNotEqualTo(new CacheStatistics(0, 2, 3, 4, 5))
+				.isNotEqualTo(new CacheStatistics(1, 0, 3, 4, 5))
+				.isNotEqualTo(new CacheStatistics(1, 2, 0, 4, 5))
+				.isNotEqualTo(new CacheStatistics(1, 2, 3, 0, 5))
+				.isNotEqualTo(new CacheStatistics(1, 2, 3, 4, 0));
+	}
+}
@@ -0,0 +1,548 @@
+package com.shemilikevin.app.tracker.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.Page;
+import com.shemilikevin.app.tracker.repository.PageToken;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class CachingIssueRepositoryTest {
+
+	private static final Duration TTL = Duration.ofSeconds(60);
+	private static final String PROJECT_ID = "10";
+
+	@Mock
+	private IssueRepository delegate;
+
+	private long now;
+	private CachingIssueRepository issueRepository;
+	private AutoCloseable autoCloseable;
+
+	private Issue issue1;
+	private Issue issue2;
+	private Issue issue3;
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+		now = 0;
+		issueRepository = new CachingIssueRepository(delegate, 2, TTL, () -> now);
+
+		issue1 = new Issue("1", "Name 1", "Description 1", "Low", PROJECT_ID);
+		issue2 = new Issue("2", "Name 2", "Description 2", "Low", PROJECT_ID);
+		issue3 = new Issue("3", "Name 3", "Description 3", "Low", PROJECT_ID);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testFindByProjectId_CalledTwice_QueriesDelegateOnceAndSortsById() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue3, issue1, issue2));
+
+		// Act
+		issueRepository.findByProjectId(PROJECT_ID);
+		List<Issue> issueList = issueRepository.findByProjectId(PROJECT_ID);
+
+		// Assert
+		assertThat(issueList).containsExactly(issue1, issue2, issue3);
+		verify(delegate).findByProjectId(PROJECT_ID);
+		verifyNoMoreInteractions(delegate);
+		assertThat(issueRepository.getStatistics()).isEqualTo(new CacheStatistics(1, 1, 0, 0, 1));
+	}
+
+	@Test
+	public void testFindByProjectId_AfterTimeToLive_QueriesDelegateAgain() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1));
+		issueRepository.findByProjectId(PROJECT_ID);
+		now = TTL.toNanos();
+
+		// Act
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Assert
+		verify(delegate, times(2)).findByProjectId(PROJECT_ID);
+	}
+
+	@Test
+	public void testFindByProjectId_SaveDuringTheRead_DoesNotCacheTheStaleList() {
+		// Arrange
+		when(delegate.save(issue2)).thenReturn(SaveResult.INSERTED);
+		when(delegate.findByProjectId(PROJECT_ID)).thenAnswer(invocation -> {
+			issueRepository.save(issue2);
+			return Arrays.asList(issue1);
+		}).thenReturn(Arrays.asList(issue1, issue2));
+
+		// Act
+		issueRepository.findByProjectId(PROJECT_ID);
+		List<Issue> issueList = issueRepository.findByProjectId(PROJECT_ID);
+
+		// Assert
+		assertThat(issueList).containsExactly(issue1, issue2);
+		verify(delegate, times(2)).findByProjectId(PROJECT_ID);
+	}
+
+	@Test
+	public void testFindByProjectIdPage_ProjectNotCached_ReadsOnlyTheFirstPageAndCachesIt() {
+		// Arrange
+		Page<Issue> storedPage = new Page<>(Arrays.asList(issue1, issue2), PageToken.encode("2"));
+		when(delegate.findByProjectId(PROJECT_ID, 2, null)).thenReturn(storedPage);
+
+		// Act
+		Page<Issue> issuePage = issueRepository.findByProjectId(PROJECT_ID, 2, null);
+		Page<Issue> cachedPage = issueRepository.findByProjectId(PROJECT_ID, 2, null);
+
+		// Assert
+		assertThat(issuePage).isEqualTo(storedPage);
+		assertThat(cachedPage).isEqualTo(storedPage);
+		verify(delegate).findByProjectId(PROJECT_ID, 2, null);
+		verifyNoMoreInteractions(delegate);
+		assertThat(issueRepository.getStatistics().getSize()).isEqualTo(1);
+		assertThat(issueRepository.getStatistics().getHits()).isEqualTo(1);
+	}
+
+	@Test
+	public void testFindByProjectIdPage_LaterPagesAndOtherPageSizes_AreReadFromTheDelegate() {
+		// Arrange
+		String pageToken = PageToken.encode("2");
+		when(delegate.findByProjectId(PROJECT_ID, 2, null))
+				.thenReturn(new Page<>(Arrays.asList(issue1, issue2), pageToken));
+		when(delegate.findByProjectId(PROJECT_ID, 2, pageToken)).thenReturn(new Page<>(Arrays.asList(issue3), null));
+		when(delegate.findByProjectId(PROJECT_ID, 3, null))
+				.thenReturn(new Page<>(Arrays.asList(issue1, issue2, issue3), null));
+		issueRepository.findByProjectId(PROJECT_ID, 2, null);
+
+		// Act
+		issueRepository.findByProjectId(PROJECT_ID, 2, pageToken);
+		Page<Issue> secondPage = issueRepository.findByProjectId(PROJECT_ID, 2, pageToken);
+		Page<Issue> largerPage = issueRepository.findByProjectId(PROJECT_ID, 3, null);
+
+		// Assert
+		assertThat(secondPage.getItems()).containsExactly(issue3);
+		assertThat(largerPage.getItems()).containsExactly(issue1, issue2, issue3);
+		verify(delegate, times(2)).findByProjectId(PROJECT_ID, 2, pageToken);
+		verify(delegate).findByProjectId(PROJECT_ID, 3, null);
+	}
+
+	@Test
+	public void testFindByProjectIdPage_SaveDuringTheRead_DoesNotCacheTheStalePage() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID, 2, null)).thenAnswer(invocation -> {
+			issueRepository.save(issue2);
+			return new Page<>(Arrays.asList(issue1), null);
+		});
+		when(delegate.save(issue2)).thenReturn(SaveResult.INSERTED);
+
+		// Act
+		issueRepository.findByProjectId(PROJECT_ID, 2, null);
+
+		// Assert
+		assertThat(issueRepository.getStatistics().getSize()).isZero();
+	}
+
+	@Test
+	public void testFindByProjectIdPage_AfterSave_ReadsTheFirstPageAgain() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID, 2, null)).thenReturn(new Page<>(Arrays.asList(issue1), null));
+		when(delegate.save(issue2)).thenReturn(SaveResult.INSERTED);
+		issueRepository.findByProjectId(PROJECT_ID, 2, null);
+
+		// Act
+		issueRepository.save(issue2);
+		issueRepository.findByProjectId(PROJECT_ID, 2, null);
+
+		// Assert
+		verify(delegate, times(2)).findByProjectId(PROJECT_ID, 2, null);
+	}
+
+	@Test
+	public void testFindByProjectIdPage_AfterDeletes_ServesTheCachedPageWithoutTheDeletedIssues() {
+		// Arrange
+		String pageToken = PageToken.encode("3");
+		when(delegate.findByProjectId(PROJECT_ID, 3, null))
+				.thenReturn(new Page<>(Arrays.asList(issue1, issue2, issue3), pageToken));
+		when(delegate.findAndDelete("1", PROJECT_ID)).thenReturn(issue1);
+		issueRepository.findByProjectId(PROJECT_ID, 3, null);
+
+		// Act
+		issueRepository.findAndDelete("1", PROJECT_ID);
+		issueRepository.deleteMany(Arrays.asList("2"), PROJECT_ID);
+		issueRepository.delete("9");
+		Page<Issue> issuePage = issueRepository.findByProjectId(PROJECT_ID, 3, null);
+
+		// Assert
+		assertThat(issuePage).isEqualTo(new Page<>(Arrays.asList(issue3), pageToken));
+		verify(delegate).findByProjectId(PROJECT_ID, 3, null);
+	}
+
+	@Test
+	public void testFindByProjectIdPage_AfterDeleteById_ServesTheCachedPageWithoutTheIssue() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID, 2, null)).thenReturn(new Page<>(Arrays.asList(issue1, issue2), null));
+		issueRepository.findByProjectId(PROJECT_ID, 2, null);
+
+		// Act
+		issueRepository.delete("1");
+		Page<Issue> issuePage = issueRepository.findByProjectId(PROJECT_ID, 2, null);
+
+		// Assert
+		assertThat(issuePage).isEqualTo(new Page<>(Arrays.asList(issue2), null));
+		verify(delegate).findByProjectId(PROJECT_ID, 2, null);
+	}
+
+	@Test
+	public void testFindByProjectIdPage_AfterReassign_ServesAnEmptySourcePageAndReadsTheTargetAgain() {
+		// Arrange
+		String toProjectId = "20";
+		when(delegate.findByProjectId(PROJECT_ID, 2, null)).thenReturn(new Page<>(Arrays.asList(issue1), null));
+		when(delegate.findByProjectId(toProjectId, 2, null)).thenReturn(new Page<>(Collections.emptyList(), null));
+		issueRepository.findByProjectId(PROJECT_ID, 2, null);
+		issueRepository.findByProjectId(toProjectId, 2, null);
+
+		// Act
+		issueRepository.reassign(PROJECT_ID, toProjectId);
+		Page<Issue> sourcePage = issueRepository.findByProjectId(PROJECT_ID, 2, null);
+		issueRepository.findByProjectId(toProjectId, 2, null);
+
+		// Assert
+		assertThat(sourcePage).isEqualTo(new Page<>(Collections.emptyList(), null));
+		verify(delegate).findByProjectId(PROJECT_ID, 2, null);
+		verify(delegate, times(2)).findByProjectId(toProjectId, 2, null);
+	}
+
+	@Test
+	public void testFindByProjectIdPage_ProjectCached_PagesThroughTheCachedList() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue2, issue3, issue1));
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		Page<Issue> firstPage = issueRepository.findByProjectId(PROJECT_ID, 2, null);
+		Page<Issue> secondPage = issueRepository.findByProjectId(PROJECT_ID, 2, firstPage.getNextPageToken());
+
+		// Assert
+		assertThat(firstPage).isEqualTo(new Page<>(Arrays.asList(issue1, issue2), PageToken.encode("2")));
+		assertThat(secondPage).isEqualTo(new Page<>(Arrays.asList(issue3), null));
+		verify(delegate).findByProjectId(PROJECT_ID);
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testFindByProjectIdPage_ProjectCachedPageFillsTheList_ReturnsLastPage() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1, issue2));
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		Page<Issue> issuePage = issueRepository.findByProjectId(PROJECT_ID, 2, null);
+
+		// Assert
+		assertThat(issuePage).isEqualTo(new Page<>(Arrays.asList(issue1, issue2), null));
+	}
+
+	@Test
+	public void testFindByProjectIdPage_TokenPastTheLastIssue_ReturnsEmptyLastPage() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1));
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		Page<Issue> issuePage = issueRepository.findByProjectId(PROJECT_ID, 2, PageToken.encode("9"));
+
+		// Assert
+		assertThat(issuePage).isEqualTo(new Page<>(Collections.emptyList(), null));
+	}
+
+	@Test
+	public void testFindByProjectIdPage_ProjectCachedNonPositivePageSize_ThrowsIllegalArgumentException() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1));
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.findByProjectId(PROJECT_ID, 0, null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(Page.INVALID_PAGE_SIZE, 0));
+	}
+
+	@Test
+	public void testFindByProjectIdPage_ProjectCachedInvalidPageToken_ThrowsIllegalArgumentException() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1));
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.findByProjectId(PROJECT_ID, 2, "not base64!"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testSave_WritesThroughAndInsertsIntoTheCachedListInOrder() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1, issue3));
+		when(delegate.save(issue2)).thenReturn(SaveResult.INSERTED);
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		SaveResult saveResult = issueRepository.save(issue2);
+
+		// Assert
+		assertThat(saveResult).isEqualTo(SaveResult.INSERTED);
+		verify(delegate).save(issue2);
+		assertThat(issueRepository.findByProjectId(PROJECT_ID)).containsExactly(issue1, issue2, issue3);
+		verify(delegate).findByProjectId(PROJECT_ID);
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testSave_IdStillCached_ReplacesTheStaleIssue() {
+		// Arrange
+		Issue savedIssue = new Issue("1", "New name", "New description", "High", PROJECT_ID);
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1, issue2));
+		when(delegate.save(savedIssue)).thenReturn(SaveResult.INSERTED);
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		issueRepository.save(savedIssue);
+
+		// Assert
+		assertThat(issueRepository.findByProjectId(PROJECT_ID)).usingRecursiveFieldByFieldElementComparator()
+				.containsExactly(savedIssue, issue2);
+	}
+
+	@Test
+	public void testSave_Duplicate_LeavesTheCachedListUntouched() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1));
+		issueRepository.findByProjectId(PROJECT_ID);
+		Issue duplicateIssue = new Issue("1", "Other Name", "Other Description", "High", PROJECT_ID);
+		when(delegate.save(duplicateIssue)).thenReturn(SaveResult.DUPLICATE);
+
+		// Act
+		SaveResult saveResult = issueRepository.save(duplicateIssue);
+
+		// Assert
+		assertThat(saveResult).isEqualTo(SaveResult.DUPLICATE);
+		assertThat(issueRepository.findByProjectId(PROJECT_ID)).containsExactly(issue1);
+	}
+
+	@Test
+	public void testSave_ProjectNotCached_OnlyWritesThrough() {
+		// Arrange
+		when(delegate.save(issue1)).thenReturn(SaveResult.INSERTED);
+
+		// Act
+		issueRepository.save(issue1);
+
+		// Assert
+		verify(delegate).save(issue1);
+		assertThat(issueRepository.getStatistics().getSize()).isZero();
+	}
+
+	@Test
+	public void testSaveAll_InsertsOnlyInsertedIssuesIntoTheCachedList() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1));
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		Issue duplicateIssue = new Issue("1", "Other Name", "Other Description", "High", PROJECT_ID);
+		List<Issue> issues = Arrays.asList(duplicateIssue, issue2);
+		when(delegate.saveAll(issues)).thenReturn(Arrays.asList(SaveResult.DUPLICATE, SaveResult.INSERTED));
+
+		// Act
+		List<SaveResult> saveResults = issueRepository.saveAll(issues);
+
+		// Assert
+		assertThat(saveResults).containsExactly(SaveResult.DUPLICATE, SaveResult.INSERTED);
+		assertThat(issueRepository.findByProjectId(PROJECT_ID)).containsExactly(issue1, issue2);
+	}
+
+	@Test
+	public void testDelete_WritesThroughAndRemovesFromTheCachedList() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1, issue2));
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		issueRepository.delete("1");
+
+		// Assert
+		verify(delegate).delete("1");
+		assertThat(issueRepository.findByProjectId(PROJECT_ID)).containsExactly(issue2);
+		verify(delegate).findByProjectId(PROJECT_ID);
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testFindAndDelete_WritesThroughAndRemovesFromTheOwningProjectList() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1, issue2));
+		when(delegate.findAndDelete("1", PROJECT_ID)).thenReturn(issue1);
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		Issue deletedIssue = issueRepository.findAndDelete("1", PROJECT_ID);
+
+		// Assert
+		assertThat(deletedIssue).isEqualTo(issue1);
+		assertThat(issueRepository.findByProjectId(PROJECT_ID)).containsExactly(issue2);
+		verify(delegate).findByProjectId(PROJECT_ID);
+	}
+
+	@Test
+	public void testFindAndDelete_NoMatchingIssue_LeavesTheCachedListsUntouched() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1));
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		Issue deletedIssue = issueRepository.findAndDelete("2", PROJECT_ID);
+
+		// Assert
+		assertThat(deletedIssue).isNull();
+		assertThat(issueRepository.findByProjectId(PROJECT_ID)).containsExactly(issue1);
+	}
+
+	@Test
+	public void testDeleteMany_WritesThroughAndRemovesFromTheCachedList() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1, issue2, issue3));
+		when(delegate.deleteMany(Arrays.asList("1", "3"), PROJECT_ID)).thenReturn(2L);
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		long deletedCount = issueRepository.deleteMany(Arrays.asList("1", "3"), PROJECT_ID);
+
+		// Assert
+		assertThat(deletedCount).isEqualTo(2);
+		assertThat(issueRepository.findByProjectId(PROJECT_ID)).containsExactly(issue2);
+		verify(delegate).findByProjectId(PROJECT_ID);
+	}
+
+	@Test
+	public void testReassign_EmptiesSourceListAndDropsTargetList() {
+		// Arrange
+		String toProjectId = "20";
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1));
+		when(delegate.findByProjectId(toProjectId)).thenReturn(Collections.emptyList());
+		when(delegate.reassign(PROJECT_ID, toProjectId)).thenReturn(1L);
+		issueRepository.findByProjectId(PROJECT_ID);
+		issueRepository.findByProjectId(toProjectId);
+
+		// Act
+		long reassignedCount = issueRepository.reassign(PROJECT_ID, toProjectId);
+
+		// Assert
+		assertThat(reassignedCount).isEqualTo(1);
+		assertThat(issueRepository.findByProjectId(PROJECT_ID)).isEmpty();
+		issueRepository.findByProjectId(toProjectId);
+		verify(delegate).findByProjectId(PROJECT_ID);
+		verify(delegate, times(2)).findByProjectId(toProjectId);
+	}
+
+	@Test
+	public void testHasAssociatedIssues_ProjectCached_AnswersFromTheCache() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Arrays.asList(issue1));
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		boolean hasAssociatedIssues = issueRepository.hasAssociatedIssues(PROJECT_ID);
+
+		// Assert
+		assertThat(hasAssociatedIssues).isTrue();
+		verify(delegate).findByProjectId(PROJECT_ID);
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testHasAssociatedIssues_EmptyProjectCached_AnswersFromTheCache() {
+		// Arrange
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Collections.emptyList());
+		issueRepository.findByProjectId(PROJECT_ID);
+
+		// Act
+		boolean hasAssociatedIssues = issueRepository.hasAssociatedIssues(PROJECT_ID);
+
+		// Assert
+		assertThat(hasAssociatedIssues).isFalse();
+		verify(delegate).findByProjectId(PROJECT_ID);
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testHasAssociatedIssues_ProjectNotCached_QueriesDelegate() {
+		// Arrange
+		when(delegate.hasAssociatedIssues(PROJECT_ID)).thenReturn(true);
+		when(delegate.hasAssociatedIssues("20")).thenReturn(false);
+
+		// Act & Assert
+		assertThat(issueRepository.hasAssociatedIssues(PROJECT_ID)).isTrue();
+		assertThat(issueRepository.hasAssociatedIssues("20")).isFalse();
+	}
+
+	@Test
+	public void testUncachedOperations_AreDelegated() {
+		// Arrange
+		when(delegate.findAll()).thenReturn(Arrays.asList(issue1));
+		when(delegate.findAll(2, null)).thenReturn(new Page<>(Arrays.asList(issue1), null));
+		when(delegate.streamAll(2)).thenReturn(Arrays.asList(issue1).stream());
+		when(delegate.streamByProjectId(PROJECT_ID, 2)).thenReturn(Arrays.asList(issue2).stream());
+		when(delegate.exists("1")).thenReturn(true);
+		when(delegate.findExistingIds(Arrays.asList("1"), PROJECT_ID)).thenReturn(new HashSet<>(Arrays.asList("1")));
+		when(delegate.findById("1")).thenReturn(issue1);
+		when(delegate.countByProjectId(PROJECT_ID)).thenReturn(2L);
+		when(delegate.findRangeByProjectId(PROJECT_ID, 1, 1)).thenReturn(Arrays.asList(issue2));
+		when(delegate.findReferencedProjectIds()).thenReturn(new HashSet<>(Arrays.asList(PROJECT_ID)));
+
+		// Act & Assert
+		assertThat(issueRepository.findAll()).containsExactly(issue1);
+		assertThat(issueRepository.findAll(2, null)).isEqualTo(new Page<>(Arrays.asList(issue1), null));
+		assertThat(issueRepository.streamAll(2)).containsExactly(issue1);
+		assertThat(issueRepository.streamByProjectId(PROJECT_ID, 2)).containsExactly(issue2);
+		assertThat(issueRepository.exists("1")).isTrue();
+		assertThat(issueRepository.exists("2")).isFalse();
+		assertThat(issueRepository.findExistingIds(Arrays.asList("1"), PROJECT_ID)).containsExactly("1");
+		assertThat(issueRepository.findById("1")).isEqualTo(issue1);
+		assertThat(issueRepository.countByProjectId(PROJECT_ID)).isEqualTo(2);
+		assertThat(issueRepository.findRangeByProjectId(PROJECT_ID, 1, 1)).containsExactly(issue2);
+		assertThat(issueRepository.findReferencedProjectIds()).containsExactly(PROJECT_ID);
+	}
+
+	@Test
+	public void testConstructor_PublicConstructorUsesSystemClock() {
+		// Arrange
+		CachingIssueRepository repository = new CachingIssueRepository(delegate, 2, TTL);
+		when(delegate.findByProjectId(PROJECT_ID)).thenReturn(Collections.emptyList());
+
+		// Act
+		repository.findByProjectId(PROJECT_ID);
+		repository.findByProjectId(PROJECT_ID);
+
+		// Assert
+		verify(delegate).findByProjectId(PROJECT_ID);
+	}
+}
@@ -0,0 +1,321 @@
+package com.shemilikevin.app.tracker.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class CachingProjectRepositoryTest {
+
+	private static final Duration TTL = Duration.ofSeconds(60);
+
+	@Mock
+	private ProjectRepository delegate;
+
+	private long now;
+	private CachingProjectRepository projectRepository;
+	private AutoCloseable autoCloseable;
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+		now = 0;
+		projectRepository = new CachingProjectRepository(delegate, 10, TTL, () -> now);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testFindById_CalledTwice_QueriesDelegateOnce() {
+		// Arrange
+		Project project = new Project("1", "Name", "Description");
+		when(delegate.findById("1")).thenReturn(project);
+
+		// Act
+		projectRepository.findById("1");
+		Project cachedProject = projectRepository.findById("1");
+
+		// Assert
+		assertThat(cachedProject).isEqualTo(project);
+		verify(delegate).findById("1");
+		verifyNoMoreInteractions(delegate);
+		assertThat(projectRepository.getStatistics()).isEqualTo(new CacheStatistics(1, 1, 0, 0, 1));
+	}
+
+	@Test
+	public void testExists_MissingProjectCalledTwice_QueriesDelegateOnce() {
+		// Act
+		boolean firstExists = projectRepository.exists("1");
+		boolean secondExists = projectRepository.exists("1");
+
+		// Assert
+		assertThat(firstExists).isFalse();
+		assertThat(secondExists).isFalse();
+		verify(delegate).findById("1");
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testExists_AfterTimeToLive_QueriesDelegateAgain() {
+		// Arrange
+		when(delegate.findById("1")).thenReturn(new Project("1", "Name", "Description"));
+		projectRepository.exists("1");
+		now = TTL.toNanos();
+
+		// Act
+		boolean exists = projectRepository.exists("1");
+
+		// Assert
+		assertThat(exists).isTrue();
+		verify(delegate, times(2)).findById("1");
+		assertThat(projectRepository.getStatistics().getExpirations()).isEqualTo(1);
+	}
+
+	@Test
+	public void testFindAll_CalledTwice_QueriesDelegateOnceAndWarmsLookupsById() {
+		// Arrange
+		Project project1 = new Project("1", "Name 1", "Description 1");
+		Project project2 = new Project("2", "Name 2", "Description 2");
+		when(delegate.findAll()).thenReturn(Arrays.asList(project1, project2));
+
+		// Act
+		projectRepository.findAll();
+		List<Project> projectList = projectRepository.findAll();
+
+		// Assert
+		assertThat(projectList).containsExactly(project1, project2);
+		assertThat(projectRepository.exists("2")).isTrue();
+		verify(delegate).findAll();
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testFindById_SaveDuringTheRead_KeepsTheSavedProject() {
+		// Arrange
+		Project savedProject = new Project("1", "Name", "Description");
+		when(delegate.save(savedProject)).thenReturn(SaveResult.INSERTED);
+		when(delegate.findById("1")).thenAnswer(invocation -> {
+			projectRepository.save(savedProject);
+			return null;
+		});
+
+		// Act
+		Project staleProject = projectRepository.findById("1");
+
+		// Assert
+		assertThat(staleProject).isNull();
+		assertThat(projectRepository.findById("1")).isEqualTo(savedProject);
+		verify(delegate).findById("1");
+	}
+
+	@Test
+	public void testFindAll_SaveDuringTheRead_DoesNotCacheTheStaleList() {
+		// Arrange
+		Project project1 = new Project("1", "Name 1", "Description 1");
+		Project project2 = new Project("2", "Name 2", "Description 2");
+		when(delegate.save(project2)).thenReturn(SaveResult.INSERTED);
+		when(delegate.findAll()).thenAnswer(invocation -> {
+			projectRepository.save(project2);
+			return Arrays.asList(project1);
+		}).thenReturn(Arrays.asList(project1, project2));
+
+		// Act
+		projectRepository.findAll();
+		List<Project> projectList = projectRepository.findAll();
+
+		// Assert
+		assertThat(projectList).containsExactly(project1, project2);
+		verify(delegate, times(2)).findAll();
+	}
+
+	@Test
+	public void testFindExistingIds_SaveDuringTheRead_KeepsTheSavedProject() {
+		// Arrange
+		Project savedProject = new Project("1", "Name", "Description");
+		when(delegate.save(savedProject)).thenReturn(SaveResult.INSERTED);
+		when(delegate.findExistingIds(Arrays.asList("1"))).thenAnswer(invocation -> {
+			projectRepository.save(savedProject);
+			return Collections.emptySet();
+		});
+
+		// Act
+		projectRepository.findExistingIds(Arrays.asList("1"));
+
+		// Assert
+		assertThat(projectRepository.exists("1")).isTrue();
+		verify(delegate, never()).findById("1");
+	}
+
+	@Test
+	public void testFindExistingIds_QueriesDelegateOnlyForUncachedIds() {
+		// Arrange
+		when(delegate.findById("1")).thenReturn(new Project("1", "Name", "Description"));
+		projectRepository.findById("1");
+		projectRepository.findById("2");
+		when(delegate.findExistingIds(Arrays.asList("3", "4"))).thenReturn(new HashSet<>(Arrays.asList("3")));
+		when(delegate.findById("3")).thenReturn(new Project("3", "Name", "Description"));
+
+		// Act
+		Set<String> existingIds = projectRepository.findExistingIds(Arrays.asList("1", "2", "3", "4"));
+
+		// Assert
+		assertThat(existingIds).containsExactlyInAnyOrder("1", "3");
+		assertThat(projectRepository.exists("3")).isTrue();
+		assertThat(projectRepository.exists("4")).isFalse();
+		verify(delegate).findExistingIds(Arrays.asList("3", "4"));
+		verify(delegate, never()).findById("4");
+	}
+
+	@Test
+	public void testFindExistingIds_AllIdsCached_DoesNotQueryDelegate() {
+		// Arrange
+		projectRepository.findById("1");
+
+		// Act
+		Set<String> existingIds = projectRepository.findExistingIds(Arrays.asList("1"));
+
+		// Assert
+		assertThat(existingIds).isEmpty();
+		verify(delegate).findById("1");
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testSave_WritesThroughAndUpdatesCachedEntries() {
+		// Arrange
+		Project storedProject = new Project("1", "Name 1", "Description 1");
+		when(delegate.findAll()).thenReturn(Arrays.asList(storedProject));
+		projectRepository.findAll();
+		projectRepository.exists("2");
+		Project newProject = new Project("2", "Name 2", "Description 2");
+		when(delegate.save(newProject)).thenReturn(SaveResult.INSERTED);
+
+		// Act
+		SaveResult saveResult = projectRepository.save(newProject);
+
+		// Assert
+		assertThat(saveResult).isEqualTo(SaveResult.INSERTED);
+		verify(delegate).save(newProject);
+		assertThat(projectRepository.findAll()).containsExactly(storedProject, newProject);
+		assertThat(projectRepository.exists("2")).isTrue();
+		verify(delegate).findAll();
+		verify(delegate).findById("2");
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testSave_Duplicate_ForgetsTheCachedEntry() {
+		// Arrange
+		projectRepository.exists("1");
+		Project duplicateProject = new Project("1", "Name", "Description");
+		when(delegate.save(duplicateProject)).thenReturn(SaveResult.DUPLICATE);
+
+		// Act
+		SaveResult saveResult = projectRepository.save(duplicateProject);
+
+		// Assert
+		assertThat(saveResult).isEqualTo(SaveResult.DUPLICATE);
+		projectRepository.exists("1");
+		verify(delegate, times(2)).findById("1");
+	}
+
+	@Test
+	public void testSaveAll_CachesInsertedProjectsAndForgetsTheRest() {
+		// Arrange
+		Project insertedProject = new Project("1", "Name 1", "Description 1");
+		Project duplicateProject = new Project("2", "Name 2", "Description 2");
+		List<Project> projects = Arrays.asList(insertedProject, duplicateProject);
+		projectRepository.exists("2");
+		when(delegate.saveAll(projects)).thenReturn(Arrays.asList(SaveResult.INSERTED, SaveResult.DUPLICATE));
+
+		// Act
+		List<SaveResult> saveResults = projectRepository.saveAll(projects);
+
+		// Assert
+		assertThat(saveResults).containsExactly(SaveResult.INSERTED, SaveResult.DUPLICATE);
+		assertThat(projectRepository.findById("1")).isEqualTo(insertedProject);
+		projectRepository.findById("2");
+		verify(delegate, times(2)).findById("2");
+		verify(delegate).saveAll(projects);
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testDelete_WritesThroughAndUpdatesCachedEntries() {
+		// Arrange
+		Project project1 = new Project("1", "Name 1", "Description 1");
+		Project project2 = new Project("2", "Name 2", "Description 2");
+		when(delegate.findAll()).thenReturn(Arrays.asList(project1, project2));
+		projectRepository.findAll();
+
+		// Act
+		projectRepository.delete("1");
+
+		// Assert
+		verify(delegate).delete("1");
+		assertThat(projectRepository.findAll()).containsExactly(project2);
+		assertThat(projectRepository.exists("1")).isFalse();
+		verify(delegate).findAll();
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	public void testStreamAll_IsNotCached() {
+		// Arrange
+		Project project = new Project("1", "Name", "Description");
+		when(delegate.streamAll(10)).thenReturn(Collections.singletonList(project).stream());
+
+		// Act & Assert
+		assertThat(projectRepository.streamAll(10)).containsExactly(project);
+		verify(delegate).streamAll(10);
+	}
+
+	@Test
+	public void testCountAndFindRange_AreNotCached() {
+		// Arrange
+		Project project = new Project("1", "Name", "Description");
+		when(delegate.count()).thenReturn(1L);
+		when(delegate.findRange(0, 10)).thenReturn(Arrays.asList(project));
+
+		// Act & Assert
+		assertThat(projectRepository.count()).isEqualTo(1);
+		assertThat(projectRepository.findRange(0, 10)).containsExactly(project);
+		verify(delegate).count();
+		verify(delegate).findRange(0, 10);
+	}
+
+	@Test
+	public void testConstructor_PublicConstructorUsesSystemClock() {
+		// Arrange
+		CachingProjectRepository repository = new CachingProjectRepository(delegate, 10, TTL);
+
+		// Act
+		repository.findById("1");
+		repository.findById("1");
+
+		// Assert
+		verify(delegate).findById("1");
+	}
+}
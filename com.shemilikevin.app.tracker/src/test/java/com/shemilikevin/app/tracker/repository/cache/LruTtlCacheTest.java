@@ -0,0 +1,241 @@
+package com.shemilikevin.app.tracker.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class LruTtlCacheTest {
+
+	private static final long TTL = 100;
+
+	private long now;
+	private LruTtlCache<String, String> cache;
+
+	@Before
+	public void setUp() {
+		now = 0;
+		cache = new LruTtlCache<>(2, TTL, () -> now);
+	}
+
+	@Test
+	public void testGet_CachedKey_ReturnsValueAndCountsHit() {
+		// Arrange
+		cache.put("1", "one");
+
+		// Act
+		String value = cache.get("1");
+
+		// Assert
+		assertThat(value).isEqualTo("one");
+		assertThat(cache.statistics()).isEqualTo(new CacheStatistics(1, 0, 0, 0, 1));
+	}
+
+	@Test
+	public void testGet_UnknownKey_ReturnsNullAndCountsMiss() {
+		// Act
+		String value = cache.get("1");
+
+		// Assert
+		assertThat(value).isNull();
+		assertThat(cache.statistics()).isEqualTo(new CacheStatistics(0, 1, 0, 0, 0));
+	}
+
+	@Test
+	public void testGet_ExpiredKey_ReturnsNullAndCountsExpiration() {
+		// Arrange
+		cache.put("1", "one");
+		now = TTL;
+
+		// Act
+		String value = cache.get("1");
+
+		// Assert
+		assertThat(value).isNull();
+		assertThat(cache.statistics()).isEqualTo(new CacheStatistics(0, 1, 0, 1, 0));
+	}
+
+	@Test
+	public void testPut_BeyondMaxSize_EvictsLeastRecentlyUsedKey() {
+		// Arrange
+		cache.put("1", "one");
+		cache.put("2", "two");
+		cache.get("1");
+
+		// Act
+		cache.put("3", "three");
+
+		// Assert
+		assertThat(cache.statistics().getEvictions()).isEqualTo(1);
+		assertThat(cache.get("1")).isEqualTo("one");
+		assertThat(cache.get("2")).isNull();
+		assertThat(cache.get("3")).isEqualTo("three");
+	}
+
+	@Test
+	public void testPut_BeyondMaxSizeWithExpiredEldest_CountsExpiration() {
+		// Arrange
+		cache.put("1", "one");
+		now = TTL / 2;
+		cache.put("2", "two");
+		now = TTL;
+
+		// Act
+		cache.put("3", "three");
+
+		// Assert
+		assertThat(cache.statistics()).isEqualTo(new CacheStatistics(0, 0, 0, 1, 2));
+	}
+
+	@Test
+	public void testUpdate_CachedKey_ReplacesValueWithoutExtendingItsLifetime() {
+		// Arrange
+		cache.put("1", "one");
+		now = TTL - 1;
+
+		// Act
+		cache.update("1", value -> value + "!");
+
+		// Assert
+		assertThat(cache.get("1")).isEqualTo("one!");
+		now = TTL;
+		assertThat(cache.get("1")).isNull();
+	}
+
+	@Test
+	public void testUpdate_UnknownKey_DoesNotAddIt() {
+		// Act
+		cache.update("1", value -> "one");
+
+		// Assert
+		assertThat(cache.get("1")).isNull();
+		assertThat(cache.statistics().getSize()).isZero();
+	}
+
+	@Test
+	public void testUpdateAll_UpdatesEveryLiveValue() {
+		// Arrange
+		cache.put("1", "one");
+		cache.put("2", "two");
+
+		// Act
+		cache.updateAll(value -> value.toUpperCase());
+
+		// Assert
+		assertThat(cache.get("1")).isEqualTo("ONE");
+		assertThat(cache.get("2")).isEqualTo("TWO");
+	}
+
+	@Test
+	public void testRemove_DropsCachedKey() {
+		// Arrange
+		cache.put("1", "one");
+		cache.put("2", "two");
+
+		// Act
+		cache.remove("1");
+
+		// Assert
+		assertThat(cache.get("1")).isNull();
+		assertThat(cache.get("2")).isEqualTo("two");
+	}
+
+	@Test
+	public void testPutIfUnchanged_NoWriteSinceRead_CachesValue() {
+		// Arrange
+		long readGeneration = cache.generation();
+
+		// Act
+		cache.putIfUnchanged("1", "one", readGeneration);
+
+		// Assert
+		assertThat(cache.get("1")).isEqualTo("one");
+		assertThat(cache.generation()).isEqualTo(readGeneration);
+	}
+
+	@Test
+	public void testPutIfUnchanged_NoWriteSinceReadAfterEarlierWrites_CachesValue() {
+		// Arrange
+		cache.put("1", "one");
+		long readGeneration = cache.generation();
+
+		// Act
+		cache.putIfUnchanged("2", "two", readGeneration);
+
+		// Assert
+		assertThat(cache.get("2")).isEqualTo("two");
+	}
+
+	@Test
+	public void testPutIfUnchanged_PutSinceRead_KeepsTheWrittenValue() {
+		// Arrange
+		long readGeneration = cache.generation();
+		cache.put("1", "new");
+
+		// Act
+		cache.putIfUnchanged("1", "old", readGeneration);
+
+		// Assert
+		assertThat(cache.get("1")).isEqualTo("new");
+		assertThat(cache.generation()).isGreaterThan(readGeneration);
+	}
+
+	@Test
+	public void testPutIfUnchanged_RemoveSinceRead_DoesNotCacheValue() {
+		// Arrange
+		long readGeneration = cache.generation();
+		cache.remove("1");
+
+		// Act
+		cache.putIfUnchanged("1", "old", readGeneration);
+
+		// Assert
+		assertThat(cache.get("1")).isNull();
+		assertThat(cache.generation()).isGreaterThan(readGeneration);
+	}
+
+	@Test
+	public void testPutIfUnchanged_UpdateOfUncachedKeySinceRead_DoesNotCacheValue() {
+		// Arrange
+		long readGeneration = cache.generation();
+		cache.update("1", value -> "new");
+
+		// Act
+		cache.putIfUnchanged("1", "old", readGeneration);
+
+		// Assert
+		assertThat(cache.get("1")).isNull();
+		assertThat(cache.generation()).isGreaterThan(readGeneration);
+	}
+
+	@Test
+	public void testPutIfUnchanged_UpdateAllOfEmptyCacheSinceRead_DoesNotCacheValue() {
+		// Arrange
+		long readGeneration = cache.generation();
+		cache.updateAll(value -> "new");
+
+		// Act
+		cache.putIfUnchanged("1", "old", readGeneration);
+
+		// Assert
+		assertThat(cache.get("1")).isNull();
+		assertThat(cache.generation()).isGreaterThan(readGeneration);
+	}
+
+	@Test
+	public void testConstructor_NonPositiveMaxSize_ThrowsIllegalArgumentException() {
+		// Act & Assert
+		assertThatThrownBy(() -> new LruTtlCache<String, String>(0, TTL, () -> now))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(LruTtlCache.INVALID_MAX_SIZE, 0));
+	}
+
+	@Test
+	public void testConstructor_NonPositiveTimeToLive_ThrowsIllegalArgumentException() {
+		// Act & Assert
+		assertThatThrownBy(() -> new LruTtlCache<String, String>(1, 0, () -> now))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(LruTtlCache.INVALID_TTL, 0));
+	}
+}
@@ -0,0 +1,280 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.repository.IssueRepository;
+import com.shemilikevin.app.tracker.repository.Page;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class InstrumentedIssueRepositoryTest {
+
+	private static final Issue ISSUE = new Issue("1", "Name", "Description", "Low", "10");
+
+	@Mock
+	private IssueRepository delegate;
+
+	private RepositoryMetrics metrics;
+	private InstrumentedIssueRepository issueRepository;
+	private AutoCloseable autoCloseable;
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+		metrics = new RepositoryMetrics();
+		issueRepository = new InstrumentedIssueRepository(delegate, metrics);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testFindAll_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.findAll()).thenReturn(Arrays.asList(ISSUE));
+
+		// Act & Assert
+		assertThat(issueRepository.findAll()).containsExactly(ISSUE);
+		assertRecorded("issue.findAll");
+	}
+
+	@Test
+	public void testFindAllPage_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		Page<Issue> page = new Page<>(Arrays.asList(ISSUE), "token");
+		when(delegate.findAll(10, "previous")).thenReturn(page);
+
+		// Act & Assert
+		assertThat(issueRepository.findAll(10, "previous")).isSameAs(page);
+		assertRecorded("issue.findAllPage");
+	}
+
+	@Test
+	public void testStreamAll_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.streamAll(10)).thenReturn(Stream.of(ISSUE));
+
+		// Act & Assert
+		assertThat(issueRepository.streamAll(10)).containsExactly(ISSUE);
+		assertRecorded("issue.streamAll");
+	}
+
+	@Test
+	public void testFindByProjectId_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.findByProjectId("10")).thenReturn(Arrays.asList(ISSUE));
+
+		// Act & Assert
+		assertThat(issueRepository.findByProjectId("10")).containsExactly(ISSUE);
+		assertRecorded("issue.findByProjectId");
+	}
+
+	@Test
+	public void testFindByProjectIdPage_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		Page<Issue> page = new Page<>(Arrays.asList(ISSUE), null);
+		when(delegate.findByProjectId("10", 5, null)).thenReturn(page);
+
+		// Act & Assert
+		assertThat(issueRepository.findByProjectId("10", 5, null)).isSameAs(page);
+		assertRecorded("issue.findByProjectIdPage");
+	}
+
+	@Test
+	public void testStreamByProjectId_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.streamByProjectId("10", 5)).thenReturn(Stream.of(ISSUE));
+
+		// Act & Assert
+		assertThat(issueRepository.streamByProjectId("10", 5)).containsExactly(ISSUE);
+		assertRecorded("issue.streamByProjectId");
+	}
+
+	@Test
+	public void testCountByProjectId_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.countByProjectId("10")).thenReturn(3L);
+
+		// Act & Assert
+		assertThat(issueRepository.countByProjectId("10")).isEqualTo(3);
+		assertRecorded("issue.countByProjectId");
+	}
+
+	@Test
+	public void testFindRangeByProjectId_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.findRangeByProjectId("10", 20, 5)).thenReturn(Arrays.asList(ISSUE));
+
+		// Act & Assert
+		assertThat(issueRepository.findRangeByProjectId("10", 20, 5)).containsExactly(ISSUE);
+		assertRecorded("issue.findRangeByProjectId");
+	}
+
+	@Test
+	public void testExists_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.exists("1")).thenReturn(true);
+
+		// Act & Assert
+		assertThat(issueRepository.exists("1")).isTrue();
+		assertRecorded("issue.exists");
+	}
+
+	@Test
+	public void testFindExistingIds_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		List<String> ids = Arrays.asList("1", "2");
+		Set<String> existingIds = new HashSet<>(Arrays.asList("1"));
+		when(delegate.findExistingIds(ids, "10")).thenReturn(existingIds);
+
+		// Act & Assert
+		assertThat(issueRepository.findExistingIds(ids, "10")).isSameAs(existingIds);
+		assertRecorded("issue.findExistingIds");
+	}
+
+	@Test
+	public void testSave_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.save(ISSUE)).thenReturn(SaveResult.INSERTED);
+
+		// Act & Assert
+		assertThat(issueRepository.save(ISSUE)).isEqualTo(SaveResult.INSERTED);
+		assertRecorded("issue.save");
+	}
+
+	@Test
+	public void testSaveAll_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		List<Issue> issues = Arrays.asList(ISSUE);
+		when(delegate.saveAll(issues)).thenReturn(Arrays.asList(SaveResult.DUPLICATE));
+
+		// Act & Assert
+		assertThat(issueRepository.saveAll(issues)).containsExactly(SaveResult.DUPLICATE);
+		assertRecorded("issue.saveAll");
+	}
+
+	@Test
+	public void testFindById_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.findById("1")).thenReturn(ISSUE);
+
+		// Act & Assert
+		assertThat(issueRepository.findById("1")).isEqualTo(ISSUE);
+		assertRecorded("issue.findById");
+	}
+
+	@Test
+	public void testDelete_DelegatesAndRecordsTheCall() {
+		// Act
+		issueRepository.delete("1");
+
+		// Assert
+		verify(delegate).delete("1");
+		assertRecorded("issue.delete");
+	}
+
+	@Test
+	public void testFindAndDelete_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.findAndDelete("1", "10")).thenReturn(ISSUE);
+
+		// Act & Assert
+		assertThat(issueRepository.findAndDelete("1", "10")).isEqualTo(ISSUE);
+		assertRecorded("issue.findAndDelete");
+	}
+
+	@Test
+	public void testDeleteMany_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		List<String> ids = Collections.singletonList("1");
+		when(delegate.deleteMany(ids, "10")).thenReturn(1L);
+
+		// Act & Assert
+		assertThat(issueRepository.deleteMany(ids, "10")).isEqualTo(1);
+		assertRecorded("issue.deleteMany");
+	}
+
+	@Test
+	public void testReassign_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.reassign("10", "20")).thenReturn(4L);
+
+		// Act & Assert
+		assertThat(issueRepository.reassign("10", "20")).isEqualTo(4);
+		assertRecorded("issue.reassign");
+	}
+
+	@Test
+	public void testHasAssociatedIssues_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.hasAssociatedIssues("10")).thenReturn(true);
+
+		// Act & Assert
+		assertThat(issueRepository.hasAssociatedIssues("10")).isTrue();
+		assertRecorded("issue.hasAssociatedIssues");
+	}
+
+	@Test
+	public void testExists_DelegateFails_RethrowsAndCountsTheError() {
+		// Arrange
+		IllegalStateException failure = new IllegalStateException("Database down");
+		when(delegate.exists("1")).thenThrow(failure);
+
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.exists("1")).isSameAs(failure);
+		assertThat(metrics.getTotalErrors()).isEqualTo(1);
+	}
+
+	@Test
+	public void testExists_Missing_ReturnsFalse() {
+		// Arrange
+		when(delegate.exists("1")).thenReturn(false);
+
+		// Act & Assert
+		assertThat(issueRepository.exists("1")).isFalse();
+		assertRecorded("issue.exists");
+	}
+
+	@Test
+	public void testHasAssociatedIssues_WithoutIssues_ReturnsFalse() {
+		// Arrange
+		when(delegate.hasAssociatedIssues("10")).thenReturn(false);
+
+		// Act & Assert
+		assertThat(issueRepository.hasAssociatedIssues("10")).isFalse();
+		assertRecorded("issue.hasAssociatedIssues");
+	}
+
+	@Test
+	public void testFindReferencedProjectIds_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.findReferencedProjectIds()).thenReturn(new HashSet<>(Arrays.asList("10")));
+
+		// Act & Assert
+		assertThat(issueRepository.findReferencedProjectIds()).containsExactly("10");
+		assertRecorded("issue.findReferencedProjectIds");
+	}
+
+	private void assertRecorded(String operation) {
+		assertThat(metrics.getOperations()).extracting(OperationStatistics::getOperation).containsExactly(operation);
+		assertThat(metrics.getTotalCalls()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,176 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.ProjectRepository;
+import com.shemilikevin.app.tracker.repository.SaveResult;
+
+public class InstrumentedProjectRepositoryTest {
+
+	private static final Project PROJECT = new Project("1", "Name", "Description");
+
+	@Mock
+	private ProjectRepository delegate;
+
+	private RepositoryMetrics metrics;
+	private InstrumentedProjectRepository projectRepository;
+	private AutoCloseable autoCloseable;
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+		metrics = new RepositoryMetrics();
+		projectRepository = new InstrumentedProjectRepository(delegate, metrics);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testExists_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.exists("1")).thenReturn(true);
+
+		// Act & Assert
+		assertThat(projectRepository.exists("1")).isTrue();
+		assertRecorded("project.exists");
+	}
+
+	@Test
+	public void testFindExistingIds_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		List<String> ids = Arrays.asList("1", "2");
+		Set<String> existingIds = new HashSet<>(Arrays.asList("1"));
+		when(delegate.findExistingIds(ids)).thenReturn(existingIds);
+
+		// Act & Assert
+		assertThat(projectRepository.findExistingIds(ids)).isSameAs(existingIds);
+		assertRecorded("project.findExistingIds");
+	}
+
+	@Test
+	public void testFindAll_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.findAll()).thenReturn(Arrays.asList(PROJECT));
+
+		// Act & Assert
+		assertThat(projectRepository.findAll()).containsExactly(PROJECT);
+		assertRecorded("project.findAll");
+	}
+
+	@Test
+	public void testStreamAll_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.streamAll(10)).thenReturn(Stream.of(PROJECT));
+
+		// Act & Assert
+		assertThat(projectRepository.streamAll(10)).containsExactly(PROJECT);
+		assertRecorded("project.streamAll");
+	}
+
+	@Test
+	public void testCount_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.count()).thenReturn(7L);
+
+		// Act & Assert
+		assertThat(projectRepository.count()).isEqualTo(7);
+		assertRecorded("project.count");
+	}
+
+	@Test
+	public void testFindRange_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.findRange(20, 5)).thenReturn(Arrays.asList(PROJECT));
+
+		// Act & Assert
+		assertThat(projectRepository.findRange(20, 5)).containsExactly(PROJECT);
+		assertRecorded("project.findRange");
+	}
+
+	@Test
+	public void testFindById_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.findById("1")).thenReturn(PROJECT);
+
+		// Act & Assert
+		assertThat(projectRepository.findById("1")).isEqualTo(PROJECT);
+		assertRecorded("project.findById");
+	}
+
+	@Test
+	public void testSave_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		when(delegate.save(PROJECT)).thenReturn(SaveResult.INSERTED);
+
+		// Act & Assert
+		assertThat(projectRepository.save(PROJECT)).isEqualTo(SaveResult.INSERTED);
+		assertRecorded("project.save");
+	}
+
+	@Test
+	public void testSaveAll_ReturnsDelegateResultAndRecordsTheCall() {
+		// Arrange
+		List<Project> projects = Arrays.asList(PROJECT);
+		when(delegate.saveAll(projects)).thenReturn(Arrays.asList(SaveResult.DUPLICATE));
+
+		// Act & Assert
+		assertThat(projectRepository.saveAll(projects)).containsExactly(SaveResult.DUPLICATE);
+		assertRecorded("project.saveAll");
+	}
+
+	@Test
+	public void testDelete_DelegatesAndRecordsTheCall() {
+		// Act
+		projectRepository.delete("1");
+
+		// Assert
+		verify(delegate).delete("1");
+		assertRecorded("project.delete");
+	}
+
+	@Test
+	public void testDelete_DelegateFails_RethrowsAndCountsTheError() {
+		// Arrange
+		IllegalStateException failure = new IllegalStateException("Database down");
+		doThrow(failure).when(delegate).delete("1");
+
+		// Act & Assert
+		assertThatThrownBy(() -> projectRepository.delete("1")).isSameAs(failure);
+		assertThat(metrics.getTotalErrors()).isEqualTo(1);
+	}
+
+	@Test
+	public void testExists_Missing_ReturnsFalse() {
+		// Arrange
+		when(delegate.exists("1")).thenReturn(false);
+
+		// Act & Assert
+		assertThat(projectRepository.exists("1")).isFalse();
+		assertRecorded("project.exists");
+	}
+
+	private void assertRecorded(String operation) {
+		assertThat(metrics.getOperations()).extracting(OperationStatistics::getOperation).containsExactly(operation);
+		assertThat(metrics.getTotalCalls()).isEqualTo(1);
+	}
+}
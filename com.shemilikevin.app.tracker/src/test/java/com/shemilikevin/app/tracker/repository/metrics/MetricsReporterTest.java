@@ -0,0 +1,121 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class MetricsReporterTest {
+
+	private static final Duration PERIOD = Duration.ofSeconds(30);
+
+	@Mock
+	private ScheduledExecutorService scheduler;
+
+	private final Logger logger = Logger.getLogger(MetricsReporter.class.getName());
+	private final List<String> messages = new CopyOnWriteArrayList<>();
+	private final List<Thread> loggingThreads = new CopyOnWriteArrayList<>();
+	private final CountDownLatch logged = new CountDownLatch(1);
+	private final Handler handler = new Handler() {
+
+		@Override
+		public void publish(LogRecord logRecord) {
+			messages.add(logRecord.getMessage());
+			loggingThreads.add(Thread.currentThread());
+			logged.countDown();
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	};
+
+	private RepositoryMetrics metrics;
+	private AutoCloseable autoCloseable;
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+		metrics = new RepositoryMetrics();
+		logger.addHandler(handler);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		logger.removeHandler(handler);
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testStart_SchedulesASummaryEveryPeriod() {
+		// Arrange
+		MetricsReporter metricsReporter = new MetricsReporter(metrics, scheduler, PERIOD);
+		metrics.time("issue.exists", () -> true);
+		ArgumentCaptor<Runnable> report = ArgumentCaptor.forClass(Runnable.class);
+
+		// Act
+		metricsReporter.start();
+		verify(scheduler).scheduleAtFixedRate(report.capture(), eq(PERIOD.toNanos()), eq(PERIOD.toNanos()),
+				eq(TimeUnit.NANOSECONDS));
+		report.getValue().run();
+
+		// Assert
+		assertThat(messages).containsExactly(String.format(MetricsReporter.SUMMARY, metrics.getOperations()));
+	}
+
+	@Test
+	public void testStop_ShutsTheSchedulerDown() {
+		// Arrange
+		MetricsReporter metricsReporter = new MetricsReporter(metrics, scheduler, PERIOD);
+
+		// Act
+		metricsReporter.stop();
+
+		// Assert
+		verify(scheduler).shutdownNow();
+	}
+
+	@Test
+	public void testConstructor_PublicConstructorLogsFromItsOwnThread() throws InterruptedException {
+		// Arrange
+		MetricsReporter metricsReporter = new MetricsReporter(metrics, Duration.ofMillis(10));
+
+		// A non-daemon caller, whose flag the logging thread would otherwise inherit
+		Thread caller = new Thread(metricsReporter::start);
+		caller.setDaemon(false);
+
+		// Act
+		caller.start();
+		caller.join();
+
+		// Assert
+		try {
+			assertThat(logged.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(messages.get(0)).startsWith("Repository metrics: ");
+			assertThat(loggingThreads.get(0).getName()).isEqualTo("metrics-log");
+			assertThat(loggingThreads.get(0).isDaemon()).isTrue();
+		} finally {
+			metricsReporter.stop();
+		}
+	}
+}
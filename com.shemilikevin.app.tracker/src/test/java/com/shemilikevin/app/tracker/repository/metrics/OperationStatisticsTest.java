@@ -0,0 +1,42 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+
+import org.junit.Test;
+
+public class OperationStatisticsTest {
+
+	@Test
+	public void testEquals_SameValues_AreEqual() {
+		// Arrange
+		OperationStatistics statistics = new OperationStatistics("issue.exists", 1, 2, 3.5, 4, 5, 6, 7);
+
+		// Act & Assert
+		assertThat(statistics.equals(statistics)).isTrue();
+		assertThat(statistics.hashCode()).isEqualTo(Objects.hash("issue.exists", 1L, 2L, 3.5, 4L, 5L, 6L, 7L));
+		assertThat(statistics).isEqualTo(new OperationStatistics("issue.exists", 1, 2, 3.5, 4, 5, 6, 7))
+				.hasSameHashCodeAs(new OperationStatistics("issue.exists", 1, 2, 3.5, 4, 5, 6, 7))
+				.hasToString("OperationStatistics [operation=issue.exists, calls=1, errors=2, meanMicros=3.5, "
+						+ "p50Micros=4, p90Micros=5, p99Micros=6, maxMicros=7]");
+	}
+
+	@Test
+	public void testEquals_DifferentValuesOrType_AreNotEqual() {
+		// Arrange
+		OperationStatistics statistics = new OperationStatistics("issue.exists", 1, 2, 3.5, 4, 5, 6, 7);
+
+		// Act & Assert
+		assertThat(statistics.equals(null)).isFalse();
+		assertThat(statistics).isNotEqualTo("statistics")
+				.isNotEqualTo(new OperationStatistics("issue.save", 1, 2, 3.5, 4, 5, 6, 7))
+				.isNotEqualTo(new OperationStatistics("issue.exists", 0, 2, 3.5, 4, 5, 6, 7))
+				.isNotEqualTo(new OperationStatistics("issue.exists", 1, 0, 3.5, 4, 5, 6, 7))
+				.isNotEqualTo(new OperationStatistics("issue.exists", 1, 2, 0, 4, 5, 6, 7))
+				.isNotEqualTo(new OperationStatistics("issue.exists", 1, 2, 3.5, 0, 5, 6, 7))
+				.isNotEqualTo(new OperationStatistics("issue.exists", 1, 2, 3.5, 4, 0, 6, 7))
+				.isNotEqualTo(new OperationStatistics("issue.exists", 1, 2, 3.5, 4, 5, 0, 7))
+				.isNotEqualTo(new OperationStatistics("issue.exists", 1, 2, 3.5, 4, 5, 6, 0));
+	}
+}
@@ -0,0 +1,152 @@
+package com.shemilikevin.app.tracker.repository.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class RepositoryMetricsTest {
+
+	private long now;
+	private RepositoryMetrics metrics;
+
+	@Before
+	public void setUp() {
+		// Not zero, so a latency is only right when the start is subtracted
+		now = TimeUnit.SECONDS.toNanos(1);
+		metrics = new RepositoryMetrics(() -> now);
+	}
+
+	@Test
+	public void testTime_ReturnsResultAndRecordsLatency() {
+		// Act
+		String result = metrics.time("issue.findById", () -> {
+			now += TimeUnit.MILLISECONDS.toNanos(2);
+			return "issue";
+		});
+
+		// Assert
+		assertThat(result).isEqualTo("issue");
+		OperationStatistics statistics = metrics.getOperations().get(0);
+		assertThat(statistics.getOperation()).isEqualTo("issue.findById");
+		assertThat(statistics.getCalls()).isEqualTo(1);
+		assertThat(statistics.getErrors()).isZero();
+		assertThat(statistics.getMeanMicros()).isCloseTo(2000, withinPercentage(1));
+		assertThat(statistics.getP50Micros()).isCloseTo(2000, withinPercentage(1));
+		assertThat(statistics.getP90Micros()).isCloseTo(2000, withinPercentage(1));
+		assertThat(statistics.getP99Micros()).isCloseTo(2000, withinPercentage(1));
+		assertThat(statistics.getMaxMicros()).isCloseTo(2000, withinPercentage(1));
+	}
+
+	@Test
+	public void testTime_CallFails_RethrowsAndCountsTheError() {
+		// Arrange
+		IllegalStateException failure = new IllegalStateException("Database down");
+
+		// Act & Assert
+		assertThatThrownBy(() -> metrics.time("issue.save", () -> {
+			throw failure;
+		})).isSameAs(failure);
+		assertThat(metrics.getOperations())
+				.containsExactly(new OperationStatistics("issue.save", 1, 1, 0, 0, 0, 0, 0));
+	}
+
+	@Test
+	public void testRun_RunsAndRecordsTheCall() {
+		// Arrange
+		boolean[] ran = new boolean[1];
+
+		// Act
+		metrics.run("issue.delete", () -> ran[0] = true);
+
+		// Assert
+		assertThat(ran[0]).isTrue();
+		assertThat(metrics.getOperations())
+				.containsExactly(new OperationStatistics("issue.delete", 1, 0, 0, 0, 0, 0, 0));
+	}
+
+	@Test
+	public void testGetOperations_SortedByNameAndAccumulatedAcrossReads() {
+		// Arrange
+		metrics.time("project.exists", () -> true);
+		metrics.time("issue.exists", () -> true);
+		metrics.getOperations();
+		metrics.time("issue.exists", () -> true);
+
+		// Act & Assert
+		assertThat(metrics.getOperations())
+				.extracting(OperationStatistics::getOperation, OperationStatistics::getCalls)
+				.containsExactly(tuple("issue.exists", 2L), tuple("project.exists", 1L));
+	}
+
+	@Test
+	public void testGetTotals_SumEveryOperation() {
+		// Arrange
+		metrics.time("issue.exists", () -> true);
+		metrics.time("project.exists", () -> true);
+		assertThatThrownBy(() -> metrics.run("project.delete", () -> {
+			throw new IllegalStateException();
+		}));
+
+		// Act & Assert
+		assertThat(metrics.getTotalCalls()).isEqualTo(3);
+		assertThat(metrics.getTotalErrors()).isEqualTo(1);
+	}
+
+	@Test
+	public void testReset_ClearsEveryOperation() {
+		// Arrange
+		metrics.time("issue.exists", () -> true);
+		assertThatThrownBy(() -> metrics.run("issue.delete", () -> {
+			throw new IllegalStateException();
+		}));
+		metrics.getOperations();
+		metrics.time("issue.exists", () -> true);
+
+		// Act
+		metrics.reset();
+
+		// Assert
+		assertThat(metrics.getTotalCalls()).isZero();
+		assertThat(metrics.getTotalErrors()).isZero();
+	}
+
+	@Test
+	public void testRegisterMBean_ExposesTheStatisticsOverJmx() throws Exception {
+		// Arrange
+		MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+		metrics.time("issue.exists", () -> true);
+
+		// Act
+		metrics.registerMBean(mBeanServer);
+
+		// Assert
+		ObjectName objectName = new ObjectName(RepositoryMetrics.OBJECT_NAME);
+		assertThat(mBeanServer.getAttribute(objectName, "TotalCalls")).isEqualTo(1L);
+		CompositeData[] operations = (CompositeData[]) mBeanServer.getAttribute(objectName, "Operations");
+		assertThat(operations).hasSize(1);
+		assertThat(operations[0].get("operation")).isEqualTo("issue.exists");
+	}
+
+	@Test
+	public void testConstructor_PublicConstructorUsesSystemClock() {
+		// Arrange
+		RepositoryMetrics systemMetrics = new RepositoryMetrics();
+
+		// Act
+		systemMetrics.time("issue.exists", () -> true);
+
+		// Assert
+		assertThat(systemMetrics.getTotalCalls()).isEqualTo(1);
+	}
+}
@@ -1,13 +1,22 @@
 package com.shemilikevin.app.tracker.repository.mongo;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PojoCodecProvider;
 import org.junit.After;
@@ -21,7 +30,12 @@ import com.mongodb.MongoClientOptions;
 import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
 import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.repository.Page;
+import com.shemilikevin.app.tracker.repository.PageToken;
+import com.shemilikevin.app.tracker.repository.SaveResult;
 
 import de.bwaldvogel.mongo.MongoServer;
 import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
@@ -30,6 +44,7 @@ public class IssueMongoRepositoryTest {
 
 	private static final String DATABASE_NAME = "db";
 	private static final String COLLECTION_NAME = "collection";
+	private static final String CONFLICTING_COLLECTION_NAME = "conflicting";
 
 	private static MongoServer mongoServer;
 	private static InetSocketAddress inetSocketAddress;
@@ -57,11 +72,12 @@ public class IssueMongoRepositoryTest {
 		MongoClientOptions mongoClientOptions = MongoClientOptions.builder().codecRegistry(codecRegistry).build();
 
 		mongoClient = new MongoClient(new ServerAddress(inetSocketAddress), mongoClientOptions);
-		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, COLLECTION_NAME);
 
 		MongoDatabase database = mongoClient.getDatabase(DATABASE_NAME);
 		database.drop();
 
+		issueRepository = new IssueMongoRepository(mongoClient, DATABASE_NAME, COLLECTION_NAME);
+
 		issueCollection = database.getCollection(COLLECTION_NAME, Issue.class);
 	}
 
@@ -70,6 +86,80 @@ public class IssueMongoRepositoryTest {
 		mongoClient.close();
 	}
 
+	@Test
+	public void testConstructor_CreatesUniqueIndexOnId() {
+		// Act
+		List<Document> indexList = queryAllIndexesFromDb();
+
+		// Assert
+		assertThat(indexList).anySatisfy(index -> {
+			assertThat(index.get("key")).isEqualTo(new Document("id", 1));
+			assertThat(index.getBoolean("unique")).isTrue();
+		});
+	}
+
+	@Test
+	public void testConstructor_CreatesCompoundIndexOnProjectIdAndId() {
+		// Act
+		List<Document> indexList = queryAllIndexesFromDb();
+
+		// Assert
+		assertThat(indexList).anySatisfy(index -> {
+			assertThat(index.get("key")).isEqualTo(new Document("projectId", 1).append("id", 1));
+			assertThat(index.getBoolean("unique", false)).isFalse();
+		});
+	}
+
+	@Test
+	public void testConstructor_ConflictingIndexExists_ThrowsIllegalStateException() {
+		// Arrange
+		mongoClient.getDatabase(DATABASE_NAME).getCollection(CONFLICTING_COLLECTION_NAME)
+				.createIndex(Indexes.ascending("id"), new IndexOptions().unique(false));
+
+		// Act & Assert
+		assertThatThrownBy(() -> new IssueMongoRepository(mongoClient, DATABASE_NAME, CONFLICTING_COLLECTION_NAME))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageStartingWith("Index {\"id\": 1} on collection " + DATABASE_NAME + "."
+						+ CONFLICTING_COLLECTION_NAME + " conflicts with an existing index");
+	}
+
+	@Test
+	public void testVerifyIndex_MatchingIndexExists_DoesNotThrow() {
+		// Act & Assert
+		assertThatCode(() -> issueRepository.verifyIndex(Indexes.ascending("projectId", "id"), false))
+				.doesNotThrowAnyException();
+	}
+
+	@Test
+	public void testVerifyIndex_NoIndexOnGivenKeys_ThrowsIllegalStateException() {
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.verifyIndex(Indexes.ascending("name"), false))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage(String.format(BaseMongoRepository.INDEX_MISSING, "{\"name\": 1}", false,
+						DATABASE_NAME + "." + COLLECTION_NAME));
+	}
+
+	@Test
+	public void testVerifyIndex_IndexHasDifferentUniqueness_ThrowsIllegalStateException() {
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.verifyIndex(Indexes.ascending("id"), false))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void testVerifyIndex_IndexHasDifferentKeyOrder_ThrowsIllegalStateException() {
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.verifyIndex(Indexes.ascending("id", "projectId"), false))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void testVerifyIndex_IndexHasDifferentDirection_ThrowsIllegalStateException() {
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.verifyIndex(Indexes.descending("id"), true))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
 	@Test
 	public void testFindAll_EmptyDatabase_ReturnsEmptyList() {
 		// Act
@@ -214,18 +304,315 @@ public class IssueMongoRepositoryTest {
 				.containsExactly(issue1, issue2);
 	}
 
+	@Test
+	public void testFindByProjectIdPage_NoMatchingIssues_ReturnsEmptyLastPage() {
+		// Act
+		Page<Issue> issuePage = issueRepository.findByProjectId("10", 2, null);
+
+		// Assert
+		assertThat(issuePage.getItems()).isEmpty();
+		assertThat(issuePage.hasNextPage()).isFalse();
+	}
+
+	@Test
+	public void testFindByProjectIdPage_FewerIssuesThanPageSize_ReturnsLastPageSortedById() {
+		// Arrange
+		String projectId = "10";
+
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", projectId);
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", projectId);
+		addIssueToDb(issue2);
+		addIssueToDb(issue1);
+		addIssueToDb(new Issue("3", "Name 3", "Description 3", "Priority 3", "20"));
+
+		// Act
+		Page<Issue> issuePage = issueRepository.findByProjectId(projectId, 2, null);
+
+		// Assert
+		assertThat(issuePage.getItems()).containsExactly(issue1, issue2);
+		assertThat(issuePage.hasNextPage()).isFalse();
+	}
+
+	@Test
+	public void testFindByProjectIdPage_MoreIssuesThanPageSize_ContinuesFromTheToken() {
+		// Arrange
+		String projectId = "10";
+
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", projectId);
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", projectId);
+		Issue issue3 = new Issue("3", "Name 3", "Description 3", "Priority 3", projectId);
+		addIssueToDb(issue3);
+		addIssueToDb(issue1);
+		addIssueToDb(issue2);
+		addIssueToDb(new Issue("4", "Name 4", "Description 4", "Priority 4", "20"));
+
+		// Act
+		Page<Issue> firstPage = issueRepository.findByProjectId(projectId, 2, null);
+		Page<Issue> secondPage = issueRepository.findByProjectId(projectId, 2, firstPage.getNextPageToken());
+
+		// Assert
+		assertThat(firstPage.getItems()).containsExactly(issue1, issue2);
+		assertThat(firstPage.getNextPageToken()).isEqualTo(PageToken.encode("2"));
+		assertThat(secondPage.getItems()).containsExactly(issue3);
+		assertThat(secondPage.hasNextPage()).isFalse();
+	}
+
+	@Test
+	public void testFindByProjectIdPage_NonPositivePageSize_ThrowsIllegalArgumentException() {
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.findByProjectId("10", 0, null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(Page.INVALID_PAGE_SIZE, 0));
+	}
+
+	@Test
+	public void testFindByProjectIdPage_InvalidPageToken_ThrowsIllegalArgumentException() {
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.findByProjectId("10", 2, "not base64!"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void testFindAllPage_ManyIssues_PagesThroughAllProjectsSortedById() {
+		// Arrange
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", "20");
+		Issue issue3 = new Issue("3", "Name 3", "Description 3", "Priority 3", "30");
+		addIssueToDb(issue2);
+		addIssueToDb(issue3);
+		addIssueToDb(issue1);
+
+		// Act
+		Page<Issue> firstPage = issueRepository.findAll(2, null);
+		Page<Issue> secondPage = issueRepository.findAll(2, firstPage.getNextPageToken());
+
+		// Assert
+		assertThat(firstPage.getItems()).containsExactly(issue1, issue2);
+		assertThat(secondPage.getItems()).containsExactly(issue3);
+		assertThat(secondPage.hasNextPage()).isFalse();
+	}
+
+	@Test
+	public void testCountByProjectId_CountsOnlyIssuesOfTheProject() {
+		// Arrange
+		String projectId = "10";
+
+		addIssueToDb(new Issue("1", "Name 1", "Description 1", "Priority 1", projectId));
+		addIssueToDb(new Issue("2", "Name 2", "Description 2", "Priority 2", projectId));
+		addIssueToDb(new Issue("3", "Name 3", "Description 3", "Priority 3", "20"));
+
+		// Act
+		long issueCount = issueRepository.countByProjectId(projectId);
+
+		// Assert
+		assertThat(issueCount).isEqualTo(2);
+	}
+
+	@Test
+	public void testFindRangeByProjectId_ReturnsTheRangeSortedById() {
+		// Arrange
+		String projectId = "10";
+
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", projectId);
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", projectId);
+		Issue issue3 = new Issue("3", "Name 3", "Description 3", "Priority 3", projectId);
+		addIssueToDb(issue3);
+		addIssueToDb(issue1);
+		addIssueToDb(issue2);
+		addIssueToDb(new Issue("0", "Name 0", "Description 0", "Priority 0", "20"));
+
+		// Act
+		List<Issue> issueList = issueRepository.findRangeByProjectId(projectId, 1, 5);
+
+		// Assert
+		assertThat(issueList).containsExactly(issue2, issue3);
+	}
+
+	@Test
+	public void testFindRangeByProjectId_NegativeOffset_ThrowsIllegalArgumentException() {
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.findRangeByProjectId("10", -1, 2))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(BaseMongoRepository.INVALID_OFFSET, -1));
+	}
+
+	@Test
+	public void testFindRangeByProjectId_NonPositiveLimit_ThrowsIllegalArgumentException() {
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.findRangeByProjectId("10", 0, 0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(Page.INVALID_PAGE_SIZE, 0));
+	}
+
+	@Test
+	public void testStreamAll_BatchSmallerThanCollection_StreamsEveryIssue() {
+		// Arrange
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", "20");
+		Issue issue3 = new Issue("3", "Name 3", "Description 3", "Priority 3", "30");
+		addIssueToDb(issue1);
+		addIssueToDb(issue2);
+		addIssueToDb(issue3);
+
+		// Act
+		List<Issue> issueList;
+		try (Stream<Issue> issueStream = issueRepository.streamAll(1)) {
+			issueList = issueStream.collect(Collectors.toList());
+		}
+
+		// Assert
+		assertThat(issueList).containsExactlyInAnyOrder(issue1, issue2, issue3);
+	}
+
+	@Test
+	public void testStreamByProjectId_StreamsOnlyIssuesOfTheProject() {
+		// Arrange
+		String projectId = "10";
+
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", projectId);
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", projectId);
+		addIssueToDb(issue1);
+		addIssueToDb(issue2);
+		addIssueToDb(new Issue("3", "Name 3", "Description 3", "Priority 3", "20"));
+
+		// Act
+		List<Issue> issueList;
+		try (Stream<Issue> issueStream = issueRepository.streamByProjectId(projectId, 1)) {
+			issueList = issueStream.collect(Collectors.toList());
+		}
+
+		// Assert
+		assertThat(issueList).containsExactlyInAnyOrder(issue1, issue2);
+	}
+
+	@Test
+	public void testStreamByProjectId_StreamsSortedById() {
+		// Arrange
+		String projectId = "10";
+
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", projectId);
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", projectId);
+		Issue issue3 = new Issue("3", "Name 3", "Description 3", "Priority 3", projectId);
+		addIssueToDb(issue2);
+		addIssueToDb(issue3);
+		addIssueToDb(issue1);
+
+		// Act
+		List<Issue> issueList;
+		try (Stream<Issue> issueStream = issueRepository.streamByProjectId(projectId, 1)) {
+			issueList = issueStream.collect(Collectors.toList());
+		}
+
+		// Assert
+		assertThat(issueList).containsExactly(issue1, issue2, issue3);
+	}
+
+	@Test
+	public void testStreamAll_ClosedBeforeExhausted_ClosesTheCursor() {
+		// Arrange
+		addIssueToDb(new Issue("1", "Name 1", "Description 1", "Priority 1", "10"));
+		addIssueToDb(new Issue("2", "Name 2", "Description 2", "Priority 2", "10"));
+
+		Stream<Issue> issueStream = issueRepository.streamAll(1);
+		Iterator<Issue> iterator = issueStream.iterator();
+		iterator.next();
+
+		// Act
+		issueStream.close();
+
+		// Assert
+		assertThatThrownBy(iterator::hasNext).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void testStreamAll_NonPositiveBatchSize_ThrowsIllegalArgumentException() {
+		// Act & Assert
+		assertThatThrownBy(() -> issueRepository.streamAll(0)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(BaseMongoRepository.INVALID_BATCH_SIZE, 0));
+	}
+
 	@Test
 	public void testSave_SavesIssueInTheDatabase() {
 		// Arrange
 		Issue issue = new Issue("1", "Name", "Description", "Priority", "10");
 
 		// Act
-		issueRepository.save(issue);
+		SaveResult saveResult = issueRepository.save(issue);
 
 		// Assert
+		assertThat(saveResult).isEqualTo(SaveResult.INSERTED);
 		assertThat(queryAllIssuesFromDb()).containsExactly(issue);
 	}
 
+	@Test
+	public void testSave_IdAlreadyStored_ReportsDuplicateAndKeepsStoredIssue() {
+		// Arrange
+		Issue storedIssue = new Issue("1", "Name", "Description", "Priority", "10");
+		addIssueToDb(storedIssue);
+
+		// Act
+		SaveResult saveResult = issueRepository.save(new Issue("1", "Other Name", "Other Description", "Priority", "10"));
+
+		// Assert
+		assertThat(saveResult).isEqualTo(SaveResult.DUPLICATE);
+		assertThat(queryAllIssuesFromDb()).containsExactly(storedIssue);
+	}
+
+	@Test
+	public void testSaveAll_NewIssues_InsertsEveryIssue() {
+		// Arrange
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", "20");
+
+		// Act
+		List<SaveResult> saveResults = issueRepository.saveAll(Arrays.asList(issue1, issue2));
+
+		// Assert
+		assertThat(saveResults).containsExactly(SaveResult.INSERTED, SaveResult.INSERTED);
+		assertThat(queryAllIssuesFromDb()).containsExactlyInAnyOrder(issue1, issue2);
+	}
+
+	@Test
+	public void testSaveAll_SomeIdsAlreadyStored_ReportsDuplicatesAndInsertsTheRest() {
+		// Arrange
+		Issue storedIssue = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		addIssueToDb(storedIssue);
+
+		Issue duplicateIssue = new Issue("1", "Other Name", "Other Description", "Priority 1", "10");
+		Issue newIssue = new Issue("2", "Name 2", "Description 2", "Priority 2", "10");
+
+		// Act
+		List<SaveResult> saveResults = issueRepository.saveAll(Arrays.asList(duplicateIssue, newIssue));
+
+		// Assert
+		assertThat(saveResults).containsExactly(SaveResult.DUPLICATE, SaveResult.INSERTED);
+		assertThat(queryAllIssuesFromDb()).containsExactlyInAnyOrder(storedIssue, newIssue);
+	}
+
+	@Test
+	public void testSaveAll_DuplicateIdsWithinTheBatch_InsertsOnlyTheFirst() {
+		// Arrange
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		Issue issue2 = new Issue("1", "Name 2", "Description 2", "Priority 2", "10");
+
+		// Act
+		List<SaveResult> saveResults = issueRepository.saveAll(Arrays.asList(issue1, issue2));
+
+		// Assert
+		assertThat(saveResults).containsExactly(SaveResult.INSERTED, SaveResult.DUPLICATE);
+		assertThat(queryAllIssuesFromDb()).containsExactly(issue1);
+	}
+
+	@Test
+	public void testSaveAll_EmptyList_ReturnsEmptyResults() {
+		// Act
+		List<SaveResult> saveResults = issueRepository.saveAll(Collections.emptyList());
+
+		// Assert
+		assertThat(saveResults).isEmpty();
+		assertThat(queryAllIssuesFromDb()).isEmpty();
+	}
+
 	@Test
 	public void testDelete_DeletesIssueFromTheDatabase() {
 		// Arrange
@@ -241,6 +628,100 @@ public class IssueMongoRepositoryTest {
 		assertThat(queryAllIssuesFromDb()).isEmpty();
 	}
 
+	@Test
+	public void testFindAndDelete_MatchingIdInDatabase_DeletesAndReturnsTheIssue() {
+		// Arrange
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", "10");
+		addIssueToDb(issue1);
+		addIssueToDb(issue2);
+
+		// Act
+		Issue deletedIssue = issueRepository.findAndDelete("1", "10");
+
+		// Assert
+		assertThat(deletedIssue).isEqualTo(issue1);
+		assertThat(queryAllIssuesFromDb()).containsExactly(issue2);
+	}
+
+	@Test
+	public void testFindAndDelete_NoMatchingIdInDatabase_ReturnsNull() {
+		// Arrange
+		Issue issue = new Issue("1", "Name", "Description", "Priority", "10");
+		addIssueToDb(issue);
+
+		// Act
+		Issue deletedIssue = issueRepository.findAndDelete("2", "10");
+
+		// Assert
+		assertThat(deletedIssue).isNull();
+		assertThat(queryAllIssuesFromDb()).containsExactly(issue);
+	}
+
+	@Test
+	public void testFindAndDelete_IssueOfAnotherProject_ReturnsNullAndKeepsTheIssue() {
+		// Arrange
+		Issue issue = new Issue("1", "Name", "Description", "Priority", "20");
+		addIssueToDb(issue);
+
+		// Act
+		Issue deletedIssue = issueRepository.findAndDelete("1", "10");
+
+		// Assert
+		assertThat(deletedIssue).isNull();
+		assertThat(queryAllIssuesFromDb()).containsExactly(issue);
+	}
+
+	@Test
+	public void testDeleteMany_DeletesOnlyTheProvidedIssuesOfTheProject() {
+		// Arrange
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", "10");
+		Issue issue3 = new Issue("3", "Name 3", "Description 3", "Priority 3", "20");
+		addIssueToDb(issue1);
+		addIssueToDb(issue2);
+		addIssueToDb(issue3);
+
+		// Act
+		long deletedCount = issueRepository.deleteMany(Arrays.asList("1", "3", "99"), "10");
+
+		// Assert
+		assertThat(deletedCount).isEqualTo(1);
+		assertThat(queryAllIssuesFromDb()).containsExactly(issue2, issue3);
+	}
+
+	@Test
+	public void testDeleteMany_EmptyCollectionOfIds_DeletesNothing() {
+		// Arrange
+		Issue issue = new Issue("1", "Name", "Description", "Priority", "10");
+		addIssueToDb(issue);
+
+		// Act
+		long deletedCount = issueRepository.deleteMany(Collections.emptyList(), "10");
+
+		// Assert
+		assertThat(deletedCount).isZero();
+		assertThat(queryAllIssuesFromDb()).containsExactly(issue);
+	}
+
+	@Test
+	public void testReassign_MovesOnlyIssuesOfTheSourceProject() {
+		// Arrange
+		addIssueToDb(new Issue("1", "Name 1", "Description 1", "Priority 1", "10"));
+		addIssueToDb(new Issue("2", "Name 2", "Description 2", "Priority 2", "10"));
+		Issue otherIssue = new Issue("3", "Name 3", "Description 3", "Priority 3", "30");
+		addIssueToDb(otherIssue);
+
+		// Act
+		long reassignedCount = issueRepository.reassign("10", "20");
+
+		// Assert
+		assertThat(reassignedCount).isEqualTo(2);
+		assertThat(queryAllIssuesFromDb()).containsExactlyInAnyOrder(
+				new Issue("1", "Name 1", "Description 1", "Priority 1", "20"),
+				new Issue("2", "Name 2", "Description 2", "Priority 2", "20"), otherIssue);
+	}
+
 	@Test
 	public void testExists_EmptyDatabase_ReturnsFalse() {
 		// Act
@@ -300,6 +781,127 @@ public class IssueMongoRepositoryTest {
 		assertThat(result).isTrue();
 	}
 
+	@Test
+	public void testHasAssociatedIssues_GivenProjectHasManyAssociatedIssues_ReturnsTrue() {
+		// Arrange
+		String projectId = "10";
+
+		addIssueToDb(new Issue("1", "Name 1", "Description 1", "Priority 1", projectId));
+		addIssueToDb(new Issue("2", "Name 2", "Description 2", "Priority 2", projectId));
+
+		// Act
+		boolean result = issueRepository.hasAssociatedIssues(projectId);
+
+		// Assert
+		assertThat(result).isTrue();
+	}
+
+	@Test
+	public void testHasAssociatedIssues_OnlyOtherProjectsHaveIssues_ReturnsFalse() {
+		// Arrange
+		addIssueToDb(new Issue("1", "Name", "Description", "Priority", "10"));
+
+		// Act
+		boolean result = issueRepository.hasAssociatedIssues("999");
+
+		// Assert
+		assertThat(result).isFalse();
+	}
+
+	@Test
+	public void testHasAssociatedIssues_DoesNotDecodeTheIssueDocument() {
+		// Arrange
+		// A name that cannot be decoded into Issue.name
+		// Makes any POJO decoding of the document fail
+		String projectId = "10";
+
+		mongoClient.getDatabase(DATABASE_NAME).getCollection(COLLECTION_NAME)
+				.insertOne(new Document("id", "1").append("name", new Document("not", "a string"))
+						.append("projectId", projectId));
+
+		// Act
+		boolean result = issueRepository.hasAssociatedIssues(projectId);
+
+		// Assert
+		assertThat(result).isTrue();
+	}
+
+	@Test
+	public void testFindReferencedProjectIds_ReturnsEachProjectIdOnce() {
+		// Arrange
+		addIssueToDb(new Issue("1", "Name 1", "Description 1", "Priority 1", "10"));
+		addIssueToDb(new Issue("2", "Name 2", "Description 2", "Priority 2", "10"));
+		addIssueToDb(new Issue("3", "Name 3", "Description 3", "Priority 3", "20"));
+
+		// Act
+		Set<String> projectIds = issueRepository.findReferencedProjectIds();
+
+		// Assert
+		assertThat(projectIds).containsExactlyInAnyOrder("10", "20");
+	}
+
+	@Test
+	public void testFindReferencedProjectIds_NoIssues_ReturnsEmptySet() {
+		// Act & Assert
+		assertThat(issueRepository.findReferencedProjectIds()).isEmpty();
+	}
+
+	@Test
+	public void testExists_DoesNotDecodeTheDocument() {
+		// Arrange
+		// A name that cannot be decoded into a String field
+		// Makes any POJO decoding of the document fail
+		String id = "1";
+
+		mongoClient.getDatabase(DATABASE_NAME).getCollection(COLLECTION_NAME)
+				.insertOne(new Document("id", id).append("name", new Document("not", "a string")));
+
+		// Act
+		boolean result = issueRepository.exists(id);
+
+		// Assert
+		assertThat(result).isTrue();
+	}
+
+	@Test
+	public void testFindExistingIds_EmptyCollectionOfIds_ReturnsEmptySet() {
+		// Arrange
+		addIssueToDb(new Issue("1", "Name", "Description", "Priority", "10"));
+
+		// Act
+		Set<String> result = issueRepository.findExistingIds(Collections.emptyList(), "10");
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	public void testFindExistingIds_NoMatchingIdsInDatabase_ReturnsEmptySet() {
+		// Arrange
+		addIssueToDb(new Issue("1", "Name", "Description", "Priority", "10"));
+
+		// Act
+		Set<String> result = issueRepository.findExistingIds(Arrays.asList("998", "999"), "10");
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	public void testFindExistingIds_SomeMatchingIdsInDatabase_ReturnsOnlyMatchingIdsOfTheProject() {
+		// Arrange
+		addIssueToDb(new Issue("1", "Name", "Description", "Priority", "10"));
+		addIssueToDb(new Issue("2", "Name", "Description", "Priority", "10"));
+		addIssueToDb(new Issue("3", "Name", "Description", "Priority", "10"));
+		addIssueToDb(new Issue("4", "Name", "Description", "Priority", "20"));
+
+		// Act
+		Set<String> result = issueRepository.findExistingIds(Arrays.asList("1", "3", "4", "999"), "10");
+
+		// Assert
+		assertThat(result).containsExactlyInAnyOrder("1", "3");
+	}
+
 	private void addIssueToDb(Issue issue) {
 		issueCollection.insertOne(issue);
 	}
@@ -307,4 +909,8 @@ public class IssueMongoRepositoryTest {
 	private List<Issue> queryAllIssuesFromDb() {
 		return issueCollection.find().into(new ArrayList<Issue>());
 	}
+
+	private List<Document> queryAllIndexesFromDb() {
+		return issueCollection.listIndexes().into(new ArrayList<Document>());
+	}
 }
@@ -1,13 +1,20 @@
 package com.shemilikevin.app.tracker.repository.mongo;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PojoCodecProvider;
 import org.junit.After;
@@ -21,7 +28,10 @@ import com.mongodb.MongoClientOptions;
 import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
 import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.repository.SaveResult;
 
 import de.bwaldvogel.mongo.MongoServer;
 import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
@@ -30,6 +40,7 @@ public class ProjectMongoRepositoryTest {
 
 	private static final String DATABASE_NAME = "db";
 	private static final String COLLECTION_NAME = "collection";
+	private static final String CONFLICTING_COLLECTION_NAME = "conflicting";
 
 	private static MongoServer mongoServer;
 	private static InetSocketAddress inetSocketAddress;
@@ -58,11 +69,11 @@ public class ProjectMongoRepositoryTest {
 
 		mongoClient = new MongoClient(new ServerAddress(inetSocketAddress), mongoClientOptions);
 
-		projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, COLLECTION_NAME);
-
 		MongoDatabase database = mongoClient.getDatabase(DATABASE_NAME);
 		database.drop();
 
+		projectRepository = new ProjectMongoRepository(mongoClient, DATABASE_NAME, COLLECTION_NAME);
+
 		projectCollection = database.getCollection(COLLECTION_NAME, Project.class);
 	}
 
@@ -71,6 +82,31 @@ public class ProjectMongoRepositoryTest {
 		mongoClient.close();
 	}
 
+	@Test
+	public void testConstructor_CreatesUniqueIndexOnId() {
+		// Act
+		List<Document> indexList = queryAllIndexesFromDb();
+
+		// Assert
+		assertThat(indexList).anySatisfy(index -> {
+			assertThat(index.get("key")).isEqualTo(new Document("id", 1));
+			assertThat(index.getBoolean("unique")).isTrue();
+		});
+	}
+
+	@Test
+	public void testConstructor_ConflictingIndexExists_ThrowsIllegalStateException() {
+		// Arrange
+		mongoClient.getDatabase(DATABASE_NAME).getCollection(CONFLICTING_COLLECTION_NAME)
+				.createIndex(Indexes.ascending("id"), new IndexOptions().unique(false));
+
+		// Act & Assert
+		assertThatThrownBy(() -> new ProjectMongoRepository(mongoClient, DATABASE_NAME, CONFLICTING_COLLECTION_NAME))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageStartingWith("Index {\"id\": 1} on collection " + DATABASE_NAME + "."
+						+ CONFLICTING_COLLECTION_NAME + " conflicts with an existing index");
+	}
+
 	@Test
 	public void testFindAll_EmptyDatabase_ReturnsEmptyList() {
 		// Act
@@ -96,6 +132,63 @@ public class ProjectMongoRepositoryTest {
 				.containsExactly(project1, project2);
 	}
 
+	@Test
+	public void testStreamAll_BatchSmallerThanCollection_StreamsEveryProject() {
+		// Arrange
+		Project project1 = new Project("1", "Name 1", "Description 1");
+		Project project2 = new Project("2", "Name 2", "Description 2");
+		Project project3 = new Project("3", "Name 3", "Description 3");
+		addProjectToDb(project1);
+		addProjectToDb(project2);
+		addProjectToDb(project3);
+
+		// Act
+		List<Project> projectList;
+		try (Stream<Project> projectStream = projectRepository.streamAll(1)) {
+			projectList = projectStream.collect(Collectors.toList());
+		}
+
+		// Assert
+		assertThat(projectList).containsExactlyInAnyOrder(project1, project2, project3);
+	}
+
+	@Test
+	public void testStreamAll_NonPositiveBatchSize_ThrowsIllegalArgumentException() {
+		// Act & Assert
+		assertThatThrownBy(() -> projectRepository.streamAll(-1)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(BaseMongoRepository.INVALID_BATCH_SIZE, -1));
+	}
+
+	@Test
+	public void testCount_CountsEveryProject() {
+		// Arrange
+		addProjectToDb(new Project("1", "Name 1", "Description 1"));
+		addProjectToDb(new Project("2", "Name 2", "Description 2"));
+
+		// Act
+		long projectCount = projectRepository.count();
+
+		// Assert
+		assertThat(projectCount).isEqualTo(2);
+	}
+
+	@Test
+	public void testFindRange_ReturnsTheRangeSortedById() {
+		// Arrange
+		Project project1 = new Project("1", "Name 1", "Description 1");
+		Project project2 = new Project("2", "Name 2", "Description 2");
+		Project project3 = new Project("3", "Name 3", "Description 3");
+		addProjectToDb(project3);
+		addProjectToDb(project1);
+		addProjectToDb(project2);
+
+		// Act
+		List<Project> projectList = projectRepository.findRange(0, 2);
+
+		// Assert
+		assertThat(projectList).containsExactly(project1, project2);
+	}
+
 	@Test
 	public void testFindById_NoMatchingIdInDatabase_ReturnsNull() {
 		// Act
@@ -145,12 +238,53 @@ public class ProjectMongoRepositoryTest {
 		Project project = new Project("1", "Name", "Description");
 
 		// Act
-		projectRepository.save(project);
+		SaveResult saveResult = projectRepository.save(project);
 
 		// Assert
+		assertThat(saveResult).isEqualTo(SaveResult.INSERTED);
 		assertThat(queryAllProjectsFromDb()).containsExactly(project);
 	}
 
+	@Test
+	public void testSave_IdAlreadyStored_ReportsDuplicateAndKeepsStoredProject() {
+		// Arrange
+		Project storedProject = new Project("1", "Name", "Description");
+		addProjectToDb(storedProject);
+
+		// Act
+		SaveResult saveResult = projectRepository.save(new Project("1", "Other Name", "Other Description"));
+
+		// Assert
+		assertThat(saveResult).isEqualTo(SaveResult.DUPLICATE);
+		assertThat(queryAllProjectsFromDb()).containsExactly(storedProject);
+	}
+
+	@Test
+	public void testSaveAll_SomeIdsAlreadyStored_ReportsDuplicatesAndInsertsTheRest() {
+		// Arrange
+		Project storedProject = new Project("1", "Name 1", "Description 1");
+		addProjectToDb(storedProject);
+
+		Project duplicateProject = new Project("1", "Other Name", "Other Description");
+		Project newProject = new Project("2", "Name 2", "Description 2");
+
+		// Act
+		List<SaveResult> saveResults = projectRepository.saveAll(Arrays.asList(newProject, duplicateProject));
+
+		// Assert
+		assertThat(saveResults).containsExactly(SaveResult.INSERTED, SaveResult.DUPLICATE);
+		assertThat(queryAllProjectsFromDb()).containsExactlyInAnyOrder(storedProject, newProject);
+	}
+
+	@Test
+	public void testSaveAll_EmptyList_ReturnsEmptyResults() {
+		// Act
+		List<SaveResult> saveResults = projectRepository.saveAll(Collections.emptyList());
+
+		// Assert
+		assertThat(saveResults).isEmpty();
+	}
+
 	@Test
 	public void testDelete_DeletesProjectFromTheDatabase() {
 		// Arrange
@@ -198,6 +332,61 @@ public class ProjectMongoRepositoryTest {
 		assertThat(result).isFalse();
 	}
 
+	@Test
+	public void testExists_DoesNotDecodeTheDocument() {
+		// Arrange
+		// A name that cannot be decoded into a String field
+		// Makes any POJO decoding of the document fail
+		String id = "1";
+
+		mongoClient.getDatabase(DATABASE_NAME).getCollection(COLLECTION_NAME)
+				.insertOne(new Document("id", id).append("name", new Document("not", "a string")));
+
+		// Act
+		boolean result = projectRepository.exists(id);
+
+		// Assert
+		assertThat(result).isTrue();
+	}
+
+	@Test
+	public void testFindExistingIds_EmptyCollectionOfIds_ReturnsEmptySet() {
+		// Arrange
+		addProjectToDb(new Project("1", "Name", "Description"));
+
+		// Act
+		Set<String> result = projectRepository.findExistingIds(Collections.emptyList());
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	public void testFindExistingIds_NoMatchingIdsInDatabase_ReturnsEmptySet() {
+		// Arrange
+		addProjectToDb(new Project("1", "Name", "Description"));
+
+		// Act
+		Set<String> result = projectRepository.findExistingIds(Arrays.asList("998", "999"));
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	public void testFindExistingIds_SomeMatchingIdsInDatabase_ReturnsOnlyMatchingIds() {
+		// Arrange
+		addProjectToDb(new Project("1", "Name", "Description"));
+		addProjectToDb(new Project("2", "Name", "Description"));
+		addProjectToDb(new Project("3", "Name", "Description"));
+
+		// Act
+		Set<String> result = projectRepository.findExistingIds(Arrays.asList("1", "3", "999"));
+
+		// Assert
+		assertThat(result).containsExactlyInAnyOrder("1", "3");
+	}
+
 	private void addProjectToDb(Project project) {
 		projectCollection.insertOne(project);
 	}
@@ -205,4 +394,8 @@ public class ProjectMongoRepositoryTest {
 	private List<Project> queryAllProjectsFromDb() {
 		return projectCollection.find().into(new ArrayList<Project>());
 	}
+
+	private List<Document> queryAllIndexesFromDb() {
+		return projectCollection.listIndexes().into(new ArrayList<Document>());
+	}
 }
@@ -0,0 +1,136 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.swing.JList;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BulkListModelTest {
+
+	private List<String> events;
+	private BulkListModel<String> bulkListModel;
+
+	@Before
+	public void setUp() {
+		events = new ArrayList<>();
+		bulkListModel = new BulkListModel<>();
+		bulkListModel.addListDataListener(new RecordingListener());
+	}
+
+	@Test
+	public void testReplaceAll_ManyRows_FiresOneRemovedAndOneAddedInterval() {
+		// Arrange
+		bulkListModel.addElement("old");
+		events.clear();
+
+		// Act
+		bulkListModel.replaceAll(Arrays.asList("1", "2", "3"));
+
+		// Assert
+		assertThat(events).containsExactly("removed 0-0", "added 0-2");
+		assertThat(bulkListModel.getSize()).isEqualTo(3);
+		assertThat(bulkListModel.getElementAt(2)).isEqualTo("3");
+	}
+
+	@Test
+	public void testReplaceAll_EmptyModel_FiresOnlyAddedInterval() {
+		// Act
+		bulkListModel.replaceAll(Arrays.asList("1", "2"));
+
+		// Assert
+		assertThat(events).containsExactly("added 0-1");
+	}
+
+	@Test
+	public void testReplaceAll_FewerRows_ClearsTheListSelection() {
+		// Arrange
+		JList<String> list = new JList<>(bulkListModel);
+		bulkListModel.replaceAll(Arrays.asList("1", "2", "3"));
+		list.setSelectedIndex(0);
+		events.clear();
+
+		// Act
+		bulkListModel.replaceAll(Arrays.asList("4"));
+
+		// Assert
+		assertThat(events).containsExactly("removed 0-2", "added 0-0");
+		assertThat(list.isSelectionEmpty()).isTrue();
+		assertThat(bulkListModel.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void testClear_EmptyModel_FiresNothing() {
+		// Act
+		bulkListModel.clear();
+
+		// Assert
+		assertThat(events).isEmpty();
+		assertThat(bulkListModel.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testAddAll_FiresSingleIntervalAdded() {
+		// Arrange
+		bulkListModel.addElement("1");
+		events.clear();
+
+		// Act
+		bulkListModel.addAll(Arrays.asList("2", "3"));
+
+		// Assert
+		assertThat(events).containsExactly("added 1-2");
+		assertThat(bulkListModel.get(2)).isEqualTo("3");
+	}
+
+	@Test
+	public void testAddAll_NoRows_FiresNothing() {
+		// Act
+		bulkListModel.addAll(Collections.emptyList());
+
+		// Assert
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	public void testAddAndRemove_SingleRows_FireSingleRowIntervals() {
+		// Arrange
+		bulkListModel.addElement("1");
+		bulkListModel.addElement("3");
+
+		// Act
+		bulkListModel.add(1, "2");
+		bulkListModel.remove(0);
+
+		// Assert
+		assertThat(events).containsExactly("added 0-0", "added 1-1", "added 1-1", "removed 0-0");
+		assertThat(bulkListModel.get(0)).isEqualTo("2");
+		assertThat(bulkListModel.get(1)).isEqualTo("3");
+	}
+
+	private class RecordingListener implements ListDataListener {
+
+		@Override
+		public void intervalAdded(ListDataEvent e) {
+			events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+		}
+
+		@Override
+		public void intervalRemoved(ListDataEvent e) {
+			events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+		}
+
+		@Override
+		public void contentsChanged(ListDataEvent e) {
+			events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ControllerRunnerTest {
+
+	private List<Runnable> queuedOperations;
+	private ControllerRunner controllerRunner;
+
+	@Before
+	public void setUp() {
+		queuedOperations = new ArrayList<>();
+		controllerRunner = new ControllerRunner(queuedOperations::add);
+	}
+
+	@Test
+	public void testSubmit_WhileOperationIsQueued_CountsItAsInFlight() {
+		// Act
+		controllerRunner.submit(() -> {
+		});
+
+		// Assert
+		assertThat(controllerRunner.getOperationsInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	public void testSubmit_WhenOperationFinishes_NotifiesListenerAndClearsCount() {
+		// Arrange
+		List<Integer> notifiedCounts = new ArrayList<>();
+		controllerRunner.setInFlightListener(() -> notifiedCounts.add(controllerRunner.getOperationsInFlight()));
+		controllerRunner.submit(() -> {
+		});
+
+		// Act
+		queuedOperations.get(0).run();
+
+		// Assert
+		assertThat(notifiedCounts).containsExactly(1, 0);
+		assertThat(controllerRunner.getOperationsInFlight()).isZero();
+	}
+
+	@Test
+	public void testSubmit_WhenOperationThrows_StillClearsCount() {
+		// Arrange
+		controllerRunner.submit(() -> {
+			throw new IllegalStateException("Failure");
+		});
+
+		// Act
+		queuedOperations.get(0).run();
+
+		// Assert
+		assertThat(controllerRunner.getOperationsInFlight()).isZero();
+	}
+
+	@Test
+	public void testSubmit_WhenExecutorRejects_RethrowsAndClearsCount() {
+		// Arrange
+		Executor rejectingExecutor = operation -> {
+			throw new RejectedExecutionException();
+		};
+		ControllerRunner rejectingRunner = new ControllerRunner(rejectingExecutor);
+
+		// Act & Assert
+		assertThatThrownBy(() -> rejectingRunner.submit(() -> {
+		})).isInstanceOf(RejectedExecutionException.class);
+		assertThat(rejectingRunner.getOperationsInFlight()).isZero();
+	}
+
+	@Test
+	public void testSubmitWrite_WhileAnEarlierWriteIsQueued_WaitsForIt() {
+		// Arrange
+		List<String> ranOperations = new ArrayList<>();
+		controllerRunner.submitWrite(() -> ranOperations.add("first"));
+
+		// Act
+		controllerRunner.submitWrite(() -> ranOperations.add("second"));
+		controllerRunner.submit(() -> ranOperations.add("read"));
+
+		// Assert
+		assertThat(queuedOperations).hasSize(2);
+		queuedOperations.get(1).run();
+		queuedOperations.get(0).run();
+		queuedOperations.get(2).run();
+		assertThat(ranOperations).containsExactly("read", "first", "second");
+	}
+
+	@Test
+	public void testSubmitWrite_AddThenDeleteOnAThreadPool_LeavesNothingBehind() throws InterruptedException {
+		// Arrange
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		ControllerRunner poolRunner = new ControllerRunner(executor);
+		Set<String> storedIssues = Collections.synchronizedSet(new HashSet<>());
+		List<String> errors = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch deleteFinished = new CountDownLatch(1);
+
+		// Act
+		// The add gives an overtaking delete time to finish first, a serialized delete only starts after it
+		poolRunner.submitWrite(() -> {
+			awaitQuietly(deleteFinished, 200);
+			storedIssues.add("X");
+		});
+		poolRunner.submitWrite(() -> {
+			if (!storedIssues.remove("X")) {
+				errors.add("X does not exist");
+			}
+			deleteFinished.countDown();
+		});
+
+		// Assert
+		assertThat(deleteFinished.await(10, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+		assertThat(storedIssues).isEmpty();
+		assertThat(errors).isEmpty();
+	}
+
+	@Test
+	public void testCurrentTicket_InsideOperation_IsCurrentUntilNextNavigation() {
+		// Arrange
+		List<Long> tickets = new ArrayList<>();
+		controllerRunner.submitNavigation(() -> tickets.add(controllerRunner.currentTicket()));
+		queuedOperations.get(0).run();
+
+		// Act
+		controllerRunner.submitNavigation(() -> {
+		});
+
+		// Assert
+		assertThat(tickets).hasSize(1);
+		assertThat(controllerRunner.isCurrent(tickets.get(0))).isFalse();
+	}
+
+	@Test
+	public void testCurrentTicket_SubmitAfterNavigation_SharesTheNavigationTicket() {
+		// Arrange
+		List<Long> tickets = new ArrayList<>();
+		controllerRunner.submitNavigation(() -> tickets.add(controllerRunner.currentTicket()));
+		controllerRunner.submit(() -> tickets.add(controllerRunner.currentTicket()));
+
+		// Act
+		queuedOperations.forEach(Runnable::run);
+
+		// Assert
+		assertThat(tickets.get(0)).isEqualTo(tickets.get(1));
+		assertThat(controllerRunner.isCurrent(tickets.get(1))).isTrue();
+	}
+
+	@Test
+	public void testCurrentTicket_OutsideOperation_IsNull() {
+		// Act & Assert
+		assertThat(controllerRunner.currentTicket()).isNull();
+	}
+
+	private static void awaitQuietly(CountDownLatch latch, long timeoutMillis) {
+		try {
+			latch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.shemilikevin.app.tracker.model.Issue;
+import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.view.IssueTrackerView;
+import com.shemilikevin.app.tracker.view.PageSource;
+
+public class EdtDispatchingViewTest {
+
+	@Mock
+	private IssueTrackerView delegate;
+
+	@Mock
+	private PageSource<Issue> issuePages;
+
+	@Mock
+	private PageSource<Project> projectPages;
+
+	private AutoCloseable autoCloseable;
+	private List<Runnable> queuedOperations;
+	private ControllerRunner controllerRunner;
+	private EdtDispatchingView edtDispatchingView;
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+		queuedOperations = new ArrayList<>();
+		controllerRunner = new ControllerRunner(queuedOperations::add);
+		edtDispatchingView = new EdtDispatchingView(delegate, controllerRunner);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testShowProjects_OutsideControllerRunner_ForwardsToDelegate() throws Exception {
+		// Arrange
+		List<Project> projects = Arrays.asList(new Project("1", "Name", "Description"));
+
+		// Act
+		edtDispatchingView.showProjects(projects);
+		flushEventQueue();
+
+		// Assert
+		verify(delegate).showProjects(projects);
+	}
+
+	@Test
+	public void testShowIssues_FromCurrentOperation_ForwardsToDelegate() throws Exception {
+		// Arrange
+		List<Issue> issues = Arrays.asList(new Issue("1", "Name", "Description", "Priority", "1"));
+		controllerRunner.submitNavigation(() -> edtDispatchingView.showIssues(issues));
+
+		// Act
+		queuedOperations.get(0).run();
+		flushEventQueue();
+
+		// Assert
+		verify(delegate).showIssues(issues);
+	}
+
+	@Test
+	public void testShowIssues_FromStaleOperation_IsDiscarded() throws Exception {
+		// Arrange
+		List<Issue> issues = Arrays.asList(new Issue("1", "Name", "Description", "Priority", "1"));
+		controllerRunner.submitNavigation(() -> edtDispatchingView.showIssues(issues));
+		controllerRunner.submitNavigation(() -> {
+		});
+
+		// Act
+		queuedOperations.get(0).run();
+		flushEventQueue();
+
+		// Assert
+		verify(delegate, never()).showIssues(issues);
+	}
+
+	@Test
+	public void testAllCallbacks_ForwardToDelegate() throws Exception {
+		// Arrange
+		Issue issue = new Issue("1", "Name", "Description", "Priority", "1");
+		Project project = new Project("1", "Name", "Description");
+		Supplier<Stream<Issue>> issueStream = () -> Stream.of(issue);
+
+		// Act
+		edtDispatchingView.showProjectError("Project error");
+		edtDispatchingView.showIssueError("Issue error");
+		edtDispatchingView.clearProjectFields();
+		edtDispatchingView.clearIssueFields();
+		edtDispatchingView.clearProjectSelection();
+		edtDispatchingView.clearIssueSelection();
+		edtDispatchingView.appendIssues(Arrays.asList(issue));
+		edtDispatchingView.showMoreIssuesAvailable("token");
+		edtDispatchingView.showIssuePages(issuePages);
+		edtDispatchingView.showIssueStream(issueStream);
+		edtDispatchingView.showProjectPages(projectPages);
+		edtDispatchingView.issueAdded(issue);
+		edtDispatchingView.issueRemoved("1");
+		edtDispatchingView.projectAdded(project);
+		edtDispatchingView.projectRemoved("1");
+		flushEventQueue();
+
+		// Assert
+		verify(delegate).showProjectError("Project error");
+		verify(delegate).showIssueError("Issue error");
+		verify(delegate).clearProjectFields();
+		verify(delegate).clearIssueFields();
+		verify(delegate).clearProjectSelection();
+		verify(delegate).clearIssueSelection();
+		verify(delegate).appendIssues(Arrays.asList(issue));
+		verify(delegate).showMoreIssuesAvailable("token");
+		verify(delegate).showIssuePages(issuePages);
+		verify(delegate).showIssueStream(issueStream);
+		verify(delegate).showProjectPages(projectPages);
+		verify(delegate).issueAdded(issue);
+		verify(delegate).issueRemoved("1");
+		verify(delegate).projectAdded(project);
+		verify(delegate).projectRemoved("1");
+	}
+
+	private void flushEventQueue() throws Exception {
+		SwingUtilities.invokeAndWait(() -> {
+		});
+	}
+}
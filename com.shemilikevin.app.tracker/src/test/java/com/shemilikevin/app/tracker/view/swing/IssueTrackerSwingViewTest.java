@@ -1,10 +1,23 @@
 package com.shemilikevin.app.tracker.view.swing;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.swing.timing.Pause.pause;
+import static org.assertj.swing.timing.Timeout.timeout;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.swing.JList;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
 
 import org.assertj.swing.annotation.GUITest;
 import org.assertj.swing.data.Index;
@@ -12,6 +25,7 @@ import org.assertj.swing.edt.GuiActionRunner;
 import org.assertj.swing.fixture.FrameFixture;
 import org.assertj.swing.junit.runner.GUITestRunner;
 import org.assertj.swing.junit.testcase.AssertJSwingJUnitTestCase;
+import org.assertj.swing.timing.Condition;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -21,6 +35,7 @@ import com.shemilikevin.app.tracker.controller.IssueController;
 import com.shemilikevin.app.tracker.controller.ProjectController;
 import com.shemilikevin.app.tracker.model.Issue;
 import com.shemilikevin.app.tracker.model.Project;
+import com.shemilikevin.app.tracker.view.PageSource;
 
 @RunWith(GUITestRunner.class)
 public class IssueTrackerSwingViewTest extends AssertJSwingJUnitTestCase {
@@ -50,6 +65,8 @@ public class IssueTrackerSwingViewTest extends AssertJSwingJUnitTestCase {
 	private static final String ISSUE_LIST = "issueList";
 	private static final String ISSUE_ADD_BUTTON = "addIssueButton";
 	private static final String ISSUE_DELETE_BUTTON = "deleteIssueButton";
+	private static final String ISSUE_MORE_BUTTON = "loadMoreIssuesButton";
+	private static final String STATUS_LABEL = "statusLabel";
 
 	@Mock
 	private ProjectController projectController;
@@ -244,6 +261,7 @@ public class IssueTrackerSwingViewTest extends AssertJSwingJUnitTestCase {
 		frameFixture.list(ISSUE_LIST);
 		frameFixture.button(ISSUE_ADD_BUTTON).requireDisabled();
 		frameFixture.button(ISSUE_DELETE_BUTTON).requireDisabled();
+		frameFixture.button(ISSUE_MORE_BUTTON).requireDisabled();
 	}
 
 	@Test
@@ -448,6 +466,47 @@ public class IssueTrackerSwingViewTest extends AssertJSwingJUnitTestCase {
 		assertThat(listContents).containsExactly(issue1.toString(), issue2.toString());
 	}
 
+	@Test
+	public void testShowIssues_AfterSelectingAnIssue_ClearsTheSelection() {
+		// Arrange
+		goToIssueTab();
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", "10");
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.showIssues(Arrays.asList(issue1, issue2));
+		});
+		frameFixture.list(ISSUE_LIST).selectItem(1);
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.showIssues(Arrays.asList(issue2));
+		});
+
+		// Assert
+		frameFixture.list(ISSUE_LIST).requireNoSelection();
+		frameFixture.button(ISSUE_DELETE_BUTTON).requireDisabled();
+	}
+
+	@Test
+	public void testShowProjects_AfterSelectingAProject_ClearsTheSelection() {
+		// Arrange
+		Project project1 = new Project("1", "Name 1", "Description 1");
+		Project project2 = new Project("2", "Name 2", "Description 2");
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.showProjects(Arrays.asList(project1, project2));
+		});
+		frameFixture.list(PROJECT_LIST).selectItem(1);
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.showProjects(Arrays.asList(project2));
+		});
+
+		// Assert
+		frameFixture.list(PROJECT_LIST).requireNoSelection();
+		frameFixture.button(PROJECT_DELETE_BUTTON).requireDisabled();
+	}
+
 	@Test
 	public void testShowIssues_WhenProvidedWithEmptyList_ShowsEmptyList() {
 		// Arrange
@@ -463,6 +522,168 @@ public class IssueTrackerSwingViewTest extends AssertJSwingJUnitTestCase {
 		assertThat(listContents).isEmpty();
 	}
 
+	@Test
+	public void testAppendIssues_WhenProvidedWithIssues_AddsThemAfterTheShownIssues() {
+		// Arrange
+		goToIssueTab();
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", "10");
+		addIssueToList(issue1);
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.appendIssues(Arrays.asList(issue2));
+		});
+
+		// Assert
+		String[] listContents = frameFixture.list(ISSUE_LIST).contents();
+		assertThat(listContents).containsExactly(issue1.toString(), issue2.toString());
+	}
+
+	@Test
+	public void testIssueAdded_InsertsTheIssueInIdOrder() {
+		// Arrange
+		goToIssueTab();
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", "10");
+		Issue issue3 = new Issue("3", "Name 3", "Description 3", "Priority 3", "10");
+		addIssueToList(issue1);
+		addIssueToList(issue3);
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.issueAdded(issue2);
+		});
+
+		// Assert
+		String[] listContents = frameFixture.list(ISSUE_LIST).contents();
+		assertThat(listContents).containsExactly(issue1.toString(), issue2.toString(), issue3.toString());
+	}
+
+	@Test
+	public void testIssueAdded_PastTheLastLoadedPage_LeavesItForTheNextPage() {
+		// Arrange
+		goToIssueTab();
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		addIssueToList(issue1);
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.showMoreIssuesAvailable("token");
+		});
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.issueAdded(new Issue("2", "Name 2", "Description 2", "Priority 2", "10"));
+		});
+
+		// Assert
+		String[] listContents = frameFixture.list(ISSUE_LIST).contents();
+		assertThat(listContents).containsExactly(issue1.toString());
+	}
+
+	@Test
+	public void testIssueRemoved_RemovesOnlyTheMatchingIssue() {
+		// Arrange
+		goToIssueTab();
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "10");
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", "10");
+		addIssueToList(issue1);
+		addIssueToList(issue2);
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.issueRemoved("1");
+			issueTrackerView.issueRemoved("99");
+		});
+
+		// Assert
+		String[] listContents = frameFixture.list(ISSUE_LIST).contents();
+		assertThat(listContents).containsExactly(issue2.toString());
+	}
+
+	@Test
+	public void testShowMoreIssuesAvailable_WhenProvidedWithToken_EnablesTheLoadMoreButton() {
+		// Arrange
+		goToIssueTab();
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.showMoreIssuesAvailable("token");
+		});
+
+		// Assert
+		frameFixture.button(ISSUE_MORE_BUTTON).requireEnabled();
+	}
+
+	@Test
+	public void testShowIssues_AfterMoreIssuesWereAvailable_DisablesTheLoadMoreButton() {
+		// Arrange
+		goToIssueTab();
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.showMoreIssuesAvailable("token");
+		});
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.showIssues(Collections.emptyList());
+		});
+
+		// Assert
+		frameFixture.button(ISSUE_MORE_BUTTON).requireDisabled();
+	}
+
+	@Test
+	public void testAppendIssues_AfterMoreIssuesWereAvailable_DisablesTheLoadMoreButton() {
+		// Arrange
+		goToIssueTab();
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.showMoreIssuesAvailable("token");
+		});
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.appendIssues(Collections.emptyList());
+		});
+
+		// Assert
+		frameFixture.button(ISSUE_MORE_BUTTON).requireDisabled();
+	}
+
+	@Test
+	public void testProjectAdded_AppendsTheProject() {
+		// Arrange
+		Project project1 = new Project("1", "Name 1", "Description 1");
+		Project project2 = new Project("2", "Name 2", "Description 2");
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.getProjectListModel().addElement(project1);
+		});
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.projectAdded(project2);
+		});
+
+		// Assert
+		String[] listContents = frameFixture.list(PROJECT_LIST).contents();
+		assertThat(listContents).containsExactly(project1.toString(), project2.toString());
+	}
+
+	@Test
+	public void testProjectRemoved_RemovesOnlyTheMatchingProject() {
+		// Arrange
+		addProjectToList("1");
+		addProjectToList("2");
+
+		// Act
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.projectRemoved("1");
+			issueTrackerView.projectRemoved("99");
+		});
+
+		// Assert
+		String[] listContents = frameFixture.list(PROJECT_LIST).contents();
+		assertThat(listContents).containsExactly(new Project("2", "Name", "Description").toString());
+	}
+
 	@Test
 	public void testShowProjectError_WhenProvidedWithMessage_ShowsMessageInProjectErrorLabel() {
 		// Arrange
@@ -623,6 +844,32 @@ public class IssueTrackerSwingViewTest extends AssertJSwingJUnitTestCase {
 		verify(issueController).listIssues(id);
 	}
 
+	@Test
+	public void testProjectTab_ProjectSelection_PrefetchesItsIssues() {
+		// Arrange
+		String id = "1";
+		addProjectToList(id);
+
+		// Act
+		frameFixture.list(PROJECT_LIST).selectItem(0);
+
+		// Assert
+		verify(issueController).prefetchIssues(id);
+	}
+
+	@Test
+	public void testProjectTab_ProjectSelectionWithProgressiveLists_DoesNotPrefetch() {
+		// Arrange
+		addProjectToList("1");
+		GuiActionRunner.execute(() -> issueTrackerView.setProgressiveLists(true));
+
+		// Act
+		frameFixture.list(PROJECT_LIST).selectItem(0);
+
+		// Assert
+		verify(issueController, never()).prefetchIssues("1");
+	}
+
 	@Test
 	public void testProjectTab_DelegatesToProjectController_ListProjects() {
 		// Arrange
@@ -673,6 +920,24 @@ public class IssueTrackerSwingViewTest extends AssertJSwingJUnitTestCase {
 		verify(issueController).deleteIssue(issueId, projectId);
 	}
 
+	@Test
+	public void testLoadMoreIssuesButton_DelegatesToIssueController_ListsMoreIssues() {
+		// Arrange
+		String projectId = "10";
+		String pageToken = "token";
+		goToIssueTab(projectId);
+
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.showMoreIssuesAvailable(pageToken);
+		});
+
+		// Act
+		frameFixture.button(ISSUE_MORE_BUTTON).click();
+
+		// Assert
+		verify(issueController).listMoreIssues(projectId, pageToken);
+	}
+
 	/*
 	 * Some Helper Methods
 	 */
@@ -713,6 +978,278 @@ public class IssueTrackerSwingViewTest extends AssertJSwingJUnitTestCase {
 		});
 	}
 
+	@Test
+	@GUITest
+	public void testShowProjects_ReplacesRowsWithOneContentsChangedEvent() {
+		// Arrange
+		List<String> events = new ArrayList<>();
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.getProjectListModel().addElement(new Project("1", "Name 1", "Description 1"));
+			issueTrackerView.getProjectListModel().addListDataListener(new ListDataListener() {
+
+				@Override
+				public void intervalAdded(ListDataEvent e) {
+					events.add("added");
+				}
+
+				@Override
+				public void intervalRemoved(ListDataEvent e) {
+					events.add("removed");
+				}
+
+				@Override
+				public void contentsChanged(ListDataEvent e) {
+					events.add("changed");
+				}
+			});
+		});
+		List<Project> projects = Arrays.asList(new Project("2", "Name 2", "Description 2"),
+				new Project("3", "Name 3", "Description 3"));
+
+		// Act
+		GuiActionRunner.execute(() -> issueTrackerView.showProjects(projects));
+
+		// Assert
+		assertThat(events).containsExactly("changed");
+		assertThat(frameFixture.list(PROJECT_LIST).contents()).containsExactly(projects.get(0).toString(),
+				projects.get(1).toString());
+		assertThat(issueTrackerView.getProjectJList().getPrototypeCellValue()).isNotNull();
+	}
+
+	@Test
+	@GUITest
+	public void testShowProjectPages_ShowsRowsLoadedFromTheSource() {
+		// Arrange
+		List<Project> projects = Arrays.asList(new Project("1", "Name 1", "Description 1"),
+				new Project("2", "Name 2", "Description 2"));
+
+		// Act
+		GuiActionRunner.execute(() -> issueTrackerView.showProjectPages(new ListPageSource<>(projects)));
+		loadAllRows(issueTrackerView.getProjectJList(), 2);
+
+		// Assert
+		String[] listContents = frameFixture.list(PROJECT_LIST).contents();
+		assertThat(listContents).containsExactly(projects.get(0).toString(), projects.get(1).toString());
+	}
+
+	@Test
+	@GUITest
+	public void testProjectAdded_WithProjectPages_RecountsTheRows() {
+		// Arrange
+		List<Project> projects = new ArrayList<>(Arrays.asList(new Project("1", "Name 1", "Description 1")));
+		GuiActionRunner.execute(() -> issueTrackerView.showProjectPages(new ListPageSource<>(projects)));
+		robot().waitForIdle();
+		Project project = new Project("2", "Name 2", "Description 2");
+		projects.add(project);
+
+		// Act
+		GuiActionRunner.execute(() -> issueTrackerView.projectAdded(project));
+		loadAllRows(issueTrackerView.getProjectJList(), 2);
+
+		// Assert
+		assertThat(frameFixture.list(PROJECT_LIST).contents()).hasSize(2);
+		assertThat(issueTrackerView.getProjectListModel().isEmpty()).isTrue();
+	}
+
+	@Test
+	@GUITest
+	public void testDeleteProjectButton_SelectedRowStillLoading_EnabledOnceTheRowArrives() {
+		// Arrange
+		CountDownLatch pageRelease = new CountDownLatch(1);
+		List<Project> projects = Arrays.asList(new Project("1", "Name 1", "Description 1"));
+		GuiActionRunner.execute(() -> issueTrackerView.showProjectPages(new ListPageSource<Project>(projects) {
+			@Override
+			public List<Project> load(int offset, int limit) {
+				try {
+					pageRelease.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.load(offset, limit);
+			}
+		}));
+		pause(new Condition("projects to be counted") {
+			@Override
+			public boolean test() {
+				return GuiActionRunner.execute(() -> issueTrackerView.getProjectJList().getModel().getSize() == 1);
+			}
+		}, timeout(5000));
+
+		// Act
+		GuiActionRunner.execute(() -> issueTrackerView.getProjectJList().setSelectedIndex(0));
+
+		// Assert
+		frameFixture.button(PROJECT_DELETE_BUTTON).requireDisabled();
+		frameFixture.tabbedPane(TABBED_PANE).requireDisabled(Index.atIndex(TAB_ISSUES));
+		pageRelease.countDown();
+		pause(new Condition("selected project to be loaded") {
+			@Override
+			public boolean test() {
+				return GuiActionRunner.execute(() -> issueTrackerView.getProjectJList().getSelectedValue() != null);
+			}
+		}, timeout(5000));
+		frameFixture.button(PROJECT_DELETE_BUTTON).requireEnabled();
+	}
+
+	@Test
+	@GUITest
+	public void testShowIssues_AfterIssuePages_SwitchesBackToTheDefaultModel() {
+		// Arrange
+		goToIssueTab();
+		Issue issue = new Issue("1", "Name", "Description", "Priority", "1");
+		GuiActionRunner.execute(() -> issueTrackerView.showIssuePages(new ListPageSource<>(Arrays.asList(issue))));
+		robot().waitForIdle();
+
+		// Act
+		GuiActionRunner.execute(() -> issueTrackerView.showIssues(Arrays.asList(issue)));
+
+		// Assert
+		assertThat(issueTrackerView.getIssuePagingModel()).isNull();
+		assertThat(frameFixture.list(ISSUE_LIST).contents()).containsExactly(issue.toString());
+	}
+
+	@Test
+	@GUITest
+	public void testShowIssueStream_AppendsStreamedIssues() throws Exception {
+		// Arrange
+		goToIssueTab();
+		addIssueToList("99");
+		Issue issue1 = new Issue("1", "Name 1", "Description 1", "Priority 1", "1");
+		Issue issue2 = new Issue("2", "Name 2", "Description 2", "Priority 2", "1");
+
+		// Act
+		GuiActionRunner.execute(() -> issueTrackerView.showIssueStream(() -> Stream.of(issue1, issue2)));
+		issueTrackerView.getIssueLoader().get(5, TimeUnit.SECONDS);
+
+		// Assert
+		pause(new Condition("issues to be published") {
+			@Override
+			public boolean test() {
+				return issueTrackerView.getIssueListModel().size() == 2;
+			}
+		}, timeout(5000));
+		assertThat(frameFixture.list(ISSUE_LIST).contents()).containsExactly(issue1.toString(), issue2.toString());
+	}
+
+	@Test
+	@GUITest
+	public void testShowIssueStream_StreamFails_ShowsTheIssueError() {
+		// Arrange
+		goToIssueTab();
+
+		// Act
+		GuiActionRunner.execute(() -> issueTrackerView.showIssueStream(() -> {
+			throw new IllegalStateException("Connection lost");
+		}));
+
+		// Assert
+		pause(new Condition("the failure to be reported") {
+			@Override
+			public boolean test() {
+				return ProgressiveListLoader.LOAD_FAILED
+						.equals(GuiActionRunner.execute(() -> issueTrackerView.getIssueErrorLabel().getText()));
+			}
+		}, timeout(5000));
+	}
+
+	@Test
+	@GUITest
+	public void testShowIssues_WhileIssuesStream_CancelsTheStream() {
+		// Arrange
+		goToIssueTab();
+		Issue issue = new Issue("1", "Name", "Description", "Priority", "1");
+		GuiActionRunner.execute(() -> issueTrackerView.showIssueStream(() -> Stream.generate(() -> issue)));
+		ProgressiveListLoader<Issue> issueLoader = issueTrackerView.getIssueLoader();
+
+		// Act
+		GuiActionRunner.execute(() -> issueTrackerView.showIssues(Collections.emptyList()));
+		robot().waitForIdle();
+
+		// Assert
+		assertThat(issueLoader.isCancelled()).isTrue();
+		assertThat(issueTrackerView.getIssueLoader()).isNull();
+		frameFixture.list(ISSUE_LIST).requireItemCount(0);
+	}
+
+	@Test
+	@GUITest
+	public void testShowOperationsInFlight_WhileOperationsRun_ShowsLoadingStatus() {
+		// Act
+		GuiActionRunner.execute(() -> issueTrackerView.showOperationsInFlight(2));
+
+		// Assert
+		frameFixture.label(STATUS_LABEL).requireText("Loading...");
+	}
+
+	@Test
+	@GUITest
+	public void testShowOperationsInFlight_WhenOperationsFinish_ClearsStatus() {
+		// Arrange
+		GuiActionRunner.execute(() -> issueTrackerView.showOperationsInFlight(1));
+
+		// Act
+		GuiActionRunner.execute(() -> issueTrackerView.showOperationsInFlight(0));
+
+		// Assert
+		frameFixture.label(STATUS_LABEL).requireText(" ");
+	}
+
+	@Test
+	@GUITest
+	public void testSetControllerRunner_CoalescerOfAnotherRunner_ThrowsIllegalArgumentException() {
+		// Arrange
+		ControllerRunner controllerRunner = new ControllerRunner(Runnable::run);
+		RefreshCoalescer refreshCoalescer = new RefreshCoalescer(new ControllerRunner(Runnable::run));
+
+		// Act & Assert
+		assertThatThrownBy(() -> GuiActionRunner
+				.execute(() -> issueTrackerView.setControllerRunner(controllerRunner, refreshCoalescer)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(IssueTrackerSwingView.RUNNER_MISMATCH);
+	}
+
+	@Test
+	@GUITest
+	public void testAddProjectButton_WithControllerRunner_SubmitsOperationToRunner() {
+		// Arrange
+		ControllerRunner controllerRunner = new ControllerRunner(Runnable::run);
+		GuiActionRunner.execute(
+				() -> issueTrackerView.setControllerRunner(controllerRunner, new RefreshCoalescer(controllerRunner)));
+		frameFixture.textBox(PROJECT_ID_FIELD).enterText("1");
+		frameFixture.textBox(PROJECT_NAME_FIELD).enterText("Name");
+		frameFixture.textBox(PROJECT_DESCRIPTION_FIELD).enterText("Description");
+
+		// Act
+		frameFixture.button(PROJECT_ADD_BUTTON).click();
+
+		// Assert
+		verify(projectController).addProject("1", "Name", "Description");
+		frameFixture.label(STATUS_LABEL).requireText(" ");
+	}
+
+	// Asks for every row, then lets the page loads posted to the Event Dispatch Thread finish
+	// Pages load on the page loader thread, so wait for the count and then for every row
+	private void loadAllRows(JList<?> list, int rowCount) {
+		pause(new Condition("rows to be counted") {
+			@Override
+			public boolean test() {
+				return GuiActionRunner.execute(() -> list.getModel().getSize() == rowCount);
+			}
+		}, timeout(5000));
+		pause(new Condition("rows to be loaded") {
+			@Override
+			public boolean test() {
+				return GuiActionRunner.execute(() -> {
+					boolean loaded = true;
+					for (int index = 0; index < rowCount; index++) {
+						loaded &= list.getModel().getElementAt(index) != null;
+					}
+					return loaded;
+				});
+			}
+		}, timeout(5000));
+	}
+
 	private void addIssueToList() {
 		addIssueToList("1");
 	}
@@ -723,6 +1260,12 @@ public class IssueTrackerSwingViewTest extends AssertJSwingJUnitTestCase {
 		});
 	}
 
+	private void addIssueToList(Issue issue) {
+		GuiActionRunner.execute(() -> {
+			issueTrackerView.getIssueListModel().addElement(issue);
+		});
+	}
+
 	private void fillProjectErrorLabel() {
 		GuiActionRunner.execute(() -> {
 			issueTrackerView.getProjectErrorLabel().setText("Some Error");
@@ -734,4 +1277,23 @@ public class IssueTrackerSwingViewTest extends AssertJSwingJUnitTestCase {
 			issueTrackerView.getIssueErrorLabel().setText("Some Error");
 		});
 	}
+
+	private static class ListPageSource<T> implements PageSource<T> {
+
+		private final List<T> rows;
+
+		ListPageSource(List<T> rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public long count() {
+			return rows.size();
+		}
+
+		@Override
+		public List<T> load(int offset, int limit) {
+			return new ArrayList<>(rows.subList(offset, Math.min(offset + limit, rows.size())));
+		}
+	}
 }
@@ -0,0 +1,357 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.shemilikevin.app.tracker.view.PageSource;
+
+public class PagingListModelTest {
+
+	private static final int PAGE_SIZE = 10;
+	private static final int MAX_PAGES = 2;
+
+	private long rowCount;
+	private List<Integer> loadedOffsets;
+	private List<Runnable> queuedLoads;
+	private List<String> events;
+	private List<String> reportedErrors;
+	private PagingListModel<String> pagingListModel;
+
+	@Before
+	public void setUp() {
+		rowCount = 25;
+		loadedOffsets = new ArrayList<>();
+		queuedLoads = new ArrayList<>();
+		events = new ArrayList<>();
+		reportedErrors = new ArrayList<>();
+
+		pagingListModel = new PagingListModel<>(new RowSource(), PAGE_SIZE, MAX_PAGES, queuedLoads::add,
+				Runnable::run, reportedErrors::add);
+		pagingListModel.addListDataListener(new RecordingListener());
+	}
+
+	@Test
+	public void testRefresh_CountsRowsAndFiresAddedInterval() {
+		// Act
+		refresh();
+
+		// Assert
+		assertThat(pagingListModel.getSize()).isEqualTo(25);
+		assertThat(events).containsExactly("added 0-24");
+	}
+
+	@Test
+	public void testRefresh_FewerRows_FiresRemovedAndChangedIntervals() {
+		// Arrange
+		refresh();
+		events.clear();
+		rowCount = 5;
+
+		// Act
+		refresh();
+
+		// Assert
+		assertThat(pagingListModel.getSize()).isEqualTo(5);
+		assertThat(events).containsExactly("removed 5-24", "changed 0-4");
+	}
+
+	@Test
+	public void testRefresh_SameNumberOfRows_FiresOnlyChangedInterval() {
+		// Arrange
+		refresh();
+		events.clear();
+
+		// Act
+		refresh();
+
+		// Assert
+		assertThat(events).containsExactly("changed 0-24");
+	}
+
+	@Test
+	public void testGetElementAt_PageNotLoaded_ReturnsNullAndLoadsThePage() {
+		// Arrange
+		refresh();
+		events.clear();
+
+		// Act
+		String row = pagingListModel.getElementAt(12);
+		runQueuedLoads();
+
+		// Assert
+		assertThat(row).isNull();
+		assertThat(loadedOffsets).containsExactly(10);
+		assertThat(pagingListModel.getElementAt(12)).isEqualTo("Row 12");
+		assertThat(events).containsExactly("changed 10-19");
+	}
+
+	@Test
+	public void testGetElementAt_PageAlreadyLoading_DoesNotLoadItTwice() {
+		// Arrange
+		refresh();
+
+		// Act
+		pagingListModel.getElementAt(0);
+		pagingListModel.getElementAt(1);
+		runQueuedLoads();
+
+		// Assert
+		assertThat(loadedOffsets).containsExactly(0);
+	}
+
+	@Test
+	public void testGetElementAt_LastPartialPage_FiresChangeOnlyForExistingRows() {
+		// Arrange
+		refresh();
+		events.clear();
+
+		// Act
+		pagingListModel.getElementAt(20);
+		runQueuedLoads();
+
+		// Assert
+		assertThat(pagingListModel.getElementAt(24)).isEqualTo("Row 24");
+		assertThat(events).containsExactly("changed 20-24");
+	}
+
+	@Test
+	public void testGetElementAt_RowMissingFromLoadedPage_ReturnsNull() {
+		// Arrange
+		refresh();
+		pagingListModel.getElementAt(20);
+		rowCount = 21;
+		runQueuedLoads();
+
+		// Act & Assert
+		assertThat(pagingListModel.getElementAt(24)).isNull();
+	}
+
+	@Test
+	public void testGetElementAt_ScrollingThroughEveryRow_KeepsOnlyMaxPages() {
+		// Arrange
+		rowCount = 1_000;
+		refresh();
+
+		// Act
+		for (int index = 0; index < rowCount; index++) {
+			pagingListModel.getElementAt(index);
+			runQueuedLoads();
+		}
+
+		// Assert
+		assertThat(pagingListModel.getLoadedPageCount()).isEqualTo(MAX_PAGES);
+		assertThat(loadedOffsets).hasSize(100);
+	}
+
+	@Test
+	public void testGetElementAt_PageLoadedAfterRefresh_IsDiscarded() {
+		// Arrange
+		refresh();
+		pagingListModel.getElementAt(0);
+
+		// Act
+		pagingListModel.refresh();
+		runQueuedLoads();
+
+		// Assert
+		assertThat(pagingListModel.getLoadedPageCount()).isZero();
+	}
+
+	@Test
+	public void testGetElementAt_PageFailedToLoad_DoesNotLoadItAgainUntilRefresh() {
+		// Arrange
+		PagingListModel<String> failingModel = new PagingListModel<>(new FailingSource(), PAGE_SIZE, MAX_PAGES,
+				queuedLoads::add, Runnable::run, reportedErrors::add);
+		failingModel.getElementAt(0);
+		runQueuedLoads();
+
+		// Act
+		String row = failingModel.getElementAt(0);
+
+		// Assert
+		assertThat(row).isNull();
+		assertThat(queuedLoads).isEmpty();
+	}
+
+	@Test
+	public void testGetElementAt_PageFailedToLoadThenRefreshed_LoadsAgain() {
+		// Arrange
+		PagingListModel<String> failingModel = new PagingListModel<>(new FailingSource(), PAGE_SIZE, MAX_PAGES,
+				queuedLoads::add, Runnable::run, reportedErrors::add);
+		failingModel.getElementAt(0);
+		runQueuedLoads();
+		failingModel.refresh();
+		queuedLoads.clear();
+
+		// Act
+		failingModel.getElementAt(0);
+
+		// Assert
+		assertThat(queuedLoads).hasSize(1);
+	}
+
+	@Test
+	public void testGetElementAt_PageFailedBeforeRefresh_KeepsTheNewerLoad() {
+		// Arrange
+		PagingListModel<String> failingModel = new PagingListModel<>(new FailingSource(), PAGE_SIZE, MAX_PAGES,
+				queuedLoads::add, Runnable::run, reportedErrors::add);
+		failingModel.getElementAt(0);
+		Runnable failingLoad = queuedLoads.remove(0);
+		failingModel.refresh();
+		queuedLoads.clear();
+		failingModel.getElementAt(0);
+
+		// Act
+		failingLoad.run();
+
+		// Assert
+		assertThat(queuedLoads).hasSize(1);
+		failingModel.getElementAt(0);
+		assertThat(queuedLoads).hasSize(1);
+	}
+
+	@Test
+	public void testRefresh_CountFails_KeepsTheCurrentRows() {
+		// Arrange
+		PagingListModel<String> failingModel = new PagingListModel<>(new FailingSource(), PAGE_SIZE, MAX_PAGES,
+				Runnable::run, Runnable::run,
+				reportedErrors::add);
+
+		// Act
+		failingModel.refresh();
+
+		// Assert
+		assertThat(failingModel.getSize()).isZero();
+	}
+
+	@Test
+	public void testRefresh_CountFails_ReportsTheError() {
+		// Arrange
+		PagingListModel<String> failingModel = new PagingListModel<>(new FailingSource(), PAGE_SIZE, MAX_PAGES,
+				Runnable::run, Runnable::run, reportedErrors::add);
+
+		// Act
+		failingModel.refresh();
+
+		// Assert
+		assertThat(reportedErrors).containsExactly(PagingListModel.COUNT_FAILED);
+	}
+
+	@Test
+	public void testRefresh_OlderCountFailsAfterNewerRefresh_IsNotReported() {
+		// Arrange
+		PagingListModel<String> failingModel = new PagingListModel<>(new FailingSource(), PAGE_SIZE, MAX_PAGES,
+				queuedLoads::add, Runnable::run, reportedErrors::add);
+		failingModel.refresh();
+		Runnable olderRefresh = queuedLoads.remove(0);
+		failingModel.refresh();
+
+		// Act
+		olderRefresh.run();
+
+		// Assert
+		assertThat(reportedErrors).isEmpty();
+	}
+
+	@Test
+	public void testRefresh_OlderRefreshFinishesLast_IsDiscarded() {
+		// Arrange
+		pagingListModel.refresh();
+		Runnable olderRefresh = queuedLoads.remove(0);
+		refresh();
+		rowCount = 5;
+
+		// Act
+		olderRefresh.run();
+
+		// Assert
+		assertThat(pagingListModel.getSize()).isEqualTo(25);
+	}
+
+	@Test
+	public void testConstructor_NonPositivePageSize_ThrowsException() {
+		// Act & Assert
+		assertThatThrownBy(() -> new PagingListModel<>(new RowSource(), 0, MAX_PAGES, Runnable::run,
+				Runnable::run, reportedErrors::add))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(PagingListModel.INVALID_PAGE_SIZE, 0));
+	}
+
+	@Test
+	public void testConstructor_NonPositiveMaxPages_ThrowsException() {
+		// Act & Assert
+		assertThatThrownBy(() -> new PagingListModel<>(new RowSource(), PAGE_SIZE, 0, Runnable::run,
+				Runnable::run, reportedErrors::add))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(PagingListModel.INVALID_MAX_PAGES, 0));
+	}
+
+	private void refresh() {
+		pagingListModel.refresh();
+		runQueuedLoads();
+	}
+
+	private void runQueuedLoads() {
+		List<Runnable> loads = new ArrayList<>(queuedLoads);
+		queuedLoads.clear();
+		loads.forEach(Runnable::run);
+	}
+
+	private class RowSource implements PageSource<String> {
+
+		@Override
+		public long count() {
+			return rowCount;
+		}
+
+		@Override
+		public List<String> load(int offset, int limit) {
+			loadedOffsets.add(offset);
+
+			return IntStream.range(offset, (int) Math.min(offset + limit, rowCount)).mapToObj(index -> "Row " + index)
+					.collect(Collectors.toList());
+		}
+	}
+
+	private static class FailingSource implements PageSource<String> {
+
+		@Override
+		public long count() {
+			throw new IllegalStateException("Database unavailable");
+		}
+
+		@Override
+		public List<String> load(int offset, int limit) {
+			throw new IllegalStateException("Database unavailable");
+		}
+	}
+
+	private class RecordingListener implements ListDataListener {
+
+		@Override
+		public void intervalAdded(ListDataEvent e) {
+			events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+		}
+
+		@Override
+		public void intervalRemoved(ListDataEvent e) {
+			events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+		}
+
+		@Override
+		public void contentsChanged(ListDataEvent e) {
+			events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProgressiveListLoaderTest {
+
+	private AtomicBoolean streamClosed;
+	private BulkListModel<String> listModel;
+	private List<String> errors;
+
+	@Before
+	public void setUp() {
+		streamClosed = new AtomicBoolean();
+		listModel = new BulkListModel<>();
+		errors = new ArrayList<>();
+	}
+
+	@Test
+	public void testExecute_AppendsEveryStreamedRowAndClosesTheStream() throws Exception {
+		// Arrange
+		List<String> rows = Arrays.asList("1", "2", "3");
+		ProgressiveListLoader<String> loader = new ProgressiveListLoader<>(() -> streamOf(rows), listModel,
+				errors::add);
+
+		// Act
+		loader.execute();
+		int loadedRows = loader.get(5, TimeUnit.SECONDS);
+		awaitRows(3);
+
+		// Assert
+		assertThat(loadedRows).isEqualTo(3);
+		assertThat(rowsOf(listModel)).containsExactly("1", "2", "3");
+		assertThat(streamClosed).isTrue();
+		assertThat(errors).isEmpty();
+	}
+
+	@Test
+	public void testDone_StreamFailed_ReportsTheFailure() throws Exception {
+		// Arrange
+		ProgressiveListLoader<String> loader = new ProgressiveListLoader<>(() -> {
+			throw new IllegalStateException("Connection lost");
+		}, listModel, errors::add);
+
+		// Act
+		loader.execute();
+		awaitError();
+
+		// Assert
+		assertThat(errors).containsExactly(ProgressiveListLoader.LOAD_FAILED);
+	}
+
+	@Test
+	public void testDone_Cancelled_ReportsNothing() throws Exception {
+		// Arrange
+		ProgressiveListLoader<String> loader = new ProgressiveListLoader<>(() -> streamOf(Arrays.asList("1")),
+				listModel, errors::add);
+		loader.cancel(true);
+
+		// Act
+		loader.done();
+
+		// Assert
+		assertThat(errors).isEmpty();
+	}
+
+	@Test
+	public void testDone_InterruptedWhileWaiting_KeepsTheInterruptFlag() {
+		// Arrange
+		ProgressiveListLoader<String> loader = new ProgressiveListLoader<>(() -> streamOf(Arrays.asList("1")),
+				listModel, errors::add);
+		Thread.currentThread().interrupt();
+
+		// Act
+		loader.done();
+
+		// Assert
+		assertThat(Thread.interrupted()).isTrue();
+		assertThat(errors).isEmpty();
+	}
+
+	@Test
+	public void testProcess_AfterCancel_DropsThePublishedChunk() {
+		// Arrange
+		ProgressiveListLoader<String> loader = new ProgressiveListLoader<>(() -> streamOf(Arrays.asList("1")),
+				listModel, errors::add);
+		loader.cancel(true);
+
+		// Act
+		loader.process(Arrays.asList("1"));
+
+		// Assert
+		assertThat(listModel.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void testDoInBackground_CancelledBeforeReading_ReadsNothingAndClosesTheStream() {
+		// Arrange
+		ProgressiveListLoader<String> loader = new ProgressiveListLoader<>(() -> streamOf(Arrays.asList("1")),
+				listModel, errors::add);
+		loader.cancel(true);
+
+		// Act
+		int loadedRows = loader.doInBackground();
+
+		// Assert
+		assertThat(loadedRows).isZero();
+		assertThat(streamClosed).isTrue();
+	}
+
+	@Test(expected = CancellationException.class)
+	public void testGet_Cancelled_ThrowsCancellationException() throws Exception {
+		// Arrange
+		ProgressiveListLoader<String> loader = new ProgressiveListLoader<>(() -> streamOf(Arrays.asList("1")),
+				listModel, errors::add);
+
+		// Act
+		loader.cancel(true);
+
+		// Assert
+		loader.get();
+	}
+
+	private Stream<String> streamOf(List<String> rows) {
+		return rows.stream().onClose(() -> streamClosed.set(true));
+	}
+
+	private List<String> rowsOf(BulkListModel<String> model) {
+		List<String> rows = new ArrayList<>();
+
+		for (int index = 0; index < model.size(); index++) {
+			rows.add(model.get(index));
+		}
+
+		return rows;
+	}
+
+	// done() reports on the Event Dispatch Thread, after the worker finished
+	private void awaitError() throws Exception {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (errors.isEmpty() && System.nanoTime() < deadline) {
+			SwingUtilities.invokeAndWait(() -> {
+			});
+			Thread.sleep(10);
+		}
+	}
+
+	// Published chunks reach the Event Dispatch Thread on a timer, possibly after get() returns
+	private void awaitRows(int expectedRows) throws Exception {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (listModel.size() < expectedRows && System.nanoTime() < deadline) {
+			SwingUtilities.invokeAndWait(() -> {
+			});
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class RefreshCoalescerTest {
+
+	private static final long DEBOUNCE_MILLIS = 150;
+
+	@Mock
+	private ScheduledExecutorService scheduler;
+
+	@Mock
+	private ScheduledFuture<?> scheduledFuture;
+
+	private AutoCloseable autoCloseable;
+	private List<Runnable> queuedOperations;
+	private List<String> refreshedKeys;
+	private ControllerRunner controllerRunner;
+	private RefreshCoalescer refreshCoalescer;
+
+	@Before
+	public void setUp() {
+		autoCloseable = MockitoAnnotations.openMocks(this);
+		queuedOperations = new ArrayList<>();
+		refreshedKeys = new ArrayList<>();
+		controllerRunner = new ControllerRunner(queuedOperations::add);
+		refreshCoalescer = new RefreshCoalescer(controllerRunner);
+	}
+
+	@After
+	public void releaseMocks() throws Exception {
+		autoCloseable.close();
+	}
+
+	@Test
+	public void testRequest_SameKeyWhileInFlight_JoinsTheRunningRefresh() {
+		// Act
+		request("projects");
+		request("projects");
+		queuedOperations.forEach(Runnable::run);
+
+		// Assert
+		assertThat(refreshedKeys).containsExactly("projects");
+		assertThat(refreshCoalescer.statistics()).isEqualTo(new RefreshStatistics(2, 1, 1, 0));
+	}
+
+	@Test
+	public void testRequest_SameKeyAfterRefreshFinished_RefreshesAgain() {
+		// Arrange
+		request("projects");
+		queuedOperations.get(0).run();
+
+		// Act
+		request("projects");
+		queuedOperations.get(1).run();
+
+		// Assert
+		assertThat(refreshedKeys).containsExactly("projects", "projects");
+		assertThat(refreshCoalescer.statistics().getSavedQueries()).isZero();
+	}
+
+	@Test
+	public void testRequest_SameKeyAfterNavigatingElsewhere_RefreshesAgain() {
+		// Act
+		request("projects");
+		request("issues:1");
+		request("projects");
+		queuedOperations.forEach(Runnable::run);
+
+		// Assert
+		assertThat(refreshedKeys).containsExactly("projects", "issues:1", "projects");
+	}
+
+	@Test
+	public void testRequest_WhenOlderRefreshFinishesLast_KeepsLatestInFlight() {
+		// Arrange
+		request("projects");
+		request("issues:1");
+		queuedOperations.get(1).run();
+		request("issues:1");
+
+		// Act
+		queuedOperations.get(0).run();
+		request("issues:1");
+
+		// Assert
+		assertThat(queuedOperations).hasSize(3);
+		assertThat(refreshCoalescer.statistics().getJoined()).isEqualTo(1);
+	}
+
+	@Test
+	public void testRequest_WithDebounce_SchedulesTrailingRefresh() {
+		// Arrange
+		RefreshCoalescer debouncingCoalescer = debouncingCoalescer();
+
+		// Act
+		debouncingCoalescer.request("projects", () -> refreshedKeys.add("projects"));
+
+		// Assert
+		scheduledRefresh().run();
+		queuedOperations.forEach(Runnable::run);
+		assertThat(refreshedKeys).containsExactly("projects");
+	}
+
+	@Test
+	public void testRequest_WithDebounceDuringBurst_CancelsTheEarlierRefresh() {
+		// Arrange
+		RefreshCoalescer debouncingCoalescer = debouncingCoalescer();
+		when(scheduledFuture.cancel(false)).thenReturn(true);
+		debouncingCoalescer.request("projects", () -> refreshedKeys.add("projects"));
+
+		// Act
+		debouncingCoalescer.request("issues:1", () -> refreshedKeys.add("issues:1"));
+
+		// Assert
+		verify(scheduledFuture).cancel(false);
+		assertThat(debouncingCoalescer.statistics()).isEqualTo(new RefreshStatistics(2, 0, 0, 1));
+	}
+
+	@Test
+	public void testRequest_WithDebounceAfterRefreshFired_DoesNotCountDebounce() {
+		// Arrange
+		RefreshCoalescer debouncingCoalescer = debouncingCoalescer();
+		when(scheduledFuture.cancel(false)).thenReturn(false);
+		debouncingCoalescer.request("projects", () -> refreshedKeys.add("projects"));
+
+		// Act
+		debouncingCoalescer.request("projects", () -> refreshedKeys.add("projects"));
+
+		// Assert
+		assertThat(debouncingCoalescer.statistics().getDebounced()).isZero();
+	}
+
+	@Test
+	public void testConstructor_NegativeDebounce_ThrowsException() {
+		// Arrange
+		ControllerRunner controllerRunner = new ControllerRunner(Runnable::run);
+
+		// Act & Assert
+		assertThatThrownBy(() -> new RefreshCoalescer(controllerRunner, scheduler, -1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage(String.format(RefreshCoalescer.INVALID_DEBOUNCE, -1));
+	}
+
+	@Test
+	public void testGetControllerRunner_ReturnsTheRunnerRefreshesAreSubmittedTo() {
+		// Act & Assert
+		assertThat(refreshCoalescer.getControllerRunner()).isSameAs(controllerRunner);
+	}
+
+	private void request(String key) {
+		refreshCoalescer.request(key, () -> refreshedKeys.add(key));
+	}
+
+	private RefreshCoalescer debouncingCoalescer() {
+		doReturn(scheduledFuture).when(scheduler).schedule(any(Runnable.class), eq(DEBOUNCE_MILLIS),
+				eq(TimeUnit.MILLISECONDS));
+
+		return new RefreshCoalescer(new ControllerRunner(queuedOperations::add), scheduler, DEBOUNCE_MILLIS);
+	}
+
+	private Runnable scheduledRefresh() {
+		ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(refresh.capture(), eq(DEBOUNCE_MILLIS), eq(TimeUnit.MILLISECONDS));
+
+		return refresh.getValue();
+	}
+}
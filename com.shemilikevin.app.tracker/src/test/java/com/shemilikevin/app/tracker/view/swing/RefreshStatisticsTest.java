@@ -0,0 +1,47 @@
+package com.shemilikevin.app.tracker.view.swing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class RefreshStatisticsTest {
+
+	@Test
+	public void testGetSavedQueries_SumsJoinedAndDebouncedRefreshes() {
+		// Arrange
+		RefreshStatistics statistics = new RefreshStatistics(10, 4, 2, 4);
+
+		// Act & Assert
+		assertThat(statistics.getSavedQueries()).isEqualTo(6);
+		assertThat(statistics.getRequested()).isEqualTo(10);
+		assertThat(statistics.getExecuted()).isEqualTo(4);
+		assertThat(statistics.getJoined()).isEqualTo(2);
+		assertThat(statistics.getDebounced()).isEqualTo(4);
+	}
+
+	@Test
+	public void testEquals_SameCounters_AreEqual() {
+		// Arrange
+		RefreshStatistics statistics = new RefreshStatistics(1, 2, 3, 4);
+
+		// Act & Assert
+		assertThat(statistics).isEqualTo(statistics)
+				.isEqualTo(new RefreshStatistics(1, 2, 3, 4))
+				.hasSameHashCodeAs(new RefreshStatistics(1, 2, 3, 4))
+				.hasToString("RefreshStatistics [requested=1, executed=2, joined=3, debounced=4]");
+	}
+
+	@Test
+	public void testEquals_DifferentCountersOrType_AreNotEqual() {
+		// Arrange
+		RefreshStatistics statistics = new RefreshStatistics(1, 2, 3, 4);
+
+		// Act & Assert
+		assertThat(statistics).isNotEqualTo(null)
+				.isNotEqualTo("statistics")
+				.isNotEqualTo(new RefreshStatistics(0, 2, 3, 4))
+				.isNotEqualTo(new RefreshStatistics(1, 0, 3, 4))
+				.isNotEqualTo(new RefreshStatistics(1, 2, 0, 4))
+				.isNotEqualTo(new RefreshStatistics(1, 2, 3, 0));
+	}
+}